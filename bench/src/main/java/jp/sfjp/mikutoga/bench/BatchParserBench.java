@@ -0,0 +1,151 @@
+/*
+ * BatchParser benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.batch.BatchParser;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.pmd.parser.EmptyPmdHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BatchParser}による多数ファイルのパースのスループット。
+ *
+ * <p>一時ディレクトリに同じPMDファイルを複数置き、
+ * 全ファイルのパース完了までを1回の計測とする。
+ * スコアは1秒あたりのファイル数。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchParserBench {
+
+    private static final int FILE_NUM = 64;
+    private static final int VERTEX_NUM = 20000;
+    private static final int BONE_NUM = 100;
+
+
+    /** スレッド数。 */
+    @Param({"1", "4", "16"})
+    public int threads;
+
+    private Path dir;
+    private final List<Path> files = new ArrayList<>();
+
+    private ExecutorService executor;
+    private BatchParser batch;
+
+
+    /**
+     * 入力ファイルとスレッドプールを用意する。
+     *
+     * @throws IOException 出力エラー
+     */
+    @Setup
+    public void setup() throws IOException{
+        this.dir = Files.createTempDirectory("togagem-bench");
+        byte[] pmd = SyntheticData.pmd(VERTEX_NUM, BONE_NUM);
+        for(int ct = 0; ct < FILE_NUM; ct++){
+            Path file = this.dir.resolve("model" + ct + ".pmd");
+            Files.write(file, pmd);
+            this.files.add(file);
+        }
+
+        this.executor = Executors.newFixedThreadPool(this.threads);
+        this.batch = new BatchParser(this.executor);
+
+        return;
+    }
+
+    /**
+     * 入力ファイルとスレッドプールを破棄する。
+     *
+     * @throws IOException 入出力エラー
+     */
+    @TearDown
+    public void tearDown() throws IOException{
+        this.executor.shutdownNow();
+        for(Path file : this.files){
+            Files.deleteIfExists(file);
+        }
+        this.files.clear();
+        Files.deleteIfExists(this.dir);
+        return;
+    }
+
+    /**
+     * 全ファイルのパース。
+     *
+     * @return ループ回数の合計
+     * @throws InterruptedException 割り込まれた
+     * @throws ExecutionException パースエラー
+     */
+    @Benchmark
+    @OperationsPerInvocation(FILE_NUM)
+    public long parseAll() throws InterruptedException, ExecutionException{
+        List<CompletableFuture<Long>> results =
+                this.batch.submitPmdAll(this.files, parser -> {
+                    Counter counter = new Counter();
+                    parser.setBasicHandler(counter);
+                    parser.setShapeHandler(counter);
+                    parser.setMaterialHandler(counter);
+                    parser.setBoneHandler(counter);
+                    parser.setMorphHandler(counter);
+                    parser.parsePmd();
+                    return counter.loops;
+                });
+
+        long total = 0L;
+        for(CompletableFuture<Long> result : results){
+            total += result.get();
+        }
+
+        return total;
+    }
+
+
+    /**
+     * ループ回数を数えるハンドラ。
+     */
+    private static final class Counter extends EmptyPmdHandler{
+
+        private long loops;
+
+        @Override
+        public void loopNext(ParseStage stage){
+            this.loops++;
+            return;
+        }
+
+    }
+
+}
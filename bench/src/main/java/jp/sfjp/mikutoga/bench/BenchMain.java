@@ -0,0 +1,69 @@
+/*
+ * benchmark launcher
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ベンチマークの起動クラス。
+ *
+ * <p>JMH標準のコマンドラインオプションをそのまま受け付ける。
+ * 結果の出力形式が指定されなかった場合は、
+ * リリース間での比較のため結果をJSON形式で
+ * {@value #DEF_RESULT}に出力する。
+ */
+public final class BenchMain {
+
+    /** デフォルトの結果出力ファイル名。 */
+    public static final String DEF_RESULT = "jmh-result.json";
+
+
+    /**
+     * 隠しコンストラクタ。
+     */
+    private BenchMain(){
+        assert false;
+        throw new AssertionError();
+    }
+
+
+    /**
+     * ベンチマークを実行する。
+     *
+     * @param args JMHのコマンドラインオプション
+     * @throws Exception 実行エラー
+     */
+    public static void main(String[] args) throws Exception{
+        CommandLineOptions cmdOpts = new CommandLineOptions(args);
+
+        if(cmdOpts.shouldHelp() || cmdOpts.shouldList()
+                || cmdOpts.shouldListWithParams()
+                || cmdOpts.shouldListProfilers()
+                || cmdOpts.shouldListResultFormats() ){
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOpts);
+        if( ! cmdOpts.getResultFormat().hasValue() ){
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if( ! cmdOpts.getResult().hasValue() ){
+            builder.result(DEF_RESULT);
+        }
+
+        new Runner(builder.build()).run();
+
+        return;
+    }
+
+}
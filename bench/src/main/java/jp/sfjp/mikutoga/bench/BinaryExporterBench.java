@@ -0,0 +1,190 @@
+/*
+ * BinaryExporter benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.bin.export.BinaryExporter;
+import jp.sfjp.mikutoga.bin.export.IllegalTextExportException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BinaryExporter}の出力スループットのベンチマーク。
+ *
+ * <p>出力先は書き込まれたバイト数を数えるだけのストリームもしくはチャネル。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryExporterBench {
+
+    private static final int FLOAT_NUM = 64 * 1024;
+    private static final int NAME_NUM = 1024;
+    private static final byte[] NULFILL = {(byte)0x00};
+
+
+    /** 出力モード。 */
+    @Param({"through", "buffered", "channel"})
+    public String mode;
+
+    private final float[] floats = new float[FLOAT_NUM];
+    private final String[] names = new String[NAME_NUM];
+
+    private final NullStream stream = new NullStream();
+    private final NullChannel channel = new NullChannel();
+
+
+    /**
+     * 入力を用意する。
+     */
+    @Setup
+    public void setup(){
+        for(int ct = 0; ct < FLOAT_NUM; ct++){
+            this.floats[ct] = ct * 0.5f;
+        }
+        for(int ct = 0; ct < NAME_NUM; ct++){
+            this.names[ct] = SyntheticData.boneName(ct % 64);
+        }
+        return;
+    }
+
+    /**
+     * エクスポーターを生成する。
+     *
+     * @return エクスポーター
+     */
+    private BinaryExporter newExporter(){
+        BinaryExporter result;
+        switch(this.mode){
+        case "buffered":
+            result = new BinaryExporter(this.stream, BinaryExporter.DEFBUFSZ);
+            break;
+        case "channel":
+            result = new BinaryExporter(this.channel, BinaryExporter.DEFBUFSZ);
+            break;
+        default:
+            result = new BinaryExporter(this.stream);
+            break;
+        }
+        return result;
+    }
+
+    /**
+     * float値の個別出力。
+     *
+     * @return 出力バイト数
+     * @throws IOException 出力エラー
+     */
+    @Benchmark
+    public long dumpLeFloat() throws IOException{
+        BinaryExporter bex = newExporter();
+        for(float fVal : this.floats){
+            bex.dumpLeFloat(fVal);
+        }
+        bex.flush();
+        return bex.position();
+    }
+
+    /**
+     * float配列の一括出力。
+     *
+     * @return 出力バイト数
+     * @throws IOException 出力エラー
+     */
+    @Benchmark
+    public long dumpLeFloatArray() throws IOException{
+        BinaryExporter bex = newExporter();
+        bex.dumpLeFloatArray(this.floats, 0, FLOAT_NUM);
+        bex.flush();
+        return bex.position();
+    }
+
+    /**
+     * 固定長文字列の出力。
+     *
+     * @return 出力バイト数
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException 文字列が長すぎる
+     */
+    @Benchmark
+    public long dumpFixedW31j()
+            throws IOException, IllegalTextExportException{
+        BinaryExporter bex = newExporter();
+        for(String name : this.names){
+            bex.dumpFixedW31j(name, 20, NULFILL);
+        }
+        bex.flush();
+        return bex.position();
+    }
+
+
+    /**
+     * 書き込みを捨てる出力ストリーム。
+     */
+    private static final class NullStream extends OutputStream{
+
+        private long count;
+
+        @Override
+        public void write(int bVal){
+            this.count++;
+            return;
+        }
+
+        @Override
+        public void write(byte[] buf, int off, int len){
+            this.count += len;
+            return;
+        }
+
+    }
+
+    /**
+     * 書き込みを捨てるチャネル。
+     */
+    private static final class NullChannel implements WritableByteChannel{
+
+        private long count;
+
+        @Override
+        public int write(ByteBuffer src){
+            int len = src.remaining();
+            src.position(src.limit());
+            this.count += len;
+            return len;
+        }
+
+        @Override
+        public boolean isOpen(){
+            return true;
+        }
+
+        @Override
+        public void close(){
+            return;
+        }
+
+    }
+
+}
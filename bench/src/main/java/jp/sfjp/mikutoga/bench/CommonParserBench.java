@@ -0,0 +1,223 @@
+/*
+ * CommonParser benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.bin.parser.CommonParser;
+import jp.sfjp.mikutoga.bin.parser.MmdEofException;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.TextDecoder;
+import jp.sfjp.mikutoga.bin.parser.Win31jDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link CommonParser}のプリミティブ読み込みのベンチマーク。
+ *
+ * <p>1回の計測で入力全体を読み切る。
+ *
+ * <p>先読みバッファサイズ4は、
+ * 先読みを持たなかった従来実装と同じく
+ * プリミティブ値毎に入力ストリームを読む場合に相当する。
+ * 入力ソースにはメモリ上のバイト列と
+ * バッファリングされないファイル入力を選べる。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonParserBench {
+
+    private static final int NAME_LEN = 20;
+
+
+    /** 入力バイト長。 */
+    @Param({"4096", "1048576"})
+    public int size;
+
+    /** 先読みバッファサイズ。 */
+    @Param({"4", "65536"})
+    public int bufSize;
+
+    /** 入力ソース。memoryもしくはfile。 */
+    @Param({"memory", "file"})
+    public String source;
+
+    private byte[] data;
+    private Path file;
+    private TextDecoder decoder;
+
+
+    /**
+     * 入力を用意する。
+     *
+     * @throws IOException 出力エラー
+     */
+    @Setup
+    public void setup() throws IOException{
+        this.data = new byte[this.size];
+        byte[] name = "センター".getBytes(Win31jDecoder.CS_WIN31J);
+        for(int pos = 0; pos < this.size; pos += NAME_LEN){
+            int len = Math.min(name.length, this.size - pos);
+            System.arraycopy(name, 0, this.data, pos, len);
+        }
+
+        this.decoder = new Win31jDecoder();
+        this.decoder.setZeroChopMode(true);
+
+        if("file".equals(this.source)){
+            this.file = Files.createTempFile("togagem-bench", ".bin");
+            Files.write(this.file, this.data);
+        }
+
+        return;
+    }
+
+    /**
+     * 入力ファイルを破棄する。
+     *
+     * @throws IOException 入出力エラー
+     */
+    @TearDown
+    public void tearDown() throws IOException{
+        if(this.file != null){
+            Files.deleteIfExists(this.file);
+            this.file = null;
+        }
+        return;
+    }
+
+    /**
+     * 入力ソースを開く。
+     *
+     * @return 入力ストリーム
+     * @throws IOException 入力エラー
+     */
+    private InputStream openSource() throws IOException{
+        if(this.file != null){
+            return Files.newInputStream(this.file);
+        }
+        return new ByteArrayInputStream(this.data);
+    }
+
+    /**
+     * byte値の読み込み。
+     *
+     * @param bh Blackhole
+     * @throws IOException 入力エラー
+     * @throws MmdEofException 入力終端
+     */
+    @Benchmark
+    public void parseByte(Blackhole bh)
+            throws IOException, MmdEofException{
+        try(InputStream is = openSource()){
+            CommonParser parser = new CommonParser(is, this.bufSize);
+            for(int ct = this.size; ct > 0; ct--){
+                bh.consume(parser.parseByte());
+            }
+        }
+        return;
+    }
+
+    /**
+     * int値の読み込み。
+     *
+     * @param bh Blackhole
+     * @throws IOException 入力エラー
+     * @throws MmdEofException 入力終端
+     */
+    @Benchmark
+    public void parseLeInt(Blackhole bh)
+            throws IOException, MmdEofException{
+        try(InputStream is = openSource()){
+            CommonParser parser = new CommonParser(is, this.bufSize);
+            for(int ct = this.size / 4; ct > 0; ct--){
+                bh.consume(parser.parseLeInt());
+            }
+        }
+        return;
+    }
+
+    /**
+     * float値の読み込み。
+     *
+     * @param bh Blackhole
+     * @throws IOException 入力エラー
+     * @throws MmdEofException 入力終端
+     */
+    @Benchmark
+    public void parseLeFloat(Blackhole bh)
+            throws IOException, MmdEofException{
+        try(InputStream is = openSource()){
+            CommonParser parser = new CommonParser(is, this.bufSize);
+            for(int ct = this.size / 4; ct > 0; ct--){
+                bh.consume(parser.parseLeFloat());
+            }
+        }
+        return;
+    }
+
+    /**
+     * byte配列の読み込み。
+     *
+     * @param bh Blackhole
+     * @throws IOException 入力エラー
+     * @throws MmdEofException 入力終端
+     */
+    @Benchmark
+    public void parseByteArray(Blackhole bh)
+            throws IOException, MmdEofException{
+        try(InputStream is = openSource()){
+            CommonParser parser = new CommonParser(is, this.bufSize);
+            byte[] dst = new byte[1024];
+            for(int rest = this.size; rest > 0; rest -= dst.length){
+                parser.parseByteArray(dst, 0, Math.min(rest, dst.length));
+                bh.consume(dst);
+            }
+        }
+        return;
+    }
+
+    /**
+     * 固定長文字列の読み込み。
+     *
+     * @param bh Blackhole
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException 不正な文字コード
+     */
+    @Benchmark
+    public void parseString(Blackhole bh)
+            throws IOException, MmdFormatException{
+        try(InputStream is = openSource()){
+            CommonParser parser = new CommonParser(is, this.bufSize);
+            for(int ct = this.size / NAME_LEN; ct > 0; ct--){
+                bh.consume(parser.parseString(this.decoder, NAME_LEN));
+            }
+        }
+        return;
+    }
+
+}
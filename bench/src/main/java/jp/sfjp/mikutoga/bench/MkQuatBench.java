@@ -0,0 +1,222 @@
+/*
+ * MkQuat benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.math.EulerYXZ;
+import jp.sfjp.mikutoga.math.MkPos3D;
+import jp.sfjp.mikutoga.math.MkQuat;
+import jp.sfjp.mikutoga.math.MkQuatFast;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link MkQuat}の変換および演算のベンチマーク。
+ *
+ * <p>strictfp版の{@link MkQuat}と{@link MkQuatFast}を比較する。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MkQuatBench {
+
+    private static final int NUM = 1024;
+
+
+    private final MkQuat[] quats = new MkQuat[NUM];
+    private final EulerYXZ[] eulers = new EulerYXZ[NUM];
+    private final double[] packed = new double[NUM * 4];
+    private final double[] packedB = new double[NUM * 4];
+    private final double[] ts = new double[NUM];
+    private final double[] points = new double[NUM * 3];
+    private final double[] out = new double[NUM * 4];
+
+    private final MkQuat work = new MkQuat();
+    private final EulerYXZ workEuler = new EulerYXZ();
+    private final MkPos3D pos = new MkPos3D(1.0, 2.0, 3.0);
+    private final MkPos3D workPos = new MkPos3D();
+
+
+    /**
+     * 入力を用意する。
+     */
+    @Setup
+    public void setup(){
+        for(int ct = 0; ct < NUM; ct++){
+            double xRot = (ct % 37) * 0.08 - 1.4;
+            double yRot = (ct % 53) * 0.11 - 2.9;
+            double zRot = (ct % 29) * 0.21 - 3.0;
+            this.eulers[ct] = new EulerYXZ(xRot, yRot, zRot);
+
+            MkQuat q = new MkQuat();
+            q.setEulerYXZ(xRot, yRot, zRot);
+            this.quats[ct] = q;
+
+            this.packed[ct * 4    ] = q.getQ1();
+            this.packed[ct * 4 + 1] = q.getQ2();
+            this.packed[ct * 4 + 2] = q.getQ3();
+            this.packed[ct * 4 + 3] = q.getQW();
+
+            this.ts[ct] = (ct % 100) / 100.0;
+
+            this.points[ct * 3    ] = ct;
+            this.points[ct * 3 + 1] = -ct;
+            this.points[ct * 3 + 2] = ct * 0.5;
+        }
+
+        for(int ct = 0; ct < NUM; ct++){
+            int other = (ct * 7 + 3) % NUM;
+            System.arraycopy(this.packed, other * 4, this.packedB, ct * 4, 4);
+        }
+
+        return;
+    }
+
+    /**
+     * オイラー角からクォータニオンへの変換。
+     *
+     * @param bh Blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public void setEulerYXZ(Blackhole bh){
+        for(EulerYXZ euler : this.eulers){
+            this.work.setEulerYXZ(euler);
+            bh.consume(this.work.getQW());
+        }
+        return;
+    }
+
+    /**
+     * オイラー角からクォータニオンへの変換(非strictfp版)。
+     *
+     * @param bh Blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public void setEulerYXZFast(Blackhole bh){
+        for(EulerYXZ euler : this.eulers){
+            MkQuatFast.setEulerYXZ(euler, this.work);
+            bh.consume(this.work.getQW());
+        }
+        return;
+    }
+
+    /**
+     * クォータニオンからオイラー角への変換。
+     *
+     * @param bh Blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public void toEulerYXZ(Blackhole bh){
+        for(MkQuat q : this.quats){
+            q.toEulerYXZ(this.workEuler);
+            bh.consume(this.workEuler.getYRot());
+        }
+        return;
+    }
+
+    /**
+     * クォータニオンからオイラー角への変換(非strictfp版)。
+     *
+     * @param bh Blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public void toEulerYXZFast(Blackhole bh){
+        for(MkQuat q : this.quats){
+            MkQuatFast.toEulerYXZ(q, this.workEuler);
+            bh.consume(this.workEuler.getYRot());
+        }
+        return;
+    }
+
+    /**
+     * 点の回転。
+     *
+     * @param bh Blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public void rotatePos(Blackhole bh){
+        for(MkQuat q : this.quats){
+            q.rotatePos(this.pos, this.workPos);
+            bh.consume(this.workPos.getXpos());
+        }
+        return;
+    }
+
+    /**
+     * 球面線形補間。
+     *
+     * @param bh Blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public void slerp(Blackhole bh){
+        MkQuat prev = this.quats[NUM - 1];
+        for(MkQuat q : this.quats){
+            MkQuat.slerp(prev, q, 0.3, this.work);
+            bh.consume(this.work.getQW());
+            prev = q;
+        }
+        return;
+    }
+
+    /**
+     * 配列上の球面線形補間。
+     *
+     * @return 結果の一要素
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public double slerpArray(){
+        MkQuat.slerpArray(this.packed, 0, this.packedB, 0,
+                          this.ts, 0, this.out, 0, NUM);
+        return this.out[NUM];
+    }
+
+    /**
+     * 配列上のクォータニオン積。
+     *
+     * @return 結果の一要素
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public double mulArray(){
+        MkQuat.mulArray(this.packed, 0, this.packedB, 0, this.out, 0, NUM);
+        return this.out[NUM];
+    }
+
+    /**
+     * 配列上の点の回転。
+     *
+     * @return 結果の一要素
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM)
+    public double rotatePosArray(){
+        this.quats[1].rotatePosArray(this.points, 0, this.out, 0, NUM);
+        return this.out[NUM];
+    }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * PMD parser benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
+import jp.sfjp.mikutoga.bin.parser.CommonParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.corelib.EmptyProxyFactory;
+import jp.sfjp.mikutoga.pmd.parser.EmptyPmdHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdParserExt3;
+import jp.sfjp.mikutoga.pmd.parser.PmdSurfaceBulkHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdUnifiedHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdVertexBulkHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PmdParserExt3#parsePmd()}のベンチマーク。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PmdParseBench {
+
+    private static final int BONE_NUM = 200;
+
+
+    /** 頂点数。 */
+    @Param({"1000", "100000", "500000"})
+    public int vertexNum;
+
+    private byte[] data;
+    private PmdUnifiedHandler proxyHandler;
+
+
+    /**
+     * 入力を用意する。
+     */
+    @Setup
+    public void setup(){
+        this.data = SyntheticData.pmd(this.vertexNum, BONE_NUM);
+        this.proxyHandler = (PmdUnifiedHandler)
+                EmptyProxyFactory.buildEmptyProxy(PmdUnifiedHandler.class);
+        return;
+    }
+
+    /**
+     * ストリームを入力とするパーサを生成する。
+     *
+     * @return パーサ
+     */
+    private PmdParserExt3 streamParser(){
+        BinParser source =
+                new CommonParser(new ByteArrayInputStream(this.data));
+        return new PmdParserExt3(source);
+    }
+
+    /**
+     * バッファを入力とするパーサを生成する。
+     *
+     * @return パーサ
+     */
+    private PmdParserExt3 bufferParser(){
+        BinParser source = new BufferParser(ByteBuffer.wrap(this.data));
+        return new PmdParserExt3(source);
+    }
+
+    /**
+     * 全ハンドラを登録する。
+     *
+     * @param parser パーサ
+     * @param handler ハンドラ
+     */
+    private static void setAll(PmdParserExt3 parser,
+                               PmdUnifiedHandler handler ){
+        parser.setBasicHandler(handler);
+        parser.setShapeHandler(handler);
+        parser.setMaterialHandler(handler);
+        parser.setBoneHandler(handler);
+        parser.setMorphHandler(handler);
+        parser.setEngHandler(handler);
+        parser.setToonHandler(handler);
+        parser.setRigidHandler(handler);
+        parser.setJointHandler(handler);
+        return;
+    }
+
+    /**
+     * 何もしないハンドラによるパース。
+     *
+     * <p>ハンドラは{@link EmptyPmdHandler}による具象実装。
+     * {@link #noopProxy()}と対比される。
+     *
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public void noop() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = streamParser();
+        setAll(parser, PmdUnifiedHandler.EMPTY);
+        parser.parsePmd();
+        return;
+    }
+
+    /**
+     * 何もしないリフレクションプロキシのハンドラによるパース。
+     *
+     * <p>ハンドラは{@link EmptyProxyFactory#buildEmptyProxy(Class[])}
+     * により生成される。
+     * 全ての通知が{@link java.lang.reflect.InvocationHandler}を経由する。
+     *
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public void noopProxy() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = streamParser();
+        setAll(parser, this.proxyHandler);
+        parser.parsePmd();
+        return;
+    }
+
+    /**
+     * ハンドラ未登録セクションを読み飛ばすパース。
+     *
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public void skip() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = streamParser();
+        parser.setSkipUnhandled(true);
+        parser.parsePmd();
+        return;
+    }
+
+    /**
+     * 数え上げハンドラによるパース。
+     *
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public long counting() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = streamParser();
+        CountingHandler handler = new CountingHandler();
+        setAll(parser, handler);
+        parser.parsePmd();
+        return handler.result();
+    }
+
+    /**
+     * バッファを入力とした数え上げハンドラによるパース。
+     *
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public long countingBuffer() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = bufferParser();
+        CountingHandler handler = new CountingHandler();
+        setAll(parser, handler);
+        parser.parsePmd();
+        return handler.result();
+    }
+
+    /**
+     * 一括通知ハンドラによるパース。
+     *
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public long bulk() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = bufferParser();
+        return parseBulk(parser);
+    }
+
+    /**
+     * 頂点を並列デコードする一括通知ハンドラによるパース。
+     *
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public long bulkParallel() throws IOException, MmdFormatException{
+        PmdParserExt3 parser = bufferParser();
+        parser.setForkJoinPool(ForkJoinPool.commonPool());
+        return parseBulk(parser);
+    }
+
+    /**
+     * 一括通知ハンドラを登録しパースする。
+     *
+     * @param parser パーサ
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private static long parseBulk(PmdParserExt3 parser)
+            throws IOException, MmdFormatException{
+        CountingHandler handler = new CountingHandler();
+        setAll(parser, handler);
+        parser.setVertexBulkHandler(handler);
+        parser.setSurfaceBulkHandler(handler);
+        parser.parsePmd();
+        return handler.result();
+    }
+
+
+    /**
+     * 通知を数え上げるハンドラ。
+     */
+    private static final class CountingHandler extends EmptyPmdHandler
+            implements PmdVertexBulkHandler, PmdSurfaceBulkHandler {
+
+        private long loops;
+        private float sum;
+
+        /**
+         * コンストラクタ。
+         */
+        CountingHandler(){
+            super();
+            return;
+        }
+
+        /**
+         * 数え上げ結果を返す。
+         *
+         * @return 数え上げ結果
+         */
+        long result(){
+            return this.loops + Float.floatToRawIntBits(this.sum);
+        }
+
+        @Override
+        public void loopNext(ParseStage stage){
+            this.loops++;
+            return;
+        }
+
+        @Override
+        public void pmdVertexPosition(float xPos, float yPos, float zPos){
+            this.sum += xPos + yPos + zPos;
+            return;
+        }
+
+        @Override
+        public void pmdSurfaceTriangle(int vertexId1,
+                                       int vertexId2,
+                                       int vertexId3 ){
+            this.loops += vertexId1 + vertexId2 + vertexId3;
+            return;
+        }
+
+        @Override
+        public void pmdVertexBulk(int num,
+                float[] positions, float[] normals, float[] uvs,
+                short[] boneIds, byte[] weights, boolean[] hideEdges){
+            for(float pos : positions){
+                this.sum += pos;
+            }
+            this.loops += num;
+            return;
+        }
+
+        @Override
+        public void pmdSurfaceBulk(int surfaceNum, ShortBuffer vertexIds){
+            for(int idx = vertexIds.position();
+                    idx < vertexIds.limit(); idx++){
+                this.loops += vertexIds.get(idx) & 0xffff;
+            }
+            return;
+        }
+
+    }
+
+}
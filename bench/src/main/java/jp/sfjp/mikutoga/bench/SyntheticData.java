@@ -0,0 +1,293 @@
+/*
+ * synthetic PMD/VMD data generator
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import jp.sfjp.mikutoga.bin.export.BinaryExporter;
+import jp.sfjp.mikutoga.bin.export.IllegalTextExportException;
+import jp.sfjp.mikutoga.vmd.export.VmdExporter;
+
+/**
+ * ベンチマーク用のPMD/VMDデータを生成する。
+ *
+ * <p>同じ引数からは常に同じバイト列が生成される。
+ */
+public final class SyntheticData {
+
+    private static final byte[] PMD_MAGIC = {
+        (byte)0x50, (byte)0x6d, (byte)0x64,
+        (byte)0x00, (byte)0x00, (byte)0x80, (byte)0x3f,
+    };
+    private static final byte[] NULFILL = {(byte)0x00};
+
+    private static final int BUFSZ = 64 * 1024;
+
+    private static final int MATERIAL_NUM = 8;
+    private static final int MORPH_NUM = 16;
+    private static final int MORPH_VERTEX_DIV = 8;
+    private static final int TOON_NUM = 10;
+
+    private static final int BONE_INTPLT_SIZE = VmdExporter.BONE_INTPLT_SIZE;
+
+
+    /**
+     * 隠しコンストラクタ。
+     */
+    private SyntheticData(){
+        assert false;
+        throw new AssertionError();
+    }
+
+
+    /**
+     * ボーン名を返す。
+     *
+     * @param boneId ボーンID
+     * @return ボーン名
+     */
+    public static String boneName(int boneId){
+        return "ボーン" + boneId;
+    }
+
+    /**
+     * モーフ名を返す。
+     *
+     * @param morphId モーフID
+     * @return モーフ名
+     */
+    public static String morphName(int morphId){
+        if(morphId == 0) return "base";
+        return "モーフ" + morphId;
+    }
+
+    /**
+     * PMDデータを生成する。
+     *
+     * <p>面数は頂点数と等しい。
+     * base以外のモーフは頂点数の1/8ずつの頂点を持つ。
+     *
+     * @param vertexNum 頂点数
+     * @param boneNum ボーン数
+     * @return PMDデータ
+     */
+    public static byte[] pmd(int vertexNum, int boneNum){
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try(BinaryExporter bex = new BinaryExporter(bos, BUFSZ)){
+            dumpPmd(bex, vertexNum, boneNum);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }catch(IllegalTextExportException e){
+            throw new AssertionError(e);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * PMDデータを出力する。
+     *
+     * @param bex 出力先
+     * @param vertexNum 頂点数
+     * @param boneNum ボーン数
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException 名前が長すぎる
+     */
+    private static void dumpPmd(BinaryExporter bex, int vertexNum, int boneNum)
+            throws IOException, IllegalTextExportException{
+        bex.dumpByteArray(PMD_MAGIC);
+        bex.dumpFixedW31j("ベンチモデル", 20, NULFILL);
+        bex.dumpFixedW31j("ベンチマーク用モデル", 256, NULFILL);
+
+        bex.dumpLeInt(vertexNum);
+        for(int ct = 0; ct < vertexNum; ct++){
+            bex.dumpLeFloat(ct * 0.001f);
+            bex.dumpLeFloat(ct % 1000 * 0.01f);
+            bex.dumpLeFloat(-ct * 0.002f);
+            bex.dumpLeFloat(0.0f);
+            bex.dumpLeFloat(1.0f);
+            bex.dumpLeFloat(0.0f);
+            bex.dumpLeFloat(ct % 256 / 256.0f);
+            bex.dumpLeFloat(ct % 128 / 128.0f);
+            bex.dumpLeShort(ct % boneNum);
+            bex.dumpLeShort((ct + 1) % boneNum);
+            bex.dumpByte(ct % 101);
+            bex.dumpByte(ct % 2);
+        }
+
+        int surfaceNum = vertexNum;
+        int idLimit = Math.min(vertexNum, 0x10000);
+        bex.dumpLeInt(surfaceNum * 3);
+        for(int ct = 0; ct < surfaceNum; ct++){
+            bex.dumpLeShort(ct % idLimit);
+            bex.dumpLeShort((ct + 1) % idLimit);
+            bex.dumpLeShort((ct + 2) % idLimit);
+        }
+
+        bex.dumpLeInt(MATERIAL_NUM);
+        int rest = surfaceNum * 3;
+        for(int ct = 0; ct < MATERIAL_NUM; ct++){
+            for(int elem = 0; elem < 11; elem++){
+                bex.dumpLeFloat(0.5f);
+            }
+            bex.dumpByte(ct % TOON_NUM);
+            bex.dumpByte(1);
+            int count = ct < MATERIAL_NUM - 1 ? surfaceNum * 3 / MATERIAL_NUM
+                                              : rest;
+            rest -= count;
+            bex.dumpLeInt(count);
+            bex.dumpFixedW31j("tex" + ct + ".bmp*sph" + ct + ".sph",
+                              20, NULFILL);
+        }
+
+        bex.dumpLeShort(boneNum);
+        for(int ct = 0; ct < boneNum; ct++){
+            bex.dumpFixedW31j(boneName(ct), 20, NULFILL);
+            bex.dumpLeShort(ct - 1);
+            bex.dumpLeShort(ct + 1 < boneNum ? ct + 1 : 0);
+            bex.dumpByte(0);
+            bex.dumpLeShort(0);
+            bex.dumpLeFloat(0.0f);
+            bex.dumpLeFloat(ct * 0.5f);
+            bex.dumpLeFloat(0.0f);
+        }
+
+        bex.dumpLeShort(0);
+
+        int morphVertexNum = vertexNum / MORPH_VERTEX_DIV;
+        bex.dumpLeShort(MORPH_NUM);
+        for(int ct = 0; ct < MORPH_NUM; ct++){
+            bex.dumpFixedW31j(morphName(ct), 20, NULFILL);
+            bex.dumpLeInt(morphVertexNum);
+            bex.dumpByte(ct == 0 ? 0 : 1 + ct % 4);
+            for(int idx = 0; idx < morphVertexNum; idx++){
+                int vid = ct == 0 ? idx : (idx + ct) % morphVertexNum;
+                bex.dumpLeInt(vid);
+                bex.dumpLeFloat(idx * 0.001f);
+                bex.dumpLeFloat(ct * 0.01f);
+                bex.dumpLeFloat(0.0f);
+            }
+        }
+
+        bex.dumpByte(MORPH_NUM - 1);
+        for(int ct = 1; ct < MORPH_NUM; ct++){
+            bex.dumpLeShort(ct);
+        }
+
+        bex.dumpByte(1);
+        bex.dumpFixedW31j("体\n", 50, NULFILL);
+
+        bex.dumpLeInt(boneNum - 1);
+        for(int ct = 1; ct < boneNum; ct++){
+            bex.dumpLeShort(ct);
+            bex.dumpByte(1);
+        }
+
+        bex.dumpByte(1);
+        bex.dumpFixedW31j("BenchModel", 20, NULFILL);
+        bex.dumpFixedW31j("model for benchmark", 256, NULFILL);
+        for(int ct = 0; ct < boneNum; ct++){
+            bex.dumpFixedW31j("bone" + ct, 20, NULFILL);
+        }
+        for(int ct = 1; ct < MORPH_NUM; ct++){
+            bex.dumpFixedW31j("morph" + ct, 20, NULFILL);
+        }
+        bex.dumpFixedW31j("body", 50, NULFILL);
+
+        for(int ct = 0; ct < TOON_NUM; ct++){
+            bex.dumpFixedW31j("toon" + ct + ".bmp", 100, NULFILL);
+        }
+
+        bex.dumpLeInt(0);
+        bex.dumpLeInt(0);
+
+        return;
+    }
+
+    /**
+     * VMDデータを生成する。
+     *
+     * @param frameNum ボーン毎のキーフレーム数
+     * @param boneNum ボーン数
+     * @param morphNum モーフ数
+     * @return VMDデータ
+     */
+    public static byte[] vmd(int frameNum, int boneNum, int morphNum){
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try{
+            dumpVmd(new VmdExporter(bos), frameNum, boneNum, morphNum);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }catch(IllegalTextExportException e){
+            throw new AssertionError(e);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * VMDデータを出力する。
+     *
+     * @param exporter 出力先
+     * @param frameNum ボーン毎のキーフレーム数
+     * @param boneNum ボーン数
+     * @param morphNum モーフ数
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException 名前が長すぎる
+     */
+    private static void dumpVmd(VmdExporter exporter,
+                                int frameNum, int boneNum, int morphNum)
+            throws IOException, IllegalTextExportException{
+        exporter.dumpHeader("ベンチモデル");
+
+        int num = frameNum * boneNum;
+        String[] names = new String[num];
+        int[] frames = new int[num];
+        float[] positions = new float[num * 3];
+        float[] rotations = new float[num * 4];
+        byte[] intplts = new byte[num * BONE_INTPLT_SIZE];
+
+        int idx = 0;
+        for(int frame = 0; frame < frameNum; frame++){
+            for(int bone = 0; bone < boneNum; bone++){
+                names[idx] = boneName(bone);
+                frames[idx] = frame * 2;
+                positions[idx * 3 + 1] = frame * 0.01f;
+                double half = (frame + bone) * 0.005;
+                rotations[idx * 4 + 1] = (float) Math.sin(half);
+                rotations[idx * 4 + 3] = (float) Math.cos(half);
+                for(int ct = 0; ct < BONE_INTPLT_SIZE; ct++){
+                    intplts[idx * BONE_INTPLT_SIZE + ct] =
+                            (byte)(ct < 8 ? 20 : 107);
+                }
+                idx++;
+            }
+        }
+        exporter.dumpBoneMotion(names, frames,
+                                positions, rotations, intplts, num);
+
+        int morphKeys = frameNum * morphNum;
+        String[] morphNames = new String[morphKeys];
+        int[] morphFrames = new int[morphKeys];
+        float[] flexes = new float[morphKeys];
+        idx = 0;
+        for(int frame = 0; frame < frameNum; frame++){
+            for(int morph = 0; morph < morphNum; morph++){
+                morphNames[idx] = morphName(morph + 1);
+                morphFrames[idx] = frame * 2;
+                flexes[idx] = (frame % 10) * 0.1f;
+                idx++;
+            }
+        }
+        exporter.dumpMorphMotion(morphNames, morphFrames, flexes, morphKeys);
+
+        exporter.flush();
+
+        return;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * TextDecoder benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.bin.parser.TextDecoder;
+import jp.sfjp.mikutoga.bin.parser.Win31jDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link TextDecoder#decode(ByteBuffer)}のベンチマーク。
+ *
+ * <p>20バイト固定長のゼロ終端名を繰り返しデコードする。
+ * JDKのデコーダを用いる{@link TextDecoder}と
+ * 変換表を用いる{@link Win31jDecoder}を、
+ * キャッシュの有無それぞれについて比較する。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextDecoderBench {
+
+    private static final int NAME_LEN = 20;
+    private static final int NAME_NUM = 512;
+
+
+    /** デコーダ種別。 */
+    @Param({"jdk", "win31j"})
+    public String decoderType;
+
+    /** キャッシュモード。 */
+    @Param({"false", "true"})
+    public boolean cache;
+
+    /** 文字列種別。 */
+    @Param({"ascii", "kana", "kanji"})
+    public String textType;
+
+    /** 異なる名前の数。 */
+    @Param({"16", "512"})
+    public int distinct;
+
+    private TextDecoder decoder;
+    private ByteBuffer data;
+
+
+    /**
+     * デコーダと入力を用意する。
+     */
+    @Setup
+    public void setup(){
+        if("win31j".equals(this.decoderType)){
+            this.decoder = new Win31jDecoder();
+        }else{
+            this.decoder = new TextDecoder(Win31jDecoder.CS_WIN31J);
+        }
+        this.decoder.setZeroChopMode(true);
+        this.decoder.setCacheMode(this.cache);
+
+        String prefix;
+        switch(this.textType){
+        case "kana":  prefix = "ｾﾝﾀｰ";      break;
+        case "kanji": prefix = "左足首ＩＫ"; break;
+        default:      prefix = "LeftFoot";  break;
+        }
+
+        this.data = ByteBuffer.allocate(NAME_LEN * NAME_NUM);
+        for(int ct = 0; ct < NAME_NUM; ct++){
+            String name = prefix + (ct % this.distinct);
+            byte[] bin = name.getBytes(Win31jDecoder.CS_WIN31J);
+            this.data.position(ct * NAME_LEN);
+            this.data.put(bin);
+        }
+
+        return;
+    }
+
+    /**
+     * 全名前のデコード。
+     *
+     * @param bh Blackhole
+     * @throws CharacterCodingException 不正な文字コード
+     */
+    @Benchmark
+    @OperationsPerInvocation(NAME_NUM)
+    public void decode(Blackhole bh) throws CharacterCodingException{
+        ByteBuffer buf = this.data;
+        for(int ct = 0; ct < NAME_NUM; ct++){
+            int pos = ct * NAME_LEN;
+            buf.limit(pos + NAME_LEN);
+            buf.position(pos);
+            bh.consume(this.decoder.decode(buf));
+        }
+        buf.clear();
+        return;
+    }
+
+}
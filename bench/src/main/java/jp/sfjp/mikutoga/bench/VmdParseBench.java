@@ -0,0 +1,203 @@
+/*
+ * VMD parser benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.corelib.EmptyProxyFactory;
+import jp.sfjp.mikutoga.vmd.parser.EmptyVmdHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdUnifiedHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link VmdParser#parseVmd()}のベンチマーク。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VmdParseBench {
+
+    private static final int BONE_NUM = 50;
+    private static final int MORPH_NUM = 20;
+
+
+    /** ボーン毎のキーフレーム数。 */
+    @Param({"10", "1000", "10000"})
+    public int frameNum;
+
+    private byte[] data;
+    private VmdUnifiedHandler proxyHandler;
+
+
+    /**
+     * 入力を用意する。
+     */
+    @Setup
+    public void setup(){
+        this.data = SyntheticData.vmd(this.frameNum, BONE_NUM, MORPH_NUM);
+        this.proxyHandler = (VmdUnifiedHandler)
+                EmptyProxyFactory.buildEmptyProxy(VmdUnifiedHandler.class);
+        return;
+    }
+
+    /**
+     * 全ハンドラを登録する。
+     *
+     * @param parser パーサ
+     * @param handler ハンドラ
+     */
+    private static void setAll(VmdParser parser, VmdUnifiedHandler handler){
+        parser.setBasicHandler(handler);
+        parser.setCameraHandler(handler);
+        parser.setLightingHandler(handler);
+        parser.setBoolHandler(handler);
+        return;
+    }
+
+    /**
+     * 何もしないハンドラによるパース。
+     *
+     * <p>ハンドラは{@link EmptyVmdHandler}による具象実装。
+     * {@link #noopProxy()}と対比される。
+     *
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public void noop() throws IOException, MmdFormatException{
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(this.data));
+        setAll(parser, VmdUnifiedHandler.EMPTY);
+        parser.parseVmd();
+        return;
+    }
+
+    /**
+     * 何もしないリフレクションプロキシのハンドラによるパース。
+     *
+     * <p>ハンドラは{@link EmptyProxyFactory#buildEmptyProxy(Class[])}
+     * により生成される。
+     * 全ての通知が{@link java.lang.reflect.InvocationHandler}を経由する。
+     *
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public void noopProxy() throws IOException, MmdFormatException{
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(this.data));
+        setAll(parser, this.proxyHandler);
+        parser.parseVmd();
+        return;
+    }
+
+    /**
+     * 数え上げハンドラによるパース。
+     *
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public long counting() throws IOException, MmdFormatException{
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(this.data));
+        CountingHandler handler = new CountingHandler();
+        setAll(parser, handler);
+        parser.parseVmd();
+        return handler.result();
+    }
+
+    /**
+     * バッファを入力とした数え上げハンドラによるパース。
+     *
+     * @return 数え上げ結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    @Benchmark
+    public long countingBuffer() throws IOException, MmdFormatException{
+        VmdParser parser =
+                new VmdParser(new BufferParser(ByteBuffer.wrap(this.data)));
+        CountingHandler handler = new CountingHandler();
+        setAll(parser, handler);
+        parser.parseVmd();
+        return handler.result();
+    }
+
+
+    /**
+     * 通知を数え上げるハンドラ。
+     */
+    private static final class CountingHandler extends EmptyVmdHandler {
+
+        private long loops;
+        private float sum;
+
+        /**
+         * コンストラクタ。
+         */
+        CountingHandler(){
+            super();
+            return;
+        }
+
+        /**
+         * 数え上げ結果を返す。
+         *
+         * @return 数え上げ結果
+         */
+        long result(){
+            return this.loops + Float.floatToRawIntBits(this.sum);
+        }
+
+        @Override
+        public void loopNext(ParseStage stage){
+            this.loops++;
+            return;
+        }
+
+        @Override
+        public void vmdBoneMotion(String boneName, int keyFrameNo){
+            this.loops += boneName.length() + keyFrameNo;
+            return;
+        }
+
+        @Override
+        public void vmdBonePosition(float xPos, float yPos, float zPos){
+            this.sum += xPos + yPos + zPos;
+            return;
+        }
+
+        @Override
+        public void vmdMorphMotion(String morphName,
+                                   int keyFrameNo,
+                                   float flex ){
+            this.sum += flex;
+            return;
+        }
+
+    }
+
+}
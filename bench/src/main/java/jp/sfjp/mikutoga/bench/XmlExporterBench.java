@@ -0,0 +1,113 @@
+/*
+ * XML exporter benchmark
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import jp.sfjp.mikutoga.xml.BasicXmlExporter;
+import jp.sfjp.mikutoga.xml.XmlExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BasicXmlExporter}によるXML出力のベンチマーク。
+ *
+ * <p>頂点リスト相当の要素を属性付きで出力する。
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlExporterBench {
+
+    private static final int ELEM_NUM = 4096;
+
+
+    /** Basic Latin以外を文字参照で出力するならtrue。 */
+    @Param({"false", "true"})
+    public boolean basicLatinOnly;
+
+    private final StringBuilder out = new StringBuilder();
+    private final BasicXmlExporter exporter = new BasicXmlExporter();
+    private final String[] names = new String[ELEM_NUM];
+
+
+    /**
+     * 出力先を用意する。
+     */
+    @Setup
+    public void setup(){
+        this.exporter.setAppendable(this.out);
+        this.exporter.setBasicLatinOnlyOut(this.basicLatinOnly);
+        for(int ct = 0; ct < ELEM_NUM; ct++){
+            this.names[ct] = SyntheticData.boneName(ct % 64) + " & <" + ct + ">";
+        }
+        return;
+    }
+
+    /**
+     * 属性付き空要素の出力。
+     *
+     * @return 出力文字数
+     * @throws IOException 出力エラー
+     */
+    @Benchmark
+    public int dumpVertices() throws IOException{
+        this.out.setLength(0);
+        XmlExporter xml = this.exporter;
+
+        xml.putSimpleSTag("vertexList").ln();
+        xml.pushNest();
+        for(int ct = 0; ct < ELEM_NUM; ct++){
+            xml.ind().putOpenSTag("vertex");
+            xml.sp().putIntAttr("vtxId", ct);
+            xml.sp().putFloatAttr("x", ct * 0.25f);
+            xml.sp().putFloatAttr("y", -ct * 0.5f);
+            xml.sp().putFloatAttr("z", ct * 1.0e-3f);
+            xml.sp().putCloseEmpty().ln();
+        }
+        xml.popNest();
+        xml.putETag("vertexList").ln();
+
+        return this.out.length();
+    }
+
+    /**
+     * エスケープを要する文字列の出力。
+     *
+     * @return 出力文字数
+     * @throws IOException 出力エラー
+     */
+    @Benchmark
+    public int dumpText() throws IOException{
+        this.out.setLength(0);
+        XmlExporter xml = this.exporter;
+
+        for(String name : this.names){
+            xml.ind().putOpenSTag("bone");
+            xml.sp().putAttr("name", name);
+            xml.sp().putCloseEmpty();
+            xml.putLineComment(name);
+            xml.ln();
+        }
+
+        return this.out.length();
+    }
+
+}
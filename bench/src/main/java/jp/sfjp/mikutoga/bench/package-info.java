@@ -0,0 +1,16 @@
+/*
+ * package information for Javadoc
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+/**
+ * TogaGemのJMHベンチマーク群。
+ *
+ * <p>ライブラリ本体とは別にビルドされ、配布物には含まれない。
+ */
+
+package jp.sfjp.mikutoga.bench;
+
+/* EOF */
@@ -0,0 +1,379 @@
+/*
+ * asynchronous file parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import jp.sfjp.mikutoga.bin.parser.FeedDriver;
+import jp.sfjp.mikutoga.bin.parser.FeedParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdFeedDriver;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdFeedDriver;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+
+/**
+ * PMD/VMDファイルを非同期入力で読み込みながらパースする。
+ *
+ * <p>ファイルは{@link AsynchronousFileChannel}で一定サイズずつ読み込まれる。
+ * 読み込みは指定された{@link ExecutorService}上で実行される。
+ * 実装によってはExecutorServiceのスレッドが
+ * 読み込みの完了までブロックされる点に注意。
+ * (LinuxやmacOSのJDKでは各読み込みがプールスレッド上の
+ * ブロッキング入力として実行される)
+ *
+ * <p>読み込んだデータは{@link FeedParser}に追加され、
+ * {@link PmdFeedDriver}もしくは{@link VmdFeedDriver}によって
+ * 全体が揃ったセクションから順にパースされる。
+ * このためハンドラへの通知はファイル全体の読み込みを待たずに始まり、
+ * ファイル全体がメモリ上に保持されることもない。
+ * 1つのファイルのハンドラ呼び出しは、
+ * 読み込み完了の通知を受けたExecutorServiceのスレッド上で順に行われ、
+ * 同時に複数のスレッドから呼ばれることはない。
+ *
+ * <p>呼び出し側はファイル毎に生成されるパーサへハンドラを登録する処理を渡す。
+ * その処理の中で{@link PmdParser#parsePmd()}や
+ * {@link VmdParser#parseVmd()}を呼んではならない。
+ * 返される{@link CompletableFuture}は
+ * 全てのセクションのパースを終えた時点で完了する。
+ *
+ * <p>{@link BatchParser}と同じく、
+ * 同時に読み込まれるファイルの合計サイズはメモリ上限で制限される。
+ * 上限に達している間に開始されたファイルは、
+ * 先行するファイルのパースが終わり上限に収まるまで読み込みを始めない。
+ * この待機は呼び出し元スレッドを待たせない。
+ * 単独で上限を超えるファイルは、
+ * 他のファイルが読み込まれていない時に限り読み込まれる。
+ *
+ * <p>ExecutorServiceの終了は呼び出し側の責務とする。
+ *
+ * <p>このクラスはスレッドセーフである。
+ */
+public class AsyncParser {
+
+    /** 1回の読み込みサイズ(単位:byte)。 */
+    public static final int READ_SIZE = 64 * 1024;
+
+    private static final Set<OpenOption> OPEN_OPTIONS =
+            Collections.singleton(StandardOpenOption.READ);
+
+
+    private final ExecutorService executor;
+    private final MemoryBudget memory;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>メモリ上限は{@link BatchParser#DEF_MEMORY_LIMIT}となる。
+     *
+     * @param executor 読み込みとパースを実行するExecutorService
+     * @throws NullPointerException 引数がnull
+     */
+    public AsyncParser(ExecutorService executor)
+            throws NullPointerException{
+        this(executor, BatchParser.DEF_MEMORY_LIMIT);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param executor 読み込みとパースを実行するExecutorService
+     * @param memoryLimit 同時に読み込むファイルの合計サイズ上限(単位:byte)
+     * @throws NullPointerException executorがnull
+     * @throws IllegalArgumentException メモリ上限が正で無かった
+     */
+    public AsyncParser(ExecutorService executor, long memoryLimit)
+            throws NullPointerException, IllegalArgumentException{
+        super();
+
+        if(executor == null) throw new NullPointerException();
+
+        this.executor = executor;
+        this.memory = new MemoryBudget(memoryLimit);
+
+        return;
+    }
+
+
+    /**
+     * 読み込みとパースを実行するExecutorServiceを返す。
+     *
+     * @return ExecutorService
+     */
+    public ExecutorService getExecutor(){
+        return this.executor;
+    }
+
+    /**
+     * メモリ上限を返す。
+     *
+     * @return 同時に読み込むファイルの合計サイズ上限(単位:byte)
+     */
+    public long getMemoryLimit(){
+        return this.memory.getLimit();
+    }
+
+    /**
+     * PMDファイルの読み込みとパースを開始する。
+     *
+     * <p>ハンドラの登録処理は読み込みの開始前に呼び出し元スレッドで実行される。
+     * このメソッドは入力を待たずに復帰する。
+     * 入出力エラーやハンドラが投げた例外は
+     * 返されるCompletableFutureに格納される。
+     *
+     * @param file PMDファイル
+     * @param setup パーサへハンドラを登録する処理
+     * @return パースの完了
+     * @throws NullPointerException 引数がnull
+     */
+    public CompletableFuture<Void> parsePmd(
+            Path file, Consumer<? super PmdParser> setup)
+            throws NullPointerException{
+        if(file == null || setup == null) throw new NullPointerException();
+
+        PmdFeedDriver driver = new PmdFeedDriver(new FeedParser());
+        setup.accept(driver.getParser());
+
+        CompletableFuture<Void> result =
+                start(file, driver.getFeed(), driver);
+
+        return result;
+    }
+
+    /**
+     * VMDファイルの読み込みとパースを開始する。
+     *
+     * <p>ハンドラの登録処理は読み込みの開始前に呼び出し元スレッドで実行される。
+     * このメソッドは入力を待たずに復帰する。
+     * 入出力エラーやハンドラが投げた例外は
+     * 返されるCompletableFutureに格納される。
+     *
+     * @param file VMDファイル
+     * @param setup パーサへハンドラを登録する処理
+     * @return パースの完了
+     * @throws NullPointerException 引数がnull
+     */
+    public CompletableFuture<Void> parseVmd(
+            Path file, Consumer<? super VmdParser> setup)
+            throws NullPointerException{
+        if(file == null || setup == null) throw new NullPointerException();
+
+        VmdFeedDriver driver = new VmdFeedDriver(new FeedParser());
+        setup.accept(driver.getParser());
+
+        CompletableFuture<Void> result =
+                start(file, driver.getFeed(), driver);
+
+        return result;
+    }
+
+    /**
+     * ファイルサイズ分のメモリを確保した上で非同期読み込みを開始する。
+     *
+     * @param file ファイル
+     * @param feed 読み込んだデータの追加先
+     * @param driver パース処理
+     * @return パースの完了
+     */
+    private CompletableFuture<Void> start(Path file,
+                                          FeedParser feed,
+                                          FeedDriver driver ){
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        long size;
+        try{
+            size = Files.size(file);
+        }catch(IOException e){
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        int permits = this.memory.permits(size);
+        this.memory.acquireLater(permits, () -> {
+            Reader reader =
+                    new Reader(feed, driver, this.memory, permits, future);
+            open(file, reader);
+        });
+
+        return future;
+    }
+
+    /**
+     * ファイルを開き、読み込みを開始する。
+     *
+     * @param file ファイル
+     * @param reader 読み込み処理
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void open(Path file, Reader reader){
+        AsynchronousFileChannel channel;
+        try{
+            channel = AsynchronousFileChannel.open(
+                    file, OPEN_OPTIONS, this.executor);
+        }catch(IOException | RuntimeException e){
+            reader.failed(e, null);
+            return;
+        }
+
+        reader.start(channel);
+
+        return;
+    }
+
+
+    /**
+     * 一定サイズずつ読み込みを繰り返し、
+     * 読み込む度にパースできるセクションをパースする。
+     *
+     * <p>次の読み込みは受信済みデータの処理を終えてから発行されるため、
+     * パースが並行して実行されることはない。
+     *
+     * <p>確保済みのメモリはパースの完了もしくは失敗の時点で返却され、
+     * その後に結果が格納される。
+     */
+    private static final class Reader
+            implements CompletionHandler<Integer, Void> {
+
+        private final FeedParser feed;
+        private final FeedDriver driver;
+        private final MemoryBudget memory;
+        private final int permits;
+        private final CompletableFuture<Void> future;
+
+        private final ByteBuffer chunk = ByteBuffer.allocate(READ_SIZE);
+        private AsynchronousFileChannel channel = null;
+        private long position = 0L;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param feed 読み込んだデータの追加先
+         * @param driver パース処理
+         * @param memory メモリ上限
+         * @param permits 確保済みパーミット数
+         * @param future 結果の格納先
+         */
+        Reader(FeedParser feed,
+               FeedDriver driver,
+               MemoryBudget memory,
+               int permits,
+               CompletableFuture<Void> future ){
+            super();
+            this.feed = feed;
+            this.driver = driver;
+            this.memory = memory;
+            this.permits = permits;
+            this.future = future;
+            return;
+        }
+
+        /**
+         * 読み込みを開始する。
+         *
+         * @param source 読み込み元
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        void start(AsynchronousFileChannel source){
+            this.channel = source;
+            try{
+                readNext();
+            }catch(RuntimeException e){
+                failed(e, null);
+            }
+            return;
+        }
+
+        /**
+         * 次の読み込みを発行する。
+         */
+        private void readNext(){
+            this.chunk.clear();
+            this.channel.read(this.chunk, this.position, null, this);
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>読み込んだデータを追加し、パースできるセクションをパースする。
+         * 全てのセクションをパースし終えたら完了を通知し、
+         * そうでなければ続きを読み込む。
+         *
+         * @param result {@inheritDoc}
+         * @param attachment {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        public void completed(Integer result, Void attachment){
+            boolean done;
+
+            try{
+                if(result < 0){
+                    this.feed.finish();
+                }else{
+                    this.chunk.flip();
+                    this.feed.feed(this.chunk);
+                    this.position += result;
+                }
+
+                done = this.driver.drive();
+                if( ! done ) readNext();
+            }catch(Throwable e){
+                failed(e, null);
+                return;
+            }
+
+            if(done){
+                try{
+                    this.channel.close();
+                }catch(IOException e){
+                    failed(e, null);
+                    return;
+                }
+                this.memory.release(this.permits);
+                this.future.complete(null);
+            }
+
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param exc {@inheritDoc}
+         * @param attachment {@inheritDoc}
+         */
+        @Override
+        public void failed(Throwable exc, Void attachment){
+            if(this.channel != null){
+                try{
+                    this.channel.close();
+                }catch(IOException e){
+                    exc.addSuppressed(e);
+                }
+            }
+            this.memory.release(this.permits);
+            this.future.completeExceptionally(exc);
+            return;
+        }
+
+    }
+
+}
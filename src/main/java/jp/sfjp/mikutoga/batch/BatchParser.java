@@ -0,0 +1,278 @@
+/*
+ * batch parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+
+/**
+ * 多数のPMD/VMDファイルを並行してパースする。
+ *
+ * <p>ファイル毎に内容を一括してメモリに読み込み、
+ * そのファイル専用の{@link PmdParser}もしくは{@link VmdParser}を生成して
+ * タスクに渡す。
+ * パーサおよびその文字デコーダはスレッドセーフではないため、
+ * タスク間で共有されることはない。
+ *
+ * <p>パースは指定された{@link ExecutorService}上で実行される。
+ * JDK21以降であれば
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}
+ * による仮想スレッドを用いてもよい。
+ * ExecutorServiceの終了は呼び出し側の責務とする。
+ *
+ * <p>同時に読み込まれるファイルの合計サイズはメモリ上限で制限される。
+ * 上限を超えるファイルの投入は、
+ * 先行するパースが終わり上限に収まるまで待たされる。
+ * ただし単独で上限を超えるファイルは、
+ * 他のファイルが読み込まれていない時に限り投入される。
+ *
+ * <p>このクラスはスレッドセーフである。
+ */
+public class BatchParser {
+
+    /** デフォルトのメモリ上限(単位:byte)。 */
+    public static final long DEF_MEMORY_LIMIT = 256L * 1024L * 1024L;
+
+    private static final String ERRMSG_TOOLARGE =
+            "file too large [{0}]({1} bytes)";
+
+
+    private final ExecutorService executor;
+    private final MemoryBudget memory;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>メモリ上限は{@link #DEF_MEMORY_LIMIT}となる。
+     *
+     * @param executor パースを実行するExecutorService
+     * @throws NullPointerException 引数がnull
+     */
+    public BatchParser(ExecutorService executor)
+            throws NullPointerException{
+        this(executor, DEF_MEMORY_LIMIT);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param executor パースを実行するExecutorService
+     * @param memoryLimit 同時に読み込むファイルの合計サイズ上限(単位:byte)
+     * @throws NullPointerException executorがnull
+     * @throws IllegalArgumentException メモリ上限が正で無かった
+     */
+    public BatchParser(ExecutorService executor, long memoryLimit)
+            throws NullPointerException, IllegalArgumentException{
+        super();
+
+        if(executor == null) throw new NullPointerException();
+
+        this.executor = executor;
+        this.memory = new MemoryBudget(memoryLimit);
+
+        return;
+    }
+
+
+    /**
+     * パースを実行するExecutorServiceを返す。
+     *
+     * @return ExecutorService
+     */
+    public ExecutorService getExecutor(){
+        return this.executor;
+    }
+
+    /**
+     * メモリ上限を返す。
+     *
+     * @return 同時に読み込むファイルの合計サイズ上限(単位:byte)
+     */
+    public long getMemoryLimit(){
+        return this.memory.getLimit();
+    }
+
+    /**
+     * PMDファイルのパースを投入する。
+     *
+     * <p>メモリ上限に達している場合は空きができるまで待たされる。
+     * 入出力エラーやタスクが投げた例外は
+     * 返されるCompletableFutureに格納される。
+     *
+     * @param <T> パース結果の型
+     * @param file PMDファイル
+     * @param task パースタスク
+     * @return パース結果
+     * @throws NullPointerException 引数がnull
+     * @throws InterruptedException 待機中に割り込まれた
+     */
+    public <T> CompletableFuture<T> submitPmd(Path file, PmdTask<T> task)
+            throws NullPointerException, InterruptedException{
+        if(task == null) throw new NullPointerException();
+        return submit(file, buf -> {
+            PmdParser parser = new PmdParser(new BufferParser(buf));
+            return task.parse(parser);
+        });
+    }
+
+    /**
+     * VMDファイルのパースを投入する。
+     *
+     * <p>メモリ上限に達している場合は空きができるまで待たされる。
+     * 入出力エラーやタスクが投げた例外は
+     * 返されるCompletableFutureに格納される。
+     *
+     * @param <T> パース結果の型
+     * @param file VMDファイル
+     * @param task パースタスク
+     * @return パース結果
+     * @throws NullPointerException 引数がnull
+     * @throws InterruptedException 待機中に割り込まれた
+     */
+    public <T> CompletableFuture<T> submitVmd(Path file, VmdTask<T> task)
+            throws NullPointerException, InterruptedException{
+        if(task == null) throw new NullPointerException();
+        return submit(file, buf -> {
+            VmdParser parser = new VmdParser(new BufferParser(buf));
+            return task.parse(parser);
+        });
+    }
+
+    /**
+     * 複数のPMDファイルのパースを順に投入する。
+     *
+     * @param <T> パース結果の型
+     * @param files PMDファイル群
+     * @param task パースタスク
+     * @return ファイル順に並んだパース結果
+     * @throws NullPointerException 引数がnull
+     * @throws InterruptedException 待機中に割り込まれた
+     * @see #submitPmd(Path, PmdTask)
+     */
+    public <T> List<CompletableFuture<T>> submitPmdAll(
+            Collection<? extends Path> files, PmdTask<T> task)
+            throws NullPointerException, InterruptedException{
+        List<CompletableFuture<T>> result = new ArrayList<>(files.size());
+        for(Path file : files){
+            result.add(submitPmd(file, task));
+        }
+        return result;
+    }
+
+    /**
+     * 複数のVMDファイルのパースを順に投入する。
+     *
+     * @param <T> パース結果の型
+     * @param files VMDファイル群
+     * @param task パースタスク
+     * @return ファイル順に並んだパース結果
+     * @throws NullPointerException 引数がnull
+     * @throws InterruptedException 待機中に割り込まれた
+     * @see #submitVmd(Path, VmdTask)
+     */
+    public <T> List<CompletableFuture<T>> submitVmdAll(
+            Collection<? extends Path> files, VmdTask<T> task)
+            throws NullPointerException, InterruptedException{
+        List<CompletableFuture<T>> result = new ArrayList<>(files.size());
+        for(Path file : files){
+            result.add(submitVmd(file, task));
+        }
+        return result;
+    }
+
+    /**
+     * ファイルのパースを投入する。
+     *
+     * @param <T> パース結果の型
+     * @param file ファイル
+     * @param body ファイル内容をパースする処理
+     * @return パース結果
+     * @throws NullPointerException ファイルがnull
+     * @throws InterruptedException 待機中に割り込まれた
+     */
+    private <T> CompletableFuture<T> submit(Path file, BufferTask<T> body)
+            throws NullPointerException, InterruptedException{
+        if(file == null) throw new NullPointerException();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        long size;
+        try{
+            size = Files.size(file);
+        }catch(IOException e){
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        if(size > Integer.MAX_VALUE){
+            String message = MessageFormat.format(ERRMSG_TOOLARGE, file, size);
+            future.completeExceptionally(new IOException(message));
+            return future;
+        }
+
+        int permits = this.memory.permits(size);
+        this.memory.acquire(permits);
+
+        try{
+            this.executor.execute(() -> run(file, body, permits, future));
+        }catch(RejectedExecutionException e){
+            this.memory.release(permits);
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * ファイルを読み込みパースする。
+     *
+     * <p>パースを終えた時点で読み込み分のメモリが解放され、
+     * その後に結果が格納される。
+     *
+     * @param <T> パース結果の型
+     * @param file ファイル
+     * @param body ファイル内容をパースする処理
+     * @param permits 確保済みパーミット数
+     * @param future 結果の格納先
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private <T> void run(Path file, BufferTask<T> body, int permits,
+                         CompletableFuture<T> future ){
+        T result = null;
+        Throwable cause = null;
+
+        try{
+            byte[] bin = Files.readAllBytes(file);
+            result = body.parse(ByteBuffer.wrap(bin));
+        }catch(Throwable e){
+            cause = e;
+        }finally{
+            this.memory.release(permits);
+        }
+
+        if(cause == null) future.complete(result);
+        else              future.completeExceptionally(cause);
+
+        return;
+    }
+
+}
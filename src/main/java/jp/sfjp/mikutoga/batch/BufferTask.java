@@ -0,0 +1,32 @@
+/*
+ * buffered file task
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+
+/**
+ * メモリ上に読み込まれたファイル内容をパースする処理。
+ *
+ * @param <T> パース結果の型
+ */
+@FunctionalInterface
+interface BufferTask<T> {
+
+    /**
+     * パースを行う。
+     *
+     * @param buf ファイル内容
+     * @return パース結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    T parse(ByteBuffer buf) throws IOException, MmdFormatException;
+
+}
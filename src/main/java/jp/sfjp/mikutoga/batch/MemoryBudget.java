@@ -0,0 +1,198 @@
+/*
+ * memory budget for in-flight files
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 同時に読み込まれるファイルの合計サイズを制限する。
+ *
+ * <p>ファイルサイズは{@link #PERMIT_UNIT}単位のパーミットに換算される。
+ * 単独で上限を超えるファイルは全パーミットを要求するため、
+ * 他のファイルが読み込まれていない時に限り許可される。
+ *
+ * <p>パーミットの確保には、空きができるまで待つ{@link #acquire(int)}と、
+ * 空きができた時点で処理を実行する{@link #acquireLater(int, Runnable)}がある。
+ * 後者はスレッドを待たせない。
+ * 待機中の処理は要求順に、パーミットを返却したスレッド上で実行される。
+ *
+ * <p>このクラスはスレッドセーフである。
+ */
+final class MemoryBudget {
+
+    /** パーミット1つあたりのバイト長。 */
+    static final int PERMIT_UNIT = 1024;
+
+
+    private final long limit;
+    private final int permitMax;
+    private final Semaphore memory;
+
+    private final Queue<Waiter> waiters = new ArrayDeque<>();
+    private boolean draining = false;
+    private boolean redrain = false;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param limit 同時に読み込むファイルの合計サイズ上限(単位:byte)
+     * @throws IllegalArgumentException 上限が正で無かった
+     */
+    MemoryBudget(long limit) throws IllegalArgumentException{
+        super();
+
+        if(limit <= 0L) throw new IllegalArgumentException();
+
+        this.limit = limit;
+
+        long permits = (limit + PERMIT_UNIT - 1) / PERMIT_UNIT;
+        if(permits > Integer.MAX_VALUE) permits = Integer.MAX_VALUE;
+        this.permitMax = (int) permits;
+        this.memory = new Semaphore(this.permitMax, true);
+
+        return;
+    }
+
+
+    /**
+     * 上限を返す。
+     *
+     * @return 同時に読み込むファイルの合計サイズ上限(単位:byte)
+     */
+    long getLimit(){
+        return this.limit;
+    }
+
+    /**
+     * ファイルサイズに相当するパーミット数を求める。
+     *
+     * @param size ファイルサイズ
+     * @return パーミット数
+     */
+    int permits(long size){
+        long result = (size + PERMIT_UNIT - 1) / PERMIT_UNIT;
+        if(result > this.permitMax) result = this.permitMax;
+        return (int) result;
+    }
+
+    /**
+     * パーミットを確保する。
+     *
+     * <p>空きが無ければ空きができるまで待たされる。
+     *
+     * @param permits パーミット数
+     * @throws InterruptedException 待機中に割り込まれた
+     */
+    void acquire(int permits) throws InterruptedException{
+        this.memory.acquire(permits);
+        return;
+    }
+
+    /**
+     * パーミットを確保した上で処理を実行する。
+     *
+     * <p>空きがあれば呼び出し元スレッドで直ちに実行される。
+     * 空きが無ければ処理は待機列に加えられ、
+     * 空きができた時点でパーミットを返却したスレッド上で実行される。
+     * いずれの場合も確保したパーミットの返却は処理側の責務とする。
+     *
+     * <p>処理は例外を投げてはならない。
+     *
+     * @param permits パーミット数
+     * @param action パーミット確保後に実行する処理
+     */
+    void acquireLater(int permits, Runnable action){
+        synchronized(this){
+            if( ! this.waiters.isEmpty()
+                || ! this.memory.tryAcquire(permits) ){
+                this.waiters.add(new Waiter(permits, action));
+                return;
+            }
+        }
+
+        action.run();
+
+        return;
+    }
+
+    /**
+     * パーミットを返却する。
+     *
+     * <p>空きができた分だけ待機中の処理を要求順に実行する。
+     *
+     * @param permits パーミット数
+     */
+    void release(int permits){
+        this.memory.release(permits);
+        drain();
+        return;
+    }
+
+    /**
+     * 待機中の処理のうち、パーミットを確保できたものを要求順に実行する。
+     *
+     * <p>実行中の処理が返却したパーミットは、
+     * 呼び出しを入れ子にせず同じループで処理される。
+     */
+    private void drain(){
+        synchronized(this){
+            if(this.draining){
+                this.redrain = true;
+                return;
+            }
+            this.draining = true;
+        }
+
+        for(;;){
+            Runnable action = null;
+
+            synchronized(this){
+                Waiter head = this.waiters.peek();
+                if(head != null && this.memory.tryAcquire(head.permits)){
+                    this.waiters.remove();
+                    action = head.action;
+                }else if(this.redrain){
+                    this.redrain = false;
+                }else{
+                    this.draining = false;
+                    return;
+                }
+            }
+
+            if(action != null) action.run();
+        }
+    }
+
+
+    /**
+     * パーミットの空きを待つ処理。
+     */
+    private static final class Waiter {
+
+        final int permits;
+        final Runnable action;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param permits パーミット数
+         * @param action パーミット確保後に実行する処理
+         */
+        Waiter(int permits, Runnable action){
+            super();
+            this.permits = permits;
+            this.action = action;
+            return;
+        }
+
+    }
+
+}
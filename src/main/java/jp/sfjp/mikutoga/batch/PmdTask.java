@@ -0,0 +1,37 @@
+/*
+ * PMD batch task
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.IOException;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+
+/**
+ * 一括処理においてPMDファイル1つ分のパースを行うタスク。
+ *
+ * <p>タスクは渡されたパーサにハンドラを登録し、
+ * {@link PmdParser#parsePmd()}を呼び出して結果を返す。
+ * 同一のタスクが複数のスレッドから同時に呼ばれうるため、
+ * ハンドラは呼び出し毎に生成しなければならない。
+ *
+ * @param <T> パース結果の型
+ */
+@FunctionalInterface
+public interface PmdTask<T> {
+
+    /**
+     * パースを行う。
+     *
+     * @param parser このファイル専用のパーサ
+     * @return パース結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    T parse(PmdParser parser) throws IOException, MmdFormatException;
+
+}
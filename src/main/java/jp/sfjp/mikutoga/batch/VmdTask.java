@@ -0,0 +1,37 @@
+/*
+ * VMD batch task
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.IOException;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+
+/**
+ * 一括処理においてVMDファイル1つ分のパースを行うタスク。
+ *
+ * <p>タスクは渡されたパーサにハンドラを登録し、
+ * {@link VmdParser#parseVmd()}を呼び出して結果を返す。
+ * 同一のタスクが複数のスレッドから同時に呼ばれうるため、
+ * ハンドラは呼び出し毎に生成しなければならない。
+ *
+ * @param <T> パース結果の型
+ */
+@FunctionalInterface
+public interface VmdTask<T> {
+
+    /**
+     * パースを行う。
+     *
+     * @param parser このファイル専用のパーサ
+     * @return パース結果
+     * @throws IOException 入力エラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    T parse(VmdParser parser) throws IOException, MmdFormatException;
+
+}
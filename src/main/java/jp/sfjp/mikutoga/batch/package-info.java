@@ -0,0 +1,22 @@
+/*
+ * package information for Javadoc
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+/**
+ * 多数のPMD/VMDファイルを並行してパースするための一括処理ライブラリ。
+ *
+ * <p>ファイル毎に独立したパーサが生成され、
+ * 任意の{@link java.util.concurrent.ExecutorService}上でパースが行われる。
+ * パース結果は{@link java.util.concurrent.CompletableFuture}で返される。
+ *
+ * <p>{@link jp.sfjp.mikutoga.batch.AsyncParser}を用いると、
+ * ファイルの読み込みも非同期入力で行われ、
+ * 全体が届いたセクションから順にパースされる。
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+/* EOF */
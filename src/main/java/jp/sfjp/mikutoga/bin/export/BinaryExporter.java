@@ -12,17 +12,54 @@
 import java.io.Flushable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * バイナリデータの出力を行う汎用エクスポーター。
  *
  * <p>基本的にリトルエンディアン形式で出力される。
+ *
+ * <p>出力内容はいったん内部のリトルエンディアンな
+ * {@link ByteBuffer}に格納される。
+ *
+ * <p>{@link #BinaryExporter(OutputStream)}で生成した場合は
+ * 出力メソッドを呼ぶたびに格納内容が出力ストリームに書き込まれる。
+ * バッファサイズを指定して生成した場合は
+ * バッファが満ちた時点、フラッシュ時、およびクローズ時にまとめて
+ * 出力ストリームもしくはチャネルに書き込まれる。
+ * 後者では出力ストリーム自体がバッファリングされていなくとも
+ * 出力メソッド呼び出し毎の書き込みは発生しない。
+ *
+ * <p>配列を一括して出力するメソッドは、
+ * 配列をバッファのビューへ一度に転送する。
+ *
+ * <p>チャネルへ出力する場合、
+ * {@link #dumpBuffer(ByteBuffer)}で渡された大きなバッファは
+ * 内部バッファへ複写されず、
+ * 内部バッファの内容と共にギャザリング書き込みで出力される。
+ *
+ * <p>{@link #position()}で得た位置へ後から値を書き込むことができる。
+ * 要素数を先に仮出力し、要素を出力し終えてから
+ * 実際の要素数で上書きする用途を想定している。
+ * 出力先へ書き込み済みの位置への上書きは
+ * {@link SeekableByteChannel}への出力時のみ可能。
+ * 追記モードで開いたチャネルへの上書きは正しく行われない。
  */
 public class BinaryExporter implements Closeable, Flushable{
 
+    /** バッファリング時の既定バッファサイズ。(単位:byte) */
+    public static final int DEFBUFSZ = 64 * 1024;
+
     private static final Charset CS_UTF16LE = Charset.forName("UTF-16LE");
     private static final Charset CS_WIN31J  = Charset.forName("windows-31j");
 
@@ -38,24 +75,10 @@ public class BinaryExporter implements Closeable, Flushable{
     private static final int BYTES_DOUBLE = Double  .SIZE / Byte.SIZE;
 
     private static final int BUFSZ_PRIM = BYTES_DOUBLE;
+    private static final int BUFSZ_THROUGH = 4 * 1024;
 
-    private static final int IDX0 = 0;
-    private static final int IDX1 = 1;
-    private static final int IDX2 = 2;
-    private static final int IDX3 = 3;
-    private static final int IDX4 = 4;
-    private static final int IDX5 = 5;
-    private static final int IDX6 = 6;
-    private static final int IDX7 = 7;
-
-    private static final int SH00 =  0;
-    private static final int SH08 =  8;
-    private static final int SH16 = 16;
-    private static final int SH24 = 24;
-    private static final int SH32 = 32;
-    private static final int SH40 = 40;
-    private static final int SH48 = 48;
-    private static final int SH56 = 56;
+    private static final int GATHER_MIN = 1024;
+    private static final int SEGMENTS_MAX = 64;
 
     static{
         assert BYTES_DOUBLE <= BUFSZ_PRIM;
@@ -67,56 +90,346 @@ public class BinaryExporter implements Closeable, Flushable{
 
 
     private final OutputStream ostream;
+    private final WritableByteChannel channel;
+
+    private final ByteBuffer stage;
+    private final boolean buffered;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final List<Segment> stageSegments = new ArrayList<>();
+    private int openStart = 0;
+    private long openPosition = 0L;
+    private long pendingExtra = 0L;
+
+    private long flushed = 0L;
+    private long channelBase = -1L;
 
-    private final byte[] barray;
+    private final ByteBuffer patchBuf;
 
     private final TextExporter texporterW31j;
     private final TextExporter texporterU16le;
     private final ByteArrayOutputStream xos;
+    private final OutputStream stageStream;
 
 
     /**
      * コンストラクタ。
      *
+     * <p>出力メソッドを呼ぶたびに出力ストリームへ書き込まれる。
+     *
      * @param ostream 出力ストリーム
      * @throws NullPointerException 引数がnull
      */
     public BinaryExporter(OutputStream ostream) throws NullPointerException{
+        this(ostream, null, BUFSZ_THROUGH, false);
+        return;
+    }
+
+    /**
+     * バッファリングを行うエクスポーターを生成する。
+     *
+     * @param ostream 出力ストリーム
+     * @param bufSize バッファサイズ。(単位:byte)
+     * @throws NullPointerException 引数がnull
+     * @throws IllegalArgumentException バッファサイズが小さすぎる
+     */
+    public BinaryExporter(OutputStream ostream, int bufSize)
+            throws NullPointerException, IllegalArgumentException{
+        this(ostream, null, bufSize, true);
+        return;
+    }
+
+    /**
+     * チャネルへ出力する、バッファリングを行うエクスポーターを生成する。
+     *
+     * @param channel 出力チャネル
+     * @param bufSize バッファサイズ。(単位:byte)
+     * @throws NullPointerException 引数がnull
+     * @throws IllegalArgumentException バッファサイズが小さすぎる
+     */
+    public BinaryExporter(WritableByteChannel channel, int bufSize)
+            throws NullPointerException, IllegalArgumentException{
+        this(null, channel, bufSize, true);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param ostream 出力ストリーム。チャネルへ出力するならnull
+     * @param channel 出力チャネル。出力ストリームへ出力するならnull
+     * @param bufSize バッファサイズ。(単位:byte)
+     * @param buffered バッファリングを行うならtrue
+     * @throws NullPointerException 出力先がnull
+     * @throws IllegalArgumentException バッファサイズが小さすぎる
+     */
+    private BinaryExporter(OutputStream ostream,
+                           WritableByteChannel channel,
+                           int bufSize,
+                           boolean buffered )
+            throws NullPointerException, IllegalArgumentException{
         super();
 
-        if(ostream == null) throw new NullPointerException();
+        if(ostream == null && channel == null){
+            throw new NullPointerException();
+        }
+        if(bufSize < BUFSZ_PRIM) throw new IllegalArgumentException();
+
         this.ostream = ostream;
+        this.channel = channel;
+
+        if(channel != null){
+            this.stage = ByteBuffer.allocateDirect(bufSize);
+        }else{
+            this.stage = ByteBuffer.allocate(bufSize);
+        }
+        this.stage.order(ByteOrder.LITTLE_ENDIAN);
+        this.buffered = buffered;
 
-        this.barray = new byte[BUFSZ_PRIM];
+        this.patchBuf = ByteBuffer.allocate(BUFSZ_PRIM);
+        this.patchBuf.order(ByteOrder.LITTLE_ENDIAN);
 
         this.texporterW31j  = new TextExporter(CS_WIN31J);
         this.texporterU16le = new TextExporter(CS_UTF16LE);
         this.xos = new ByteArrayOutputStream();
 
+        this.stageStream = new OutputStream(){
+            @Override
+            public void write(int bVal) throws IOException{
+                putByte((byte) bVal);
+                return;
+            }
+
+            @Override
+            public void write(byte[] array, int offset, int length)
+                    throws IOException{
+                putByteArray(array, offset, length);
+                return;
+            }
+        };
+
         return;
     }
 
 
     /**
-     * 出力ストリームを閉じる。
+     * バッファの内容を出力先に書き込み、出力先を閉じる。
      *
      * @throws IOException 出力エラー
      */
     @Override
     public void close() throws IOException{
-        this.ostream.close();
+        try{
+            drain();
+        }finally{
+            if(this.ostream != null) this.ostream.close();
+            else                     this.channel.close();
+        }
         return;
     }
 
     /**
-     * 出力をフラッシュする。
+     * バッファの内容を出力先に書き込み、出力をフラッシュする。
      * I/O効率とデバッグ効率のバランスを考え、ご利用は計画的に。
      *
      * @throws IOException 出力エラー
      */
     @Override
     public void flush() throws IOException{
-        this.ostream.flush();
+        drain();
+        if(this.ostream != null) this.ostream.flush();
+        return;
+    }
+
+    /**
+     * バッファの内容を出力先に書き込む。
+     *
+     * <p>書き込みが出力エラーで中断した場合でも、
+     * 書き込めなかった残りはバッファ先頭へ詰められ、
+     * バッファは格納可能な状態に戻される。
+     *
+     * @throws IOException 出力エラー
+     */
+    private void drain() throws IOException{
+        ByteBuffer buf = this.stage;
+
+        if( ! this.segments.isEmpty() ){
+            drainSegments();
+            return;
+        }
+
+        if(buf.position() <= 0) return;
+
+        buf.flip();
+        try{
+            if(this.ostream != null){
+                this.ostream.write(buf.array(),
+                                   buf.arrayOffset(), buf.remaining());
+                buf.position(buf.limit());
+            }else{
+                markChannelBase();
+                while(buf.hasRemaining()){
+                    this.channel.write(buf);
+                }
+            }
+        }finally{
+            this.flushed += buf.position();
+            buf.compact();
+
+            this.openStart = 0;
+            this.openPosition = this.flushed;
+        }
+
+        return;
+    }
+
+    /**
+     * 出力待ちの区間列をギャザリング書き込みでチャネルへ書き込む。
+     *
+     * @throws IOException 出力エラー
+     */
+    private void drainSegments() throws IOException{
+        closeStageSegment();
+
+        int num = this.segments.size();
+        ByteBuffer[] srcs = this.segments.toArray(new ByteBuffer[num]);
+
+        markChannelBase();
+        if(this.channel instanceof GatheringByteChannel){
+            GatheringByteChannel gch = (GatheringByteChannel) this.channel;
+            int head = 0;
+            while(head < num){
+                gch.write(srcs, head, num - head);
+                while(head < num && ! srcs[head].hasRemaining()){
+                    head++;
+                }
+            }
+        }else{
+            for(ByteBuffer src : srcs){
+                while(src.hasRemaining()){
+                    this.channel.write(src);
+                }
+            }
+        }
+
+        this.flushed += this.stage.position() + this.pendingExtra;
+
+        this.segments.clear();
+        this.stageSegments.clear();
+        this.pendingExtra = 0L;
+
+        this.stage.clear();
+        this.openStart = 0;
+        this.openPosition = this.flushed;
+
+        return;
+    }
+
+    /**
+     * 内部バッファの未区切りの部分を出力待ちの区間として区切る。
+     */
+    private void closeStageSegment(){
+        int end = this.stage.position();
+        if(end <= this.openStart) return;
+
+        ByteBuffer view = this.stage.duplicate();
+        view.limit(end);
+        view.position(this.openStart);
+        this.segments.add(view);
+
+        Segment seg = new Segment(this.openStart, end, this.openPosition);
+        this.stageSegments.add(seg);
+
+        this.openPosition += end - this.openStart;
+        this.openStart = end;
+
+        return;
+    }
+
+    /**
+     * 最初にチャネルへ書き込む前のチャネル位置を記録する。
+     *
+     * @throws IOException 出力エラー
+     */
+    private void markChannelBase() throws IOException{
+        if(this.channelBase >= 0L) return;
+        if(this.channel instanceof SeekableByteChannel){
+            SeekableByteChannel sch = (SeekableByteChannel) this.channel;
+            this.channelBase = sch.position() - this.flushed;
+        }
+        return;
+    }
+
+    /**
+     * バッファに指定バイト長の空きを確保する。
+     *
+     * @param size バイト長。バッファサイズ以下
+     * @throws IOException 出力エラー
+     */
+    private void reserve(int size) throws IOException{
+        if(this.stage.remaining() >= size) return;
+        drain();
+        return;
+    }
+
+    /**
+     * バッファリングを行わない場合、バッファの内容を出力先に書き込む。
+     *
+     * @throws IOException 出力エラー
+     */
+    private void sync() throws IOException{
+        if(this.buffered) return;
+        drain();
+        return;
+    }
+
+    /**
+     * byte値をバッファに格納する。
+     *
+     * @param bVal byte値
+     * @throws IOException 出力エラー
+     */
+    private void putByte(byte bVal) throws IOException{
+        reserve(1);
+        this.stage.put(bVal);
+        return;
+    }
+
+    /**
+     * byte型配列の部分列をバッファに格納する。
+     *
+     * <p>バッファサイズ以上の部分列はバッファを経由せず出力先へ書き込む。
+     *
+     * @param array 配列
+     * @param offset 格納開始位置
+     * @param length 格納バイト数
+     * @throws IOException 出力エラー
+     */
+    private void putByteArray(byte[] array, int offset, int length)
+            throws IOException{
+        checkRange(array.length, offset, length);
+
+        ByteBuffer buf = this.stage;
+
+        if(length >= buf.capacity()){
+            drain();
+            if(this.ostream != null){
+                this.ostream.write(array, offset, length);
+            }else{
+                markChannelBase();
+                ByteBuffer wrapped = ByteBuffer.wrap(array, offset, length);
+                while(wrapped.hasRemaining()){
+                    this.channel.write(wrapped);
+                }
+            }
+            this.flushed += length;
+            this.openPosition = this.flushed;
+            return;
+        }
+
+        reserve(length);
+        buf.put(array, offset, length);
+
         return;
     }
 
@@ -128,7 +441,8 @@ public void flush() throws IOException{
      * @throws IOException 出力エラー
      */
     public BinaryExporter dumpByte(byte bVal) throws IOException{
-        this.ostream.write(bVal);
+        putByte(bVal);
+        sync();
         return this;
     }
 
@@ -140,7 +454,8 @@ public BinaryExporter dumpByte(byte bVal) throws IOException{
      * @throws IOException 出力エラー
      */
     public BinaryExporter dumpByte(int iVal) throws IOException{
-        this.ostream.write(iVal);
+        putByte((byte) iVal);
+        sync();
         return this;
     }
 
@@ -153,7 +468,8 @@ public BinaryExporter dumpByte(int iVal) throws IOException{
      */
     public BinaryExporter dumpByteArray(byte[] array)
             throws IOException{
-        this.ostream.write(array);
+        putByteArray(array, 0, array.length);
+        sync();
         return this;
     }
 
@@ -165,10 +481,12 @@ public BinaryExporter dumpByteArray(byte[] array)
      * @param length 出力バイト数
      * @return this自身
      * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 引数が配列の範囲外
      */
     public BinaryExporter dumpByteArray(byte[] array, int offset, int length)
-            throws IOException{
-        this.ostream.write(array, offset, length);
+            throws IOException, IndexOutOfBoundsException{
+        putByteArray(array, offset, length);
+        sync();
         return this;
     }
 
@@ -181,11 +499,9 @@ public BinaryExporter dumpByteArray(byte[] array, int offset, int length)
      */
     @SuppressWarnings("PMD.AvoidUsingShortType")
     public BinaryExporter dumpLeShort(short sVal) throws IOException{
-        this.barray[IDX0] = (byte)(sVal >>> SH00);
-        this.barray[IDX1] = (byte)(sVal >>> SH08);
-
-        this.ostream.write(this.barray, 0, BYTES_SHORT);
-
+        reserve(BYTES_SHORT);
+        this.stage.putShort(sVal);
+        sync();
         return this;
     }
 
@@ -211,13 +527,9 @@ public BinaryExporter dumpLeShort(int iVal) throws IOException{
      * @throws IOException 出力エラー
      */
     public BinaryExporter dumpLeInt(int iVal) throws IOException{
-        this.barray[IDX0] = (byte)(iVal >>> SH00);
-        this.barray[IDX1] = (byte)(iVal >>> SH08);
-        this.barray[IDX2] = (byte)(iVal >>> SH16);
-        this.barray[IDX3] = (byte)(iVal >>> SH24);
-
-        this.ostream.write(this.barray, 0, BYTES_INT);
-
+        reserve(BYTES_INT);
+        this.stage.putInt(iVal);
+        sync();
         return this;
     }
 
@@ -229,17 +541,9 @@ public BinaryExporter dumpLeInt(int iVal) throws IOException{
      * @throws IOException 出力エラー
      */
     public BinaryExporter dumpLeLong(long lVal) throws IOException{
-        this.barray[IDX0] = (byte)(lVal >>> SH00);
-        this.barray[IDX1] = (byte)(lVal >>> SH08);
-        this.barray[IDX2] = (byte)(lVal >>> SH16);
-        this.barray[IDX3] = (byte)(lVal >>> SH24);
-        this.barray[IDX4] = (byte)(lVal >>> SH32);
-        this.barray[IDX5] = (byte)(lVal >>> SH40);
-        this.barray[IDX6] = (byte)(lVal >>> SH48);
-        this.barray[IDX7] = (byte)(lVal >>> SH56);
-
-        this.ostream.write(this.barray, 0, BYTES_LONG);
-
+        reserve(BYTES_LONG);
+        this.stage.putLong(lVal);
+        sync();
         return this;
     }
 
@@ -251,8 +555,9 @@ public BinaryExporter dumpLeLong(long lVal) throws IOException{
      * @throws IOException 出力エラー
      */
     public BinaryExporter dumpLeFloat(float fVal) throws IOException{
-        int rawiVal = Float.floatToRawIntBits(fVal);
-        dumpLeInt(rawiVal);
+        reserve(BYTES_FLOAT);
+        this.stage.putFloat(fVal);
+        sync();
         return this;
     }
 
@@ -264,11 +569,322 @@ public BinaryExporter dumpLeFloat(float fVal) throws IOException{
      * @throws IOException 出力エラー
      */
     public BinaryExporter dumpLeDouble(double dVal) throws IOException{
-        long rawlVal = Double.doubleToRawLongBits(dVal);
-        dumpLeLong(rawlVal);
+        reserve(BYTES_DOUBLE);
+        this.stage.putDouble(dVal);
+        sync();
+        return this;
+    }
+
+    /**
+     * 配列の部分列が範囲内か検査する。
+     *
+     * @param arrayLength 配列長
+     * @param offset 開始位置
+     * @param length 要素数
+     * @throws IndexOutOfBoundsException 範囲外
+     */
+    private static void checkRange(int arrayLength, int offset, int length)
+            throws IndexOutOfBoundsException{
+        if(offset < 0 || length < 0 || arrayLength - offset < length){
+            throw new IndexOutOfBoundsException();
+        }
+        return;
+    }
+
+    /**
+     * 一度にバッファへ格納できる要素数を求める。
+     *
+     * <p>空きが1要素分も無ければバッファの内容を出力先に書き込む。
+     *
+     * @param remain 残り要素数
+     * @param unitSize 要素のバイト長
+     * @return 格納できる要素数
+     * @throws IOException 出力エラー
+     */
+    private int chunkSize(int remain, int unitSize) throws IOException{
+        reserve(unitSize);
+        int room = this.stage.remaining() / unitSize;
+        int result = Math.min(remain, room);
+        return result;
+    }
+
+    /**
+     * short型配列の部分列をリトルエンディアンで出力する。
+     *
+     * @param array 配列
+     * @param offset 出力開始位置
+     * @param length 出力要素数
+     * @return this自身
+     * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 引数が配列の範囲外
+     */
+    @SuppressWarnings("PMD.AvoidUsingShortType")
+    public BinaryExporter dumpLeShortArray(short[] array,
+                                           int offset, int length )
+            throws IOException, IndexOutOfBoundsException{
+        checkRange(array.length, offset, length);
+
+        ByteBuffer buf = this.stage;
+        int pos = offset;
+        int remain = length;
+        while(remain > 0){
+            int chunk = chunkSize(remain, BYTES_SHORT);
+            buf.asShortBuffer().put(array, pos, chunk);
+            buf.position(buf.position() + chunk * BYTES_SHORT);
+            pos += chunk;
+            remain -= chunk;
+        }
+
+        sync();
+
+        return this;
+    }
+
+    /**
+     * int型配列の部分列をリトルエンディアンで出力する。
+     *
+     * @param array 配列
+     * @param offset 出力開始位置
+     * @param length 出力要素数
+     * @return this自身
+     * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 引数が配列の範囲外
+     */
+    public BinaryExporter dumpLeIntArray(int[] array, int offset, int length)
+            throws IOException, IndexOutOfBoundsException{
+        checkRange(array.length, offset, length);
+
+        ByteBuffer buf = this.stage;
+        int pos = offset;
+        int remain = length;
+        while(remain > 0){
+            int chunk = chunkSize(remain, BYTES_INT);
+            buf.asIntBuffer().put(array, pos, chunk);
+            buf.position(buf.position() + chunk * BYTES_INT);
+            pos += chunk;
+            remain -= chunk;
+        }
+
+        sync();
+
+        return this;
+    }
+
+    /**
+     * float型配列の部分列をリトルエンディアンで出力する。
+     *
+     * @param array 配列
+     * @param offset 出力開始位置
+     * @param length 出力要素数
+     * @return this自身
+     * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 引数が配列の範囲外
+     */
+    public BinaryExporter dumpLeFloatArray(float[] array,
+                                           int offset, int length )
+            throws IOException, IndexOutOfBoundsException{
+        checkRange(array.length, offset, length);
+
+        ByteBuffer buf = this.stage;
+        int pos = offset;
+        int remain = length;
+        while(remain > 0){
+            int chunk = chunkSize(remain, BYTES_FLOAT);
+            buf.asFloatBuffer().put(array, pos, chunk);
+            buf.position(buf.position() + chunk * BYTES_FLOAT);
+            pos += chunk;
+            remain -= chunk;
+        }
+
+        sync();
+
+        return this;
+    }
+
+    /**
+     * これまでに出力したバイト数を返す。
+     *
+     * <p>内部バッファに格納されたまま出力先へ未だ書き込まれていない分も
+     * 含まれる。
+     *
+     * @return 生成時からの出力バイト数
+     */
+    public long position(){
+        long result = this.flushed + this.stage.position() + this.pendingExtra;
+        return result;
+    }
+
+    /**
+     * バイトバッファの残り内容を出力する。
+     *
+     * <p>チャネルへ出力し、かつ内容が十分に大きい場合は
+     * 内容を複写せず、フラッシュ時にギャザリング書き込みで出力する。
+     * この場合フラッシュするまでバッファの内容を変更してはならない。
+     *
+     * <p>バッファの位置は変更されない。
+     *
+     * @param src バイトバッファ
+     * @return this自身
+     * @throws IOException 出力エラー
+     */
+    public BinaryExporter dumpBuffer(ByteBuffer src) throws IOException{
+        int length = src.remaining();
+        if(length <= 0) return this;
+
+        if(this.channel != null && length >= GATHER_MIN){
+            if(this.segments.size() + 2 > SEGMENTS_MAX) drain();
+            closeStageSegment();
+            this.segments.add(src.duplicate());
+            this.pendingExtra += length;
+            this.openPosition += length;
+            sync();
+            return this;
+        }
+
+        ByteBuffer buf = this.stage;
+        ByteBuffer dup = src.duplicate();
+        while(dup.hasRemaining()){
+            reserve(1);
+            int chunk = Math.min(buf.remaining(), dup.remaining());
+            ByteBuffer part = dup.duplicate();
+            part.limit(part.position() + chunk);
+            buf.put(part);
+            dup.position(dup.position() + chunk);
+        }
+
+        sync();
+
         return this;
     }
 
+    /**
+     * 出力済みの位置へshort値をリトルエンディアンで上書きする。
+     *
+     * @param pos {@link #position()}で得た位置
+     * @param iVal int値。上位16bitは捨てられる。
+     * @return this自身
+     * @throws IOException 出力エラー
+     * @throws IllegalArgumentException 上書き範囲が出力範囲外、
+     *     もしくは{@link #dumpBuffer(ByteBuffer)}で
+     *     複写せず渡したバッファの範囲にかかる
+     * @throws IllegalStateException 出力先へ書き込み済みの範囲だが
+     *     出力先が位置指定の書き込みに対応していない
+     */
+    public BinaryExporter patchLeShort(long pos, int iVal)
+            throws IOException,
+                   IllegalArgumentException,
+                   IllegalStateException {
+        this.patchBuf.clear();
+        this.patchBuf.putShort((short) iVal);
+        patch(pos);
+        return this;
+    }
+
+    /**
+     * 出力済みの位置へint値をリトルエンディアンで上書きする。
+     *
+     * @param pos {@link #position()}で得た位置
+     * @param iVal int値
+     * @return this自身
+     * @throws IOException 出力エラー
+     * @throws IllegalArgumentException 上書き範囲が出力範囲外、
+     *     もしくは{@link #dumpBuffer(ByteBuffer)}で
+     *     複写せず渡したバッファの範囲にかかる
+     * @throws IllegalStateException 出力先へ書き込み済みの範囲だが
+     *     出力先が位置指定の書き込みに対応していない
+     */
+    public BinaryExporter patchLeInt(long pos, int iVal)
+            throws IOException,
+                   IllegalArgumentException,
+                   IllegalStateException {
+        this.patchBuf.clear();
+        this.patchBuf.putInt(iVal);
+        patch(pos);
+        return this;
+    }
+
+    /**
+     * 作業用バッファに格納した値を指定位置へ上書きする。
+     *
+     * <p>内部バッファに残っている範囲なら内部バッファを書き換え、
+     * 書き込み済みの範囲なら出力先へ位置指定で書き込む。
+     *
+     * @param pos 位置
+     * @throws IOException 出力エラー
+     * @throws IllegalArgumentException 上書き範囲が不正
+     * @throws IllegalStateException 出力先が位置指定の書き込みに
+     *     対応していない
+     */
+    private void patch(long pos)
+            throws IOException,
+                   IllegalArgumentException,
+                   IllegalStateException {
+        ByteBuffer wrapped = this.patchBuf;
+        wrapped.flip();
+        int length = wrapped.remaining();
+
+        if(pos < 0L || position() < pos + length){
+            throw new IllegalArgumentException();
+        }
+
+        if(pos >= this.flushed){
+            int idx = stageIndex(pos, length);
+            if(idx < 0) throw new IllegalArgumentException();
+            for(int ct = 0; ct < length; ct++){
+                this.stage.put(idx + ct, wrapped.get(ct));
+            }
+            return;
+        }
+
+        if(pos + length > this.flushed) drain();
+
+        if( ! (this.channel instanceof SeekableByteChannel) ){
+            throw new IllegalStateException();
+        }
+
+        long target = this.channelBase + pos;
+
+        if(this.channel instanceof FileChannel){
+            FileChannel fch = (FileChannel) this.channel;
+            while(wrapped.hasRemaining()){
+                fch.write(wrapped, target + wrapped.position());
+            }
+        }else{
+            SeekableByteChannel sch = (SeekableByteChannel) this.channel;
+            long current = sch.position();
+            sch.position(target);
+            while(wrapped.hasRemaining()){
+                sch.write(wrapped);
+            }
+            sch.position(current);
+        }
+
+        return;
+    }
+
+    /**
+     * 未書き込みの範囲に対応する内部バッファ上の位置を求める。
+     *
+     * @param pos 位置
+     * @param length バイト長
+     * @return 内部バッファ上の位置。
+     *     範囲が内部バッファの一区間に収まらなければ負の値
+     */
+    private int stageIndex(long pos, int length){
+        if(pos >= this.openPosition){
+            long idx = this.openStart + (pos - this.openPosition);
+            if(idx + length > this.stage.position()) return -1;
+            return (int) idx;
+        }
+
+        for(Segment seg : this.stageSegments){
+            int idx = seg.indexOf(pos, length);
+            if(idx >= 0) return idx;
+        }
+
+        return -1;
+    }
+
     /**
      * 詰め物パディングを出力する。
      *
@@ -300,12 +916,47 @@ public BinaryExporter dumpFiller(byte[] filler, int fillerLength)
             byte bVal;
             if(fillerIdx < filler.length) bVal = filler[fillerIdx++];
             else                          bVal = lastData;
-            dumpByte(bVal);
+            putByte(bVal);
         }
 
+        sync();
+
         return this;
     }
 
+    /**
+     * 文字列のエンコード結果をバッファに格納する。
+     *
+     * <p>エンコード結果が内部バッファに収まる場合は
+     * 内部バッファへ直接エンコードされる。
+     *
+     * @param texporter テキストエクスポーター
+     * @param text 文字列
+     * @param encodedSize エンコード結果のバイト長
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException 不正なエンコード
+     */
+    private void putText(TextExporter texporter,
+                         CharSequence text,
+                         int encodedSize )
+            throws IOException, IllegalTextExportException{
+        try{
+            if(encodedSize <= this.stage.capacity()){
+                reserve(encodedSize);
+                int xferred = texporter.encodeTo(text, this.stage);
+                assert xferred == encodedSize;
+            }else{
+                this.xos.reset();
+                texporter.encodeToByteStream(text, this.xos);
+                this.xos.writeTo(this.stageStream);
+            }
+        }catch(CharacterCodingException e){
+            throw new IllegalTextExportException(ERRMSG_ILLENC, e);
+        }
+
+        return;
+    }
+
     /**
      * Windows31J文字列をを固定バイト長で出力する。
      * 固定バイト長に満たない箇所はパディングデータが詰められる。
@@ -323,12 +974,9 @@ public BinaryExporter dumpFixedW31j(CharSequence text,
                                           int fixedLength,
                                           byte[] filler )
             throws IOException, IllegalTextExportException{
-        this.xos.reset();
-
         int encodedSize;
         try{
-            encodedSize =
-                    this.texporterW31j.encodeToByteStream(text, this.xos);
+            encodedSize = this.texporterW31j.encodedLength(text);
         }catch(CharacterCodingException e){
             throw new IllegalTextExportException(ERRMSG_ILLENC, e);
         }
@@ -340,14 +988,15 @@ public BinaryExporter dumpFixedW31j(CharSequence text,
             throw new IllegalTextExportException(message);
         }
 
-        this.xos.writeTo(this.ostream);
-        int xferred = this.xos.size();
+        putText(this.texporterW31j, text, encodedSize);
 
-        int remain = fixedLength - xferred;
+        int remain = fixedLength - encodedSize;
         if(remain > 0){
             dumpFiller(filler, remain);
         }
 
+        sync();
+
         return this;
     }
 
@@ -366,12 +1015,9 @@ public BinaryExporter dumpFixedW31j(CharSequence text,
      */
     public int dumpHollerithUtf16LE(CharSequence text)
             throws IOException, IllegalTextExportException{
-        this.xos.reset();
-
         int encodedSize;
         try{
-            encodedSize =
-                    this.texporterU16le.encodeToByteStream(text, this.xos);
+            encodedSize = this.texporterU16le.encodedLength(text);
         }catch(CharacterCodingException e){
             assert false;  // これはない
             throw new IllegalTextExportException(ERRMSG_ILLENC, e);
@@ -379,12 +1025,52 @@ public int dumpHollerithUtf16LE(CharSequence text)
 
         dumpLeInt(encodedSize);
 
-        this.xos.writeTo(this.ostream);
-        int xferred = this.xos.size();
+        putText(this.texporterU16le, text, encodedSize);
 
-        assert xferred == encodedSize;
+        sync();
+
+        return encodedSize;
+    }
+
+    /**
+     * 出力待ちとして区切られた内部バッファ上の区間。
+     */
+    private static final class Segment{
+
+        private final int start;
+        private final int end;
+        private final long position;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param start 内部バッファ上の開始位置
+         * @param end 内部バッファ上の終了位置
+         * @param position 開始位置に対応する出力位置
+         */
+        Segment(int start, int end, long position){
+            super();
+            this.start = start;
+            this.end = end;
+            this.position = position;
+            return;
+        }
+
+        /**
+         * 出力位置に対応する内部バッファ上の位置を求める。
+         *
+         * @param pos 出力位置
+         * @param length バイト長
+         * @return 内部バッファ上の位置。
+         *     範囲がこの区間に収まらなければ負の値
+         */
+        int indexOf(long pos, int length){
+            if(pos < this.position) return -1;
+            long idx = this.start + (pos - this.position);
+            if(idx + length > this.end) return -1;
+            return (int) idx;
+        }
 
-        return xferred;
     }
 
 }
@@ -10,6 +10,7 @@
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
@@ -20,6 +21,13 @@
 
 /**
  * 任意のエンコーダによるテキストデータのバイナリ出力を行う。
+ *
+ * <p>エンコーダの文字セットがwindows-31jもしくはUTF-16LEの場合、
+ * エンコーダを用いずに逆引き変換表もしくは
+ * 単純なバイト分解による高速なエンコードが行われる。
+ * 高速なエンコードができない文字を含む場合は
+ * エンコーダによる通常のエンコードが行われるため、
+ * エンコード結果およびエンコードエラーは通常のエンコードと変わらない。
  */
 public class TextExporter {
 
@@ -30,8 +38,31 @@ public class TextExporter {
 
     private static final String DUMMYTXT = "";
 
+    private static final Charset CS_UTF16LE = Charset.forName("UTF-16LE");
+
+    private static final int MODE_GENERIC = 0;
+    private static final int MODE_W31J    = 1;
+    private static final int MODE_U16LE   = 2;
+
+    private static final int ASCII_MAX  = 0x7f;
+    private static final int BYTE_SHIFT = 8;
+    private static final int U16_BYTES  = 2;
+
+    private static final OutputStream NULL_STREAM = new OutputStream(){
+        @Override
+        public void write(int bVal){
+            return;
+        }
+
+        @Override
+        public void write(byte[] array, int offset, int length){
+            return;
+        }
+    };
+
 
     private final CharsetEncoder encoder;
+    private final int fastMode;
     private CharBuffer cbuf = CharBuffer.allocate(DEFBUFSZ_CHAR);
     private byte[] barray = new byte[DEFBUFSZ_BYTE];
     private ByteBuffer bbuf = ByteBuffer.wrap(this.barray);
@@ -56,6 +87,15 @@ public TextExporter(CharsetEncoder encoder) throws NullPointerException{
         this.encoder.onMalformedInput(CodingErrorAction.REPORT);
         this.encoder.onUnmappableCharacter(CodingErrorAction.REPORT);
 
+        Charset cs = this.encoder.charset();
+        if(Win31jEncodeTable.CS_WIN31J.equals(cs)){
+            this.fastMode = MODE_W31J;
+        }else if(CS_UTF16LE.equals(cs)){
+            this.fastMode = MODE_U16LE;
+        }else{
+            this.fastMode = MODE_GENERIC;
+        }
+
         this.cbuf.clear();
         this.bbuf.clear();
 
@@ -128,6 +168,12 @@ public void setByteBufSize(int newSize)
      */
     public int dumpText(CharSequence text, OutputStream os)
             throws IOException, CharacterCodingException {
+        int fastLength = fastLength(text);
+        if(fastLength >= 0){
+            dumpFast(text, os);
+            return fastLength;
+        }
+
         this.textData = text;
 
         int total = 0;
@@ -140,6 +186,187 @@ public int dumpText(CharSequence text, OutputStream os)
         return total;
     }
 
+    /**
+     * 高速なエンコードによる文字列のエンコード結果のバイト長を求める。
+     *
+     * @param text 文字列
+     * @return バイト長。高速なエンコードができなければ負の値
+     */
+    private int fastLength(CharSequence text){
+        int length = text.length();
+        int result;
+
+        switch(this.fastMode){
+        case MODE_W31J:
+            result = 0;
+            for(int idx = 0; idx < length; idx++){
+                char ch = text.charAt(idx);
+                if(ch <= ASCII_MAX){
+                    result++;
+                    continue;
+                }
+                char code = Win31jEncodeTable.code(ch);
+                if(code == Win31jEncodeTable.NO_CODE) return -1;
+                if(code <= Win31jEncodeTable.SINGLE_MAX) result++;
+                else                                     result += 2;
+            }
+            break;
+        case MODE_U16LE:
+            for(int idx = 0; idx < length; idx++){
+                char ch = text.charAt(idx);
+                if( ! Character.isSurrogate(ch) ) continue;
+                if( ! Character.isHighSurrogate(ch) ) return -1;
+                idx++;
+                if(idx >= length) return -1;
+                if( ! Character.isLowSurrogate(text.charAt(idx)) ) return -1;
+            }
+            result = length * U16_BYTES;
+            break;
+        default:
+            result = -1;
+            break;
+        }
+
+        return result;
+    }
+
+    /**
+     * 高速なエンコードを行いバッファに格納する。
+     *
+     * <p>バッファの残りが次の文字のエンコード結果に満たない場合は
+     * そこでエンコードを中断する。
+     * 文字列は高速なエンコードが可能であることが
+     * 確認済みでなければならない。
+     *
+     * @param text 文字列
+     * @param start 開始文字位置
+     * @param dst 格納先バッファ
+     * @return 次にエンコードすべき文字位置
+     */
+    private int encodeFast(CharSequence text, int start, ByteBuffer dst){
+        int length = text.length();
+        int idx = start;
+
+        if(this.fastMode == MODE_W31J){
+            while(idx < length){
+                char ch = text.charAt(idx);
+                int code;
+                if(ch <= ASCII_MAX) code = ch;
+                else                code = Win31jEncodeTable.code(ch);
+                assert code != Win31jEncodeTable.NO_CODE || ch == '\u0000';
+
+                if(code <= Win31jEncodeTable.SINGLE_MAX){
+                    if( ! dst.hasRemaining() ) break;
+                    dst.put((byte) code);
+                }else{
+                    if(dst.remaining() < 2) break;
+                    dst.put((byte)(code >>> BYTE_SHIFT));
+                    dst.put((byte) code);
+                }
+                idx++;
+            }
+        }else{
+            assert this.fastMode == MODE_U16LE;
+            while(idx < length){
+                if(dst.remaining() < U16_BYTES) break;
+                char ch = text.charAt(idx);
+                dst.put((byte) ch);
+                dst.put((byte)(ch >>> BYTE_SHIFT));
+                idx++;
+            }
+        }
+
+        return idx;
+    }
+
+    /**
+     * 高速なエンコードを行いストリームに出力する。
+     *
+     * @param text 文字列
+     * @param os 出力ストリーム
+     * @throws IOException 出力エラー
+     */
+    private void dumpFast(CharSequence text, OutputStream os)
+            throws IOException{
+        this.bbuf.clear();
+
+        int length = text.length();
+        int idx = 0;
+        for(;;){
+            idx = encodeFast(text, idx, this.bbuf);
+            if(idx >= length) break;
+            sweepByteBuffer(os);
+        }
+        sweepByteBuffer(os);
+
+        return;
+    }
+
+    /**
+     * 与えられた文字列のエンコード結果のバイト長を求める。
+     *
+     * <p>高速なエンコードが可能な文字セットであれば
+     * エンコードを行わずにバイト長を求める。
+     *
+     * @param text 文字列
+     * @return バイト長
+     * @throws CharacterCodingException エンコードエラー
+     */
+    @SuppressWarnings("PMD.AvoidRethrowingException")
+    public int encodedLength(CharSequence text)
+            throws CharacterCodingException {
+        int result = fastLength(text);
+        if(result >= 0) return result;
+
+        try{
+            result = dumpText(text, NULL_STREAM);
+        }catch(CharacterCodingException e){
+            throw e;
+        }catch(IOException e){
+            // ありえない
+            assert false;
+            throw new AssertionError(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * 与えられた文字列のエンコード結果をバッファに格納する。
+     *
+     * <p>格納はバッファの現在位置から行われ、
+     * 位置は格納したバイト数だけ進む。
+     * エンコードエラーもしくはバッファの残りが足りない場合、
+     * バッファには何も格納されない。
+     *
+     * @param text 文字列
+     * @param dst 格納先バッファ
+     * @return 格納したバイト数
+     * @throws CharacterCodingException エンコードエラー
+     * @throws BufferOverflowException バッファの残りが足りない
+     */
+    public int encodeTo(CharSequence text, ByteBuffer dst)
+            throws CharacterCodingException, BufferOverflowException {
+        int fastLength = fastLength(text);
+        if(fastLength >= 0){
+            if(dst.remaining() < fastLength){
+                throw new BufferOverflowException();
+            }
+            int idx = encodeFast(text, 0, dst);
+            assert idx == text.length();
+            return fastLength;
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        int result = encodeToByteStream(text, bos);
+        if(dst.remaining() < result){
+            throw new BufferOverflowException();
+        }
+        dst.put(bos.toByteArray());
+
+        return result;
+    }
+
     /**
      * 文字列をエンコードしてストリームに出力する。
      *
@@ -0,0 +1,122 @@
+/*
+ * windows-31j encode table
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.export;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Windows-31J(Shift_JIS)の逆引き変換表。
+ *
+ * <p>UCS-2文字からWindows-31Jの符号値を引く。
+ * 変換表はクラス初期化時にJDKのwindows-31jエンコーダから生成される。
+ * 1バイトで符号化される文字はその値を、
+ * 2バイトで符号化される文字は1バイト目を上位バイトとした値を持つ。
+ * 符号化できない文字およびサロゲートは0を持つ。
+ */
+final class Win31jEncodeTable {
+
+    /** Windows-31Jキャラクタセット。 */
+    static final Charset CS_WIN31J = Charset.forName("windows-31j");
+
+    /** 1バイトで符号化される符号値の最大値。 */
+    static final int SINGLE_MAX = 0xff;
+
+    /** 符号化できない文字を示す符号値。 */
+    static final char NO_CODE = '\u0000';
+
+    private static final int CHAR_NUM = 0x10000;
+    private static final int ASCII_MAX = 0x7f;
+    private static final int BYTE_MASK = 0xff;
+    private static final int BYTE_SHIFT = 8;
+
+    private static final char[] TABLE = new char[CHAR_NUM];
+
+    static{
+        CharsetEncoder encoder = CS_WIN31J.newEncoder();
+        encoder.onMalformedInput(     CodingErrorAction.REPORT);
+        encoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        CharBuffer cBuf = CharBuffer.allocate(1);
+        ByteBuffer bBuf = ByteBuffer.allocate(4);
+
+        for(int cVal = 0; cVal < CHAR_NUM; cVal++){
+            char ch = (char) cVal;
+            if(Character.isSurrogate(ch)) continue;
+            TABLE[cVal] = encodeChar(encoder, cBuf, bBuf, ch);
+        }
+
+        for(int cVal = 0; cVal <= ASCII_MAX; cVal++){
+            assert TABLE[cVal] == (char) cVal;
+        }
+    }
+
+
+    /**
+     * 隠しコンストラクタ。
+     */
+    private Win31jEncodeTable(){
+        assert false;
+        throw new AssertionError();
+    }
+
+
+    /**
+     * JDKのエンコーダで1文字をエンコードする。
+     *
+     * @param encoder エンコーダ
+     * @param cBuf 作業用文字バッファ
+     * @param bBuf 作業用バイトバッファ
+     * @param ch 文字
+     * @return 符号値。符号化できなければ0
+     */
+    private static char encodeChar(CharsetEncoder encoder,
+                                   CharBuffer cBuf, ByteBuffer bBuf,
+                                   char ch ){
+        cBuf.clear();
+        cBuf.put(ch);
+        cBuf.flip();
+        bBuf.clear();
+
+        encoder.reset();
+        CoderResult result = encoder.encode(cBuf, bBuf, true);
+        if(result.isError()) return NO_CODE;
+        result = encoder.flush(bBuf);
+        if(result.isError()) return NO_CODE;
+
+        int code;
+        switch(bBuf.position()){
+        case 1:
+            code = bBuf.get(0) & BYTE_MASK;
+            break;
+        case 2:
+            code = (bBuf.get(0) & BYTE_MASK) << BYTE_SHIFT;
+            code |= bBuf.get(1) & BYTE_MASK;
+            break;
+        default:
+            return NO_CODE;
+        }
+
+        return (char) code;
+    }
+
+    /**
+     * 文字の符号値を返す。
+     *
+     * @param ch 文字
+     * @return 符号値。符号化できなければ0
+     */
+    static char code(char ch){
+        return TABLE[ch];
+    }
+
+}
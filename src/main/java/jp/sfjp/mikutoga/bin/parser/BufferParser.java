@@ -0,0 +1,329 @@
+/*
+ * byte buffer parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * バイトバッファをソースとするバイナリパーサ実装。
+ *
+ * <p>ヒープバッファ、ダイレクトバッファ、
+ * および{@link java.nio.channels.FileChannel#map}
+ * によるメモリマップドバッファを入力ソースとして扱える。
+ *
+ * <p>各種プリミティブ値はリトルエンディアンとして
+ * バッファ上から絶対位置指定で直接読み込まれる。
+ * 読み飛ばしおよび残量判定はバッファ位置の操作のみで完結する。
+ *
+ * <p>入力ソースとして与えたバッファの位置、リミット、
+ * バイトオーダーは変更されない。
+ * パース中にバッファ内容を変更してはならない。
+ */
+public class BufferParser implements BinParser{
+
+    private static final int BYTES_SHORT = Short  .SIZE / Byte.SIZE;
+    private static final int BYTES_INT   = Integer.SIZE / Byte.SIZE;
+    private static final int BYTES_FLOAT = Float  .SIZE / Byte.SIZE;
+
+    private static final int MASK_8BIT  =   0xff;
+    private static final int MASK_16BIT = 0xffff;
+
+
+    private final ByteBuffer buf;
+    private final ByteBuffer textView;
+    private final int origin;
+    private final int limit;
+
+    private int offset;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>バッファの現在位置からリミットまでが入力ソースとなる。
+     * 現在位置がパース位置0に相当する。
+     *
+     * @param source 入力ソース
+     * @throws NullPointerException 引数がnull
+     */
+    public BufferParser(ByteBuffer source) throws NullPointerException{
+        super();
+
+        this.buf = source.duplicate();
+        this.buf.order(ByteOrder.LITTLE_ENDIAN);
+
+        this.textView = source.duplicate();
+
+        this.origin = this.buf.position();
+        this.limit  = this.buf.limit();
+        this.offset = this.origin;
+
+        return;
+    }
+
+
+    /**
+     * 指定バイト数の読み込みに備え、読み込み位置を進める。
+     *
+     * <p>残りデータが不足する場合は入力ソース終端まで読み進めた上で
+     * 異常系を投げる。
+     *
+     * @param length バイト長
+     * @return 読み込み開始位置(バッファ上の絶対位置)
+     * @throws MmdEofException 読み込む途中で入力ソース終端に達した。
+     */
+    private int advance(int length) throws MmdEofException{
+        int start = this.offset;
+        int remain = this.limit - start;
+        if(remain < length){
+            this.offset = this.limit;
+            throw new MmdEofException(getPosition());
+        }
+        this.offset = start + length;
+        return start;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long getPosition(){
+        long result = this.offset - this.origin;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>入力ソースの残量判定のみで完結する。
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean hasMore(){
+        boolean result = this.offset < this.limit;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>読み込み位置の変更のみで完結する。
+     *
+     * @param skipLength {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void skip(long skipLength) throws MmdEofException{
+        if(skipLength <= 0L) return;
+
+        long remain = (long) this.limit - this.offset;
+        if(remain < skipLength){
+            this.offset = this.limit;
+            throw new MmdEofException(getPosition());
+        }
+
+        this.offset += (int) skipLength;
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void parseByteArray(byte[] dst, int off, int length)
+            throws NullPointerException,
+                   IndexOutOfBoundsException,
+                   MmdEofException {
+        if(off < 0 || length < 0 || dst.length - off < length){
+            throw new IndexOutOfBoundsException();
+        }
+
+        int remain = this.limit - this.offset;
+        int txSize = Math.min(remain, length);
+
+        this.buf.position(this.offset);
+        this.buf.get(dst, off, txSize);
+        this.offset += txSize;
+
+        if(txSize < length){
+            throw new MmdEofException(getPosition());
+        }
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void parseByteArray(byte[] dst)
+            throws NullPointerException, MmdEofException{
+        parseByteArray(dst, 0, dst.length);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public byte parseByte() throws MmdEofException{
+        int pos = advance(1);
+        byte result = this.buf.get(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseUByteAsInt() throws MmdEofException{
+        return parseByte() & MASK_8BIT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public boolean parseBoolean() throws MmdEofException{
+        byte result = parseByte();
+        if(result == 0x00) return false;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public short parseLeShort() throws MmdEofException{
+        int pos = advance(BYTES_SHORT);
+        short result = this.buf.getShort(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseLeUShortAsInt() throws MmdEofException{
+        return parseLeShort() & MASK_16BIT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseLeInt() throws MmdEofException{
+        int pos = advance(BYTES_INT);
+        int result = this.buf.getInt(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public float parseLeFloat() throws MmdEofException{
+        int pos = advance(BYTES_FLOAT);
+        float result = this.buf.getFloat(pos);
+        return result;
+    }
+
+    /**
+     * 指定バイト長の入力ソースを複製せずに切り出す。
+     *
+     * <p>返されるバッファは入力ソースと内容を共有する読み込み専用の
+     * ビューであり、その位置は0、リミットは指定バイト長となる。
+     * バイトオーダーはリトルエンディアン。
+     *
+     * @param length バイト長
+     * @return 切り出されたバッファ
+     * @throws IllegalArgumentException 引数が負
+     * @throws MmdEofException 切り出す途中で入力ソース終端に達した。
+     */
+    public ByteBuffer parseSlice(int length)
+            throws IllegalArgumentException, MmdEofException{
+        if(length < 0) throw new IllegalArgumentException();
+
+        int pos = advance(length);
+
+        ByteBuffer view = this.buf.duplicate();
+        view.limit(pos + length);
+        view.position(pos);
+
+        ByteBuffer result = view.slice().asReadOnlyBuffer();
+        result.order(ByteOrder.LITTLE_ENDIAN);
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>文字デコーダには入力ソース上のバイト列が複製されずに渡される。
+     *
+     * @param decoder {@inheritDoc}
+     * @param byteLen {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public String parseString(TextDecoder decoder, int byteLen)
+            throws MmdEofException, MmdFormatException {
+        long startPos = getPosition();
+        int pos = advance(byteLen);
+        long endPos = getPosition();
+
+        this.textView.limit(pos + byteLen);
+        this.textView.position(pos);
+
+        String result =
+                CommonParser.decodeText(decoder, this.textView,
+                                        startPos, endPos);
+
+        return result;
+    }
+
+}
@@ -7,10 +7,8 @@
 
 package jp.sfjp.mikutoga.bin.parser;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackInputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.CharacterCodingException;
@@ -19,9 +17,20 @@
 
 /**
  * 入力ストリームをソースとするバイナリパーサ実装。
+ *
+ * <p>入力ストリームからはブロック単位で先読みを行い、
+ * 内部バッファから各値を読み出す。
+ * このため入力ストリームを別途バッファリングする必要は無い。
+ *
+ * <p>先読みにより、パース済みの位置を越えて
+ * 入力ストリームが読み進められることがある。
+ * パース後に同じ入力ストリームから続きを読んではならない。
  */
 public class CommonParser implements BinParser{
 
+    /** デフォルトの先読みバッファサイズ(単位:byte)。 */
+    public static final int DEF_BUFSZ = 64 * 1024;
+
     private static final String ERRMSG_ILLENC =
             "illegal character encoding";
     private static final String ERRMSG_UNMAP =
@@ -42,11 +51,14 @@ public class CommonParser implements BinParser{
     }
 
 
-    private final PushbackInputStream is;
+    private final InputStream is;
 
     private final byte[] readBuffer;
-    // private final ByteBuffer beBuf;
     private final ByteBuffer leBuf;
+    private final ByteBuffer textView;
+
+    private int bufPos = 0;
+    private int bufLimit = 0;
 
     private long position = 0L;
 
@@ -56,25 +68,144 @@ public class CommonParser implements BinParser{
     /**
      * コンストラクタ。
      *
+     * <p>先読みバッファサイズは{@link #DEF_BUFSZ}となる。
+     *
      * @param source 入力ソース
      */
     public CommonParser(InputStream source){
+        this(source, DEF_BUFSZ);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param source 入力ソース
+     * @param bufSize 先読みバッファサイズ(単位:byte)
+     * @throws IllegalArgumentException バッファサイズが4未満
+     */
+    public CommonParser(InputStream source, int bufSize)
+            throws IllegalArgumentException{
         super();
 
-        this.is = new PushbackInputStream(source, 1);
+        if(bufSize < BYTES_PRIM) throw new IllegalArgumentException();
 
-        this.readBuffer = new byte[BYTES_PRIM];
+        this.is = source;
 
-        // this.beBuf = ByteBuffer.wrap(this.readBuffer);
-        this.leBuf = ByteBuffer.wrap(this.readBuffer);
+        this.readBuffer = new byte[bufSize];
 
-        // this.beBuf.order(ByteOrder.BIG_ENDIAN);
+        this.leBuf = ByteBuffer.wrap(this.readBuffer);
         this.leBuf.order(ByteOrder.LITTLE_ENDIAN);
 
+        this.textView = ByteBuffer.wrap(this.readBuffer);
+
         return;
     }
 
 
+    /**
+     * 読み込み済みバイト列の文字列デコードを行う。
+     *
+     * <p>デコード時の異常は、
+     * 入力ソース上のエラー位置を伴うフォーマット異常に変換される。
+     *
+     * @param decoder 文字デコーダ
+     * @param bBuf 入力バイトバッファ
+     * @param startPos 入力バイト列の入力ソース上の開始位置
+     * @param endPos 入力バイト列の入力ソース上の終了位置
+     * @return デコードされた文字列
+     * @throws MmdFormatException 文字エンコーディングに関するエラー
+     */
+    static String decodeText(TextDecoder decoder, ByteBuffer bBuf,
+                             long startPos, long endPos)
+            throws MmdFormatException {
+        String result;
+
+        try{
+            result = decoder.decode(bBuf);
+        }catch(UnmappableCharacterException e){
+            String errmsg = ERRMSG_UNMAP;
+            long errpos = startPos + e.getInputLength();
+            MmdFormatException ex = new MmdFormatException(errmsg, errpos);
+            ex.initCause(e);
+            throw ex;
+        }catch(MalformedInputException e){
+            String errmsg = ERRMSG_ILLENC;
+            long errpos = startPos + e.getInputLength();
+            MmdFormatException ex = new MmdFormatException(errmsg, errpos);
+            ex.initCause(e);
+            throw ex;
+        }catch(CharacterCodingException e){  // 状況不明
+            String errmsg = ERRMSG_ILLENC;
+            long errpos = endPos;
+            MmdFormatException ex = new MmdFormatException(errmsg, errpos);
+            ex.initCause(e);
+            throw ex;
+        }
+
+        return result;
+    }
+
+    /**
+     * 先読みバッファサイズを返す。
+     *
+     * @return 先読みバッファサイズ(単位:byte)
+     */
+    public int getBufferSize(){
+        return this.readBuffer.length;
+    }
+
+    /**
+     * 先読みバッファに指定バイト数以上の未読データを用意する。
+     *
+     * <p>未読データが足りなければ未読部をバッファ先頭へ詰めてから
+     * 入力ストリームを読み込む。
+     *
+     * @param need 必要なバイト数。バッファサイズ以下であること。
+     * @return 用意できればtrue。途中でストリーム終端に達したらfalse
+     * @throws IOException IOエラー
+     */
+    private boolean fill(int need) throws IOException{
+        int rest = this.bufLimit - this.bufPos;
+        if(rest >= need) return true;
+
+        if(this.bufPos > 0){
+            System.arraycopy(this.readBuffer, this.bufPos,
+                             this.readBuffer, 0, rest);
+            this.bufPos = 0;
+            this.bufLimit = rest;
+        }
+
+        int bufSize = this.readBuffer.length;
+        while(this.bufLimit < need){
+            int txSize = this.is.read(this.readBuffer, this.bufLimit,
+                                      bufSize - this.bufLimit );
+            if(txSize <= 0) return false;
+            this.bufLimit += txSize;
+        }
+
+        return true;
+    }
+
+    /**
+     * 先読みバッファに指定バイト数以上の未読データを用意する。
+     *
+     * <p>途中でストリーム終端に達した場合は
+     * 残りの未読データを読み捨てた上で例外を投げる。
+     *
+     * @param need 必要なバイト数。バッファサイズ以下であること。
+     * @throws IOException IOエラー
+     * @throws MmdEofException 読み込む途中でストリーム終端に達した。
+     */
+    private void require(int need) throws IOException, MmdEofException{
+        if(fill(need)) return;
+
+        this.position += this.bufLimit - this.bufPos;
+        this.bufPos = this.bufLimit;
+
+        throw new MmdEofException(this.position);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -94,21 +225,8 @@ public long getPosition(){
      */
     @Override
     public boolean hasMore() throws IOException{
-        int bVal;
-
-        try{
-            bVal = this.is.read();
-        }catch(EOFException e){ // ありえない？
-            return false;
-        }
-
-        if(bVal < 0){
-            return false;
-        }
-
-        this.is.unread(bVal);
-
-        return true;
+        if(this.bufPos < this.bufLimit) return true;
+        return fill(1);
     }
 
     /**
@@ -121,7 +239,27 @@ public boolean hasMore() throws IOException{
     @Override
     public void skip(long skipLength)
             throws IOException, MmdEofException {
-        long remain = skipLength;
+        if(skipLength <= 0L) return;
+
+        int rest = this.bufLimit - this.bufPos;
+        if(skipLength <= rest){
+            this.bufPos += (int) skipLength;
+            this.position += skipLength;
+            return;
+        }
+
+        long remain = skipLength - rest;
+        this.position += rest;
+        this.bufPos = 0;
+        this.bufLimit = 0;
+
+        if(remain < this.readBuffer.length){
+            int len = (int) remain;
+            require(len);
+            this.bufPos += len;
+            this.position += len;
+            return;
+        }
 
         while(remain > 0L){
             long txSize = this.is.skip(remain);
@@ -138,6 +276,9 @@ public void skip(long skipLength)
     /**
      * {@inheritDoc}
      *
+     * <p>先読みバッファサイズ以上の残りは
+     * バッファを介さず直接読み込まれる。
+     *
      * @param dst {@inheritDoc}
      * @param off {@inheritDoc}
      * @param length {@inheritDoc}
@@ -152,11 +293,34 @@ public void parseByteArray(byte[] dst, int off, int length)
                    IndexOutOfBoundsException,
                    IOException,
                    MmdEofException {
-        int remain = length;
-        int offset = off;
+        if(off < 0 || length < 0 || dst.length - off < length){
+            throw new IndexOutOfBoundsException();
+        }
+
+        int txSize = Math.min(this.bufLimit - this.bufPos, length);
+        System.arraycopy(this.readBuffer, this.bufPos, dst, off, txSize);
+        this.bufPos += txSize;
+        this.position += txSize;
+
+        int remain = length - txSize;
+        int offset = off + txSize;
+        if(remain <= 0) return;
+
+        if(remain < this.readBuffer.length){
+            boolean filled = fill(remain);
+            int copySize = Math.min(this.bufLimit - this.bufPos, remain);
+            System.arraycopy(this.readBuffer, this.bufPos,
+                             dst, offset, copySize);
+            this.bufPos += copySize;
+            this.position += copySize;
+            if( ! filled ){
+                throw new MmdEofException(this.position);
+            }
+            return;
+        }
 
         while(remain > 0){
-            int txSize = this.is.read(dst, offset, remain);
+            txSize = this.is.read(dst, offset, remain);
             if(txSize <= 0){
                 throw new MmdEofException(this.position);
             }
@@ -183,19 +347,6 @@ public void parseByteArray(byte[] dst)
         return;
     }
 
-    /**
-     * 内部バッファへ指定バイト数だけ読み込む。
-     *
-     * @param fillSize バイト長
-     * @throws IOException IOエラー
-     * @throws MmdEofException 読み込む途中でストリーム終端に達した。
-     */
-    private void fillBuffer(int fillSize)
-            throws IOException, MmdEofException {
-        parseByteArray(this.readBuffer, 0, fillSize);
-        return;
-    }
-
     /**
      * {@inheritDoc}
      *
@@ -206,12 +357,10 @@ private void fillBuffer(int fillSize)
     @Override
     public byte parseByte()
             throws IOException, MmdEofException{
-        int bData = this.is.read();
-        if(bData < 0){
-            throw new MmdEofException(this.position);
-        }
+        if(this.bufPos >= this.bufLimit) require(1);
 
-        byte result = (byte) bData;
+        byte result = this.readBuffer[this.bufPos];
+        this.bufPos++;
         this.position++;
 
         return result;
@@ -255,8 +404,12 @@ public boolean parseBoolean()
     @Override
     public short parseLeShort()
             throws IOException, MmdEofException{
-        fillBuffer(BYTES_SHORT);
-        short result = this.leBuf.getShort(0);
+        if(this.bufLimit - this.bufPos < BYTES_SHORT) require(BYTES_SHORT);
+
+        short result = this.leBuf.getShort(this.bufPos);
+        this.bufPos += BYTES_SHORT;
+        this.position += BYTES_SHORT;
+
         return result;
     }
 
@@ -283,8 +436,12 @@ public int parseLeUShortAsInt()
     @Override
     public int parseLeInt()
             throws IOException, MmdEofException{
-        fillBuffer(BYTES_INT);
-        int result = this.leBuf.getInt(0);
+        if(this.bufLimit - this.bufPos < BYTES_INT) require(BYTES_INT);
+
+        int result = this.leBuf.getInt(this.bufPos);
+        this.bufPos += BYTES_INT;
+        this.position += BYTES_INT;
+
         return result;
     }
 
@@ -298,14 +455,21 @@ public int parseLeInt()
     @Override
     public float parseLeFloat()
             throws IOException, MmdEofException{
-        fillBuffer(BYTES_FLOAT);
-        float result = this.leBuf.getFloat(0);
+        if(this.bufLimit - this.bufPos < BYTES_FLOAT) require(BYTES_FLOAT);
+
+        float result = this.leBuf.getFloat(this.bufPos);
+        this.bufPos += BYTES_FLOAT;
+        this.position += BYTES_FLOAT;
+
         return result;
     }
 
     /**
      * {@inheritDoc}
      *
+     * <p>先読みバッファサイズ以下の文字列は
+     * バッファ上で直接デコードされる。
+     *
      * @param decoder {@inheritDoc}
      * @param byteLen {@inheritDoc}
      * @return {@inheritDoc}
@@ -316,6 +480,23 @@ public float parseLeFloat()
     @Override
     public String parseString(TextDecoder decoder, int byteLen)
             throws IOException, MmdEofException, MmdFormatException {
+        if(byteLen <= this.readBuffer.length){
+            require(byteLen);
+
+            this.textView.clear();
+            this.textView.limit(this.bufPos + byteLen);
+            this.textView.position(this.bufPos);
+
+            long startPos = getPosition();
+            this.bufPos += byteLen;
+            this.position += byteLen;
+            long endPos = getPosition();
+
+            String result =
+                    decodeText(decoder, this.textView, startPos, endPos);
+            return result;
+        }
+
         if(this.btextBuf == null || this.btextBuf.capacity() < byteLen){
             this.btextBuf = ByteBuffer.allocate(byteLen);
         }
@@ -325,29 +506,9 @@ public String parseString(TextDecoder decoder, int byteLen)
         parseByteArray(buf, 0, byteLen);
         this.btextBuf.limit(byteLen);
 
-        String result;
-
-        try{
-            result = decoder.decode(this.btextBuf);
-        }catch(UnmappableCharacterException e){
-            String errmsg = ERRMSG_UNMAP;
-            long errpos = getPosition() - byteLen + e.getInputLength();
-            MmdFormatException ex = new MmdFormatException(errmsg, errpos);
-            ex.initCause(e);
-            throw ex;
-        }catch(MalformedInputException e){
-            String errmsg = ERRMSG_ILLENC;
-            long errpos = getPosition() - byteLen + e.getInputLength();
-            MmdFormatException ex = new MmdFormatException(errmsg, errpos);
-            ex.initCause(e);
-            throw ex;
-        }catch(CharacterCodingException e){  // 状況不明
-            String errmsg = ERRMSG_ILLENC;
-            long errpos = getPosition();
-            MmdFormatException ex = new MmdFormatException(errmsg, errpos);
-            ex.initCause(e);
-            throw ex;
-        }
+        long endPos = getPosition();
+        long startPos = endPos - byteLen;
+        String result = decodeText(decoder, this.btextBuf, startPos, endPos);
 
         return result;
     }
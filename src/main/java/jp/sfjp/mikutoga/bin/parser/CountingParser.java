@@ -0,0 +1,270 @@
+/*
+ * counting parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.io.IOException;
+
+/**
+ * 読み込みを計上する委譲パーサ。
+ *
+ * <p>委譲先パーサへの読み込みを種別毎に{@link ParseStatistics}へ計上する。
+ * 文字列デコードについては所要時間も計測する。
+ * 所要時間には入力ソースからの読み込みも含まれる。
+ * 例外で失敗した読み込みは計上されない。
+ *
+ * <p>1つのParseStatisticsを複数のCountingParserで共有し、
+ * 並行するパースの統計を集計できる。
+ * CountingParser自身はスレッドセーフではない。
+ *
+ * <p>PMD/VMDパーサへは委譲先パーサとして渡す。
+ * その場合、委譲先の{@link BufferParser}を前提とする
+ * ゼロコピーの最適化は行われない。
+ */
+public class CountingParser extends ProxyParser {
+
+    private static final int BYTES_SHORT = 2;
+    private static final int BYTES_INT   = 4;
+    private static final int BYTES_FLOAT = 4;
+
+
+    private final ParseStatistics statistics;
+    private final String label;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param delegate 委譲先パーサ
+     * @param statistics 計上先
+     * @throws NullPointerException 引数がnull
+     */
+    public CountingParser(BinParser delegate, ParseStatistics statistics)
+            throws NullPointerException{
+        this(delegate, statistics, null);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param delegate 委譲先パーサ
+     * @param statistics 計上先
+     * @param label 低速デコードの記録に付ける入力ソースのラベル。
+     *     不要ならnull
+     * @throws NullPointerException 委譲先パーサもしくは計上先がnull
+     */
+    public CountingParser(BinParser delegate, ParseStatistics statistics,
+                          String label )
+            throws NullPointerException{
+        super(delegate);
+
+        if(statistics == null) throw new NullPointerException();
+
+        this.statistics = statistics;
+        this.label = label;
+
+        return;
+    }
+
+
+    /**
+     * 計上先を返す。
+     *
+     * @return 計上先
+     */
+    public ParseStatistics getStatistics(){
+        return this.statistics;
+    }
+
+    /**
+     * 入力ソースのラベルを返す。
+     *
+     * @return ラベル。無ければnull
+     */
+    public String getLabel(){
+        return this.label;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param skipLength {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void skip(long skipLength) throws IOException, MmdEofException {
+        super.skip(skipLength);
+        this.statistics.count(ReadType.SKIP, Math.max(skipLength, 0L));
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void parseByteArray(byte[] dst, int off, int length)
+            throws NullPointerException,
+                   IndexOutOfBoundsException,
+                   IOException,
+                   MmdEofException {
+        super.parseByteArray(dst, off, length);
+        this.statistics.count(ReadType.BYTE_ARRAY, length);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void parseByteArray(byte[] dst)
+            throws NullPointerException,
+                   IOException,
+                   MmdEofException {
+        super.parseByteArray(dst);
+        this.statistics.count(ReadType.BYTE_ARRAY, dst.length);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public byte parseByte() throws IOException, MmdEofException {
+        byte result = super.parseByte();
+        this.statistics.count(ReadType.BYTE, 1);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseUByteAsInt() throws IOException, MmdEofException {
+        int result = super.parseUByteAsInt();
+        this.statistics.count(ReadType.BYTE, 1);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public boolean parseBoolean() throws IOException, MmdEofException {
+        boolean result = super.parseBoolean();
+        this.statistics.count(ReadType.BYTE, 1);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public short parseLeShort() throws IOException, MmdEofException {
+        short result = super.parseLeShort();
+        this.statistics.count(ReadType.SHORT, BYTES_SHORT);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseLeUShortAsInt() throws IOException, MmdEofException {
+        int result = super.parseLeUShortAsInt();
+        this.statistics.count(ReadType.SHORT, BYTES_SHORT);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseLeInt() throws IOException, MmdEofException {
+        int result = super.parseLeInt();
+        this.statistics.count(ReadType.INT, BYTES_INT);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public float parseLeFloat() throws IOException, MmdEofException {
+        float result = super.parseLeFloat();
+        this.statistics.count(ReadType.FLOAT, BYTES_FLOAT);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param decoder {@inheritDoc}
+     * @param byteLen {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public String parseString(TextDecoder decoder, int byteLen)
+            throws IOException, MmdEofException, MmdFormatException {
+        long position = getPosition();
+        long start = System.nanoTime();
+
+        String result = super.parseString(decoder, byteLen);
+
+        long elapsed = System.nanoTime() - start;
+        this.statistics.countString(this.label, position, byteLen,
+                                    elapsed, result );
+
+        return result;
+    }
+
+}
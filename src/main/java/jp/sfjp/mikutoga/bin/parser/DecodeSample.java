@@ -0,0 +1,112 @@
+/*
+ * string decode sample
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+/**
+ * 文字列デコード1回分の記録。
+ *
+ * <p>{@link ParseStatistics}のサンプリングモードで記録される。
+ */
+public final class DecodeSample {
+
+    private final String label;
+    private final long position;
+    private final int byteLength;
+    private final long nanos;
+    private final String text;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param label 入力ソースのラベル。不明ならnull
+     * @param position 文字列の入力ソース上の開始位置
+     * @param byteLength 文字列のバイト長
+     * @param nanos 所要時間(ナノ秒)
+     * @param text デコード結果
+     */
+    public DecodeSample(String label, long position, int byteLength,
+                        long nanos, String text ){
+        super();
+
+        this.label = label;
+        this.position = position;
+        this.byteLength = byteLength;
+        this.nanos = nanos;
+        this.text = text;
+
+        return;
+    }
+
+
+    /**
+     * 入力ソースのラベルを返す。
+     *
+     * @return ラベル。不明ならnull
+     */
+    public String getLabel(){
+        return this.label;
+    }
+
+    /**
+     * 文字列の入力ソース上の開始位置を返す。
+     *
+     * @return 開始位置
+     */
+    public long getPosition(){
+        return this.position;
+    }
+
+    /**
+     * 文字列のバイト長を返す。
+     *
+     * @return バイト長
+     */
+    public int getByteLength(){
+        return this.byteLength;
+    }
+
+    /**
+     * 所要時間を返す。
+     *
+     * @return 所要時間(ナノ秒)
+     */
+    public long getNanos(){
+        return this.nanos;
+    }
+
+    /**
+     * デコード結果を返す。
+     *
+     * @return デコード結果
+     */
+    public String getText(){
+        return this.text;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString(){
+        StringBuilder result = new StringBuilder();
+
+        if(this.label != null){
+            result.append(this.label).append(' ');
+        }
+        result.append('@').append(this.position)
+              .append(" len=").append(this.byteLength)
+              .append(' ').append(this.nanos).append("ns")
+              .append(" \"").append(this.text).append('"');
+
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * feed-driven section parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.io.IOException;
+
+/**
+ * {@link FeedParser}に受信済みのデータで処理できるセクションを
+ * 順にパースする処理。
+ *
+ * <p>実装はセクション毎に必要なバイト長を要素数などから求め、
+ * セクション全体が受信されるまでそのパースを始めない。
+ * このためハンドラへの通知がセクションの途中で中断されることはない。
+ * パースできるセクションが無くなった時点で呼び出し元へ復帰し、
+ * データの追加後に再び呼ばれた時点から処理を再開する。
+ *
+ * <p>入力ソースの終端が通知済みであれば、
+ * 残りのセクションはデータの有無に関わらずパースされる。
+ * データが足りなければ通常のパースと同じく
+ * {@link MmdEofException}が投げられる。
+ */
+@FunctionalInterface
+public interface FeedDriver {
+
+    /**
+     * 受信済みのデータで処理できるセクションを順にパースする。
+     *
+     * @return 全てのセクションのパースを終えていればtrue
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    public abstract boolean drive() throws IOException, MmdFormatException;
+
+}
@@ -0,0 +1,478 @@
+/*
+ * feedable buffer parser
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 受信したバイト列を順次追加できるバイナリパーサ実装。
+ *
+ * <p>入力ソースは{@link #feed(ByteBuffer)}で追加されたバイト列の連なりであり、
+ * 非同期入力などで到着したデータをそのまま追加できる。
+ * 入力ソースの終端は{@link #finish()}で通知する。
+ *
+ * <p>パーサ自身は入力の到着を待たない。
+ * 未着のデータを読もうとした場合は、
+ * 入力ソース終端に達した場合と同じく{@link MmdEofException}を投げる。
+ * このため利用者は{@link #available()}や各種先読みメソッドで
+ * 必要なデータが揃ったことを確かめてからパースを進めなければならない。
+ * {@link #hasMore()}もまた受信済みの未読データの有無のみを返す。
+ *
+ * <p>読み終えたデータは次回の追加時に破棄される。
+ * 内部バッファのサイズは未読データの量に応じて拡張される。
+ *
+ * <p>このクラスはスレッドセーフではない。
+ */
+public class FeedParser implements BinParser{
+
+    /** 内部バッファの初期サイズ。(単位:byte) */
+    public static final int DEF_BUFSZ = 64 * 1024;
+
+    private static final int BYTES_SHORT = Short  .SIZE / Byte.SIZE;
+    private static final int BYTES_INT   = Integer.SIZE / Byte.SIZE;
+    private static final int BYTES_FLOAT = Float  .SIZE / Byte.SIZE;
+
+    private static final int MASK_8BIT  =   0xff;
+    private static final int MASK_16BIT = 0xffff;
+
+    private static final String ERRMSG_OVERFLOW = "too much unread data";
+
+
+    private ByteBuffer buf;
+    private ByteBuffer textView;
+
+    private long base = 0L;
+    private int offset = 0;
+    private int fill = 0;
+
+    private boolean finished = false;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>内部バッファの初期サイズは{@link #DEF_BUFSZ}となる。
+     */
+    public FeedParser(){
+        this(DEF_BUFSZ);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param bufSize 内部バッファの初期サイズ。(単位:byte)
+     * @throws IllegalArgumentException バッファサイズが正で無い
+     */
+    public FeedParser(int bufSize) throws IllegalArgumentException{
+        super();
+
+        if(bufSize <= 0) throw new IllegalArgumentException();
+
+        allocate(bufSize);
+
+        return;
+    }
+
+
+    /**
+     * 内部バッファを割り当てる。
+     *
+     * @param bufSize バッファサイズ
+     */
+    private void allocate(int bufSize){
+        this.buf = ByteBuffer.allocate(bufSize);
+        this.buf.order(ByteOrder.LITTLE_ENDIAN);
+        this.buf.limit(0);
+        this.textView = this.buf.duplicate();
+        return;
+    }
+
+    /**
+     * 入力ソースにバイト列を追加する。
+     *
+     * <p>引数のバッファの現在位置からリミットまでが追加され、
+     * バッファの位置はリミットまで進められる。
+     *
+     * @param src 追加するバイト列
+     * @throws NullPointerException 引数がnull
+     * @throws IllegalStateException 入力ソースの終端が通知済み
+     * @throws IllegalArgumentException 未読データが多すぎる
+     */
+    public void feed(ByteBuffer src)
+            throws NullPointerException,
+                   IllegalStateException,
+                   IllegalArgumentException {
+        int length = src.remaining();
+        if(this.finished) throw new IllegalStateException();
+        if(length <= 0) return;
+
+        makeRoom(length);
+
+        ByteBuffer dst = this.buf.duplicate();
+        dst.limit(this.fill + length);
+        dst.position(this.fill);
+        dst.put(src);
+
+        this.fill += length;
+        this.buf.limit(this.fill);
+
+        return;
+    }
+
+    /**
+     * 指定バイト長の追加に備え、内部バッファに空きを用意する。
+     *
+     * <p>読み終えたデータを破棄し、未読データをバッファ先頭へ詰める。
+     * それでも足りなければバッファを拡張する。
+     *
+     * @param length 追加するバイト長
+     * @throws IllegalArgumentException 未読データが多すぎる
+     */
+    private void makeRoom(int length) throws IllegalArgumentException{
+        int capacity = this.buf.capacity();
+        if(capacity - this.fill >= length) return;
+
+        int rest = this.fill - this.offset;
+        long need = (long) rest + length;
+        if(need > Integer.MAX_VALUE){
+            throw new IllegalArgumentException(ERRMSG_OVERFLOW);
+        }
+
+        byte[] old = this.buf.array();
+        if(need > capacity){
+            long newSize = Math.max((long) capacity * 2L, need);
+            newSize = Math.min(newSize, Integer.MAX_VALUE);
+            allocate((int) newSize);
+        }
+        System.arraycopy(old, this.offset, this.buf.array(), 0, rest);
+
+        this.base += this.offset;
+        this.offset = 0;
+        this.fill = rest;
+        this.buf.limit(rest);
+
+        return;
+    }
+
+    /**
+     * 入力ソースの終端を通知する。
+     *
+     * <p>以降のバイト列の追加はできない。
+     */
+    public void finish(){
+        this.finished = true;
+        return;
+    }
+
+    /**
+     * 入力ソースの終端が通知済みか判定する。
+     *
+     * @return 通知済みならtrue
+     */
+    public boolean isFinished(){
+        return this.finished;
+    }
+
+    /**
+     * 受信済みの未読データのバイト長を返す。
+     *
+     * @return バイト長
+     */
+    public int available(){
+        int result = this.fill - this.offset;
+        return result;
+    }
+
+    /**
+     * 読み込み位置を変えずに未読データ上のbyte値を
+     * 符号無し値として読み込む。
+     *
+     * @param ahead 読み込み位置からのオフセット
+     * @return 0以上255以下の値
+     * @throws IndexOutOfBoundsException 未着の位置を指定した
+     */
+    public int peekUByteAsInt(int ahead) throws IndexOutOfBoundsException{
+        int pos = peekIndex(ahead, 1);
+        int result = this.buf.get(pos) & MASK_8BIT;
+        return result;
+    }
+
+    /**
+     * 読み込み位置を変えずに未読データ上のリトルエンディアンshort値を
+     * 符号無し値として読み込む。
+     *
+     * @param ahead 読み込み位置からのオフセット
+     * @return 0以上65535以下の値
+     * @throws IndexOutOfBoundsException 未着の位置を指定した
+     */
+    public int peekLeUShortAsInt(int ahead) throws IndexOutOfBoundsException{
+        int pos = peekIndex(ahead, BYTES_SHORT);
+        int result = this.buf.getShort(pos) & MASK_16BIT;
+        return result;
+    }
+
+    /**
+     * 読み込み位置を変えずに未読データ上のリトルエンディアンint値を
+     * 読み込む。
+     *
+     * @param ahead 読み込み位置からのオフセット
+     * @return int値
+     * @throws IndexOutOfBoundsException 未着の位置を指定した
+     */
+    public int peekLeInt(int ahead) throws IndexOutOfBoundsException{
+        int pos = peekIndex(ahead, BYTES_INT);
+        int result = this.buf.getInt(pos);
+        return result;
+    }
+
+    /**
+     * 先読み範囲の内部バッファ上の位置を求める。
+     *
+     * @param ahead 読み込み位置からのオフセット
+     * @param length バイト長
+     * @return 内部バッファ上の位置
+     * @throws IndexOutOfBoundsException 未着の範囲を指定した
+     */
+    private int peekIndex(int ahead, int length)
+            throws IndexOutOfBoundsException{
+        if(ahead < 0 || available() - ahead < length){
+            throw new IndexOutOfBoundsException();
+        }
+        return this.offset + ahead;
+    }
+
+    /**
+     * 指定バイト数の読み込みに備え、読み込み位置を進める。
+     *
+     * <p>未読データが不足する場合は受信済みデータの終わりまで読み進めた上で
+     * 異常系を投げる。
+     *
+     * @param length バイト長
+     * @return 読み込み開始位置(バッファ上の絶対位置)
+     * @throws MmdEofException 読み込む途中で受信済みデータが尽きた。
+     */
+    private int advance(int length) throws MmdEofException{
+        int start = this.offset;
+        int remain = this.fill - start;
+        if(remain < length){
+            this.offset = this.fill;
+            throw new MmdEofException(getPosition());
+        }
+        this.offset = start + length;
+        return start;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public long getPosition(){
+        long result = this.base + this.offset;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>未着のデータは考慮されない。
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean hasMore(){
+        boolean result = this.offset < this.fill;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param skipLength {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void skip(long skipLength) throws MmdEofException{
+        if(skipLength <= 0L) return;
+
+        long remain = (long) this.fill - this.offset;
+        if(remain < skipLength){
+            this.offset = this.fill;
+            throw new MmdEofException(getPosition());
+        }
+
+        this.offset += (int) skipLength;
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param length {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void parseByteArray(byte[] dst, int off, int length)
+            throws NullPointerException,
+                   IndexOutOfBoundsException,
+                   MmdEofException {
+        if(off < 0 || length < 0 || dst.length - off < length){
+            throw new IndexOutOfBoundsException();
+        }
+
+        int remain = this.fill - this.offset;
+        int txSize = Math.min(remain, length);
+
+        System.arraycopy(this.buf.array(), this.offset, dst, off, txSize);
+        this.offset += txSize;
+
+        if(txSize < length){
+            throw new MmdEofException(getPosition());
+        }
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public void parseByteArray(byte[] dst)
+            throws NullPointerException, MmdEofException{
+        parseByteArray(dst, 0, dst.length);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public byte parseByte() throws MmdEofException{
+        int pos = advance(1);
+        byte result = this.buf.get(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseUByteAsInt() throws MmdEofException{
+        return parseByte() & MASK_8BIT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public boolean parseBoolean() throws MmdEofException{
+        byte result = parseByte();
+        if(result == 0x00) return false;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public short parseLeShort() throws MmdEofException{
+        int pos = advance(BYTES_SHORT);
+        short result = this.buf.getShort(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseLeUShortAsInt() throws MmdEofException{
+        return parseLeShort() & MASK_16BIT;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public int parseLeInt() throws MmdEofException{
+        int pos = advance(BYTES_INT);
+        int result = this.buf.getInt(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     */
+    @Override
+    public float parseLeFloat() throws MmdEofException{
+        int pos = advance(BYTES_FLOAT);
+        float result = this.buf.getFloat(pos);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>文字デコーダには内部バッファ上のバイト列が複製されずに渡される。
+     *
+     * @param decoder {@inheritDoc}
+     * @param byteLen {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws MmdEofException {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public String parseString(TextDecoder decoder, int byteLen)
+            throws MmdEofException, MmdFormatException {
+        long startPos = getPosition();
+        int pos = advance(byteLen);
+        long endPos = getPosition();
+
+        this.textView.limit(pos + byteLen);
+        this.textView.position(pos);
+
+        String result =
+                CommonParser.decodeText(decoder, this.textView,
+                                        startPos, endPos);
+
+        return result;
+    }
+
+}
@@ -24,13 +24,29 @@ public class ParseStage {
     /** 全インスタンスに割り振られたユニークな番号。変更不可。 */
     private final int no;
 
+    /** ステージ名。 */
+    private final String name;
+
 
     /**
      * コンストラクタ。
+     *
+     * <p>ステージ名は持たない。
      */
     public ParseStage(){
+        this(null);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param name ステージ名。nullなら名前を持たない。
+     */
+    public ParseStage(String name){
         super();
         this.no = LAST_NO.getAndIncrement();
+        this.name = name;
         assert this.no >= 0;
         return;
     }
@@ -45,13 +61,25 @@ public int getNo(){
         return this.no;
     }
 
+    /**
+     * ステージ名を返す。
+     *
+     * @return ステージ名。名前を持たなければnull
+     */
+    public String getName(){
+        return this.name;
+    }
+
     /**
      * {@inheritDoc}
      *
+     * <p>ステージ名を持つ場合はステージ名を返す。
+     *
      * @return {@inheritDoc}
      */
     @Override
     public String toString(){
+        if(this.name != null) return this.name;
         String result = "parse stage#:" + this.no;
         return result;
     }
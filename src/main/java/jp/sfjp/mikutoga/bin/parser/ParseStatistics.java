@@ -0,0 +1,247 @@
+/*
+ * parse statistics
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 読み込み種別毎の呼び出し回数、バイト数、所要時間の集計。
+ *
+ * <p>{@link CountingParser}から更新される。
+ * 各カウンタは{@link LongAdder}であるため、
+ * 多数のパースを並行して1つのインスタンスへ集計できる。
+ *
+ * <p>所要時間は{@link ReadType#STRING}についてのみ計測される。
+ *
+ * <p>サンプリングモードでは、
+ * 所要時間の長かった文字列デコードを指定件数まで記録する。
+ * 記録済みの最短時間より速いデコードはロックを取らずに捨てられる。
+ *
+ * <p>このクラスはスレッドセーフである。
+ */
+public class ParseStatistics {
+
+    /** 呼び出し回数のキー接尾辞。 */
+    public static final String SUFFIX_CALLS = ".calls";
+    /** バイト数のキー接尾辞。 */
+    public static final String SUFFIX_BYTES = ".bytes";
+    /** 所要時間のキー接尾辞。 */
+    public static final String SUFFIX_NANOS = ".nanos";
+
+    private static final ReadType[] TYPES = ReadType.values();
+
+    private static final Comparator<DecodeSample> COMP_NANOS =
+            Comparator.comparingLong(DecodeSample::getNanos);
+
+
+    private final LongAdder[] calls = new LongAdder[TYPES.length];
+    private final LongAdder[] bytes = new LongAdder[TYPES.length];
+    private final LongAdder stringNanos = new LongAdder();
+
+    private final int sampleSize;
+    private final PriorityQueue<DecodeSample> samples;
+    private volatile long sampleThreshold = -1L;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>サンプリングは行わない。
+     */
+    public ParseStatistics(){
+        this(0);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param sampleSize 記録する低速デコードの件数。0ならサンプリングしない。
+     * @throws IllegalArgumentException 件数が負
+     */
+    public ParseStatistics(int sampleSize) throws IllegalArgumentException{
+        super();
+
+        if(sampleSize < 0) throw new IllegalArgumentException();
+
+        for(int idx = 0; idx < TYPES.length; idx++){
+            this.calls[idx] = new LongAdder();
+            this.bytes[idx] = new LongAdder();
+        }
+
+        this.sampleSize = sampleSize;
+        if(sampleSize > 0){
+            this.samples = new PriorityQueue<>(sampleSize + 1, COMP_NANOS);
+        }else{
+            this.samples = null;
+        }
+
+        return;
+    }
+
+
+    /**
+     * 記録する低速デコードの件数を返す。
+     *
+     * @return 件数。サンプリングしないなら0
+     */
+    public int getSampleSize(){
+        return this.sampleSize;
+    }
+
+    /**
+     * 読み込みを1回計上する。
+     *
+     * @param type 読み込み種別
+     * @param byteLength 読み込んだバイト数
+     */
+    public void count(ReadType type, long byteLength){
+        int idx = type.ordinal();
+        this.calls[idx].increment();
+        this.bytes[idx].add(byteLength);
+        return;
+    }
+
+    /**
+     * 文字列デコードを1回計上する。
+     *
+     * @param label 入力ソースのラベル。不明ならnull
+     * @param position 文字列の入力ソース上の開始位置
+     * @param byteLength 文字列のバイト長
+     * @param elapsed 所要時間(ナノ秒)
+     * @param text デコード結果
+     */
+    public void countString(String label, long position, int byteLength,
+                            long elapsed, String text ){
+        int idx = ReadType.STRING.ordinal();
+        this.calls[idx].increment();
+        this.bytes[idx].add(byteLength);
+        this.stringNanos.add(elapsed);
+
+        if(this.samples == null) return;
+        if(elapsed <= this.sampleThreshold) return;
+
+        DecodeSample sample =
+                new DecodeSample(label, position, byteLength, elapsed, text);
+
+        synchronized(this.samples){
+            this.samples.add(sample);
+            if(this.samples.size() > this.sampleSize){
+                this.samples.poll();
+            }
+            if(this.samples.size() >= this.sampleSize){
+                this.sampleThreshold = this.samples.peek().getNanos();
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * 呼び出し回数を返す。
+     *
+     * @param type 読み込み種別
+     * @return 呼び出し回数
+     */
+    public long getCalls(ReadType type){
+        return this.calls[type.ordinal()].sum();
+    }
+
+    /**
+     * 読み込んだバイト数を返す。
+     *
+     * @param type 読み込み種別
+     * @return バイト数
+     */
+    public long getBytes(ReadType type){
+        return this.bytes[type.ordinal()].sum();
+    }
+
+    /**
+     * 所要時間を返す。
+     *
+     * @param type 読み込み種別
+     * @return 所要時間(ナノ秒)。計測されない種別なら0
+     */
+    public long getNanos(ReadType type){
+        if(type != ReadType.STRING) return 0L;
+        return this.stringNanos.sum();
+    }
+
+    /**
+     * 記録された低速デコードを遅い順に返す。
+     *
+     * @return 低速デコードのリスト。サンプリングしないなら空
+     */
+    public List<DecodeSample> getSlowDecodes(){
+        if(this.samples == null) return Collections.emptyList();
+
+        List<DecodeSample> result;
+        synchronized(this.samples){
+            result = new ArrayList<>(this.samples);
+        }
+        result.sort(COMP_NANOS.reversed());
+
+        return result;
+    }
+
+    /**
+     * 集計結果を破棄する。
+     *
+     * <p>並行して計上された値が残る場合がある。
+     */
+    public void reset(){
+        for(int idx = 0; idx < TYPES.length; idx++){
+            this.calls[idx].reset();
+            this.bytes[idx].reset();
+        }
+        this.stringNanos.reset();
+
+        if(this.samples != null){
+            synchronized(this.samples){
+                this.samples.clear();
+                this.sampleThreshold = -1L;
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * 集計結果をマップに出力する。
+     *
+     * <p>キーは読み込み種別名に
+     * {@link #SUFFIX_CALLS}、{@link #SUFFIX_BYTES}
+     * のいずれかを連結したもの。
+     * {@link ReadType#STRING}には{@link #SUFFIX_NANOS}も出力される。
+     *
+     * @return 集計結果のマップ
+     */
+    public Map<String, Long> toMap(){
+        Map<String, Long> result = new LinkedHashMap<>();
+
+        for(ReadType type : TYPES){
+            String prefix = type.name();
+            result.put(prefix + SUFFIX_CALLS, getCalls(type));
+            result.put(prefix + SUFFIX_BYTES, getBytes(type));
+            if(type == ReadType.STRING){
+                result.put(prefix + SUFFIX_NANOS, getNanos(type));
+            }
+        }
+
+        return result;
+    }
+
+}
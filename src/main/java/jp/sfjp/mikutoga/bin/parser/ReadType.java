@@ -0,0 +1,33 @@
+/*
+ * binary read type
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+/**
+ * {@link BinParser}による読み込みの種別。
+ *
+ * @see ParseStatistics
+ */
+public enum ReadType {
+
+    /** 1バイト値。parseByte, parseUByteAsInt, parseBoolean。 */
+    BYTE,
+    /** 2バイト値。parseLeShort, parseLeUShortAsInt。 */
+    SHORT,
+    /** 4バイト整数。parseLeInt。 */
+    INT,
+    /** 4バイト浮動小数点数。parseLeFloat。 */
+    FLOAT,
+    /** バイト配列。parseByteArray。 */
+    BYTE_ARRAY,
+    /** 文字列。parseString。 */
+    STRING,
+    /** 読み飛ばし。skip。 */
+    SKIP,
+    ;
+
+}
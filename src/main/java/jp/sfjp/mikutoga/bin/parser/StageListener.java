@@ -0,0 +1,45 @@
+/*
+ * parse stage listener
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+/**
+ * パース処理のステージ進行の通知を受け取るリスナ。
+ *
+ * <p>{@link LoopHandler}と同じループ構造の開始と終了が、
+ * 入力ソース上の読み込み位置と共に通知される。
+ * ハンドラが未登録で読み飛ばされたループや、
+ * 一括通知されたループについても通知される。
+ * ただし読み飛ばされたループの内側にネストされたループは通知されない。
+ *
+ * <p>ループ要素数の読み込みは開始通知の前に行われる。
+ *
+ * @see LoopHandler
+ */
+public interface StageListener {
+
+    /**
+     * ステージ開始の通知を受け取る。
+     *
+     * @param stage ループ種別
+     * @param loops ループ予定回数。未知の場合は負の値。
+     * @param position 入力ソース上の読み込み位置
+     */
+    public abstract void stageStart(ParseStage stage, int loops,
+                                    long position);
+
+    /**
+     * ステージ終了の通知を受け取る。
+     *
+     * <p>パースが例外によって中断された場合は呼ばれない。
+     *
+     * @param stage ループ種別
+     * @param position 入力ソース上の読み込み位置
+     */
+    public abstract void stageEnd(ParseStage stage, long position);
+
+}
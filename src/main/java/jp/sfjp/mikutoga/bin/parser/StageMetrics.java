@@ -0,0 +1,273 @@
+/*
+ * parse stage metrics
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ステージ毎の所要時間、読み込みバイト数、要素数を集計する。
+ *
+ * <p>ステージ毎に以下を積算する。
+ * <ul>
+ * <li>count : ステージの出現回数
+ * <li>elements : ループ予定回数の合計
+ * <li>nanos : 開始から終了までの経過時間(ナノ秒)の合計
+ * <li>bytes : 開始から終了までに読み進んだバイト数の合計
+ * </ul>
+ *
+ * <p>ネストされたステージの時間とバイト数は外側のステージにも含まれる。
+ * ネストされたステージは外側の要素毎に出現するため、
+ * その出現回数は外側の要素数に等しくなる。
+ *
+ * <p>各値はステージの終了通知の時点でまとめて積算される。
+ * 例外で中断され終了通知の無いステージは、
+ * 出現回数と要素数を含めて集計されない。
+ *
+ * <p>このクラスはスレッドセーフではない。
+ * 複数のパースで共有する場合は同時に使ってはならない。
+ */
+public class StageMetrics implements StageListener {
+
+    /** 出現回数のキー接尾辞。 */
+    public static final String SUFFIX_COUNT    = ".count";
+    /** 要素数のキー接尾辞。 */
+    public static final String SUFFIX_ELEMENTS = ".elements";
+    /** 経過時間のキー接尾辞。 */
+    public static final String SUFFIX_NANOS    = ".nanos";
+    /** バイト数のキー接尾辞。 */
+    public static final String SUFFIX_BYTES    = ".bytes";
+
+    private static final int DEF_DEPTH = 4;
+
+
+    private final Map<ParseStage, Stat> statMap = new HashMap<>();
+    private final List<ParseStage> stageList = new ArrayList<>();
+
+    private ParseStage[] openStages = new ParseStage[DEF_DEPTH];
+    private long[] openNanos = new long[DEF_DEPTH];
+    private long[] openPositions = new long[DEF_DEPTH];
+    private int[] openLoops = new int[DEF_DEPTH];
+    private int depth = 0;
+
+
+    /**
+     * コンストラクタ。
+     */
+    public StageMetrics(){
+        super();
+        return;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     * @param loops {@inheritDoc}
+     * @param position {@inheritDoc}
+     */
+    @Override
+    public void stageStart(ParseStage stage, int loops, long position){
+        long now = System.nanoTime();
+
+        getStat(stage);
+
+        if(this.depth >= this.openStages.length){
+            int newLen = this.openStages.length * 2;
+            this.openStages    = Arrays.copyOf(this.openStages,    newLen);
+            this.openNanos     = Arrays.copyOf(this.openNanos,     newLen);
+            this.openPositions = Arrays.copyOf(this.openPositions, newLen);
+            this.openLoops     = Arrays.copyOf(this.openLoops,     newLen);
+        }
+
+        this.openStages[this.depth]    = stage;
+        this.openNanos[this.depth]     = now;
+        this.openPositions[this.depth] = position;
+        this.openLoops[this.depth]     = loops;
+        this.depth++;
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>対応する開始通知が無ければ無視される。
+     * 対応する開始通知より後に開始され終了していないステージは、
+     * 中断されたものとみなし破棄される。
+     *
+     * @param stage {@inheritDoc}
+     * @param position {@inheritDoc}
+     */
+    @Override
+    public void stageEnd(ParseStage stage, long position){
+        long now = System.nanoTime();
+
+        int idx = this.depth - 1;
+        while(idx >= 0 && this.openStages[idx] != stage){
+            idx--;
+        }
+        if(idx < 0) return;
+
+        Stat stat = this.statMap.get(stage);
+        stat.count++;
+        int loops = this.openLoops[idx];
+        if(loops > 0) stat.elements += loops;
+        stat.nanos += now - this.openNanos[idx];
+        stat.bytes += position - this.openPositions[idx];
+
+        Arrays.fill(this.openStages, idx, this.depth, null);
+        this.depth = idx;
+
+        return;
+    }
+
+    /**
+     * ステージの集計を返す。
+     * 未登録なら登録する。
+     *
+     * @param stage ステージ
+     * @return 集計
+     */
+    private Stat getStat(ParseStage stage){
+        Stat stat = this.statMap.get(stage);
+        if(stat == null){
+            stat = new Stat();
+            this.statMap.put(stage, stat);
+            this.stageList.add(stage);
+        }
+        return stat;
+    }
+
+    /**
+     * 集計結果を破棄する。
+     */
+    public void reset(){
+        this.statMap.clear();
+        this.stageList.clear();
+        Arrays.fill(this.openStages, null);
+        this.depth = 0;
+        return;
+    }
+
+    /**
+     * 出現したステージを出現順に返す。
+     *
+     * <p>中断され一度も終了していないステージも含まれる。
+     * その出現回数は0となる。
+     *
+     * @return ステージのリスト。変更不可。
+     */
+    public List<ParseStage> getStages(){
+        return Collections.unmodifiableList(this.stageList);
+    }
+
+    /**
+     * ステージの出現回数を返す。
+     *
+     * @param stage ステージ
+     * @return 出現回数。出現していなければ0
+     */
+    public long getCount(ParseStage stage){
+        Stat stat = this.statMap.get(stage);
+        if(stat == null) return 0L;
+        return stat.count;
+    }
+
+    /**
+     * ステージの要素数の合計を返す。
+     *
+     * @param stage ステージ
+     * @return 要素数。出現していなければ0
+     */
+    public long getElements(ParseStage stage){
+        Stat stat = this.statMap.get(stage);
+        if(stat == null) return 0L;
+        return stat.elements;
+    }
+
+    /**
+     * ステージの経過時間の合計を返す。
+     *
+     * @param stage ステージ
+     * @return 経過時間(ナノ秒)。出現していなければ0
+     */
+    public long getNanos(ParseStage stage){
+        Stat stat = this.statMap.get(stage);
+        if(stat == null) return 0L;
+        return stat.nanos;
+    }
+
+    /**
+     * ステージで読み進んだバイト数の合計を返す。
+     *
+     * @param stage ステージ
+     * @return バイト数。出現していなければ0
+     */
+    public long getBytes(ParseStage stage){
+        Stat stat = this.statMap.get(stage);
+        if(stat == null) return 0L;
+        return stat.bytes;
+    }
+
+    /**
+     * 集計結果をマップに出力する。
+     *
+     * <p>キーはステージの文字列表現に
+     * {@link #SUFFIX_COUNT}、{@link #SUFFIX_ELEMENTS}、
+     * {@link #SUFFIX_NANOS}、{@link #SUFFIX_BYTES}
+     * のいずれかを連結したもの。
+     * キーはステージの出現順に並ぶ。
+     * 名前の同じ別々のステージはキーが衝突するため、
+     * ステージ名は一意でなければならない。
+     *
+     * @return 集計結果のマップ
+     */
+    public Map<String, Long> toMap(){
+        Map<String, Long> result = new LinkedHashMap<>();
+
+        for(ParseStage stage : this.stageList){
+            Stat stat = this.statMap.get(stage);
+            String prefix = stage.toString();
+            result.put(prefix + SUFFIX_COUNT,    stat.count);
+            result.put(prefix + SUFFIX_ELEMENTS, stat.elements);
+            result.put(prefix + SUFFIX_NANOS,    stat.nanos);
+            result.put(prefix + SUFFIX_BYTES,    stat.bytes);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * ステージ毎の集計。
+     */
+    private static final class Stat {
+
+        long count;
+        long elements;
+        long nanos;
+        long bytes;
+
+        /**
+         * コンストラクタ。
+         */
+        Stat(){
+            super();
+            return;
+        }
+
+    }
+
+}
@@ -28,15 +28,47 @@
  * 「ゼロチョップモード」を備える。
  * デフォルトではゼロチョップモードはオフ。
  * ゼロチョップモードはUTF16などのデコーディング時に使ってはならない。
+ *
+ * <p>短いバイト列のデコード結果をキャッシュする「キャッシュモード」を備える。
+ * キャッシュはデコード対象のバイト列をキーとし、
+ * 同じバイト列に対しては文字デコーダを用いず
+ * 以前と同じStringインスタンスを返す。
+ * キャッシュは{@value #CACHE_KEYMAX}バイト以下のバイト列のみを対象とし、
+ * 2ウェイのセットアソシエイティブ方式で容量が制限される。
+ * 同じセットに収まらない新たなバイト列は、
+ * 最近参照されていない方のエントリを追い出す。
+ * デフォルトではキャッシュモードはオン。
+ * デコードに失敗したバイト列はキャッシュされない。
  */
 public class TextDecoder {
 
+    /** キャッシュ対象となる最大バイト長。 */
+    public static final int CACHE_KEYMAX = 64;
+
+    private static final int CACHE_SETS = 256;
+    private static final int CACHE_WAYS = 2;
+    private static final int CACHE_ENTRIES = CACHE_SETS * CACHE_WAYS;
+
+    private static final int HASH_MUL = 31;
+    private static final int HASH_SHIFT = 16;
+
+    static{
+        assert Integer.bitCount(CACHE_SETS) == 1;
+    }
+
+
     private final CharsetDecoder decoder;
 
     private CharBuffer charBuffer;
 
     private boolean chopZero = false;
 
+    private boolean cacheMode = true;
+    private final byte[][] cacheKeys = new byte[CACHE_ENTRIES][];
+    private final String[] cacheValues = new String[CACHE_ENTRIES];
+    private final int[] cacheHashes = new int[CACHE_ENTRIES];
+    private final byte[] cacheRecent = new byte[CACHE_SETS];
+
 
     /**
      * コンストラクタ。
@@ -109,6 +141,39 @@ public boolean isZeroChopMode(){
         return this.chopZero;
     }
 
+    /**
+     * キャッシュモードを設定する。
+     *
+     * <p>キャッシュモードをオフにするとキャッシュ内容は破棄される。
+     *
+     * @param mode trueならキャッシュモードオン
+     */
+    public void setCacheMode(boolean mode){
+        this.cacheMode = mode;
+        if( ! mode ) clearCache();
+        return;
+    }
+
+    /**
+     * キャッシュモードか否か判定する。
+     *
+     * @return キャッシュモードならtrue
+     */
+    public boolean isCacheMode(){
+        return this.cacheMode;
+    }
+
+    /**
+     * キャッシュ内容を破棄する。
+     */
+    public void clearCache(){
+        for(int idx = 0; idx < CACHE_ENTRIES; idx++){
+            this.cacheKeys[idx] = null;
+            this.cacheValues[idx] = null;
+        }
+        return;
+    }
+
     /**
      * 入力バイトバッファのバイト値'0'出現以降をチョップする。
      * ゼロチョップモードでなければ何もしない。
@@ -141,6 +206,78 @@ protected void chopZeroTermed(ByteBuffer bBuf){
     public String decode(ByteBuffer bBuf) throws CharacterCodingException{
         chopZeroTermed(bBuf);
 
+        if( ! this.cacheMode || bBuf.remaining() > CACHE_KEYMAX ){
+            return decodeImpl(bBuf);
+        }
+
+        int start = bBuf.position();
+        int limit = bBuf.limit();
+
+        int hash = 1;
+        for(int idx = start; idx < limit; idx++){
+            hash = hash * HASH_MUL + bBuf.get(idx);
+        }
+        int set = (hash ^ (hash >>> HASH_SHIFT)) & (CACHE_SETS - 1);
+        int base = set * CACHE_WAYS;
+
+        for(int way = 0; way < CACHE_WAYS; way++){
+            int entry = base + way;
+            byte[] key = this.cacheKeys[entry];
+            if(key == null || this.cacheHashes[entry] != hash) continue;
+            if( ! isSameBytes(key, bBuf) ) continue;
+
+            this.cacheRecent[set] = (byte) way;
+            bBuf.position(limit);
+            return this.cacheValues[entry];
+        }
+
+        String result = decodeImpl(bBuf);
+
+        byte[] key = new byte[limit - start];
+        for(int idx = 0; idx < key.length; idx++){
+            key[idx] = bBuf.get(start + idx);
+        }
+
+        int victim = (this.cacheRecent[set] + 1) % CACHE_WAYS;
+        int entry = base + victim;
+        this.cacheKeys[entry] = key;
+        this.cacheValues[entry] = result;
+        this.cacheHashes[entry] = hash;
+        this.cacheRecent[set] = (byte) victim;
+
+        return result;
+    }
+
+    /**
+     * キャッシュのキーとバイトバッファの残り内容が一致するか判定する。
+     *
+     * @param key キー
+     * @param bBuf バイトバッファ
+     * @return 一致すればtrue
+     */
+    private static boolean isSameBytes(byte[] key, ByteBuffer bBuf){
+        int start = bBuf.position();
+        if(key.length != bBuf.limit() - start) return false;
+
+        for(int idx = 0; idx < key.length; idx++){
+            if(key[idx] != bBuf.get(start + idx)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * キャッシュを用いずにバイトバッファの文字列デコードを行う。
+     *
+     * <p>ゼロチョップは済んでいる。
+     * 入力バイトバッファの位置はリミットまで進められる。
+     *
+     * @param bBuf バイトバッファ
+     * @return デコードされた文字列
+     * @throws CharacterCodingException デコード異常
+     */
+    protected String decodeImpl(ByteBuffer bBuf)
+            throws CharacterCodingException{
         int blen = bBuf.remaining();
         prepareCharBuffer(blen);
         this.charBuffer.clear();
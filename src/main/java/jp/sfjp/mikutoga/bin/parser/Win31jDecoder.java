@@ -0,0 +1,211 @@
+/*
+ * windows-31j decoder
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Windows-31J(Shift_JIS)専用の文字デコーダー。
+ *
+ * <p>1バイト文字と2バイト文字の変換表を引くことでデコードを行い、
+ * 汎用の文字デコーダを用いない。
+ * ASCIIは変換表も引かずにそのまま変換される。
+ * 変換表はクラス初期化時にJDKのwindows-31jデコーダから生成されるため、
+ * デコード結果はJDKのデコーダと一致する。
+ *
+ * <p>変換表に無いバイト列を含む場合は
+ * JDKのデコーダでデコードをやり直す。
+ * このため不正なバイト列に対する例外とその入力長は
+ * {@link TextDecoder}と同じになる。
+ *
+ * <p>ゼロチョップモードおよびキャッシュモードの振る舞いは
+ * {@link TextDecoder}と同じ。
+ */
+public class Win31jDecoder extends TextDecoder {
+
+    /** Windows-31Jキャラクタセット。 */
+    public static final Charset CS_WIN31J = Charset.forName("windows-31j");
+
+    private static final int BYTE_MASK = 0xff;
+    private static final int ASCII_MAX = 0x7f;
+    private static final int TRAIL_NUM = 0x100;
+
+    private static final char NOT_SINGLE = '\uffff';
+    private static final char NO_CHAR    = '\u0000';
+
+    private static final char[] SINGLE_TABLE = new char[TRAIL_NUM];
+    private static final int[] LEAD_ROW = new int[TRAIL_NUM];
+    private static final char[] DOUBLE_TABLE;
+
+    static{
+        CharsetDecoder decoder = CS_WIN31J.newDecoder();
+        decoder.onMalformedInput(     CodingErrorAction.REPORT);
+        decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        ByteBuffer bBuf = ByteBuffer.allocate(2);
+        CharBuffer cBuf = CharBuffer.allocate(2);
+
+        int rows = 0;
+        for(int bVal = 0; bVal < TRAIL_NUM; bVal++){
+            SINGLE_TABLE[bVal] = NOT_SINGLE;
+            LEAD_ROW[bVal] = -1;
+
+            char single = decodeChar(decoder, bBuf, cBuf, bVal, -1);
+            if(single != NO_CHAR || bVal == 0x00){
+                SINGLE_TABLE[bVal] = single;
+            }else if(isLeadByte(decoder, bBuf, cBuf, bVal)){
+                LEAD_ROW[bVal] = rows++;
+            }
+        }
+
+        DOUBLE_TABLE = new char[rows * TRAIL_NUM];
+        for(int lead = 0; lead < TRAIL_NUM; lead++){
+            int row = LEAD_ROW[lead];
+            if(row < 0) continue;
+            for(int trail = 0; trail < TRAIL_NUM; trail++){
+                char ch = decodeChar(decoder, bBuf, cBuf, lead, trail);
+                DOUBLE_TABLE[row * TRAIL_NUM + trail] = ch;
+            }
+        }
+
+        for(int bVal = 0; bVal <= ASCII_MAX; bVal++){
+            assert SINGLE_TABLE[bVal] == (char) bVal;
+        }
+    }
+
+
+    private char[] charArray = new char[0];
+
+
+    /**
+     * コンストラクタ。
+     */
+    public Win31jDecoder(){
+        super(CS_WIN31J);
+        return;
+    }
+
+
+    /**
+     * JDKのデコーダで1文字をデコードする。
+     *
+     * @param decoder デコーダ
+     * @param bBuf 作業用バイトバッファ
+     * @param cBuf 作業用文字バッファ
+     * @param first 1バイト目
+     * @param second 2バイト目。1バイトのみなら負の値
+     * @return 1文字にデコードできればその文字。できなければ0
+     */
+    private static char decodeChar(CharsetDecoder decoder,
+                                   ByteBuffer bBuf, CharBuffer cBuf,
+                                   int first, int second ){
+        bBuf.clear();
+        bBuf.put((byte) first);
+        if(second >= 0) bBuf.put((byte) second);
+        bBuf.flip();
+        cBuf.clear();
+
+        decoder.reset();
+        CoderResult result = decoder.decode(bBuf, cBuf, true);
+        if(result.isError()) return NO_CHAR;
+        result = decoder.flush(cBuf);
+        if(result.isError()) return NO_CHAR;
+        if(bBuf.hasRemaining() || cBuf.position() != 1) return NO_CHAR;
+
+        return cBuf.get(0);
+    }
+
+    /**
+     * 2バイト文字の1バイト目となりうるか判定する。
+     *
+     * @param decoder デコーダ
+     * @param bBuf 作業用バイトバッファ
+     * @param cBuf 作業用文字バッファ
+     * @param bVal バイト値
+     * @return 2バイト文字の1バイト目となりうるならtrue
+     */
+    private static boolean isLeadByte(CharsetDecoder decoder,
+                                      ByteBuffer bBuf, CharBuffer cBuf,
+                                      int bVal ){
+        for(int trail = 0; trail < TRAIL_NUM; trail++){
+            if(decodeChar(decoder, bBuf, cBuf, bVal, trail) != NO_CHAR){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>変換表を用いてデコードする。
+     * 変換表に無いバイト列を含む場合はJDKのデコーダでデコードし直す。
+     *
+     * @param bBuf {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws CharacterCodingException {@inheritDoc}
+     */
+    @Override
+    protected String decodeImpl(ByteBuffer bBuf)
+            throws CharacterCodingException{
+        int start = bBuf.position();
+        int limit = bBuf.limit();
+
+        int blen = limit - start;
+        if(this.charArray.length < blen){
+            this.charArray = new char[blen];
+        }
+        char[] out = this.charArray;
+
+        int chars = 0;
+        int pos = start;
+        while(pos < limit){
+            byte bVal = bBuf.get(pos);
+
+            if(bVal >= 0){
+                out[chars++] = (char) bVal;
+                pos++;
+                continue;
+            }
+
+            int first = bVal & BYTE_MASK;
+            char single = SINGLE_TABLE[first];
+            if(single != NOT_SINGLE){
+                out[chars++] = single;
+                pos++;
+                continue;
+            }
+
+            int row = LEAD_ROW[first];
+            if(row < 0 || pos + 1 >= limit) break;
+
+            int second = bBuf.get(pos + 1) & BYTE_MASK;
+            char ch = DOUBLE_TABLE[row * TRAIL_NUM + second];
+            if(ch == NO_CHAR) break;
+
+            out[chars++] = ch;
+            pos += 2;
+        }
+
+        if(pos < limit){
+            return super.decodeImpl(bBuf);
+        }
+
+        bBuf.position(limit);
+        String result = new String(out, 0, chars);
+
+        return result;
+    }
+
+}
@@ -0,0 +1,358 @@
+/*
+ * cubic Bezier easing curve
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.math;
+
+/**
+ * 3次ベジェ曲線による補間曲線。
+ *
+ * <p>始点(0,0)、終点(1,1)、および2つの制御点P1,P2からなる曲線を
+ * X座標からY座標への写像とみなし、補間の進行度を求める。
+ * VMDモーションファイルの補間パラメータはこの形式で表現される。
+ *
+ * <p>制御点のX座標は0以上1以下でなければならない。
+ * この条件の下で曲線のX座標は媒介変数に対し単調増加となる。
+ *
+ * <p>X座標に対応する媒介変数は、
+ * 生成時に求めたサンプル表から初期値を定め、
+ * ニュートン法で精度を上げることで求める。
+ * 傾きが緩やかで収束が見込めない場合は二分法を用いる。
+ * インスタンスは不変であり、評価時にオブジェクトを生成しない。
+ */
+public strictfp class MkBezier {
+
+    /** VMDにおける制御点座標の最大値。 */
+    public static final int VMD_MAX = 127;
+
+    private static final int VMD_LINEAR_P1 = 20;
+    private static final int VMD_LINEAR_P2 = 107;
+    private static final double LINEAR_P1 = (double) VMD_LINEAR_P1 / VMD_MAX;
+    private static final double LINEAR_P2 = (double) VMD_LINEAR_P2 / VMD_MAX;
+
+    /**
+     * 直線補間に相当する曲線。
+     *
+     * <p>制御点はVMDで直線補間に用いられる(20,20)、(107,107)に相当する。
+     */
+    public static final MkBezier LINEAR =
+            new MkBezier(LINEAR_P1, LINEAR_P1, LINEAR_P2, LINEAR_P2);
+
+    private static final int SAMPLE_NUM = 11;
+    private static final double SAMPLE_STEP = 1.0 / (SAMPLE_NUM - 1);
+
+    private static final int NEWTON_ITERATIONS = 4;
+    private static final double NEWTON_MIN_SLOPE = 1.0e-3;
+    private static final double BISECTION_PRECISION = 1.0e-14;
+
+    private static final double EPSILON = 1.0e-14;
+
+
+    private final double p1x;
+    private final double p1y;
+    private final double p2x;
+    private final double p2y;
+
+    private final double ax;
+    private final double bx;
+    private final double cx;
+    private final double ay;
+    private final double by;
+    private final double cy;
+
+    private final boolean linear;
+
+    private final double[] samples;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param p1x 制御点P1のX座標
+     * @param p1y 制御点P1のY座標
+     * @param p2x 制御点P2のX座標
+     * @param p2y 制御点P2のY座標
+     * @throws IllegalArgumentException 制御点のX座標が0以上1以下でない
+     */
+    public MkBezier(double p1x, double p1y, double p2x, double p2y)
+            throws IllegalArgumentException{
+        super();
+
+        if( ! (0.0 <= p1x && p1x <= 1.0 && 0.0 <= p2x && p2x <= 1.0) ){
+            throw new IllegalArgumentException();
+        }
+
+        this.p1x = p1x;
+        this.p1y = p1y;
+        this.p2x = p2x;
+        this.p2y = p2y;
+
+        this.cx = 3.0 * p1x;
+        this.bx = 3.0 * (p2x - p1x) - this.cx;
+        this.ax = 1.0 - this.cx - this.bx;
+
+        this.cy = 3.0 * p1y;
+        this.by = 3.0 * (p2y - p1y) - this.cy;
+        this.ay = 1.0 - this.cy - this.by;
+
+        this.linear = p1x == p1y && p2x == p2y;
+
+        this.samples = new double[SAMPLE_NUM];
+        for(int idx = 0; idx < SAMPLE_NUM; idx++){
+            this.samples[idx] = curveX(idx * SAMPLE_STEP);
+        }
+
+        return;
+    }
+
+
+    /**
+     * VMDの補間パラメータから曲線を生成する。
+     *
+     * <p>各パラメータは0から127の範囲で解釈され、範囲外の値は丸められる。
+     * 生成された曲線の制御点座標は、丸めたパラメータを127で割った値となる。
+     *
+     * <p>パラメータが(20,20)、(107,107)であれば{@link #LINEAR}を返す。
+     * それ以外の直線補間に相当するパラメータに対しては、
+     * 制御点座標を保持するため新たな曲線を生成する。
+     *
+     * @param p1x 制御点P1のX座標
+     * @param p1y 制御点P1のY座標
+     * @param p2x 制御点P2のX座標
+     * @param p2y 制御点P2のY座標
+     * @return 補間曲線
+     */
+    public static MkBezier fromVmd(int p1x, int p1y, int p2x, int p2y){
+        int x1 = clampVmd(p1x);
+        int y1 = clampVmd(p1y);
+        int x2 = clampVmd(p2x);
+        int y2 = clampVmd(p2y);
+
+        if(    x1 == VMD_LINEAR_P1 && y1 == VMD_LINEAR_P1
+            && x2 == VMD_LINEAR_P2 && y2 == VMD_LINEAR_P2 ){
+            return LINEAR;
+        }
+
+        MkBezier result = new MkBezier(
+                (double) x1 / VMD_MAX, (double) y1 / VMD_MAX,
+                (double) x2 / VMD_MAX, (double) y2 / VMD_MAX );
+
+        return result;
+    }
+
+    /**
+     * VMDの補間パラメータを有効範囲に丸める。
+     *
+     * @param val パラメータ
+     * @return 0以上127以下の値
+     */
+    private static int clampVmd(int val){
+        if(val < 0) return 0;
+        if(val > VMD_MAX) return VMD_MAX;
+        return val;
+    }
+
+    /**
+     * 制御点P1のX座標を返す。
+     *
+     * @return X座標
+     */
+    public double getP1x(){
+        return this.p1x;
+    }
+
+    /**
+     * 制御点P1のY座標を返す。
+     *
+     * @return Y座標
+     */
+    public double getP1y(){
+        return this.p1y;
+    }
+
+    /**
+     * 制御点P2のX座標を返す。
+     *
+     * @return X座標
+     */
+    public double getP2x(){
+        return this.p2x;
+    }
+
+    /**
+     * 制御点P2のY座標を返す。
+     *
+     * @return Y座標
+     */
+    public double getP2y(){
+        return this.p2y;
+    }
+
+    /**
+     * 直線補間に相当する曲線か判定する。
+     *
+     * @return 直線補間ならtrue
+     */
+    public boolean isLinear(){
+        return this.linear;
+    }
+
+    /**
+     * 媒介変数に対応する曲線のX座標を返す。
+     *
+     * @param t 媒介変数
+     * @return X座標
+     */
+    public double curveX(double t){
+        double result = ((this.ax * t + this.bx) * t + this.cx) * t;
+        return result;
+    }
+
+    /**
+     * 媒介変数に対応する曲線のY座標を返す。
+     *
+     * @param t 媒介変数
+     * @return Y座標
+     */
+    public double curveY(double t){
+        double result = ((this.ay * t + this.by) * t + this.cy) * t;
+        return result;
+    }
+
+    /**
+     * 媒介変数に対するX座標の微分値を返す。
+     *
+     * @param t 媒介変数
+     * @return 微分値
+     */
+    private double slopeX(double t){
+        double result = (3.0 * this.ax * t + 2.0 * this.bx) * t + this.cx;
+        return result;
+    }
+
+    /**
+     * X座標に対応する媒介変数を求める。
+     *
+     * @param x X座標。0以上1以下
+     * @return 媒介変数
+     */
+    public double solveT(double x){
+        if(x <= 0.0) return 0.0;
+        if(x >= 1.0) return 1.0;
+
+        int idx = 1;
+        while(idx < SAMPLE_NUM - 1 && this.samples[idx] <= x){
+            idx++;
+        }
+        int lowIdx = idx - 1;
+
+        double lowX  = this.samples[lowIdx];
+        double highX = this.samples[idx];
+        double lowT  = lowIdx * SAMPLE_STEP;
+        double highT = lowT + SAMPLE_STEP;
+
+        double guess = lowT;
+        double span = highX - lowX;
+        if(span > 0.0){
+            guess += (x - lowX) / span * SAMPLE_STEP;
+        }
+
+        if(slopeX(guess) >= NEWTON_MIN_SLOPE){
+            double t = newton(x, guess);
+            if(lowT <= t && t <= highT
+                    && StrictMath.abs(curveX(t) - x) <= EPSILON){
+                return t;
+            }
+        }
+
+        double result = bisection(x, lowT, highT);
+
+        return result;
+    }
+
+    /**
+     * ニュートン法により媒介変数を求める。
+     *
+     * @param x X座標
+     * @param guess 初期値
+     * @return 媒介変数
+     */
+    private double newton(double x, double guess){
+        double t = guess;
+        for(int ct = 0; ct < NEWTON_ITERATIONS; ct++){
+            double slope = slopeX(t);
+            if(slope == 0.0) break;
+            double diff = curveX(t) - x;
+            if(StrictMath.abs(diff) <= EPSILON) break;
+            t -= diff / slope;
+        }
+        return t;
+    }
+
+    /**
+     * 二分法により媒介変数を求める。
+     *
+     * @param x X座標
+     * @param lowT 探索範囲下限
+     * @param highT 探索範囲上限
+     * @return 媒介変数
+     */
+    private double bisection(double x, double lowT, double highT){
+        double low = lowT;
+        double high = highT;
+
+        while(high - low > BISECTION_PRECISION){
+            double mid = (low + high) / 2.0;
+            if(mid <= low || high <= mid) break;
+            if(curveX(mid) < x){
+                low = mid;
+            }else{
+                high = mid;
+            }
+        }
+
+        double result = (low + high) / 2.0;
+        return result;
+    }
+
+    /**
+     * X座標に対応する補間進行度を求める。
+     *
+     * <p>直線補間に相当する曲線ではX座標をそのまま返す。
+     *
+     * @param x X座標。0未満は0、1超は1とみなされる。
+     * @return 補間進行度。曲線のY座標
+     */
+    public double ease(double x){
+        if(x <= 0.0) return 0.0;
+        if(x >= 1.0) return 1.0;
+        if(this.linear) return x;
+
+        double t = solveT(x);
+        double result = curveY(t);
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString(){
+        StringBuilder result = new StringBuilder();
+
+        result.append("P1=(")
+              .append(this.p1x).append(", ").append(this.p1y)
+              .append(") P2=(")
+              .append(this.p2x).append(", ").append(this.p2y)
+              .append(')');
+
+        return result.toString();
+    }
+
+}
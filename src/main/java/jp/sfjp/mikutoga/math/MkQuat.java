@@ -17,7 +17,11 @@ public strictfp class MkQuat {
     private static final double HALF_PI = StrictMath.PI / 2.0;
     private static final double DBL_PI = StrictMath.PI * 2.0;
     private static final int STEP_BELOW = 5;
-    private static final double BELOWONE;
+    static final double BELOWONE;
+
+    static final double NLERP_THRESHOLD = 0.9995;
+    private static final int QUAT_STRIDE = 4;
+    private static final int POS_STRIDE = 3;
 
     static{
         double one = 1.0;
@@ -187,6 +191,531 @@ public static void inverse(MkQuat q, MkQuat result){
         return;
     }
 
+    /**
+     * 球面線形補間における始点側の重みを求める。
+     *
+     * @param theta 2つのクォータニオンのなす角
+     * @param sinTheta なす角の正弦
+     * @param t 補間進行度
+     * @return 重み
+     */
+    private static double slerpWeightA(double theta, double sinTheta,
+                                       double t){
+        double result = StrictMath.sin((1.0 - t) * theta) / sinTheta;
+        return result;
+    }
+
+    /**
+     * 球面線形補間における終点側の重みを求める。
+     *
+     * @param theta 2つのクォータニオンのなす角
+     * @param sinTheta なす角の正弦
+     * @param t 補間進行度
+     * @return 重み
+     */
+    private static double slerpWeightB(double theta, double sinTheta,
+                                       double t){
+        double result = StrictMath.sin(t * theta) / sinTheta;
+        return result;
+    }
+
+    /**
+     * 2つの単位クォータニオンを球面線形補間し格納する。
+     *
+     * <p>内積が負の場合は終点側の符号を反転し、短い経路を補間する。
+     * 2つのクォータニオンが十分近い場合は正規化線形補間で代用する。
+     * 入力の長さの誤差が蓄積しないよう、結果は正規化される。
+     *
+     * <p>引数は同一インスタンスを含んでもよい。
+     *
+     * @param qA 始点(t=0)
+     * @param qB 終点(t=1)
+     * @param t 補間進行度
+     * @param result 格納先
+     */
+    public static void slerp(MkQuat qA, MkQuat qB, double t, MkQuat result){
+        double dot = qA.q1 * qB.q1 + qA.q2 * qB.q2
+                   + qA.q3 * qB.q3 + qA.qw * qB.qw;
+        double sign = 1.0;
+        if(dot < 0.0){
+            dot = -dot;
+            sign = -1.0;
+        }
+
+        if(dot > NLERP_THRESHOLD){
+            nlerpImpl(qA, qB, t, sign, result);
+            return;
+        }
+
+        double theta = StrictMath.acos(dot);
+        double sinTheta = StrictMath.sin(theta);
+        double wa = slerpWeightA(theta, sinTheta, t);
+        double wb = slerpWeightB(theta, sinTheta, t) * sign;
+
+        double rq1 = wa * qA.q1 + wb * qB.q1;
+        double rq2 = wa * qA.q2 + wb * qB.q2;
+        double rq3 = wa * qA.q3 + wb * qB.q3;
+        double rqw = wa * qA.qw + wb * qB.qw;
+
+        double norm = StrictMath.sqrt(rq1 * rq1 + rq2 * rq2
+                                    + rq3 * rq3 + rqw * rqw);
+
+        result.q1 = rq1 / norm;
+        result.q2 = rq2 / norm;
+        result.q3 = rq3 / norm;
+        result.qw = rqw / norm;
+
+        return;
+    }
+
+    /**
+     * 2つのクォータニオンを正規化線形補間し格納する。
+     *
+     * <p>内積が負の場合は終点側の符号を反転し、短い経路を補間する。
+     * 球面線形補間より高速だが、角速度は一定にならない。
+     *
+     * <p>引数は同一インスタンスを含んでもよい。
+     *
+     * @param qA 始点(t=0)
+     * @param qB 終点(t=1)
+     * @param t 補間進行度
+     * @param result 格納先
+     */
+    public static void nlerp(MkQuat qA, MkQuat qB, double t, MkQuat result){
+        double dot = qA.q1 * qB.q1 + qA.q2 * qB.q2
+                   + qA.q3 * qB.q3 + qA.qw * qB.qw;
+        double sign = dot < 0.0 ? -1.0 : 1.0;
+        nlerpImpl(qA, qB, t, sign, result);
+        return;
+    }
+
+    /**
+     * 正規化線形補間の実体。
+     *
+     * @param qA 始点
+     * @param qB 終点
+     * @param t 補間進行度
+     * @param sign 終点側の符号
+     * @param result 格納先
+     */
+    private static void nlerpImpl(MkQuat qA, MkQuat qB, double t,
+                                  double sign, MkQuat result){
+        double wa = 1.0 - t;
+        double wb = t * sign;
+
+        double rq1 = wa * qA.q1 + wb * qB.q1;
+        double rq2 = wa * qA.q2 + wb * qB.q2;
+        double rq3 = wa * qA.q3 + wb * qB.q3;
+        double rqw = wa * qA.qw + wb * qB.qw;
+
+        double norm = StrictMath.sqrt(rq1 * rq1 + rq2 * rq2
+                                    + rq3 * rq3 + rqw * rqw);
+
+        result.q1 = rq1 / norm;
+        result.q2 = rq2 / norm;
+        result.q3 = rq3 / norm;
+        result.qw = rqw / norm;
+
+        return;
+    }
+
+    /**
+     * 配列上の2つの単位クォータニオンを球面線形補間し格納する。
+     *
+     * <p>各クォータニオンは虚部1,虚部2,虚部3,実部の順に
+     * 4要素連続して格納される。
+     * 補間の詳細は{@link #slerp(MkQuat, MkQuat, double, MkQuat)}
+     * と同じ。
+     * 入力と出力の格納位置は重なってもよい。
+     *
+     * @param qA 始点の配列
+     * @param offA 始点の格納位置
+     * @param qB 終点の配列
+     * @param offB 終点の格納位置
+     * @param t 補間進行度
+     * @param result 格納先配列
+     * @param offR 格納位置
+     */
+    public static void slerp(double[] qA, int offA,
+                             double[] qB, int offB,
+                             double t,
+                             double[] result, int offR ){
+        double a1 = qA[offA];
+        double a2 = qA[offA + 1];
+        double a3 = qA[offA + 2];
+        double aw = qA[offA + 3];
+
+        double b1 = qB[offB];
+        double b2 = qB[offB + 1];
+        double b3 = qB[offB + 2];
+        double bw = qB[offB + 3];
+
+        double dot = a1 * b1 + a2 * b2 + a3 * b3 + aw * bw;
+        double sign = 1.0;
+        if(dot < 0.0){
+            dot = -dot;
+            sign = -1.0;
+        }
+
+        double wa;
+        double wb;
+        if(dot > NLERP_THRESHOLD){
+            wa = 1.0 - t;
+            wb = t * sign;
+        }else{
+            double theta = StrictMath.acos(dot);
+            double sinTheta = StrictMath.sin(theta);
+            wa = slerpWeightA(theta, sinTheta, t);
+            wb = slerpWeightB(theta, sinTheta, t) * sign;
+        }
+
+        double r1 = wa * a1 + wb * b1;
+        double r2 = wa * a2 + wb * b2;
+        double r3 = wa * a3 + wb * b3;
+        double rw = wa * aw + wb * bw;
+
+        double norm = StrictMath.sqrt(r1 * r1 + r2 * r2
+                                    + r3 * r3 + rw * rw);
+        r1 /= norm;
+        r2 /= norm;
+        r3 /= norm;
+        rw /= norm;
+
+        result[offR]     = r1;
+        result[offR + 1] = r2;
+        result[offR + 2] = r3;
+        result[offR + 3] = rw;
+
+        return;
+    }
+
+    /**
+     * 配列上の2つの単位クォータニオンを球面線形補間し格納する。
+     *
+     * <p>演算は倍精度で行われる。
+     *
+     * @param qA 始点の配列
+     * @param offA 始点の格納位置
+     * @param qB 終点の配列
+     * @param offB 終点の格納位置
+     * @param t 補間進行度
+     * @param result 格納先配列
+     * @param offR 格納位置
+     * @see #slerp(double[], int, double[], int, double, double[], int)
+     */
+    public static void slerp(float[] qA, int offA,
+                             float[] qB, int offB,
+                             double t,
+                             float[] result, int offR ){
+        double a1 = qA[offA];
+        double a2 = qA[offA + 1];
+        double a3 = qA[offA + 2];
+        double aw = qA[offA + 3];
+
+        double b1 = qB[offB];
+        double b2 = qB[offB + 1];
+        double b3 = qB[offB + 2];
+        double bw = qB[offB + 3];
+
+        double dot = a1 * b1 + a2 * b2 + a3 * b3 + aw * bw;
+        double sign = 1.0;
+        if(dot < 0.0){
+            dot = -dot;
+            sign = -1.0;
+        }
+
+        double wa;
+        double wb;
+        if(dot > NLERP_THRESHOLD){
+            wa = 1.0 - t;
+            wb = t * sign;
+        }else{
+            double theta = StrictMath.acos(dot);
+            double sinTheta = StrictMath.sin(theta);
+            wa = slerpWeightA(theta, sinTheta, t);
+            wb = slerpWeightB(theta, sinTheta, t) * sign;
+        }
+
+        double r1 = wa * a1 + wb * b1;
+        double r2 = wa * a2 + wb * b2;
+        double r3 = wa * a3 + wb * b3;
+        double rw = wa * aw + wb * bw;
+
+        double norm = StrictMath.sqrt(r1 * r1 + r2 * r2
+                                    + r3 * r3 + rw * rw);
+        r1 /= norm;
+        r2 /= norm;
+        r3 /= norm;
+        rw /= norm;
+
+        result[offR]     = (float) r1;
+        result[offR + 1] = (float) r2;
+        result[offR + 2] = (float) r3;
+        result[offR + 3] = (float) rw;
+
+        return;
+    }
+
+    /**
+     * 配列上の複数のクォータニオン対を要素毎の進行度で球面線形補間する。
+     *
+     * <p>各配列の要素は連続して格納される。
+     * オブジェクトの生成は行わない。
+     *
+     * @param qA 始点の配列
+     * @param offA 始点の格納開始位置
+     * @param qB 終点の配列
+     * @param offB 終点の格納開始位置
+     * @param ts 補間進行度の配列
+     * @param offT 補間進行度の格納開始位置
+     * @param result 格納先配列
+     * @param offR 格納開始位置
+     * @param count クォータニオン対の数
+     * @see #slerp(double[], int, double[], int, double, double[], int)
+     */
+    public static void slerpArray(double[] qA, int offA,
+                                  double[] qB, int offB,
+                                  double[] ts, int offT,
+                                  double[] result, int offR,
+                                  int count ){
+        for(int idx = 0; idx < count; idx++){
+            int step = idx * QUAT_STRIDE;
+            slerp(qA, offA + step, qB, offB + step, ts[offT + idx],
+                  result, offR + step);
+        }
+        return;
+    }
+
+    /**
+     * 配列上の複数のクォータニオン対を要素毎の進行度で球面線形補間する。
+     *
+     * @param qA 始点の配列
+     * @param offA 始点の格納開始位置
+     * @param qB 終点の配列
+     * @param offB 終点の格納開始位置
+     * @param ts 補間進行度の配列
+     * @param offT 補間進行度の格納開始位置
+     * @param result 格納先配列
+     * @param offR 格納開始位置
+     * @param count クォータニオン対の数
+     * @see #slerpArray(double[], int, double[], int, double[], int,
+     *     double[], int, int)
+     */
+    public static void slerpArray(float[] qA, int offA,
+                                  float[] qB, int offB,
+                                  float[] ts, int offT,
+                                  float[] result, int offR,
+                                  int count ){
+        for(int idx = 0; idx < count; idx++){
+            int step = idx * QUAT_STRIDE;
+            slerp(qA, offA + step, qB, offB + step, ts[offT + idx],
+                  result, offR + step);
+        }
+        return;
+    }
+
+    /**
+     * 配列上の複数のクォータニオン対を要素毎の進行度で
+     * 正規化線形補間する。
+     *
+     * <p>分岐を持たない単純なループであり、
+     * JITコンパイラによるベクトル化が期待できる。
+     *
+     * @param qA 始点の配列
+     * @param offA 始点の格納開始位置
+     * @param qB 終点の配列
+     * @param offB 終点の格納開始位置
+     * @param ts 補間進行度の配列
+     * @param offT 補間進行度の格納開始位置
+     * @param result 格納先配列
+     * @param offR 格納開始位置
+     * @param count クォータニオン対の数
+     * @see #nlerp(MkQuat, MkQuat, double, MkQuat)
+     */
+    public static void nlerpArray(double[] qA, int offA,
+                                  double[] qB, int offB,
+                                  double[] ts, int offT,
+                                  double[] result, int offR,
+                                  int count ){
+        for(int idx = 0; idx < count; idx++){
+            int ia = offA + idx * QUAT_STRIDE;
+            int ib = offB + idx * QUAT_STRIDE;
+            int ir = offR + idx * QUAT_STRIDE;
+            double t = ts[offT + idx];
+
+            double a1 = qA[ia];
+            double a2 = qA[ia + 1];
+            double a3 = qA[ia + 2];
+            double aw = qA[ia + 3];
+            double b1 = qB[ib];
+            double b2 = qB[ib + 1];
+            double b3 = qB[ib + 2];
+            double bw = qB[ib + 3];
+
+            double dot = a1 * b1 + a2 * b2 + a3 * b3 + aw * bw;
+            double wa = 1.0 - t;
+            double wb = StrictMath.copySign(t, dot);
+
+            double r1 = wa * a1 + wb * b1;
+            double r2 = wa * a2 + wb * b2;
+            double r3 = wa * a3 + wb * b3;
+            double rw = wa * aw + wb * bw;
+
+            double norm = StrictMath.sqrt(r1 * r1 + r2 * r2
+                                        + r3 * r3 + rw * rw);
+
+            result[ir]     = r1 / norm;
+            result[ir + 1] = r2 / norm;
+            result[ir + 2] = r3 / norm;
+            result[ir + 3] = rw / norm;
+        }
+
+        return;
+    }
+
+    /**
+     * 配列上の複数のクォータニオン対を要素毎の進行度で
+     * 正規化線形補間する。
+     *
+     * <p>演算は倍精度で行われる。
+     *
+     * @param qA 始点の配列
+     * @param offA 始点の格納開始位置
+     * @param qB 終点の配列
+     * @param offB 終点の格納開始位置
+     * @param ts 補間進行度の配列
+     * @param offT 補間進行度の格納開始位置
+     * @param result 格納先配列
+     * @param offR 格納開始位置
+     * @param count クォータニオン対の数
+     * @see #nlerpArray(double[], int, double[], int, double[], int,
+     *     double[], int, int)
+     */
+    public static void nlerpArray(float[] qA, int offA,
+                                  float[] qB, int offB,
+                                  float[] ts, int offT,
+                                  float[] result, int offR,
+                                  int count ){
+        for(int idx = 0; idx < count; idx++){
+            int ia = offA + idx * QUAT_STRIDE;
+            int ib = offB + idx * QUAT_STRIDE;
+            int ir = offR + idx * QUAT_STRIDE;
+            double t = ts[offT + idx];
+
+            double a1 = qA[ia];
+            double a2 = qA[ia + 1];
+            double a3 = qA[ia + 2];
+            double aw = qA[ia + 3];
+            double b1 = qB[ib];
+            double b2 = qB[ib + 1];
+            double b3 = qB[ib + 2];
+            double bw = qB[ib + 3];
+
+            double dot = a1 * b1 + a2 * b2 + a3 * b3 + aw * bw;
+            double wa = 1.0 - t;
+            double wb = StrictMath.copySign(t, dot);
+
+            double r1 = wa * a1 + wb * b1;
+            double r2 = wa * a2 + wb * b2;
+            double r3 = wa * a3 + wb * b3;
+            double rw = wa * aw + wb * bw;
+
+            double norm = StrictMath.sqrt(r1 * r1 + r2 * r2
+                                        + r3 * r3 + rw * rw);
+
+            result[ir]     = (float) (r1 / norm);
+            result[ir + 1] = (float) (r2 / norm);
+            result[ir + 2] = (float) (r3 / norm);
+            result[ir + 3] = (float) (rw / norm);
+        }
+
+        return;
+    }
+
+    /**
+     * 配列上の複数のクォータニオン対の積を求め格納する。
+     *
+     * <p>各要素について{@link #mul(MkQuat, MkQuat, MkQuat)}と同じ演算を行う。
+     * 分岐を持たない単純なループであり、
+     * JITコンパイラによるベクトル化が期待できる。
+     * 出力の格納位置は入力のいずれかと完全に一致してもよいが、
+     * ずれて重なってはならない。
+     *
+     * @param qA 積前項の配列
+     * @param offA 積前項の格納開始位置
+     * @param qB 積後項の配列
+     * @param offB 積後項の格納開始位置
+     * @param result 格納先配列
+     * @param offR 格納開始位置
+     * @param count クォータニオン対の数
+     */
+    public static void mulArray(double[] qA, int offA,
+                                double[] qB, int offB,
+                                double[] result, int offR,
+                                int count ){
+        for(int idx = 0; idx < count; idx++){
+            int ia = offA + idx * QUAT_STRIDE;
+            int ib = offB + idx * QUAT_STRIDE;
+            int ir = offR + idx * QUAT_STRIDE;
+
+            double aq1 = qA[ia];
+            double aq2 = qA[ia + 1];
+            double aq3 = qA[ia + 2];
+            double aqw = qA[ia + 3];
+            double bq1 = qB[ib];
+            double bq2 = qB[ib + 1];
+            double bq3 = qB[ib + 2];
+            double bqw = qB[ib + 3];
+
+            result[ir]     = aq2 * bq3 - aq3 * bq2 + aqw * bq1 + aq1 * bqw;
+            result[ir + 1] = aq3 * bq1 - aq1 * bq3 + aqw * bq2 + aq2 * bqw;
+            result[ir + 2] = aq1 * bq2 - aq2 * bq1 + aqw * bq3 + aq3 * bqw;
+            result[ir + 3] = aqw * bqw - aq1 * bq1 - aq2 * bq2 - aq3 * bq3;
+        }
+
+        return;
+    }
+
+    /**
+     * 配列上の複数のクォータニオン対の積を求め格納する。
+     *
+     * <p>演算は単精度で行われる。
+     *
+     * @param qA 積前項の配列
+     * @param offA 積前項の格納開始位置
+     * @param qB 積後項の配列
+     * @param offB 積後項の格納開始位置
+     * @param result 格納先配列
+     * @param offR 格納開始位置
+     * @param count クォータニオン対の数
+     * @see #mulArray(double[], int, double[], int, double[], int, int)
+     */
+    public static void mulArray(float[] qA, int offA,
+                                float[] qB, int offB,
+                                float[] result, int offR,
+                                int count ){
+        for(int idx = 0; idx < count; idx++){
+            int ia = offA + idx * QUAT_STRIDE;
+            int ib = offB + idx * QUAT_STRIDE;
+            int ir = offR + idx * QUAT_STRIDE;
+
+            float aq1 = qA[ia];
+            float aq2 = qA[ia + 1];
+            float aq3 = qA[ia + 2];
+            float aqw = qA[ia + 3];
+            float bq1 = qB[ib];
+            float bq2 = qB[ib + 1];
+            float bq3 = qB[ib + 2];
+            float bqw = qB[ib + 3];
+
+            result[ir]     = aq2 * bq3 - aq3 * bq2 + aqw * bq1 + aq1 * bqw;
+            result[ir + 1] = aq3 * bq1 - aq1 * bq3 + aqw * bq2 + aq2 * bqw;
+            result[ir + 2] = aq1 * bq2 - aq2 * bq1 + aqw * bq3 + aq3 * bqw;
+            result[ir + 3] = aqw * bqw - aq1 * bq1 - aq2 * bq2 - aq3 * bq3;
+        }
+
+        return;
+    }
 
     /**
      * 虚部1を返す。
@@ -515,6 +1044,103 @@ public void rotatePos(MkPos3D pos, MkPos3D result){
         return;
     }
 
+    /**
+     * 回転クォータニオンを用いて配列上の複数の点座標を回転させる。
+     *
+     * <p>各点座標はX,Y,Zの順に3要素連続して格納される。
+     * 回転は事前に求めた回転行列により行われるため、
+     * 単位クォータニオンでなければならない。
+     * オブジェクトの生成は行わない。
+     * 出力の格納位置は入力と完全に一致してもよいが、
+     * ずれて重なってはならない。
+     *
+     * @param src 点座標の配列
+     * @param offSrc 点座標の格納開始位置
+     * @param dst 格納先配列
+     * @param offDst 格納開始位置
+     * @param count 点の数
+     * @see #rotatePos(MkPos3D, MkPos3D)
+     */
+    public void rotatePosArray(double[] src, int offSrc,
+                               double[] dst, int offDst,
+                               int count ){
+        double qx = this.q1;
+        double qy = this.q2;
+        double qz = this.q3;
+        double qqw = this.qw;
+
+        double m00 = 1.0 - 2.0 * (qy * qy + qz * qz);
+        double m01 = 2.0 * (qx * qy - qqw * qz);
+        double m02 = 2.0 * (qqw * qy + qx * qz);
+        double m10 = 2.0 * (qx * qy + qqw * qz);
+        double m11 = 1.0 - 2.0 * (qx * qx + qz * qz);
+        double m12 = 2.0 * (qy * qz - qqw * qx);
+        double m20 = 2.0 * (qx * qz - qqw * qy);
+        double m21 = 2.0 * (qqw * qx + qy * qz);
+        double m22 = 1.0 - 2.0 * (qx * qx + qy * qy);
+
+        for(int idx = 0; idx < count; idx++){
+            int is = offSrc + idx * POS_STRIDE;
+            int id = offDst + idx * POS_STRIDE;
+
+            double px = src[is];
+            double py = src[is + 1];
+            double pz = src[is + 2];
+
+            dst[id]     = m00 * px + m01 * py + m02 * pz;
+            dst[id + 1] = m10 * px + m11 * py + m12 * pz;
+            dst[id + 2] = m20 * px + m21 * py + m22 * pz;
+        }
+
+        return;
+    }
+
+    /**
+     * 回転クォータニオンを用いて配列上の複数の点座標を回転させる。
+     *
+     * <p>演算は単精度で行われる。
+     *
+     * @param src 点座標の配列
+     * @param offSrc 点座標の格納開始位置
+     * @param dst 格納先配列
+     * @param offDst 格納開始位置
+     * @param count 点の数
+     * @see #rotatePosArray(double[], int, double[], int, int)
+     */
+    public void rotatePosArray(float[] src, int offSrc,
+                               float[] dst, int offDst,
+                               int count ){
+        double qx = this.q1;
+        double qy = this.q2;
+        double qz = this.q3;
+        double qqw = this.qw;
+
+        float m00 = (float) (1.0 - 2.0 * (qy * qy + qz * qz));
+        float m01 = (float) (2.0 * (qx * qy - qqw * qz));
+        float m02 = (float) (2.0 * (qqw * qy + qx * qz));
+        float m10 = (float) (2.0 * (qx * qy + qqw * qz));
+        float m11 = (float) (1.0 - 2.0 * (qx * qx + qz * qz));
+        float m12 = (float) (2.0 * (qy * qz - qqw * qx));
+        float m20 = (float) (2.0 * (qx * qz - qqw * qy));
+        float m21 = (float) (2.0 * (qqw * qx + qy * qz));
+        float m22 = (float) (1.0 - 2.0 * (qx * qx + qy * qy));
+
+        for(int idx = 0; idx < count; idx++){
+            int is = offSrc + idx * POS_STRIDE;
+            int id = offDst + idx * POS_STRIDE;
+
+            float px = src[is];
+            float py = src[is + 1];
+            float pz = src[is + 2];
+
+            dst[id]     = m00 * px + m01 * py + m02 * pz;
+            dst[id + 1] = m10 * px + m11 * py + m12 * pz;
+            dst[id + 2] = m20 * px + m21 * py + m22 * pz;
+        }
+
+        return;
+    }
+
     /**
      * {@inheritDoc}
      *
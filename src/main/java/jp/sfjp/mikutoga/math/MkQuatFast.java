@@ -0,0 +1,290 @@
+/*
+ * fast quaternion operations
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.math;
+
+/**
+ * クォータニオンに関する演算の高速版。
+ *
+ * <p>{@link MkQuat}の主な演算と同じ結果を、
+ * strictfpおよび{@link StrictMath}を用いずに求める。
+ * 三角関数等は{@link Math}によりJITコンパイラの組み込み関数となり得るため、
+ * 実行環境によっては大幅に高速となる。
+ *
+ * <p>演算結果は実行環境によって最下位ビット程度異なり得るため、
+ * ビット単位の再現性が必要な場面では{@link MkQuat}を用いること。
+ *
+ * <p>各メソッドはオブジェクトを生成しない。
+ */
+public final class MkQuatFast {
+
+    private static final double HALF_PI = Math.PI / 2.0;
+    private static final double DBL_PI = Math.PI * 2.0;
+
+
+    /**
+     * 隠しコンストラクタ。
+     */
+    private MkQuatFast(){
+        assert false;
+        throw new AssertionError();
+    }
+
+
+    /**
+     * クォータニオンの絶対値を返す。
+     *
+     * @param q クォータニオン
+     * @return クォータニオンの絶対値
+     * @see MkQuat#abs()
+     */
+    public static double abs(MkQuat q){
+        double q1 = q.getQ1();
+        double q2 = q.getQ2();
+        double q3 = q.getQ3();
+        double qw = q.getQW();
+        double result = Math.sqrt(q1 * q1 + q2 * q2 + q3 * q3 + qw * qw);
+        return result;
+    }
+
+    /**
+     * 正規化(符号付き単位化)を行う。
+     *
+     * <p>引数は同一インスタンスでもよい。
+     *
+     * @param q クォータニオン
+     * @param result 正規化されたクォータニオン
+     * @see MkQuat#normalize(MkQuat, MkQuat)
+     */
+    public static void normalize(MkQuat q, MkQuat result){
+        double q1 = q.getQ1();
+        double q2 = q.getQ2();
+        double q3 = q.getQ3();
+        double qw = q.getQW();
+
+        double norm = Math.sqrt(q1 * q1 + q2 * q2 + q3 * q3 + qw * qw);
+
+        result.setQ123W(q1 / norm, q2 / norm, q3 / norm, qw / norm);
+
+        return;
+    }
+
+    /**
+     * YXZオイラー角を読み込む。
+     *
+     * @param xRot X軸回転量(ラジアン)。第2軸
+     * @param yRot Y軸回転量(ラジアン)。第1軸
+     * @param zRot Z軸回転量(ラジアン)。第3軸
+     * @param result 格納先
+     * @see MkQuat#setEulerYXZ(double, double, double)
+     */
+    public static void setEulerYXZ(double xRot, double yRot, double zRot,
+                                   MkQuat result ){
+        double hx = xRot / 2.0;
+        double hy = yRot / 2.0;
+        double hz = zRot / 2.0;
+
+        double chx = Math.cos(hx);
+        double chy = Math.cos(hy);
+        double chz = Math.cos(hz);
+
+        double shx = Math.sin(hx);
+        double shy = Math.sin(hy);
+        double shz = Math.sin(hz);
+
+        double q1 = chy * shx * chz + shy * chx * shz;
+        double q2 = shy * chx * chz - chy * shx * shz;
+        double q3 = chy * chx * shz - shy * shx * chz;
+        double qw = chy * chx * chz + shy * shx * shz;
+
+        result.setQ123W(q1, q2, q3, qw);
+
+        return;
+    }
+
+    /**
+     * YXZオイラー角を読み込む。
+     *
+     * @param rot YXZオイラー角
+     * @param result 格納先
+     * @see MkQuat#setEulerYXZ(EulerYXZ)
+     */
+    public static void setEulerYXZ(EulerYXZ rot, MkQuat result){
+        setEulerYXZ(rot.getXRot(), rot.getYRot(), rot.getZRot(), result);
+        return;
+    }
+
+    /**
+     * クォータニオンをYXZオイラー角へと変換する。
+     *
+     * <p>ジンバルロック時のYZ配分が指定可能。
+     *
+     * @param q クォータニオン
+     * @param result YXZオイラー角
+     * @param oldY ジンバルロック時(オイラー角Xが直角etc.)
+     *     に使われるY軸回転量
+     * @see MkQuat#toEulerYXZ(EulerYXZ, double)
+     */
+    public static void toEulerYXZ(MkQuat q, EulerYXZ result, double oldY){
+        double qx = q.getQ1();
+        double qy = q.getQ2();
+        double qz = q.getQ3();
+        double qqw = q.getQW();
+
+        double qx2 = qx * qx;
+        double qy2 = qy * qy;
+        double qz2 = qz * qz;
+
+        double qwx = qqw * qx;
+        double qwy = qqw * qy;
+        double qwz = qqw * qz;
+
+        double qxy = qx * qy;
+        double qxz = qx * qz;
+        double qyz = qy * qz;
+
+        double m00 = 1.0 - 2.0 * (qy2 + qz2);
+        double m01 = 2.0 * (qxy - qwz);
+        double m02 = 2.0 * (qwy + qxz);
+
+        double m10 = 2.0 * (qxy + qwz);
+        double m11 = 1.0 - 2.0 * (qx2 + qz2);
+        double m12 = 2.0 * (qyz - qwx);
+
+        double m22 = 1.0 - 2.0 * (qx2 + qy2);
+
+        double resultX;
+        double resultY;
+        double resultZ;
+
+        // Y,Zが一意に定まらない場合
+        if(Math.abs(m12) >= MkQuat.BELOWONE){
+            resultX = -Math.copySign(HALF_PI, m12);
+
+            resultY = oldY;
+
+            resultZ = Math.atan2(-m01, m00);
+            if(resultX >= 0.0) resultZ += resultY;
+            else               resultZ -= resultY;
+
+            if(Math.abs(resultZ) > Math.PI){
+                resultZ -= Math.copySign(DBL_PI, resultZ);
+            }
+        }else{
+            resultX = Math.asin(-m12);
+            resultY = Math.atan2(m02, m22);
+            resultZ = Math.atan2(m10, m11);
+        }
+
+        result.setRot(resultX, resultY, resultZ);
+
+        return;
+    }
+
+    /**
+     * クォータニオンをYXZオイラー角へと変換する。
+     *
+     * @param q クォータニオン
+     * @param result YXZオイラー角
+     * @see MkQuat#toEulerYXZ(EulerYXZ)
+     */
+    public static void toEulerYXZ(MkQuat q, EulerYXZ result){
+        toEulerYXZ(q, result, 0.0);
+        return;
+    }
+
+    /**
+     * 回転クォータニオンを用いて点座標を回転させる。
+     *
+     * <p>単位クォータニオンを前提に、
+     * 虚部ベクトルとの外積2回で回転を求める。
+     * 座標インスタンスは同一でもよい。
+     *
+     * @param q 回転クォータニオン
+     * @param pos 点座標
+     * @param result 格納先
+     * @see MkQuat#rotatePos(MkPos3D, MkPos3D)
+     */
+    public static void rotatePos(MkQuat q, MkPos3D pos, MkPos3D result){
+        double qx = q.getQ1();
+        double qy = q.getQ2();
+        double qz = q.getQ3();
+        double qqw = q.getQW();
+
+        double px = pos.getXpos();
+        double py = pos.getYpos();
+        double pz = pos.getZpos();
+
+        // t = 2 * (q × p)
+        double tx = 2.0 * (qy * pz - qz * py);
+        double ty = 2.0 * (qz * px - qx * pz);
+        double tz = 2.0 * (qx * py - qy * px);
+
+        // p + w * t + q × t
+        double rx = px + qqw * tx + (qy * tz - qz * ty);
+        double ry = py + qqw * ty + (qz * tx - qx * tz);
+        double rz = pz + qqw * tz + (qx * ty - qy * tx);
+
+        result.setPosition(rx, ry, rz);
+
+        return;
+    }
+
+    /**
+     * 2つの単位クォータニオンを球面線形補間し格納する。
+     *
+     * <p>引数は同一インスタンスを含んでもよい。
+     *
+     * @param qA 始点(t=0)
+     * @param qB 終点(t=1)
+     * @param t 補間進行度
+     * @param result 格納先
+     * @see MkQuat#slerp(MkQuat, MkQuat, double, MkQuat)
+     */
+    public static void slerp(MkQuat qA, MkQuat qB, double t, MkQuat result){
+        double a1 = qA.getQ1();
+        double a2 = qA.getQ2();
+        double a3 = qA.getQ3();
+        double aw = qA.getQW();
+
+        double b1 = qB.getQ1();
+        double b2 = qB.getQ2();
+        double b3 = qB.getQ3();
+        double bw = qB.getQW();
+
+        double dot = a1 * b1 + a2 * b2 + a3 * b3 + aw * bw;
+        double sign = 1.0;
+        if(dot < 0.0){
+            dot = -dot;
+            sign = -1.0;
+        }
+
+        double wa;
+        double wb;
+        if(dot > MkQuat.NLERP_THRESHOLD){
+            wa = 1.0 - t;
+            wb = t * sign;
+        }else{
+            double theta = Math.acos(dot);
+            double sinTheta = Math.sin(theta);
+            wa = Math.sin((1.0 - t) * theta) / sinTheta;
+            wb = Math.sin(t * theta) / sinTheta * sign;
+        }
+
+        double r1 = wa * a1 + wb * b1;
+        double r2 = wa * a2 + wb * b2;
+        double r3 = wa * a3 + wb * b3;
+        double rw = wa * aw + wb * bw;
+
+        double norm = Math.sqrt(r1 * r1 + r2 * r2 + r3 * r3 + rw * rw);
+
+        result.setQ123W(r1 / norm, r2 / norm, r3 / norm, rw / norm);
+
+        return;
+    }
+
+}
@@ -40,6 +40,28 @@ public final class PmdConst {
     public static final int MAXBYTES_JOINTNAME = 20;
 
 
+    /** 頂点情報1件あたりのバイト長。 */
+    public static final int BYTES_VERTEX = 38;
+
+    /** 面を構成する頂点ID1件あたりのバイト長。 */
+    public static final int BYTES_SURFACE_VERTEX = 2;
+
+    /** 材質情報1件あたりのバイト長。 */
+    public static final int BYTES_MATERIAL = 70;
+
+    /** ボーン情報1件あたりのバイト長。 */
+    public static final int BYTES_BONE = 39;
+
+    /** モーフ頂点情報1件あたりのバイト長。 */
+    public static final int BYTES_MORPH_VERTEX = 16;
+
+    /** 剛体情報1件あたりのバイト長。 */
+    public static final int BYTES_RIGID = 83;
+
+    /** ジョイント情報1件あたりのバイト長。 */
+    public static final int BYTES_JOINT = 124;
+
+
     /**
      * ボーン最大数。
      * (Id : 0 - 0xfffe)
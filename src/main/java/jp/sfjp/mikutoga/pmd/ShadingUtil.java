@@ -24,7 +24,8 @@ public final class ShadingUtil {
     /** スフィアマップファイル名(加算)拡張子。 */
     public static final String EXT_SPA = ".spa";
 
-    private static final String SEPARATOR = Pattern.quote("*");
+    private static final String DELIMITER = "*";
+    private static final String SEPARATOR = Pattern.quote(DELIMITER);
     private static final Pattern SPLITTER = Pattern.compile(SEPARATOR);
 
 
@@ -86,4 +87,39 @@ public static String[] splitShadingFileInfo(String shadingFile) {
         return result;
     }
 
+    /**
+     * テクスチャファイル名とスフィアマップファイル名を
+     * シェーディング用ファイル情報文字列に結合する。
+     *
+     * <p>{@link #splitShadingFileInfo(String)}の逆変換となるよう、
+     * 片方のファイル名が空文字列の場合でも
+     * 分離時に元の配分が復元できない場合は「*」を付加する。
+     *
+     * @param textureFile テクスチャファイル名。無ければ空文字列。
+     * @param sphereFile スフィアマップファイル名。無ければ空文字列。
+     * @return シェーディング用ファイル情報
+     */
+    public static String joinShadingFileInfo(String textureFile,
+                                             String sphereFile ){
+        String result;
+
+        if(sphereFile.isEmpty()){
+            if(isSpheremapFile(textureFile)){
+                result = textureFile + DELIMITER;
+            }else{
+                result = textureFile;
+            }
+        }else if(textureFile.isEmpty()){
+            if(isSpheremapFile(sphereFile)){
+                result = sphereFile;
+            }else{
+                result = DELIMITER + sphereFile;
+            }
+        }else{
+            result = textureFile + DELIMITER + sphereFile;
+        }
+
+        return result;
+    }
+
 }
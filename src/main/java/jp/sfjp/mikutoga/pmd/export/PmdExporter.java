@@ -0,0 +1,1095 @@
+/*
+ * pmd file exporter
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.pmd.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ShortBuffer;
+import jp.sfjp.mikutoga.bin.export.BinaryExporter;
+import jp.sfjp.mikutoga.bin.export.IllegalTextExportException;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.pmd.PmdConst;
+import jp.sfjp.mikutoga.pmd.ShadingUtil;
+import jp.sfjp.mikutoga.pmd.parser.PmdBoneHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdJointHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdMaterialHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdMorphHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdRigidHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdShapeHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdSurfaceBulkHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdUnifiedHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdVertexBulkHandler;
+
+/**
+ * PMDモデルファイルのエクスポーター。
+ *
+ * <p>PMDパーサ用の各種ハンドラを実装しており、
+ * パーサが通知するのと同じ順序で通知を受け取ることにより
+ * PMDモデルファイルを出力する。
+ * パーサの全ハンドラに登録すれば、パース結果をそのまま書き戻せる。
+ * 頂点と面の一括通知ハンドラとして登録してもよい。
+ *
+ * <p>出力内容はいったん内部のブロックバッファに蓄えられ、
+ * {@link #BLOCK_SIZE}を超えた時点およびパース終了時に
+ * 出力ストリームへ一度に書き込まれる。
+ *
+ * <p>文字列の余白は0x00で埋められる。
+ * モデル説明文の改行はCRLFに、ボーングループ名の末尾には
+ * LFが付加された形で出力される。
+ *
+ * <p>出力ストリームへの書き込みで発生したIOエラーは
+ * {@link UncheckedIOException}で通知される。
+ * 固定長に収まらない文字列や符号化できない文字列は
+ * {@link MmdFormatException}で通知される。
+ *
+ * <p>出力ストリームは閉じられない。
+ */
+public class PmdExporter
+        implements PmdUnifiedHandler,
+                   PmdVertexBulkHandler,
+                   PmdSurfaceBulkHandler,
+                   Flushable {
+
+    /** 出力ストリームへ一度に書き込むおおよそのバイト長。 */
+    public static final int BLOCK_SIZE = 64 * 1024;
+
+    private static final byte[] NULLFILLER = { (byte)0x00 };
+
+    private static final String CRLF = "\r\n";
+    private static final String LF = "\n";
+
+    private static final int TRIVTX = 3;
+    private static final int VEC3 = 3;
+    private static final int VEC2 = 2;
+
+    private static final int RIGID_FLOATS = 14;
+
+
+    private final OutputStream ostream;
+    private final ByteArrayOutputStream block;
+    private final BinaryExporter exporter;
+
+    private int toonIdx;
+    private String textureFile;
+    private String sphereFile;
+
+    private String boneName;
+    private byte boneKind;
+
+    private int ikBoneId;
+    private int ikTargetId;
+    private int ikDepth;
+    private float ikWeight;
+
+    private String morphName;
+    private byte morphType;
+
+    private String rigidName;
+    private int rigidGroupId;
+    private int rigidBoneId;
+    private byte rigidShape;
+    private final float[] rigidVals = new float[RIGID_FLOATS];
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param ostream 出力ストリーム
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdExporter(OutputStream ostream) throws NullPointerException{
+        super();
+
+        if(ostream == null) throw new NullPointerException();
+        this.ostream = ostream;
+
+        this.block = new ByteArrayOutputStream(BLOCK_SIZE);
+        this.exporter = new BinaryExporter(this.block);
+
+        return;
+    }
+
+
+    /**
+     * ブロックバッファに蓄えられた内容を出力ストリームに書き込み、
+     * 出力ストリームをフラッシュする。
+     *
+     * @throws IOException 出力エラー
+     */
+    @Override
+    public void flush() throws IOException{
+        this.block.writeTo(this.ostream);
+        this.block.reset();
+        this.ostream.flush();
+        return;
+    }
+
+    /**
+     * ブロックバッファが十分に溜まっていれば出力ストリームに書き込む。
+     *
+     * @throws UncheckedIOException 出力エラー
+     */
+    private void flushIfFull() throws UncheckedIOException{
+        if(this.block.size() < BLOCK_SIZE) return;
+
+        try{
+            this.block.writeTo(this.ostream);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+        this.block.reset();
+
+        return;
+    }
+
+    /**
+     * byte値を出力する。
+     *
+     * @param iVal int値。上位24bitは捨てられる。
+     */
+    private void dumpByte(int iVal){
+        try{
+            this.exporter.dumpByte(iVal);
+        }catch(IOException e){
+            assert false;  // これはない
+            throw new AssertionError(e);
+        }
+        return;
+    }
+
+    /**
+     * short値をリトルエンディアンで出力する。
+     *
+     * @param iVal int値。上位16bitは捨てられる。
+     */
+    private void dumpShort(int iVal){
+        try{
+            this.exporter.dumpLeShort(iVal);
+        }catch(IOException e){
+            assert false;  // これはない
+            throw new AssertionError(e);
+        }
+        return;
+    }
+
+    /**
+     * int値をリトルエンディアンで出力する。
+     *
+     * @param iVal int値
+     */
+    private void dumpInt(int iVal){
+        try{
+            this.exporter.dumpLeInt(iVal);
+        }catch(IOException e){
+            assert false;  // これはない
+            throw new AssertionError(e);
+        }
+        return;
+    }
+
+    /**
+     * float値をリトルエンディアンで出力する。
+     *
+     * @param fVal float値
+     */
+    private void dumpFloat(float fVal){
+        try{
+            this.exporter.dumpLeFloat(fVal);
+        }catch(IOException e){
+            assert false;  // これはない
+            throw new AssertionError(e);
+        }
+        return;
+    }
+
+    /**
+     * 3つのfloat値をリトルエンディアンで出力する。
+     *
+     * @param fVal1 float値その1
+     * @param fVal2 float値その2
+     * @param fVal3 float値その3
+     */
+    private void dumpFloat3(float fVal1, float fVal2, float fVal3){
+        dumpFloat(fVal1);
+        dumpFloat(fVal2);
+        dumpFloat(fVal3);
+        return;
+    }
+
+    /**
+     * 文字列を固定バイト長で出力する。
+     *
+     * @param text 文字列
+     * @param maxBytes 固定バイト長
+     * @throws MmdFormatException 文字列が固定長に収まらない、
+     *     もしくは符号化できない。
+     */
+    private void dumpText(String text, int maxBytes)
+            throws MmdFormatException{
+        try{
+            this.exporter.dumpFixedW31j(text, maxBytes, NULLFILLER);
+        }catch(IllegalTextExportException e){
+            MmdFormatException ex = new MmdFormatException(e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }catch(IOException e){
+            assert false;  // これはない
+            throw new AssertionError(e);
+        }
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     * @param loops {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void loopStart(ParseStage stage, int loops)
+            throws MmdFormatException{
+        if(stage == PmdShapeHandler.VERTEX_LIST){
+            dumpInt(loops);
+        }else if(stage == PmdShapeHandler.SURFACE_LIST){
+            dumpInt(loops * TRIVTX);
+        }else if(stage == PmdMaterialHandler.MATERIAL_LIST){
+            dumpInt(loops);
+        }else if(stage == PmdBoneHandler.BONE_LIST){
+            dumpShort(loops);
+        }else if(stage == PmdBoneHandler.IK_LIST){
+            dumpShort(loops);
+        }else if(stage == PmdBoneHandler.IKCHAIN_LIST){
+            dumpIkHeader(loops);
+        }else if(stage == PmdMorphHandler.MORPH_LIST){
+            dumpShort(loops);
+        }else if(stage == PmdMorphHandler.MORPHVERTEX_LIST){
+            dumpMorphHeader(loops);
+        }else if(stage == PmdMorphHandler.MORPHORDER_LIST){
+            dumpByte(loops);
+        }else if(stage == PmdBoneHandler.BONEGROUP_LIST){
+            dumpByte(loops);
+        }else if(stage == PmdBoneHandler.GROUPEDBONE_LIST){
+            dumpInt(loops);
+        }else if(stage == PmdRigidHandler.RIGID_LIST){
+            dumpInt(loops);
+        }else if(stage == PmdJointHandler.JOINT_LIST){
+            dumpInt(loops);
+        }
+
+        // 英語名とトゥーンテクスチャの並びは件数を持たない
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopNext(ParseStage stage){
+        flushIfFull();
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopEnd(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pmdParseStart(){
+        this.block.reset();
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>蓄えられた内容を全て出力ストリームへ書き込む。
+     *
+     * @param hasMoreData {@inheritDoc}
+     * @throws UncheckedIOException 出力エラー
+     */
+    @Override
+    public void pmdParseEnd(boolean hasMoreData)
+            throws UncheckedIOException{
+        try{
+            flush();
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param header {@inheritDoc}
+     */
+    @Override
+    public void pmdHeaderInfo(byte[] header){
+        try{
+            this.exporter.dumpByteArray(header);
+        }catch(IOException e){
+            assert false;  // これはない
+            throw new AssertionError(e);
+        }
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param modelName {@inheritDoc}
+     * @param description {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdModelInfo(String modelName, String description)
+            throws MmdFormatException{
+        dumpText(modelName, PmdConst.MAXBYTES_MODELNAME);
+        dumpText(description.replace(LF, CRLF), PmdConst.MAXBYTES_MODELDESC);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexPosition(float xPos, float yPos, float zPos){
+        dumpFloat3(xPos, yPos, zPos);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xVec {@inheritDoc}
+     * @param yVec {@inheritDoc}
+     * @param zVec {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexNormal(float xVec, float yVec, float zVec){
+        dumpFloat3(xVec, yVec, zVec);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param uVal {@inheritDoc}
+     * @param vVal {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexUV(float uVal, float vVal){
+        dumpFloat(uVal);
+        dumpFloat(vVal);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param boneId1 {@inheritDoc}
+     * @param boneId2 {@inheritDoc}
+     * @param weightForB1 {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexWeight(int boneId1, int boneId2, int weightForB1){
+        dumpShort(boneId1);
+        dumpShort(boneId2);
+        dumpByte(weightForB1);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hideEdge {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexEdge(boolean hideEdge){
+        dumpByte(hideEdge ? 1 : 0);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param vertexNum {@inheritDoc}
+     * @param positions {@inheritDoc}
+     * @param normals {@inheritDoc}
+     * @param uvs {@inheritDoc}
+     * @param boneIds {@inheritDoc}
+     * @param weights {@inheritDoc}
+     * @param hideEdges {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexBulk(
+            int vertexNum,
+            float[] positions, float[] normals, float[] uvs,
+            short[] boneIds, byte[] weights, boolean[] hideEdges){
+        dumpInt(vertexNum);
+
+        for(int ct = 0; ct < vertexNum; ct++){
+            int idx3 = ct * VEC3;
+            int idx2 = ct * VEC2;
+
+            dumpFloat3(positions[idx3],
+                       positions[idx3 + 1],
+                       positions[idx3 + 2] );
+            dumpFloat3(normals[idx3],
+                       normals[idx3 + 1],
+                       normals[idx3 + 2] );
+            dumpFloat(uvs[idx2]);
+            dumpFloat(uvs[idx2 + 1]);
+            dumpShort(boneIds[idx2]);
+            dumpShort(boneIds[idx2 + 1]);
+            dumpByte(weights[ct]);
+            dumpByte(hideEdges[ct] ? 1 : 0);
+
+            flushIfFull();
+        }
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param vertexId1 {@inheritDoc}
+     * @param vertexId2 {@inheritDoc}
+     * @param vertexId3 {@inheritDoc}
+     */
+    @Override
+    public void pmdSurfaceTriangle(int vertexId1,
+                                   int vertexId2,
+                                   int vertexId3 ){
+        dumpShort(vertexId1);
+        dumpShort(vertexId2);
+        dumpShort(vertexId3);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param surfaceNum {@inheritDoc}
+     * @param vertexIds {@inheritDoc}
+     */
+    @Override
+    public void pmdSurfaceBulk(int surfaceNum, ShortBuffer vertexIds){
+        int idNum = surfaceNum * TRIVTX;
+        dumpInt(idNum);
+
+        for(int idx = 0; idx < idNum; idx++){
+            dumpShort(vertexIds.get(idx));
+            if(idx % TRIVTX == TRIVTX - 1) flushIfFull();
+        }
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param red {@inheritDoc}
+     * @param green {@inheritDoc}
+     * @param blue {@inheritDoc}
+     * @param alpha {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialDiffuse(float red, float green, float blue,
+                                   float alpha ){
+        dumpFloat3(red, green, blue);
+        dumpFloat(alpha);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param red {@inheritDoc}
+     * @param green {@inheritDoc}
+     * @param blue {@inheritDoc}
+     * @param shininess {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialSpecular(float red, float green, float blue,
+                                    float shininess ){
+        dumpFloat(shininess);
+        dumpFloat3(red, green, blue);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param red {@inheritDoc}
+     * @param green {@inheritDoc}
+     * @param blue {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialAmbient(float red, float green, float blue){
+        dumpFloat3(red, green, blue);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>出力は{@link #pmdMaterialInfo(boolean, int)}の通知時に行われる。
+     *
+     * @param toonIdx {@inheritDoc}
+     * @param textureFile {@inheritDoc}
+     * @param sphereFile {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialShading(int toonIdx,
+                                   String textureFile, String sphereFile ){
+        this.toonIdx = toonIdx;
+        this.textureFile = textureFile;
+        this.sphereFile = sphereFile;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hasEdge {@inheritDoc}
+     * @param vertexNum {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialInfo(boolean hasEdge, int vertexNum)
+            throws MmdFormatException{
+        dumpByte(this.toonIdx);
+        dumpByte(hasEdge ? 1 : 0);
+        dumpInt(vertexNum);
+
+        String shadingFile =
+                ShadingUtil.joinShadingFileInfo(this.textureFile,
+                                                this.sphereFile );
+        dumpText(shadingFile, PmdConst.MAXBYTES_TEXTUREFILENAME);
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>出力は{@link #pmdBoneLink(int, int, int)}の通知時に行われる。
+     *
+     * @param boneName {@inheritDoc}
+     * @param boneKind {@inheritDoc}
+     */
+    @Override
+    public void pmdBoneInfo(String boneName, byte boneKind){
+        this.boneName = boneName;
+        this.boneKind = boneKind;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param parentId {@inheritDoc}
+     * @param tailId {@inheritDoc}
+     * @param ikId {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdBoneLink(int parentId, int tailId, int ikId)
+            throws MmdFormatException{
+        dumpText(this.boneName, PmdConst.MAXBYTES_BONENAME);
+        dumpShort(parentId);
+        dumpShort(tailId);
+        dumpByte(this.boneKind);
+        dumpShort(ikId);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void pmdBonePosition(float xPos, float yPos, float zPos){
+        dumpFloat3(xPos, yPos, zPos);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>出力は{@link PmdBoneHandler#IKCHAIN_LIST}ループ開始時に行われる。
+     *
+     * @param boneId {@inheritDoc}
+     * @param targetId {@inheritDoc}
+     * @param depth {@inheritDoc}
+     * @param weight {@inheritDoc}
+     */
+    @Override
+    public void pmdIKInfo(int boneId, int targetId, int depth, float weight){
+        this.ikBoneId = boneId;
+        this.ikTargetId = targetId;
+        this.ikDepth = depth;
+        this.ikWeight = weight;
+        return;
+    }
+
+    /**
+     * IK情報を出力する。
+     *
+     * @param chainLength IKチェーン長
+     */
+    private void dumpIkHeader(int chainLength){
+        dumpShort(this.ikBoneId);
+        dumpShort(this.ikTargetId);
+        dumpByte(chainLength);
+        dumpShort(this.ikDepth);
+        dumpFloat(this.ikWeight);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param childId {@inheritDoc}
+     */
+    @Override
+    public void pmdIKChainInfo(int childId){
+        dumpShort(childId);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>末尾にLFが付加された形で出力される。
+     *
+     * @param groupName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdBoneGroupInfo(String groupName)
+            throws MmdFormatException{
+        dumpText(groupName + LF, PmdConst.MAXBYTES_BONEGROUPNAME);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param boneId {@inheritDoc}
+     * @param groupId {@inheritDoc}
+     */
+    @Override
+    public void pmdGroupedBoneInfo(int boneId, int groupId){
+        dumpShort(boneId);
+        dumpByte(groupId);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>出力は{@link PmdMorphHandler#MORPHVERTEX_LIST}ループ開始時に
+     * 行われる。
+     *
+     * @param morphName {@inheritDoc}
+     * @param morphType {@inheritDoc}
+     */
+    @Override
+    public void pmdMorphInfo(String morphName, byte morphType){
+        this.morphName = morphName;
+        this.morphType = morphType;
+        return;
+    }
+
+    /**
+     * モーフ情報を出力する。
+     *
+     * @param vertexCount モーフ頂点数
+     * @throws MmdFormatException モーフ名が不正
+     */
+    private void dumpMorphHeader(int vertexCount) throws MmdFormatException{
+        dumpText(this.morphName, PmdConst.MAXBYTES_MORPHNAME);
+        dumpInt(vertexCount);
+        dumpByte(this.morphType);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param serialId {@inheritDoc}
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void pmdMorphVertexInfo(int serialId,
+                                   float xPos, float yPos, float zPos ){
+        dumpInt(serialId);
+        dumpFloat3(xPos, yPos, zPos);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param morphId {@inheritDoc}
+     */
+    @Override
+    public void pmdMorphOrderInfo(int morphId){
+        dumpShort(morphId);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param hasEnglishInfo {@inheritDoc}
+     */
+    @Override
+    public void pmdEngEnabled(boolean hasEnglishInfo){
+        dumpByte(hasEnglishInfo ? 1 : 0);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param modelName {@inheritDoc}
+     * @param description {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdEngModelInfo(String modelName, String description)
+            throws MmdFormatException{
+        dumpText(modelName, PmdConst.MAXBYTES_MODELNAME);
+        dumpText(description.replace(LF, CRLF), PmdConst.MAXBYTES_MODELDESC);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param boneName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdEngBoneInfo(String boneName) throws MmdFormatException{
+        dumpText(boneName, PmdConst.MAXBYTES_BONENAME);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param morphName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdEngMorphInfo(String morphName) throws MmdFormatException{
+        dumpText(morphName, PmdConst.MAXBYTES_MORPHNAME);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param groupName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdEngBoneGroupInfo(String groupName)
+            throws MmdFormatException{
+        dumpText(groupName, PmdConst.MAXBYTES_BONEGROUPNAME);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param toonName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdToonFileInfo(String toonName) throws MmdFormatException{
+        dumpText(toonName, PmdConst.MAXBYTES_TOONFILENAME);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>剛体情報の出力は
+     * {@link #pmdRigidBehavior(byte, short)}の通知時に行われる。
+     *
+     * @param rigidName {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidName(String rigidName){
+        this.rigidName = rigidName;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param rigidGroupId {@inheritDoc}
+     * @param linkedBoneId {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidInfo(int rigidGroupId, int linkedBoneId){
+        this.rigidGroupId = rigidGroupId;
+        this.rigidBoneId = linkedBoneId;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param shapeType {@inheritDoc}
+     * @param width {@inheritDoc}
+     * @param height {@inheritDoc}
+     * @param depth {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidShape(byte shapeType,
+                              float width, float height, float depth ){
+        this.rigidShape = shapeType;
+        this.rigidVals[0] = width;
+        this.rigidVals[1] = height;
+        this.rigidVals[2] = depth;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param posX {@inheritDoc}
+     * @param posY {@inheritDoc}
+     * @param posZ {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidPosition(float posX, float posY, float posZ){
+        this.rigidVals[3] = posX;
+        this.rigidVals[4] = posY;
+        this.rigidVals[5] = posZ;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param radX {@inheritDoc}
+     * @param radY {@inheritDoc}
+     * @param radZ {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidRotation(float radX, float radY, float radZ){
+        this.rigidVals[6] = radX;
+        this.rigidVals[7] = radY;
+        this.rigidVals[8] = radZ;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param mass {@inheritDoc}
+     * @param dampingPos {@inheritDoc}
+     * @param dampingRot {@inheritDoc}
+     * @param restitution {@inheritDoc}
+     * @param friction {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidPhysics(float mass,
+                                float dampingPos,
+                                float dampingRot,
+                                float restitution,
+                                float friction ){
+        this.rigidVals[9]  = mass;
+        this.rigidVals[10] = dampingPos;
+        this.rigidVals[11] = dampingRot;
+        this.rigidVals[12] = restitution;
+        this.rigidVals[13] = friction;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>蓄えられた剛体情報をまとめて出力する。
+     *
+     * @param behaveType {@inheritDoc}
+     * @param collisionMap {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidBehavior(byte behaveType, short collisionMap)
+            throws MmdFormatException{
+        dumpText(this.rigidName, PmdConst.MAXBYTES_RIGIDNAME);
+        dumpShort(this.rigidBoneId);
+        dumpByte(this.rigidGroupId);
+        dumpShort(collisionMap);
+        dumpByte(this.rigidShape);
+
+        for(float fVal : this.rigidVals){
+            dumpFloat(fVal);
+        }
+
+        dumpByte(behaveType);
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param jointName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void pmdJointName(String jointName) throws MmdFormatException{
+        dumpText(jointName, PmdConst.MAXBYTES_JOINTNAME);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param rigidIdA {@inheritDoc}
+     * @param rigidIdB {@inheritDoc}
+     */
+    @Override
+    public void pmdJointLink(int rigidIdA, int rigidIdB){
+        dumpInt(rigidIdA);
+        dumpInt(rigidIdB);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param posX {@inheritDoc}
+     * @param posY {@inheritDoc}
+     * @param posZ {@inheritDoc}
+     */
+    @Override
+    public void pmdJointPosition(float posX, float posY, float posZ){
+        dumpFloat3(posX, posY, posZ);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param radX {@inheritDoc}
+     * @param radY {@inheritDoc}
+     * @param radZ {@inheritDoc}
+     */
+    @Override
+    public void pmdJointRotation(float radX, float radY, float radZ){
+        dumpFloat3(radX, radY, radZ);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param posXlim1 {@inheritDoc}
+     * @param posXlim2 {@inheritDoc}
+     * @param posYlim1 {@inheritDoc}
+     * @param posYlim2 {@inheritDoc}
+     * @param posZlim1 {@inheritDoc}
+     * @param posZlim2 {@inheritDoc}
+     */
+    @Override
+    public void pmdPositionLimit(float posXlim1, float posXlim2,
+                                 float posYlim1, float posYlim2,
+                                 float posZlim1, float posZlim2 ){
+        dumpFloat3(posXlim1, posYlim1, posZlim1);
+        dumpFloat3(posXlim2, posYlim2, posZlim2);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param radXlim1 {@inheritDoc}
+     * @param radXlim2 {@inheritDoc}
+     * @param radYlim1 {@inheritDoc}
+     * @param radYlim2 {@inheritDoc}
+     * @param radZlim1 {@inheritDoc}
+     * @param radZlim2 {@inheritDoc}
+     */
+    @Override
+    public void pmdRotationLimit(float radXlim1, float radXlim2,
+                                 float radYlim1, float radYlim2,
+                                 float radZlim1, float radZlim2 ){
+        dumpFloat3(radXlim1, radYlim1, radZlim1);
+        dumpFloat3(radXlim2, radYlim2, radZlim2);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param elasticPosX {@inheritDoc}
+     * @param elasticPosY {@inheritDoc}
+     * @param elasticPosZ {@inheritDoc}
+     */
+    @Override
+    public void pmdElasticPosition(float elasticPosX,
+                                   float elasticPosY,
+                                   float elasticPosZ ){
+        dumpFloat3(elasticPosX, elasticPosY, elasticPosZ);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param elasticRotX {@inheritDoc}
+     * @param elasticRotY {@inheritDoc}
+     * @param elasticRotZ {@inheritDoc}
+     */
+    @Override
+    public void pmdElasticRotation(float elasticRotX,
+                                   float elasticRotY,
+                                   float elasticRotZ ){
+        dumpFloat3(elasticRotX, elasticRotY, elasticRotZ);
+        return;
+    }
+
+}
@@ -0,0 +1,17 @@
+/*
+ * package information for Javadoc
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+/**
+ * PMDモデルファイル(*.pmd)用エクスポーターライブラリ。
+ *
+ * <p>パーサ用のコールバックインタフェースを実装しており、
+ * パーサに直接渡すことでPMDモデルファイルを書き戻すことができる。
+ */
+
+package jp.sfjp.mikutoga.pmd.export;
+
+/* EOF */
@@ -0,0 +1,701 @@
+/*
+ * empty PMD handler
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+
+/**
+ * 何もしないPMDパーサ用統合ハンドラ実装。
+ *
+ * <p>全ての通知を無視する。
+ * リフレクションを用いたプロキシと異なり、
+ * 通知毎の引数配列生成やプリミティブ値のボクシングが発生しない。
+ *
+ * <p>必要な通知のみをオーバーライドするアダプタとして
+ * 継承して用いてもよい。
+ */
+public class EmptyPmdHandler implements PmdUnifiedHandler {
+
+    /**
+     * コンストラクタ。
+     */
+    public EmptyPmdHandler(){
+        super();
+        return;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param stage {@inheritDoc}
+     * @param loops {@inheritDoc}
+     */
+    @Override
+    public void loopStart(ParseStage stage, int loops){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopNext(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopEnd(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     */
+    @Override
+    public void pmdParseStart(){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param hasMoreData {@inheritDoc}
+     */
+    @Override
+    public void pmdParseEnd(boolean hasMoreData){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param header {@inheritDoc}
+     */
+    @Override
+    public void pmdHeaderInfo(byte[] header){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param modelName {@inheritDoc}
+     * @param description {@inheritDoc}
+     */
+    @Override
+    public void pmdModelInfo(String modelName, String description){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexPosition(float xPos, float yPos, float zPos){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xVec {@inheritDoc}
+     * @param yVec {@inheritDoc}
+     * @param zVec {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexNormal(float xVec, float yVec, float zVec){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param uVal {@inheritDoc}
+     * @param vVal {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexUV(float uVal, float vVal){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneId1 {@inheritDoc}
+     * @param boneId2 {@inheritDoc}
+     * @param weightForB1 {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexWeight(int boneId1, int boneId2, int weightForB1){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param hideEdge {@inheritDoc}
+     */
+    @Override
+    public void pmdVertexEdge(boolean hideEdge){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param vertexId1 {@inheritDoc}
+     * @param vertexId2 {@inheritDoc}
+     * @param vertexId3 {@inheritDoc}
+     */
+    @Override
+    public void pmdSurfaceTriangle(
+            int vertexId1, int vertexId2, int vertexId3){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param red {@inheritDoc}
+     * @param green {@inheritDoc}
+     * @param blue {@inheritDoc}
+     * @param alpha {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialDiffuse(
+            float red, float green, float blue, float alpha){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param red {@inheritDoc}
+     * @param green {@inheritDoc}
+     * @param blue {@inheritDoc}
+     * @param shininess {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialSpecular(
+            float red, float green, float blue, float shininess){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param red {@inheritDoc}
+     * @param green {@inheritDoc}
+     * @param blue {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialAmbient(float red, float green, float blue){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param toonIdx {@inheritDoc}
+     * @param textureFile {@inheritDoc}
+     * @param sphereFile {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialShading(
+            int toonIdx, String textureFile, String sphereFile){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param hasEdge {@inheritDoc}
+     * @param vertexNum {@inheritDoc}
+     */
+    @Override
+    public void pmdMaterialInfo(boolean hasEdge, int vertexNum){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneName {@inheritDoc}
+     * @param boneKind {@inheritDoc}
+     */
+    @Override
+    public void pmdBoneInfo(String boneName, byte boneKind){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param parentId {@inheritDoc}
+     * @param tailId {@inheritDoc}
+     * @param ikId {@inheritDoc}
+     */
+    @Override
+    public void pmdBoneLink(int parentId, int tailId, int ikId){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void pmdBonePosition(float xPos, float yPos, float zPos){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneId {@inheritDoc}
+     * @param targetId {@inheritDoc}
+     * @param depth {@inheritDoc}
+     * @param weight {@inheritDoc}
+     */
+    @Override
+    public void pmdIKInfo(int boneId, int targetId, int depth, float weight){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param childId {@inheritDoc}
+     */
+    @Override
+    public void pmdIKChainInfo(int childId){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param groupName {@inheritDoc}
+     */
+    @Override
+    public void pmdBoneGroupInfo(String groupName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneId {@inheritDoc}
+     * @param groupId {@inheritDoc}
+     */
+    @Override
+    public void pmdGroupedBoneInfo(int boneId, int groupId){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param morphName {@inheritDoc}
+     * @param morphType {@inheritDoc}
+     */
+    @Override
+    public void pmdMorphInfo(String morphName, byte morphType){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param serialId {@inheritDoc}
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void pmdMorphVertexInfo(
+            int serialId, float xPos, float yPos, float zPos){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param morphId {@inheritDoc}
+     */
+    @Override
+    public void pmdMorphOrderInfo(int morphId){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param hasEnglishInfo {@inheritDoc}
+     */
+    @Override
+    public void pmdEngEnabled(boolean hasEnglishInfo){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param modelName {@inheritDoc}
+     * @param description {@inheritDoc}
+     */
+    @Override
+    public void pmdEngModelInfo(String modelName, String description){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneName {@inheritDoc}
+     */
+    @Override
+    public void pmdEngBoneInfo(String boneName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param morphName {@inheritDoc}
+     */
+    @Override
+    public void pmdEngMorphInfo(String morphName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param groupName {@inheritDoc}
+     */
+    @Override
+    public void pmdEngBoneGroupInfo(String groupName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param toonName {@inheritDoc}
+     */
+    @Override
+    public void pmdToonFileInfo(String toonName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param rigidName {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidName(String rigidName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param rigidGroupId {@inheritDoc}
+     * @param linkedBoneId {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidInfo(int rigidGroupId, int linkedBoneId){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param shapeType {@inheritDoc}
+     * @param width {@inheritDoc}
+     * @param height {@inheritDoc}
+     * @param depth {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidShape(
+            byte shapeType, float width, float height, float depth){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param posX {@inheritDoc}
+     * @param posY {@inheritDoc}
+     * @param posZ {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidPosition(float posX, float posY, float posZ){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param radX {@inheritDoc}
+     * @param radY {@inheritDoc}
+     * @param radZ {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidRotation(float radX, float radY, float radZ){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param mass {@inheritDoc}
+     * @param dampingPos {@inheritDoc}
+     * @param dampingRot {@inheritDoc}
+     * @param restitution {@inheritDoc}
+     * @param friction {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidPhysics(
+            float mass, float dampingPos,
+            float dampingRot, float restitution, float friction){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param behaveType {@inheritDoc}
+     * @param collisionMap {@inheritDoc}
+     */
+    @Override
+    public void pmdRigidBehavior(byte behaveType, short collisionMap){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param jointName {@inheritDoc}
+     */
+    @Override
+    public void pmdJointName(String jointName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param rigidIdA {@inheritDoc}
+     * @param rigidIdB {@inheritDoc}
+     */
+    @Override
+    public void pmdJointLink(int rigidIdA, int rigidIdB){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param posX {@inheritDoc}
+     * @param posY {@inheritDoc}
+     * @param posZ {@inheritDoc}
+     */
+    @Override
+    public void pmdJointPosition(float posX, float posY, float posZ){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param radX {@inheritDoc}
+     * @param radY {@inheritDoc}
+     * @param radZ {@inheritDoc}
+     */
+    @Override
+    public void pmdJointRotation(float radX, float radY, float radZ){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param posXlim1 {@inheritDoc}
+     * @param posXlim2 {@inheritDoc}
+     * @param posYlim1 {@inheritDoc}
+     * @param posYlim2 {@inheritDoc}
+     * @param posZlim1 {@inheritDoc}
+     * @param posZlim2 {@inheritDoc}
+     */
+    @Override
+    public void pmdPositionLimit(
+            float posXlim1, float posXlim2, float posYlim1,
+            float posYlim2, float posZlim1, float posZlim2){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param radXlim1 {@inheritDoc}
+     * @param radXlim2 {@inheritDoc}
+     * @param radYlim1 {@inheritDoc}
+     * @param radYlim2 {@inheritDoc}
+     * @param radZlim1 {@inheritDoc}
+     * @param radZlim2 {@inheritDoc}
+     */
+    @Override
+    public void pmdRotationLimit(
+            float radXlim1, float radXlim2, float radYlim1,
+            float radYlim2, float radZlim1, float radZlim2){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param elasticPosX {@inheritDoc}
+     * @param elasticPosY {@inheritDoc}
+     * @param elasticPosZ {@inheritDoc}
+     */
+    @Override
+    public void pmdElasticPosition(
+            float elasticPosX, float elasticPosY, float elasticPosZ){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param elasticDegX {@inheritDoc}
+     * @param elasticDegY {@inheritDoc}
+     * @param elasticDegZ {@inheritDoc}
+     */
+    @Override
+    public void pmdElasticRotation(
+            float elasticDegX, float elasticDegY, float elasticDegZ){
+        return;
+    }
+
+}
@@ -18,19 +18,22 @@
 public interface PmdBoneHandler extends LoopHandler {
 
     /** ボーン定義抽出ループ。 */
-    public static final ParseStage BONE_LIST = new ParseStage();
+    public static final ParseStage BONE_LIST = new ParseStage("BONE_LIST");
 
     /** IKリスト抽出ループ。 */
-    public static final ParseStage IK_LIST = new ParseStage();
+    public static final ParseStage IK_LIST = new ParseStage("IK_LIST");
 
     /** IKチェーンリスト抽出ループ。 */
-    public static final ParseStage IKCHAIN_LIST = new ParseStage();
+    public static final ParseStage IKCHAIN_LIST =
+            new ParseStage("IKCHAIN_LIST");
 
     /** ボーングループ名抽出ループ。 */
-    public static final ParseStage BONEGROUP_LIST = new ParseStage();
+    public static final ParseStage BONEGROUP_LIST =
+            new ParseStage("BONEGROUP_LIST");
 
     /** ボーングループ内訳抽出ループ。 */
-    public static final ParseStage GROUPEDBONE_LIST = new ParseStage();
+    public static final ParseStage GROUPEDBONE_LIST =
+            new ParseStage("GROUPEDBONE_LIST");
 
     /**
      * ボーン定義情報の通知を受け取る。
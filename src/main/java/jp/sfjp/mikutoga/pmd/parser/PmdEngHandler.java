@@ -17,13 +17,16 @@
 public interface PmdEngHandler extends LoopHandler {
 
     /** ボーン英語名抽出ループ。 */
-    public static final ParseStage ENGBONE_LIST = new ParseStage();
+    public static final ParseStage ENGBONE_LIST =
+            new ParseStage("ENGBONE_LIST");
 
     /** モーフ英語名抽出ループ。 */
-    public static final ParseStage ENGMORPH_LIST = new ParseStage();
+    public static final ParseStage ENGMORPH_LIST =
+            new ParseStage("ENGMORPH_LIST");
 
     /** ボーングループ英語名抽出ループ。 */
-    public static final ParseStage ENGBONEGROUP_LIST = new ParseStage();
+    public static final ParseStage ENGBONEGROUP_LIST =
+            new ParseStage("ENGBONEGROUP_LIST");
 
     /**
      * PMD英語情報の有無の通知を受け取る。
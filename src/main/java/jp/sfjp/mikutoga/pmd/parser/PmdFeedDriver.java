@@ -0,0 +1,433 @@
+/*
+ * PMD feed driver
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import java.io.IOException;
+import jp.sfjp.mikutoga.bin.parser.FeedDriver;
+import jp.sfjp.mikutoga.bin.parser.FeedParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.pmd.PmdConst;
+
+/**
+ * 受信済みのデータに応じてPMDファイルをセクション毎にパースする。
+ *
+ * <p>{@link PmdParser}のセクションを同じ順序でたどる状態機械であり、
+ * 各セクションのパースには{@link PmdParser}自身の処理が用いられる。
+ * セクションに必要なバイト長は先頭の要素数、
+ * 可変長の要素からなるセクションでは各要素の要素数を先読みして求める。
+ * セクション全体が{@link FeedParser}に揃った時点でそのセクションをパースし、
+ * ハンドラへ通知する。
+ *
+ * <p>末尾の省略可能なセクションの有無は、
+ * 後続のデータが届くか入力ソースの終端が通知されるまで判定を保留する。
+ *
+ * <p>パーサにはこのクラスが生成した{@link #getParser()}を用いる。
+ * ハンドラの登録などは最初の{@link #drive()}より前に行わなければならない。
+ * {@link PmdParser#parsePmd()}を呼んではならない。
+ */
+public class PmdFeedDriver implements FeedDriver {
+
+    private static final int BYTES_BYTE  = 1;
+    private static final int BYTES_SHORT = Short  .SIZE / Byte.SIZE;
+    private static final int BYTES_INT   = Integer.SIZE / Byte.SIZE;
+
+    private static final int BYTES_HEADER =
+              PmdParserBase.HEADER_LENGTH
+            + PmdConst.MAXBYTES_MODELNAME
+            + PmdConst.MAXBYTES_MODELDESC;
+    private static final int BYTES_ENGHEADER =
+            PmdConst.MAXBYTES_MODELNAME + PmdConst.MAXBYTES_MODELDESC;
+    private static final int BYTES_TOON =
+            PmdConst.TOON_FIXEDNUM * PmdConst.MAXBYTES_TOONFILENAME;
+
+    private static final int STEP_START        =  0;
+    private static final int STEP_HEADER       =  1;
+    private static final int STEP_VERTEX       =  2;
+    private static final int STEP_SURFACE      =  3;
+    private static final int STEP_MATERIAL     =  4;
+    private static final int STEP_BONE         =  5;
+    private static final int STEP_IK           =  6;
+    private static final int STEP_MORPH        =  7;
+    private static final int STEP_MORPHORDER   =  8;
+    private static final int STEP_BONEGROUP    =  9;
+    private static final int STEP_GROUPEDBONE  = 10;
+    private static final int STEP_ENGHEADER    = 11;
+    private static final int STEP_ENGBONE      = 12;
+    private static final int STEP_ENGMORPH     = 13;
+    private static final int STEP_ENGBONEGROUP = 14;
+    private static final int STEP_TOON         = 15;
+    private static final int STEP_RIGID        = 16;
+    private static final int STEP_JOINT        = 17;
+    private static final int STEP_END          = 18;
+    private static final int STEP_DONE         = 19;
+
+
+    private final FeedParser feed;
+    private final PmdParser parser;
+
+    private int step = STEP_START;
+
+    private int scanNum = -1;
+    private int scanIdx = 0;
+    private long scanLength = 0L;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param feed 入力ソース
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdFeedDriver(FeedParser feed) throws NullPointerException{
+        super();
+
+        if(feed == null) throw new NullPointerException();
+
+        this.feed = feed;
+        this.parser = new PmdParser(feed);
+
+        return;
+    }
+
+
+    /**
+     * 入力ソースを返す。
+     *
+     * @return 入力ソース
+     */
+    public FeedParser getFeed(){
+        return this.feed;
+    }
+
+    /**
+     * ハンドラ登録用のパーサを返す。
+     *
+     * @return パーサ
+     */
+    public PmdParser getParser(){
+        return this.parser;
+    }
+
+    /**
+     * 全てのセクションのパースを終えたか判定する。
+     *
+     * @return 終えていればtrue
+     */
+    public boolean isDone(){
+        return this.step == STEP_DONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public boolean drive() throws IOException, MmdFormatException{
+        while(this.step != STEP_DONE){
+            if( ! this.feed.isFinished() ){
+                long need = requiredLength();
+                if(need > this.feed.available()) return false;
+            }
+
+            this.step = parseStep();
+
+            this.scanNum = -1;
+            this.scanIdx = 0;
+            this.scanLength = 0L;
+        }
+
+        return true;
+    }
+
+    /**
+     * 現在のセクションのパースに必要なバイト長を求める。
+     *
+     * <p>受信済みのデータだけでは求めきれない場合は、
+     * 判定を進めるために必要なバイト長を返す。
+     *
+     * @return バイト長
+     */
+    private long requiredLength(){
+        long result;
+
+        switch(this.step){
+        case STEP_START:
+            result = 0L;
+            break;
+        case STEP_HEADER:
+            result = BYTES_HEADER;
+            break;
+        case STEP_VERTEX:
+            result = listLength(BYTES_INT, PmdConst.BYTES_VERTEX);
+            break;
+        case STEP_SURFACE:
+            result = listLength(BYTES_INT, PmdConst.BYTES_SURFACE_VERTEX);
+            break;
+        case STEP_MATERIAL:
+            result = listLength(BYTES_INT, PmdConst.BYTES_MATERIAL);
+            break;
+        case STEP_BONE:
+            result = listLength(BYTES_SHORT, PmdConst.BYTES_BONE);
+            break;
+        case STEP_IK:
+            result = scanIkList();
+            break;
+        case STEP_MORPH:
+            result = scanMorphList();
+            break;
+        case STEP_MORPHORDER:
+            result = listLength(BYTES_BYTE, PmdParserBase.BYTES_MORPHORDER);
+            break;
+        case STEP_BONEGROUP:
+            result = listLength(BYTES_BYTE, PmdConst.MAXBYTES_BONEGROUPNAME);
+            break;
+        case STEP_GROUPEDBONE:
+            result = listLength(BYTES_INT, PmdParserBase.BYTES_GROUPEDBONE);
+            break;
+        case STEP_ENGHEADER:
+            result = engHeaderLength();
+            break;
+        case STEP_ENGBONE:
+            result = recordsLength(this.parser.getBoneCount(),
+                                   PmdConst.MAXBYTES_BONENAME );
+            break;
+        case STEP_ENGMORPH:
+            result = recordsLength(this.parser.getMorphCount() - 1,
+                                   PmdConst.MAXBYTES_MORPHNAME );
+            break;
+        case STEP_ENGBONEGROUP:
+            result = recordsLength(this.parser.getBoneGroupCount(),
+                                   PmdConst.MAXBYTES_BONEGROUPNAME );
+            break;
+        case STEP_TOON:
+            if(this.feed.available() <= 0) result = 1L;
+            else                            result = BYTES_TOON;
+            break;
+        case STEP_RIGID:
+            if(this.feed.available() <= 0) result = 1L;
+            else result = listLength(BYTES_INT, PmdConst.BYTES_RIGID);
+            break;
+        case STEP_JOINT:
+            result = listLength(BYTES_INT, PmdConst.BYTES_JOINT);
+            break;
+        case STEP_END:
+            result = 1L;
+            break;
+        default:
+            assert false;
+            throw new AssertionError();
+        }
+
+        return result;
+    }
+
+    /**
+     * 現在のセクションをパースし、次のセクションを求める。
+     *
+     * @return 次のセクション
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private int parseStep() throws IOException, MmdFormatException{
+        PmdParser pmd = this.parser;
+        int result = this.step + 1;
+
+        switch(this.step){
+        case STEP_START:
+            pmd.parseStart();
+            break;
+        case STEP_HEADER:
+            pmd.parsePmdHeader();
+            break;
+        case STEP_VERTEX:
+            pmd.parseVertexList();
+            break;
+        case STEP_SURFACE:
+            pmd.parseSurfaceList();
+            break;
+        case STEP_MATERIAL:
+            pmd.parseMaterialList();
+            break;
+        case STEP_BONE:
+            pmd.parseBoneList();
+            break;
+        case STEP_IK:
+            pmd.parseIKList();
+            break;
+        case STEP_MORPH:
+            pmd.parseMorphList();
+            break;
+        case STEP_MORPHORDER:
+            pmd.parseMorphOrderList();
+            break;
+        case STEP_BONEGROUP:
+            pmd.parseBoneGroupList();
+            break;
+        case STEP_GROUPEDBONE:
+            pmd.parseGroupedBoneList();
+            break;
+        case STEP_ENGHEADER:
+            if(pmd.hasMore()){
+                pmd.parseEngHeader();
+                if( ! pmd.hasEnglishInfo() ) result = STEP_TOON;
+            }else{
+                result = STEP_TOON;
+            }
+            break;
+        case STEP_ENGBONE:
+            pmd.parseEngBoneList();
+            break;
+        case STEP_ENGMORPH:
+            pmd.parseEngMorphName();
+            break;
+        case STEP_ENGBONEGROUP:
+            pmd.parseEngBoneGroupName();
+            break;
+        case STEP_TOON:
+            if(pmd.hasMore()) pmd.parseToonName();
+            break;
+        case STEP_RIGID:
+            if(pmd.hasMore()) pmd.parseRigidList();
+            else              result = STEP_END;
+            break;
+        case STEP_JOINT:
+            pmd.parseJointList();
+            break;
+        case STEP_END:
+            pmd.parseEnd();
+            break;
+        default:
+            assert false;
+            throw new AssertionError();
+        }
+
+        return result;
+    }
+
+    /**
+     * 要素数に続く固定長要素の並びからなるセクションのバイト長を求める。
+     *
+     * @param countSize 要素数のバイト長。1、2、4のいずれか
+     * @param recordSize 要素1件あたりのバイト長
+     * @return バイト長。要素数が未着なら要素数のバイト長
+     */
+    private long listLength(int countSize, int recordSize){
+        if(this.feed.available() < countSize) return countSize;
+
+        int count;
+        switch(countSize){
+        case BYTES_BYTE:
+            count = this.feed.peekUByteAsInt(0);
+            break;
+        case BYTES_SHORT:
+            count = this.feed.peekLeUShortAsInt(0);
+            break;
+        default:
+            count = this.feed.peekLeInt(0);
+            break;
+        }
+
+        long result = countSize + recordsLength(count, recordSize);
+        return result;
+    }
+
+    /**
+     * 固定長要素の並びのバイト長を求める。
+     *
+     * @param count 要素数。負の値は0とみなされる。
+     * @param recordSize 要素1件あたりのバイト長
+     * @return バイト長
+     */
+    private static long recordsLength(int count, int recordSize){
+        if(count <= 0) return 0L;
+        long result = (long) count * recordSize;
+        return result;
+    }
+
+    /**
+     * 英語基本情報のバイト長を求める。
+     *
+     * @return バイト長。英語情報の有無が未着なら1
+     */
+    private long engHeaderLength(){
+        if(this.feed.available() < BYTES_BYTE) return BYTES_BYTE;
+
+        boolean hasEnglishInfo = this.feed.peekUByteAsInt(0) != 0x00;
+
+        long result = BYTES_BYTE;
+        if(hasEnglishInfo) result += BYTES_ENGHEADER;
+
+        return result;
+    }
+
+    /**
+     * IKリスト情報のバイト長を求める。
+     *
+     * <p>走査済みの要素は次回の呼び出しで再走査されない。
+     *
+     * @return バイト長。求めきれなければ走査を進めるのに必要なバイト長
+     */
+    private long scanIkList(){
+        int avail = this.feed.available();
+
+        if(this.scanNum < 0){
+            if(avail < BYTES_SHORT) return BYTES_SHORT;
+            this.scanNum = this.feed.peekLeUShortAsInt(0);
+            this.scanLength = BYTES_SHORT;
+        }
+
+        while(this.scanIdx < this.scanNum){
+            long chainPos = this.scanLength + PmdParserBase.BYTES_IK_HEAD;
+            if(avail < chainPos + BYTES_BYTE) return chainPos + BYTES_BYTE;
+
+            int chainLength = this.feed.peekUByteAsInt((int) chainPos);
+
+            this.scanLength = chainPos + BYTES_BYTE
+                    + PmdParserBase.BYTES_IK_TAIL
+                    + recordsLength(chainLength, PmdParserBase.BYTES_IKCHAIN);
+            this.scanIdx++;
+        }
+
+        return this.scanLength;
+    }
+
+    /**
+     * モーフ情報のバイト長を求める。
+     *
+     * <p>走査済みの要素は次回の呼び出しで再走査されない。
+     *
+     * @return バイト長。求めきれなければ走査を進めるのに必要なバイト長
+     */
+    private long scanMorphList(){
+        int avail = this.feed.available();
+
+        if(this.scanNum < 0){
+            if(avail < BYTES_SHORT) return BYTES_SHORT;
+            this.scanNum = this.feed.peekLeUShortAsInt(0);
+            this.scanLength = BYTES_SHORT;
+        }
+
+        while(this.scanIdx < this.scanNum){
+            long countPos = this.scanLength + PmdConst.MAXBYTES_MORPHNAME;
+            if(avail < countPos + BYTES_INT) return countPos + BYTES_INT;
+
+            int vertexCount = this.feed.peekLeInt((int) countPos);
+
+            this.scanLength = countPos + BYTES_INT
+                    + PmdParserBase.BYTES_MORPH_TYPE
+                    + recordsLength(vertexCount, PmdConst.BYTES_MORPH_VERTEX);
+            this.scanIdx++;
+        }
+
+        return this.scanLength;
+    }
+
+}
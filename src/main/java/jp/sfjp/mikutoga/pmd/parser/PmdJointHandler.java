@@ -17,7 +17,7 @@
 public interface PmdJointHandler extends LoopHandler {
 
     /** ジョイント情報抽出ループ。 */
-    public static final ParseStage JOINT_LIST = new ParseStage();
+    public static final ParseStage JOINT_LIST = new ParseStage("JOINT_LIST");
 
     /**
      * ジョイント名の通知を受け取る。
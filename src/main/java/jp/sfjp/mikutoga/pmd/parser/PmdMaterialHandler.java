@@ -18,7 +18,8 @@
 public interface PmdMaterialHandler extends LoopHandler {
 
     /** 材質抽出ループ。 */
-    public static final ParseStage MATERIAL_LIST = new ParseStage();
+    public static final ParseStage MATERIAL_LIST =
+            new ParseStage("MATERIAL_LIST");
 
     /**
      * 材質の拡散光成分の通知を受け取る。
@@ -17,13 +17,16 @@
 public interface PmdMorphHandler extends LoopHandler {
 
     /** モーフ抽出ループ。 */
-    public static final ParseStage MORPH_LIST = new ParseStage();
+    public static final ParseStage MORPH_LIST =
+            new ParseStage("PMD_MORPH_LIST");
 
     /** モーフ頂点抽出ループ。 */
-    public static final ParseStage MORPHVERTEX_LIST = new ParseStage();
+    public static final ParseStage MORPHVERTEX_LIST =
+            new ParseStage("MORPHVERTEX_LIST");
 
     /** モーフ出現順抽出ループ。 */
-    public static final ParseStage MORPHORDER_LIST = new ParseStage();
+    public static final ParseStage MORPHORDER_LIST =
+            new ParseStage("MORPHORDER_LIST");
 
     /**
      * モーフ情報の通知を受け取る。
@@ -8,6 +8,7 @@
 package jp.sfjp.mikutoga.pmd.parser;
 
 import java.io.InputStream;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
 
 /**
  * PMDモデルファイルのパーサ最新版。
@@ -28,4 +29,15 @@ public PmdParser(InputStream source){
         return;
     }
 
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdParser(BinParser parser) throws NullPointerException{
+        super(parser);
+        return;
+    }
+
 }
@@ -9,19 +9,37 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
 import jp.sfjp.mikutoga.bin.parser.CommonParser;
+import jp.sfjp.mikutoga.bin.parser.LoopHandler;
 import jp.sfjp.mikutoga.bin.parser.MmdEofException;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.bin.parser.ProxyParser;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
 import jp.sfjp.mikutoga.bin.parser.TextDecoder;
+import jp.sfjp.mikutoga.bin.parser.Win31jDecoder;
 import jp.sfjp.mikutoga.pmd.PmdConst;
 import jp.sfjp.mikutoga.pmd.ShadingUtil;
 
 /**
  * PMDモデルファイルのパーサ基本部。
+ *
+ * <p>入力ソースからの読み込みは委譲先パーサを介して行われる。
+ *
+ * <p>委譲先パーサが{@link BufferParser}であり、
+ * ForkJoinPoolが設定されている場合、
+ * 頂点一括通知のための頂点情報のデコードは
+ * ForkJoinPool上で並列に行われる。
  */
-public class PmdParserBase extends CommonParser {
+public class PmdParserBase extends ProxyParser {
 
     /**
      * PMDで用いられる文字エンコーディング(windows-31j)。
@@ -40,7 +58,35 @@ public class PmdParserBase extends CommonParser {
     /** 3角ポリゴン頂点数。 */
     private static final int TRIVTX = 3;
 
-    private static final int HEADER_LENGTH = 7;
+    static final int BYTES_IK_HEAD = 2 + 2;
+    static final int BYTES_IK_TAIL = 2 + 4;
+    static final int BYTES_IKCHAIN = 2;
+    static final int BYTES_MORPHORDER = 2;
+    static final int BYTES_GROUPEDBONE = 2 + 1;
+    static final int BYTES_MORPH_TYPE = 1;
+
+    private static final int VEC3 = 3;
+
+    /** 一括読み込みを行う頂点数の単位。 */
+    private static final int VERTEX_CHUNK = 1024;
+    /** 一括読み込みを行うバイト数の単位。 */
+    private static final int BYTE_CHUNK = 64 * 1024;
+    /** 一括通知可能な最大頂点数。 */
+    private static final int MAX_BULK_VERTEX = Integer.MAX_VALUE / VEC3;
+    /** 並列デコードを行う最小頂点数。 */
+    private static final int PARALLEL_MIN_VERTEX =
+            PmdVertexBlock.PARALLEL_LEAF * 2;
+    /** 並列デコード可能な最大頂点数。 */
+    private static final int PARALLEL_MAX_VERTEX =
+            Integer.MAX_VALUE / PmdConst.BYTES_VERTEX;
+
+    /** 一括通知可能な最大面頂点数。 */
+    private static final int MAX_BULK_SURFACE_VERTEX =
+            Integer.MAX_VALUE / PmdConst.BYTES_SURFACE_VERTEX;
+
+    private static final String ERRMSG_TOOMANYVTX = "too many vertices";
+
+    static final int HEADER_LENGTH = 7;
     private static final byte[] MAGIC_BYTES = {
         (byte)0x50, (byte)0x6d, (byte)0x64,               // "Pmd"
         (byte)0x00, (byte)0x00, (byte)0x80, (byte)0x3f,   // 1.0f
@@ -52,7 +98,9 @@ public class PmdParserBase extends CommonParser {
     }
 
 
-    private final TextDecoder decoderWin31j  = new TextDecoder(CS_WIN31J);
+    private final TextDecoder decoderWin31j  = new Win31jDecoder();
+
+    private final BufferParser bufferSource;
 
     private PmdBasicHandler basicHandler =       PmdUnifiedHandler.EMPTY;
     private PmdShapeHandler shapeHandler =       PmdUnifiedHandler.EMPTY;
@@ -60,6 +108,15 @@ public class PmdParserBase extends CommonParser {
     private PmdBoneHandler boneHandler =         PmdUnifiedHandler.EMPTY;
     private PmdMorphHandler morphHandler =       PmdUnifiedHandler.EMPTY;
 
+    private PmdVertexBulkHandler vertexBulkHandler = null;
+    private PmdSurfaceBulkHandler surfaceBulkHandler = null;
+
+    private boolean skipUnhandled = false;
+
+    private ForkJoinPool forkJoinPool = null;
+
+    private StageListener stageListener = null;
+
     private int boneCount      = -1;
     private int morphCount     = -1;
     private int boneGroupCount = -1;
@@ -71,7 +128,25 @@ public class PmdParserBase extends CommonParser {
      * @param source 入力ソース
      */
     public PmdParserBase(InputStream source){
-        super(source);
+        this(new CommonParser(source));
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdParserBase(BinParser parser) throws NullPointerException{
+        super(parser);
+
+        if(parser instanceof BufferParser){
+            this.bufferSource = (BufferParser) parser;
+        }else{
+            this.bufferSource = null;
+        }
+
         this.decoderWin31j.setZeroChopMode(true);
         return;
     }
@@ -167,6 +242,166 @@ public void setMorphHandler(PmdMorphHandler handler){
         return;
     }
 
+    /**
+     * 頂点情報一括通知ハンドラを登録する。
+     *
+     * <p>登録された場合、頂点情報は配列で一括して通知され、
+     * 形状情報通知ハンドラには頂点抽出ループに関する通知が一切行われない。
+     *
+     * @param handler ハンドラ。nullなら一括通知を行わない。
+     */
+    public void setVertexBulkHandler(PmdVertexBulkHandler handler){
+        this.vertexBulkHandler = handler;
+        return;
+    }
+
+    /**
+     * 面情報一括通知ハンドラを登録する。
+     *
+     * <p>登録された場合、面情報は頂点IDの並びとして一括して通知され、
+     * 形状情報通知ハンドラには面抽出ループに関する通知が一切行われない。
+     *
+     * <p>委譲先パーサが{@link BufferParser}であれば、
+     * 通知されるバッファは入力ソースの内容を複製しない。
+     *
+     * @param handler ハンドラ。nullなら一括通知を行わない。
+     */
+    public void setSurfaceBulkHandler(PmdSurfaceBulkHandler handler){
+        this.surfaceBulkHandler = handler;
+        return;
+    }
+
+    /**
+     * ハンドラ未登録セクションの読み飛ばしモードを設定する。
+     * デフォルトでは読み飛ばしを行わない。
+     *
+     * <p>読み飛ばしモードでは、
+     * ハンドラが登録されていないセクションの内容はデコードされず、
+     * 個数情報から算出したバイト長だけ入力ソースが読み飛ばされる。
+     * 読み飛ばされたセクション内の文字エンコーディング異常は検出されない。
+     *
+     * @param mode 読み飛ばしを行いたければtrue
+     */
+    public void setSkipUnhandled(boolean mode){
+        this.skipUnhandled = mode;
+        return;
+    }
+
+    /**
+     * ハンドラ未登録セクションの読み飛ばしモードか否か判定する。
+     *
+     * @return 読み飛ばしモードならtrue
+     */
+    public boolean isSkipUnhandled(){
+        return this.skipUnhandled;
+    }
+
+    /**
+     * 頂点情報の並列デコードに用いるForkJoinPoolを設定する。
+     *
+     * <p>委譲先パーサが{@link BufferParser}であり、
+     * 頂点一括通知ハンドラが登録されており、
+     * かつ頂点数が十分に多い場合に並列デコードが行われる。
+     * それ以外の場合は設定に関わらず逐次デコードされる。
+     *
+     * <p>デフォルトではnull。
+     *
+     * @param pool ForkJoinPool。nullなら並列デコードを行わない。
+     * @see ForkJoinPool#commonPool()
+     */
+    public void setForkJoinPool(ForkJoinPool pool){
+        this.forkJoinPool = pool;
+        return;
+    }
+
+    /**
+     * 頂点情報の並列デコードに用いるForkJoinPoolを返す。
+     *
+     * @return ForkJoinPool。並列デコードを行わないならnull。
+     */
+    public ForkJoinPool getForkJoinPool(){
+        return this.forkJoinPool;
+    }
+
+    /**
+     * ステージ進行の通知を受け取るリスナを設定する。
+     *
+     * <p>各ループの開始と終了が読み込み位置と共に通知される。
+     * 読み飛ばされたループや一括通知されたループも含まれる。
+     *
+     * <p>デフォルトではnull。
+     *
+     * @param listener リスナ。nullなら通知を行わない。
+     * @see jp.sfjp.mikutoga.bin.parser.StageMetrics
+     */
+    public void setStageListener(StageListener listener){
+        this.stageListener = listener;
+        return;
+    }
+
+    /**
+     * ステージ進行の通知を受け取るリスナを返す。
+     *
+     * @return リスナ。通知を行わないならnull。
+     */
+    public StageListener getStageListener(){
+        return this.stageListener;
+    }
+
+    /**
+     * リスナへステージ開始を通知する。
+     *
+     * @param stage ループ種別
+     * @param loops ループ予定回数
+     */
+    protected void stageStart(ParseStage stage, int loops){
+        if(this.stageListener == null) return;
+        this.stageListener.stageStart(stage, loops, getPosition());
+        return;
+    }
+
+    /**
+     * リスナへステージ終了を通知する。
+     *
+     * @param stage ループ種別
+     */
+    protected void stageEnd(ParseStage stage){
+        if(this.stageListener == null) return;
+        this.stageListener.stageEnd(stage, getPosition());
+        return;
+    }
+
+    /**
+     * セクションの内容を読み飛ばしてよいか判定する。
+     *
+     * <p>読み飛ばしモードであり、
+     * かつセクションを担当するハンドラが未登録であれば読み飛ばせる。
+     *
+     * @param handler セクションを担当するハンドラ
+     * @return 読み飛ばしてよければtrue
+     */
+    protected boolean isSkippable(LoopHandler handler){
+        if( ! this.skipUnhandled ) return false;
+        if(handler != PmdUnifiedHandler.EMPTY) return false;
+        return true;
+    }
+
+    /**
+     * 固定長要素の並びを読み飛ばす。
+     *
+     * @param count 要素数。負の値は0とみなされる。
+     * @param recordSize 要素1件あたりのバイト長
+     * @throws IOException IOエラー
+     * @throws MmdEofException 読み飛ばす途中でストリーム終端に達した。
+     */
+    protected void skipRecords(int count, int recordSize)
+            throws IOException, MmdEofException{
+        if(count <= 0) return;
+        long skipLength = (long) count * recordSize;
+        skip(skipLength);
+        return;
+    }
+
     /**
      * パースによって得られたボーン数を返す。
      *
@@ -226,13 +461,31 @@ protected String parsePmdText(int byteLen)
      */
     public void parsePmd()
             throws IOException, MmdFormatException {
-        this.basicHandler.pmdParseStart();
-
+        parseStart();
         parseBody();
+        parseEnd();
+        return;
+    }
+
+    /**
+     * パース処理開始を通知する。
+     *
+     * @throws MmdFormatException フォーマットエラー
+     */
+    void parseStart() throws MmdFormatException{
+        this.basicHandler.pmdParseStart();
+        return;
+    }
 
+    /**
+     * パース処理終了を通知する。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    void parseEnd() throws IOException, MmdFormatException{
         boolean hasMoreData = hasMore();
         this.basicHandler.pmdParseEnd(hasMoreData);
-
         return;
     }
 
@@ -265,7 +518,7 @@ protected void parseBody() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parsePmdHeader() throws IOException, MmdFormatException{
+    void parsePmdHeader() throws IOException, MmdFormatException{
         byte[] header = new byte[HEADER_LENGTH];
         parseByteArray(header);
 
@@ -291,8 +544,21 @@ private void parsePmdHeader() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVertexList() throws IOException, MmdFormatException{
+    void parseVertexList() throws IOException, MmdFormatException{
         int vertexNum = parseLeInt();
+        stageStart(PmdShapeHandler.VERTEX_LIST, vertexNum);
+
+        if(this.vertexBulkHandler != null){
+            parseVertexBulk(vertexNum);
+            stageEnd(PmdShapeHandler.VERTEX_LIST);
+            return;
+        }
+
+        if(isSkippable(this.shapeHandler)){
+            skipRecords(vertexNum, PmdConst.BYTES_VERTEX);
+            stageEnd(PmdShapeHandler.VERTEX_LIST);
+            return;
+        }
 
         this.shapeHandler.loopStart(PmdShapeHandler.VERTEX_LIST, vertexNum);
 
@@ -323,20 +589,136 @@ private void parseVertexList() throws IOException, MmdFormatException{
         }
 
         this.shapeHandler.loopEnd(PmdShapeHandler.VERTEX_LIST);
+        stageEnd(PmdShapeHandler.VERTEX_LIST);
 
         return;
     }
 
+    /**
+     * 頂点情報のパースと一括通知。
+     *
+     * <p>委譲先パーサが{@link BufferParser}であれば、
+     * 頂点情報全体を複製せずに切り出してから振り分ける。
+     * 並列デコードが可能であれば並列に振り分ける。
+     *
+     * <p>そうでなければ入力ソースから頂点情報を一定数ずつまとめて読み込み、
+     * 一度の走査で各属性配列へと振り分ける。
+     * 入力ソース上の頂点数は信用せず、
+     * 各属性配列は読み込めた頂点数に応じて拡張される。
+     *
+     * @param vertexNum 頂点数
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseVertexBulk(int vertexNum)
+            throws IOException, MmdFormatException{
+        int num = Math.max(vertexNum, 0);
+        if(num > MAX_BULK_VERTEX){
+            throw new MmdFormatException(ERRMSG_TOOMANYVTX, getPosition());
+        }
+
+        PmdVertexBlock block;
+
+        if(this.bufferSource != null){
+            long byteLen = (long) num * PmdConst.BYTES_VERTEX;
+            if(byteLen > Integer.MAX_VALUE){
+                throw new MmdEofException(getPosition());
+            }
+            ByteBuffer leBuf = this.bufferSource.parseSlice((int) byteLen);
+
+            block = new PmdVertexBlock(num);
+            if(isParallelVertex(num)){
+                block.decodeParallel(leBuf, this.forkJoinPool);
+            }else{
+                block.decode(leBuf, 0, 0, num);
+            }
+        }else{
+            block = parseVertexChunks(num);
+        }
+
+        this.vertexBulkHandler.pmdVertexBulk(num,
+                block.positions, block.normals, block.uvs,
+                block.boneIds, block.weights, block.hideEdges );
+
+        return;
+    }
+
+    /**
+     * 頂点情報を一定数ずつ読み込み振り分ける。
+     *
+     * <p>各属性配列は読み込みに応じて倍々に拡張されるため、
+     * 確保量は実際に読み込めた頂点数に比例する。
+     *
+     * @param num 頂点数
+     * @return 振り分けられた頂点情報
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private PmdVertexBlock parseVertexChunks(int num)
+            throws IOException, MmdFormatException{
+        int chunkNum = Math.min(num, VERTEX_CHUNK);
+        byte[] chunk = new byte[chunkNum * PmdConst.BYTES_VERTEX];
+        ByteBuffer leBuf = ByteBuffer.wrap(chunk);
+        leBuf.order(ByteOrder.LITTLE_ENDIAN);
+
+        PmdVertexBlock block = new PmdVertexBlock(chunkNum);
+
+        int vertexId = 0;
+        while(vertexId < num){
+            int txNum = Math.min(num - vertexId, VERTEX_CHUNK);
+            parseByteArray(chunk, 0, txNum * PmdConst.BYTES_VERTEX);
+
+            if(block.vertexNum < vertexId + txNum){
+                long doubled = (long) block.vertexNum * 2;
+                block.grow((int) Math.min(doubled, num));
+            }
+            block.decode(leBuf, 0, vertexId, txNum);
+
+            vertexId += txNum;
+        }
+
+        assert block.vertexNum == num;
+
+        return block;
+    }
+
+    /**
+     * 頂点情報を並列デコードするか判定する。
+     *
+     * @param vertexNum 頂点数
+     * @return 並列デコードするならtrue
+     */
+    private boolean isParallelVertex(int vertexNum){
+        if(this.forkJoinPool == null) return false;
+        if(this.bufferSource == null) return false;
+        if(vertexNum < PARALLEL_MIN_VERTEX) return false;
+        if(vertexNum > PARALLEL_MAX_VERTEX) return false;
+        return true;
+    }
+
     /**
      * 面情報のパースと通知。
      *
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseSurfaceList() throws IOException, MmdFormatException{
+    void parseSurfaceList() throws IOException, MmdFormatException{
         int vertexNum = parseLeInt();
         if(vertexNum % TRIVTX != 0) throw new MmdFormatException();
         int surfaceNum = vertexNum / TRIVTX;
+        stageStart(PmdShapeHandler.SURFACE_LIST, surfaceNum);
+
+        if(this.surfaceBulkHandler != null){
+            parseSurfaceBulk(surfaceNum);
+            stageEnd(PmdShapeHandler.SURFACE_LIST);
+            return;
+        }
+
+        if(isSkippable(this.shapeHandler)){
+            skipRecords(vertexNum, PmdConst.BYTES_SURFACE_VERTEX);
+            stageEnd(PmdShapeHandler.SURFACE_LIST);
+            return;
+        }
 
         this.shapeHandler.loopStart(PmdShapeHandler.SURFACE_LIST, surfaceNum);
 
@@ -351,18 +733,94 @@ private void parseSurfaceList() throws IOException, MmdFormatException{
         }
 
         this.shapeHandler.loopEnd(PmdShapeHandler.SURFACE_LIST);
+        stageEnd(PmdShapeHandler.SURFACE_LIST);
+
+        return;
+    }
+
+    /**
+     * 面情報のパースと一括通知。
+     *
+     * <p>委譲先パーサが{@link BufferParser}であれば、
+     * 面情報全体を複製せずに切り出す。
+     * そうでなければ入力ソース上の面数は信用せず、
+     * 読み込めたバイト数に応じて配列を拡張しながら読み込む。
+     *
+     * @param surfaceNum 面数
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseSurfaceBulk(int surfaceNum)
+            throws IOException, MmdFormatException{
+        int num = Math.max(surfaceNum, 0);
+        if(num > MAX_BULK_SURFACE_VERTEX / TRIVTX){
+            throw new MmdFormatException(ERRMSG_TOOMANYVTX, getPosition());
+        }
+
+        int byteLen = num * TRIVTX * PmdConst.BYTES_SURFACE_VERTEX;
+
+        ByteBuffer bBuf;
+        if(this.bufferSource != null){
+            bBuf = this.bufferSource.parseSlice(byteLen);
+        }else{
+            byte[] bArray = parseByteChunks(byteLen);
+            bBuf = ByteBuffer.wrap(bArray);
+            bBuf.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        ShortBuffer vertexIds = bBuf.asShortBuffer();
+        assert vertexIds.remaining() == num * TRIVTX;
+
+        this.surfaceBulkHandler.pmdSurfaceBulk(num, vertexIds);
 
         return;
     }
 
+    /**
+     * 指定バイト長のバイト列を一定量ずつ読み込む。
+     *
+     * <p>配列は読み込みに応じて倍々に拡張されるため、
+     * 確保量は実際に読み込めたバイト数に比例する。
+     *
+     * @param byteLen バイト長
+     * @return バイト列
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private byte[] parseByteChunks(int byteLen)
+            throws IOException, MmdFormatException{
+        byte[] result = new byte[Math.min(byteLen, BYTE_CHUNK)];
+
+        int filled = 0;
+        while(filled < byteLen){
+            if(filled == result.length){
+                long doubled = (long) result.length * 2;
+                int newLen = (int) Math.min(doubled, byteLen);
+                result = Arrays.copyOf(result, newLen);
+            }
+            int txSize = result.length - filled;
+            parseByteArray(result, filled, txSize);
+            filled += txSize;
+        }
+
+        return result;
+    }
+
     /**
      * 材質情報のパースと通知。
      *
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseMaterialList() throws IOException, MmdFormatException{
+    void parseMaterialList() throws IOException, MmdFormatException{
         int materialNum = parseLeInt();
+        stageStart(PmdMaterialHandler.MATERIAL_LIST, materialNum);
+
+        if(isSkippable(this.materialHandler)){
+            skipRecords(materialNum, PmdConst.BYTES_MATERIAL);
+            stageEnd(PmdMaterialHandler.MATERIAL_LIST);
+            return;
+        }
 
         this.materialHandler.loopStart(PmdMaterialHandler.MATERIAL_LIST,
                                        materialNum );
@@ -388,6 +846,7 @@ private void parseMaterialList() throws IOException, MmdFormatException{
         }
 
         this.materialHandler.loopEnd(PmdMaterialHandler.MATERIAL_LIST);
+        stageEnd(PmdMaterialHandler.MATERIAL_LIST);
 
         return;
     }
@@ -433,8 +892,15 @@ private void parseColor() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseBoneList() throws IOException, MmdFormatException{
+    void parseBoneList() throws IOException, MmdFormatException{
         this.boneCount = parseLeUShortAsInt();
+        stageStart(PmdBoneHandler.BONE_LIST, this.boneCount);
+
+        if(isSkippable(this.boneHandler)){
+            skipRecords(this.boneCount, PmdConst.BYTES_BONE);
+            stageEnd(PmdBoneHandler.BONE_LIST);
+            return;
+        }
 
         this.boneHandler.loopStart(PmdBoneHandler.BONE_LIST, this.boneCount);
 
@@ -459,6 +925,7 @@ private void parseBoneList() throws IOException, MmdFormatException{
         }
 
         this.boneHandler.loopEnd(PmdBoneHandler.BONE_LIST);
+        stageEnd(PmdBoneHandler.BONE_LIST);
 
         return;
     }
@@ -469,8 +936,20 @@ private void parseBoneList() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseIKList() throws IOException, MmdFormatException{
+    void parseIKList() throws IOException, MmdFormatException{
         int ikCount = parseLeUShortAsInt();
+        stageStart(PmdBoneHandler.IK_LIST, ikCount);
+
+        if(isSkippable(this.boneHandler)){
+            for(int ct = 0; ct < ikCount; ct++){
+                skip(BYTES_IK_HEAD);
+                int chainLength = parseUByteAsInt();
+                skip(BYTES_IK_TAIL);
+                skipRecords(chainLength, BYTES_IKCHAIN);
+            }
+            stageEnd(PmdBoneHandler.IK_LIST);
+            return;
+        }
 
         this.boneHandler.loopStart(PmdBoneHandler.IK_LIST, ikCount);
 
@@ -489,6 +968,7 @@ private void parseIKList() throws IOException, MmdFormatException{
         }
 
         this.boneHandler.loopEnd(PmdBoneHandler.IK_LIST);
+        stageEnd(PmdBoneHandler.IK_LIST);
 
         return;
     }
@@ -502,6 +982,8 @@ private void parseIKList() throws IOException, MmdFormatException{
      */
     private void parseIKChainList(int chainLength)
             throws IOException, MmdFormatException{
+        stageStart(PmdBoneHandler.IKCHAIN_LIST, chainLength);
+
         this.boneHandler.loopStart(PmdBoneHandler.IKCHAIN_LIST,
                                    chainLength);
 
@@ -513,6 +995,7 @@ private void parseIKChainList(int chainLength)
         }
 
         this.boneHandler.loopEnd(PmdBoneHandler.IKCHAIN_LIST);
+        stageEnd(PmdBoneHandler.IKCHAIN_LIST);
 
         return;
     }
@@ -523,8 +1006,20 @@ private void parseIKChainList(int chainLength)
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseMorphList() throws IOException, MmdFormatException{
+    void parseMorphList() throws IOException, MmdFormatException{
         this.morphCount = parseLeUShortAsInt();
+        stageStart(PmdMorphHandler.MORPH_LIST, this.morphCount);
+
+        if(isSkippable(this.morphHandler)){
+            for(int ct = 0; ct < this.morphCount; ct++){
+                skip(PmdConst.MAXBYTES_MORPHNAME);
+                int vertexCount = parseLeInt();
+                skip(BYTES_MORPH_TYPE);
+                skipRecords(vertexCount, PmdConst.BYTES_MORPH_VERTEX);
+            }
+            stageEnd(PmdMorphHandler.MORPH_LIST);
+            return;
+        }
 
         this.morphHandler.loopStart(PmdMorphHandler.MORPH_LIST,
                                     this.morphCount );
@@ -543,6 +1038,7 @@ private void parseMorphList() throws IOException, MmdFormatException{
         }
 
         this.morphHandler.loopEnd(PmdMorphHandler.MORPH_LIST);
+        stageEnd(PmdMorphHandler.MORPH_LIST);
 
         return;
     }
@@ -556,6 +1052,8 @@ private void parseMorphList() throws IOException, MmdFormatException{
      */
     private void parseMorphVertexList(int vertexCount)
             throws IOException, MmdFormatException{
+        stageStart(PmdMorphHandler.MORPHVERTEX_LIST, vertexCount);
+
         this.morphHandler.loopStart(PmdMorphHandler.MORPHVERTEX_LIST,
                                     vertexCount );
 
@@ -570,6 +1068,7 @@ private void parseMorphVertexList(int vertexCount)
         }
 
         this.morphHandler.loopEnd(PmdMorphHandler.MORPHVERTEX_LIST);
+        stageEnd(PmdMorphHandler.MORPHVERTEX_LIST);
 
         return;
     }
@@ -580,9 +1079,16 @@ private void parseMorphVertexList(int vertexCount)
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseMorphOrderList()
+    void parseMorphOrderList()
             throws IOException, MmdFormatException{
         int morphOrderCount = parseUByteAsInt();
+        stageStart(PmdMorphHandler.MORPHORDER_LIST, morphOrderCount);
+
+        if(isSkippable(this.morphHandler)){
+            skipRecords(morphOrderCount, BYTES_MORPHORDER);
+            stageEnd(PmdMorphHandler.MORPHORDER_LIST);
+            return;
+        }
 
         this.morphHandler.loopStart(PmdMorphHandler.MORPHORDER_LIST,
                                     morphOrderCount );
@@ -595,6 +1101,7 @@ private void parseMorphOrderList()
         }
 
         this.morphHandler.loopEnd(PmdMorphHandler.MORPHORDER_LIST);
+        stageEnd(PmdMorphHandler.MORPHORDER_LIST);
 
         return;
     }
@@ -605,9 +1112,17 @@ private void parseMorphOrderList()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseBoneGroupList()
+    void parseBoneGroupList()
             throws IOException, MmdFormatException{
         this.boneGroupCount = parseUByteAsInt();
+        stageStart(PmdBoneHandler.BONEGROUP_LIST, this.boneGroupCount);
+
+        if(isSkippable(this.boneHandler)){
+            skipRecords(this.boneGroupCount,
+                        PmdConst.MAXBYTES_BONEGROUPNAME);
+            stageEnd(PmdBoneHandler.BONEGROUP_LIST);
+            return;
+        }
 
         this.boneHandler.loopStart(PmdBoneHandler.BONEGROUP_LIST,
                                    this.boneGroupCount);
@@ -622,6 +1137,7 @@ private void parseBoneGroupList()
         }
 
         this.boneHandler.loopEnd(PmdBoneHandler.BONEGROUP_LIST);
+        stageEnd(PmdBoneHandler.BONEGROUP_LIST);
 
         return;
     }
@@ -632,9 +1148,16 @@ private void parseBoneGroupList()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseGroupedBoneList()
+    void parseGroupedBoneList()
             throws IOException, MmdFormatException{
         int groupedBoneCount = parseLeInt();
+        stageStart(PmdBoneHandler.GROUPEDBONE_LIST, groupedBoneCount);
+
+        if(isSkippable(this.boneHandler)){
+            skipRecords(groupedBoneCount, BYTES_GROUPEDBONE);
+            stageEnd(PmdBoneHandler.GROUPEDBONE_LIST);
+            return;
+        }
 
         this.boneHandler.loopStart(PmdBoneHandler.GROUPEDBONE_LIST,
                                    groupedBoneCount);
@@ -648,6 +1171,7 @@ private void parseGroupedBoneList()
         }
 
         this.boneHandler.loopEnd(PmdBoneHandler.GROUPEDBONE_LIST);
+        stageEnd(PmdBoneHandler.GROUPEDBONE_LIST);
 
         return;
     }
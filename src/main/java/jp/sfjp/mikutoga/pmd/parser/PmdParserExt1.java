@@ -9,6 +9,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
 import jp.sfjp.mikutoga.pmd.PmdConst;
 
@@ -32,6 +33,17 @@ public PmdParserExt1(InputStream source){
         return;
     }
 
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdParserExt1(BinParser parser) throws NullPointerException{
+        super(parser);
+        return;
+    }
+
     /**
      * 英語ハンドラを登録する。
      *
@@ -46,6 +58,15 @@ public void setEngHandler(PmdEngHandler handler){
         return;
     }
 
+    /**
+     * 直前にパースした英語基本情報が英語情報の存在を示したか判定する。
+     *
+     * @return 英語情報があればtrue
+     */
+    boolean hasEnglishInfo(){
+        return this.hasEnglishInfo;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -75,13 +96,18 @@ protected void parseBody()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseEngHeader()
+    void parseEngHeader()
             throws IOException, MmdFormatException{
         this.hasEnglishInfo = parseBoolean();
 
         this.engHandler.pmdEngEnabled(this.hasEnglishInfo);
         if( ! this.hasEnglishInfo ) return;
 
+        if(isSkippable(this.engHandler)){
+            skip(PmdConst.MAXBYTES_MODELNAME + PmdConst.MAXBYTES_MODELDESC);
+            return;
+        }
+
         String modelName =
                 parsePmdText(PmdConst.MAXBYTES_MODELNAME);
         String description =
@@ -99,9 +125,16 @@ private void parseEngHeader()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseEngBoneList()
+    void parseEngBoneList()
             throws IOException, MmdFormatException{
         int boneNum = getBoneCount();
+        stageStart(PmdEngHandler.ENGBONE_LIST, boneNum);
+
+        if(isSkippable(this.engHandler)){
+            skipRecords(boneNum, PmdConst.MAXBYTES_BONENAME);
+            stageEnd(PmdEngHandler.ENGBONE_LIST);
+            return;
+        }
 
         this.engHandler.loopStart(PmdEngHandler.ENGBONE_LIST, boneNum);
 
@@ -114,6 +147,7 @@ private void parseEngBoneList()
         }
 
         this.engHandler.loopEnd(PmdEngHandler.ENGBONE_LIST);
+        stageEnd(PmdEngHandler.ENGBONE_LIST);
 
         return;
     }
@@ -124,9 +158,16 @@ private void parseEngBoneList()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseEngMorphName()
+    void parseEngMorphName()
             throws IOException, MmdFormatException{
         int morphNum = getMorphCount() - 1;  // base は英名なし
+        stageStart(PmdEngHandler.ENGMORPH_LIST, morphNum);
+
+        if(isSkippable(this.engHandler)){
+            skipRecords(morphNum, PmdConst.MAXBYTES_MORPHNAME);
+            stageEnd(PmdEngHandler.ENGMORPH_LIST);
+            return;
+        }
 
         this.engHandler.loopStart(PmdEngHandler.ENGMORPH_LIST, morphNum);
 
@@ -139,6 +180,7 @@ private void parseEngMorphName()
         }
 
         this.engHandler.loopEnd(PmdEngHandler.ENGMORPH_LIST);
+        stageEnd(PmdEngHandler.ENGMORPH_LIST);
 
         return;
     }
@@ -149,9 +191,16 @@ private void parseEngMorphName()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseEngBoneGroupName()
+    void parseEngBoneGroupName()
             throws IOException, MmdFormatException{
         int groupNum = getBoneGroupCount();
+        stageStart(PmdEngHandler.ENGBONEGROUP_LIST, groupNum);
+
+        if(isSkippable(this.engHandler)){
+            skipRecords(groupNum, PmdConst.MAXBYTES_BONEGROUPNAME);
+            stageEnd(PmdEngHandler.ENGBONEGROUP_LIST);
+            return;
+        }
 
         this.engHandler.loopStart(PmdEngHandler.ENGBONEGROUP_LIST, groupNum);
 
@@ -164,6 +213,7 @@ private void parseEngBoneGroupName()
         }
 
         this.engHandler.loopEnd(PmdEngHandler.ENGBONEGROUP_LIST);
+        stageEnd(PmdEngHandler.ENGBONEGROUP_LIST);
 
         return;
     }
@@ -9,6 +9,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
 import jp.sfjp.mikutoga.pmd.PmdConst;
 
@@ -31,6 +32,17 @@ public PmdParserExt2(InputStream source){
         return;
     }
 
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdParserExt2(BinParser parser) throws NullPointerException{
+        super(parser);
+        return;
+    }
+
     /**
      * トゥーンテクスチャファイルハンドラを登録する。
      *
@@ -69,7 +81,16 @@ protected void parseBody()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseToonName() throws IOException, MmdFormatException{
+    void parseToonName() throws IOException, MmdFormatException{
+        stageStart(PmdToonHandler.TOON_LIST, PmdConst.TOON_FIXEDNUM);
+
+        if(isSkippable(this.toonHandler)){
+            skipRecords(PmdConst.TOON_FIXEDNUM,
+                        PmdConst.MAXBYTES_TOONFILENAME);
+            stageEnd(PmdToonHandler.TOON_LIST);
+            return;
+        }
+
         this.toonHandler.loopStart(PmdToonHandler.TOON_LIST,
                                    PmdConst.TOON_FIXEDNUM );
 
@@ -82,6 +103,7 @@ private void parseToonName() throws IOException, MmdFormatException{
         }
 
         this.toonHandler.loopEnd(PmdToonHandler.TOON_LIST);
+        stageEnd(PmdToonHandler.TOON_LIST);
 
         return;
     }
@@ -9,6 +9,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
 import jp.sfjp.mikutoga.pmd.PmdConst;
 
@@ -32,6 +33,17 @@ public PmdParserExt3(InputStream source){
         return;
     }
 
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public PmdParserExt3(BinParser parser) throws NullPointerException{
+        super(parser);
+        return;
+    }
+
     /**
      * 剛体ハンドラを登録する。
      *
@@ -85,8 +97,15 @@ protected void parseBody()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseRigidList() throws IOException, MmdFormatException{
+    void parseRigidList() throws IOException, MmdFormatException{
         int rigidNum = parseLeInt();
+        stageStart(PmdRigidHandler.RIGID_LIST, rigidNum);
+
+        if(isSkippable(this.rigidHandler)){
+            skipRecords(rigidNum, PmdConst.BYTES_RIGID);
+            stageEnd(PmdRigidHandler.RIGID_LIST);
+            return;
+        }
 
         this.rigidHandler.loopStart(PmdRigidHandler.RIGID_LIST, rigidNum);
 
@@ -110,6 +129,7 @@ private void parseRigidList() throws IOException, MmdFormatException{
         }
 
         this.rigidHandler.loopEnd(PmdRigidHandler.RIGID_LIST);
+        stageEnd(PmdRigidHandler.RIGID_LIST);
 
         return;
     }
@@ -170,8 +190,15 @@ private void parseRigidDynamics()
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseJointList() throws IOException, MmdFormatException{
+    void parseJointList() throws IOException, MmdFormatException{
         int jointNum = parseLeInt();
+        stageStart(PmdJointHandler.JOINT_LIST, jointNum);
+
+        if(isSkippable(this.jointHandler)){
+            skipRecords(jointNum, PmdConst.BYTES_JOINT);
+            stageEnd(PmdJointHandler.JOINT_LIST);
+            return;
+        }
 
         this.jointHandler.loopStart(PmdJointHandler.JOINT_LIST, jointNum);
 
@@ -192,6 +219,7 @@ private void parseJointList() throws IOException, MmdFormatException{
         }
 
         this.jointHandler.loopEnd(PmdJointHandler.JOINT_LIST);
+        stageEnd(PmdJointHandler.JOINT_LIST);
 
         return;
     }
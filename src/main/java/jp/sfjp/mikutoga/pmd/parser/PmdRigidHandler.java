@@ -21,7 +21,7 @@
 public interface PmdRigidHandler extends LoopHandler {
 
     /** 剛体情報抽出ループ。 */
-    public static final ParseStage RIGID_LIST = new ParseStage();
+    public static final ParseStage RIGID_LIST = new ParseStage("RIGID_LIST");
 
     /**
      * 剛体名の通知を受け取る。
@@ -21,9 +21,10 @@
 public interface PmdShapeHandler extends LoopHandler {
 
     /** 頂点抽出ループ。 */
-    public static final ParseStage VERTEX_LIST = new ParseStage();
+    public static final ParseStage VERTEX_LIST = new ParseStage("VERTEX_LIST");
     /** 面抽出ループ。 */
-    public static final ParseStage SURFACE_LIST = new ParseStage();
+    public static final ParseStage SURFACE_LIST =
+            new ParseStage("SURFACE_LIST");
 
     /**
      * 頂点の座標の通知を受け取る。
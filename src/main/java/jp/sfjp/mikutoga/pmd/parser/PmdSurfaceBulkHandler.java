@@ -0,0 +1,41 @@
+/*
+ * PMD surface bulk handler
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import java.nio.ShortBuffer;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+
+/**
+ * PMDモデルの面情報一式をインデックスバッファとして一括して受け取るハンドラ。
+ *
+ * <p>面毎の通知を行う{@link PmdShapeHandler}の代わりに、
+ * 全ての面を構成する頂点IDの並びを一度だけ通知される。
+ *
+ * <p>入力ソースが{@link jp.sfjp.mikutoga.bin.parser.BufferParser}
+ * である場合、通知されるバッファは入力ソースの内容を複製せずに共有する。
+ */
+public interface PmdSurfaceBulkHandler {
+
+    /**
+     * 全面情報の通知を受け取る。
+     *
+     * <p>バッファには面ID順に、面毎に3つの頂点IDが格納される。
+     * 頂点IDは符号無し16bit値として解釈しなければならない。
+     * バッファの位置は0、リミットは面数の3倍。
+     * バッファは読み込み専用の場合がある。
+     *
+     * @param surfaceNum 面数
+     * @param vertexIds 頂点IDの並び
+     * @throws MmdFormatException
+     *     不正フォーマットによるパース処理の中断をパーサに指示
+     * @see PmdShapeHandler#pmdSurfaceTriangle(int, int, int)
+     */
+    public abstract void pmdSurfaceBulk(int surfaceNum, ShortBuffer vertexIds)
+            throws MmdFormatException;
+
+}
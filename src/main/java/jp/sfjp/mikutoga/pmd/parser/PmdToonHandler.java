@@ -17,7 +17,7 @@
 public interface PmdToonHandler extends LoopHandler {
 
     /** トゥーンテクスチャファイル名抽出ループ。 */
-    public static final ParseStage TOON_LIST = new ParseStage();
+    public static final ParseStage TOON_LIST = new ParseStage("TOON_LIST");
 
     /**
      * 独自トゥーンテクスチャファイル名の通知を受け取る。
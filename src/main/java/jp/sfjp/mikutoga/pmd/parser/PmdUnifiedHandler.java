@@ -7,8 +7,6 @@
 
 package jp.sfjp.mikutoga.pmd.parser;
 
-import jp.sfjp.mikutoga.corelib.EmptyProxyFactory;
-
 /**
  * PMDパーサ用の統合ハンドラ。
  */
@@ -24,8 +22,6 @@
             PmdJointHandler {
 
     /** 何もしない統合ハンドラ。 */
-    public static final PmdUnifiedHandler EMPTY =
-            (PmdUnifiedHandler)
-            ( EmptyProxyFactory.buildEmptyProxy(PmdUnifiedHandler.class) );
+    public static final PmdUnifiedHandler EMPTY = new EmptyPmdHandler();
 
 }
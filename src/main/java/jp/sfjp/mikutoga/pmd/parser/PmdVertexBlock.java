@@ -0,0 +1,202 @@
+/*
+ * pmd vertex block
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import jp.sfjp.mikutoga.pmd.PmdConst;
+
+/**
+ * 頂点情報を属性毎のプリミティブ配列へ振り分けたもの。
+ *
+ * <p>入力バイト列はリトルエンディアンのPMD頂点レコードの並び。
+ * 各レコードは絶対位置指定で読み込まれ、
+ * 入力バッファの位置やリミットは変更されない。
+ * このため同じ入力バッファの異なる範囲を
+ * 複数のスレッドから同時にデコードできる。
+ *
+ * <p>頂点数が入力ソースから読み込むまで保証されない場合は、
+ * 少ない頂点数で生成した後に{@link #grow(int)}で拡張する。
+ */
+final class PmdVertexBlock {
+
+    /** 並列デコードにおいて1タスクが受け持つ最大頂点数。 */
+    static final int PARALLEL_LEAF = 4096;
+
+    private static final int VEC3 = 3;
+    private static final int VEC2 = 2;
+
+    private static final int OFF_NORMAL = 4 * VEC3;
+    private static final int OFF_UV     = OFF_NORMAL + 4 * VEC3;
+    private static final int OFF_BONE   = OFF_UV + 4 * VEC2;
+    private static final int OFF_WEIGHT = OFF_BONE + 2 * VEC2;
+    private static final int OFF_EDGE   = OFF_WEIGHT + 1;
+
+    static{
+        assert OFF_EDGE + 1 == PmdConst.BYTES_VERTEX;
+    }
+
+
+    int vertexNum;
+
+    float[] positions;
+    float[] normals;
+    float[] uvs;
+    short[] boneIds;
+    byte[] weights;
+    boolean[] hideEdges;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param vertexNum 頂点数
+     */
+    PmdVertexBlock(int vertexNum){
+        super();
+
+        this.vertexNum = vertexNum;
+
+        this.positions = new float[vertexNum * VEC3];
+        this.normals   = new float[vertexNum * VEC3];
+        this.uvs       = new float[vertexNum * VEC2];
+        this.boneIds   = new short[vertexNum * VEC2];
+        this.weights   = new byte[vertexNum];
+        this.hideEdges = new boolean[vertexNum];
+
+        return;
+    }
+
+
+    /**
+     * 頂点数を拡張する。
+     *
+     * <p>デコード済みの頂点は保持される。
+     *
+     * @param newNum 新しい頂点数
+     */
+    void grow(int newNum){
+        if(newNum <= this.vertexNum) return;
+
+        this.vertexNum = newNum;
+
+        this.positions = Arrays.copyOf(this.positions, newNum * VEC3);
+        this.normals   = Arrays.copyOf(this.normals,   newNum * VEC3);
+        this.uvs       = Arrays.copyOf(this.uvs,       newNum * VEC2);
+        this.boneIds   = Arrays.copyOf(this.boneIds,   newNum * VEC2);
+        this.weights   = Arrays.copyOf(this.weights,   newNum);
+        this.hideEdges = Arrays.copyOf(this.hideEdges, newNum);
+
+        return;
+    }
+
+    /**
+     * 頂点レコードの並びをデコードする。
+     *
+     * @param leBuf リトルエンディアンの入力バッファ
+     * @param offset 最初のレコードの入力バッファ上の絶対位置
+     * @param vertexId 最初のレコードの頂点ID
+     * @param count レコード数
+     */
+    void decode(ByteBuffer leBuf, int offset, int vertexId, int count){
+        int pos = offset;
+        int end = vertexId + count;
+
+        for(int id = vertexId; id < end; id++){
+            int vec3 = id * VEC3;
+            int vec2 = id * VEC2;
+
+            this.positions[vec3    ] = leBuf.getFloat(pos);
+            this.positions[vec3 + 1] = leBuf.getFloat(pos + 4);
+            this.positions[vec3 + 2] = leBuf.getFloat(pos + 8);
+
+            this.normals[vec3    ] = leBuf.getFloat(pos + OFF_NORMAL);
+            this.normals[vec3 + 1] = leBuf.getFloat(pos + OFF_NORMAL + 4);
+            this.normals[vec3 + 2] = leBuf.getFloat(pos + OFF_NORMAL + 8);
+
+            this.uvs[vec2    ] = leBuf.getFloat(pos + OFF_UV);
+            this.uvs[vec2 + 1] = leBuf.getFloat(pos + OFF_UV + 4);
+
+            this.boneIds[vec2    ] = leBuf.getShort(pos + OFF_BONE);
+            this.boneIds[vec2 + 1] = leBuf.getShort(pos + OFF_BONE + 2);
+
+            this.weights[id]   = leBuf.get(pos + OFF_WEIGHT);
+            this.hideEdges[id] = leBuf.get(pos + OFF_EDGE) != 0x00;
+
+            pos += PmdConst.BYTES_VERTEX;
+        }
+
+        return;
+    }
+
+    /**
+     * 全頂点レコードを並列にデコードする。
+     *
+     * <p>頂点の並びは{@link #PARALLEL_LEAF}以下の範囲に分割され、
+     * それぞれがForkJoinPool上でデコードされる。
+     *
+     * @param leBuf 全頂点レコードを位置0から格納した
+     *     リトルエンディアンの入力バッファ
+     * @param pool ForkJoinPool
+     */
+    void decodeParallel(ByteBuffer leBuf, ForkJoinPool pool){
+        pool.invoke(new DecodeTask(leBuf, 0, this.vertexNum));
+        return;
+    }
+
+
+    /**
+     * 頂点の範囲をデコードするタスク。
+     */
+    @SuppressWarnings("serial")
+    private final class DecodeTask extends RecursiveAction{
+
+        private final ByteBuffer leBuf;
+        private final int from;
+        private final int to;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param leBuf 入力バッファ
+         * @param from 開始頂点ID
+         * @param to 終了頂点ID(これを含まない)
+         */
+        DecodeTask(ByteBuffer leBuf, int from, int to){
+            super();
+            this.leBuf = leBuf;
+            this.from = from;
+            this.to = to;
+            return;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute(){
+            int num = this.to - this.from;
+
+            if(num <= PARALLEL_LEAF){
+                int offset = this.from * PmdConst.BYTES_VERTEX;
+                decode(this.leBuf, offset, this.from, num);
+                return;
+            }
+
+            int mid = this.from + num / 2;
+            invokeAll(new DecodeTask(this.leBuf, this.from, mid),
+                      new DecodeTask(this.leBuf, mid, this.to) );
+
+            return;
+        }
+
+    }
+
+}
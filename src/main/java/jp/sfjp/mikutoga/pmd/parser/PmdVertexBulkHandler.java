@@ -0,0 +1,52 @@
+/*
+ * PMD vertex bulk handler
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+
+/**
+ * PMDモデルの頂点情報一式を配列で一括して受け取るハンドラ。
+ *
+ * <p>頂点毎の通知を行う{@link PmdShapeHandler}の代わりに、
+ * 全頂点の各属性をプリミティブ型配列に格納した状態で一度だけ通知を受け取る。
+ *
+ * <p>各配列は頂点ID順に格納される。
+ * 複数成分を持つ属性は頂点毎に成分が連続して格納される。
+ * (例：座標ならX0,Y0,Z0,X1,Y1,Z1,...)
+ *
+ * <p>各配列は通知毎に新たに確保されるため、
+ * 通知後はハンドラが自由に保持、改変してよい。
+ */
+public interface PmdVertexBulkHandler {
+
+    /**
+     * 全頂点情報の通知を受け取る。
+     *
+     * @param vertexNum 頂点数
+     * @param positions 頂点座標。頂点毎にXYZの3成分。
+     * @param normals 法線ベクトル。頂点毎にXYZの3成分。
+     * @param uvs テクスチャUV座標。頂点毎にUVの2成分。
+     * @param boneIds ボーンID。頂点毎にボーンその1,その2の2成分。
+     *     符号無し16bit値として解釈しなければならない。
+     * @param weights ボーンその1への影響度。0(min)～100(max)
+     * @param hideEdges エッジ無効ならtrue
+     * @throws MmdFormatException
+     *     不正フォーマットによるパース処理の中断をパーサに指示
+     * @see PmdShapeHandler#pmdVertexPosition(float, float, float)
+     * @see PmdShapeHandler#pmdVertexNormal(float, float, float)
+     * @see PmdShapeHandler#pmdVertexUV(float, float)
+     * @see PmdShapeHandler#pmdVertexWeight(int, int, int)
+     * @see PmdShapeHandler#pmdVertexEdge(boolean)
+     */
+    public abstract void pmdVertexBulk(
+            int vertexNum,
+            float[] positions, float[] normals, float[] uvs,
+            short[] boneIds, byte[] weights, boolean[] hideEdges)
+            throws MmdFormatException;
+
+}
@@ -0,0 +1,1235 @@
+/*
+ * vmd file exporter
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import jp.sfjp.mikutoga.bin.export.IllegalTextExportException;
+import jp.sfjp.mikutoga.bin.export.TextExporter;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.vmd.VmdConst;
+import jp.sfjp.mikutoga.vmd.parser.VmdBasicHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdBoolHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdCameraHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdLightingHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdUnifiedHandler;
+
+/**
+ * VMDモーションファイルのエクスポーター。
+ *
+ * <p>VMDパーサ用の統合ハンドラを実装しており、
+ * パーサの全ハンドラに登録すればパース結果をそのまま書き戻せる。
+ *
+ * <p>また、キーフレームの各要素を配列で渡すことにより
+ * 種別毎のキーフレーム全体を一度に出力するメソッドを持つ。
+ * 大量のキーフレームを生成して出力する用途ではこちらを用いる。
+ *
+ * <p>ファイル内の各リストは
+ * ボーン、モーフ、カメラ、照明、シャドウ、モデル表示の順に並ぶ。
+ * 途中のリストを飛ばして後のリストを出力した場合、
+ * 飛ばしたリストは空のリストとして出力される。
+ * 出力済みのリストおよびそれより前のリストを出力しようとすると
+ * {@link IllegalStateException}が投げられる。
+ *
+ * <p>ボーンモーションの補間情報は、
+ * 先頭16byteの補間パラメータから残り48byteの冗長部を生成して出力する。
+ * 冗長部は{@link jp.sfjp.mikutoga.vmd.parser.VmdParser#setRedundantCheck}
+ * による検査を満たす。
+ *
+ * <p>出力内容は再利用される内部バッファに
+ * リトルエンディアンで符号化され、
+ * {@link #BUFFER_SIZE}に達した時点および
+ * フラッシュ時に出力ストリームへ一度に書き込まれる。
+ *
+ * <p>文字列の余白は0x00で埋められる。
+ * ハンドラとして通知を受けた際の出力エラーは
+ * {@link UncheckedIOException}で、
+ * 固定長に収まらない文字列や符号化できない文字列は
+ * {@link MmdFormatException}で通知される。
+ *
+ * <p>出力ストリームは閉じられない。
+ * このクラスはスレッドセーフではない。
+ */
+public class VmdExporter implements VmdUnifiedHandler, Flushable {
+
+    /** 内部バッファのバイト長。 */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /** ボーンモーション1件あたりの補間パラメータのバイト長。 */
+    public static final int BONE_INTPLT_SIZE = 16;
+
+    /** カメラモーション1件あたりの補間パラメータのバイト長。 */
+    public static final int CAMERA_INTPLT_SIZE = 24;
+
+    private static final Charset CS_WIN31J = Charset.forName("windows-31j");
+
+    private static final String ERRMSG_ILLENC    = "illegal encoding";
+    private static final String ERRMSG_TOOLONGTX =
+              "too long text: "
+            + "text \"{0}\" needs {1}bytes encoded but limit={2}bytes";
+
+    private static final int SEC_NONE       = -1;
+    private static final int SEC_BONE       = 0;
+    private static final int SEC_MORPH      = 1;
+    private static final int SEC_CAMERA     = 2;
+    private static final int SEC_LUMINOUS   = 3;
+    private static final int SEC_SHADOW     = 4;
+    private static final int SEC_MODELSIGHT = 5;
+
+    private static final int BZ_ROWS = 4;
+    private static final int BZ_CH_NUM = 4;
+
+    private static final int VEC3 = 3;
+    private static final int QUAT = 4;
+
+    private static final int INT_SIZE   = 4;
+    private static final int FLOAT_SIZE = 4;
+
+    private static final int BONE_SIZE =
+            VmdConst.BONENAME_MAX + INT_SIZE
+            + (VEC3 + QUAT) * FLOAT_SIZE
+            + BONE_INTPLT_SIZE * BZ_ROWS;
+    private static final int MORPH_SIZE =
+            VmdConst.MORPHNAME_MAX + INT_SIZE + FLOAT_SIZE;
+    private static final int CAMERA_SIZE =
+            INT_SIZE + (1 + VEC3 + VEC3) * FLOAT_SIZE
+            + CAMERA_INTPLT_SIZE + INT_SIZE + 1;
+    private static final int LUMINOUS_SIZE =
+            INT_SIZE + (VEC3 + VEC3) * FLOAT_SIZE;
+    private static final int SHADOW_SIZE =
+            INT_SIZE + 1 + FLOAT_SIZE;
+    private static final int MODELSIGHT_SIZE =
+            INT_SIZE + 1 + INT_SIZE;
+    private static final int IKSW_SIZE =
+            VmdConst.IKSWBONENAME_MAX + 1;
+
+    private static final int NAMECACHE_MAX = 256;
+
+
+    private final OutputStream ostream;
+    private final ByteBuffer buf;
+
+    private final TextExporter texporter;
+    private final ByteArrayOutputStream xos;
+    private final Map<String, byte[]> nameCache;
+
+    private int section = SEC_NONE;
+
+    private final byte[] boneIntplt = new byte[BONE_INTPLT_SIZE];
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param ostream 出力ストリーム
+     * @throws NullPointerException 引数がnull
+     */
+    public VmdExporter(OutputStream ostream) throws NullPointerException{
+        super();
+
+        if(ostream == null) throw new NullPointerException();
+        this.ostream = ostream;
+
+        this.buf = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buf.order(ByteOrder.LITTLE_ENDIAN);
+
+        this.texporter = new TextExporter(CS_WIN31J);
+        this.xos = new ByteArrayOutputStream();
+        this.nameCache = new HashMap<>();
+
+        return;
+    }
+
+
+    /**
+     * 内部バッファに蓄えられた内容を出力ストリームに書き込み、
+     * 出力ストリームをフラッシュする。
+     *
+     * @throws IOException 出力エラー
+     */
+    @Override
+    public void flush() throws IOException{
+        drain();
+        this.ostream.flush();
+        return;
+    }
+
+    /**
+     * 内部バッファに蓄えられた内容を出力ストリームに書き込む。
+     *
+     * @throws IOException 出力エラー
+     */
+    private void drain() throws IOException{
+        int size = this.buf.position();
+        if(size <= 0) return;
+
+        this.ostream.write(this.buf.array(), 0, size);
+        this.buf.clear();
+
+        return;
+    }
+
+    /**
+     * 内部バッファに指定バイト長の空きを確保する。
+     *
+     * <p>空きが足りなければ内部バッファの内容を出力ストリームに書き込む。
+     *
+     * @param size バイト長
+     * @throws IOException 出力エラー
+     */
+    private void reserve(int size) throws IOException{
+        if(this.buf.remaining() >= size) return;
+        drain();
+        return;
+    }
+
+    /**
+     * ハンドラとしての通知用に内部バッファの空きを確保する。
+     *
+     * @param size バイト長
+     * @throws UncheckedIOException 出力エラー
+     */
+    private void reserveUnchecked(int size) throws UncheckedIOException{
+        try{
+            reserve(size);
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+        return;
+    }
+
+    /**
+     * 指定したリストの出力を開始する。
+     *
+     * <p>飛ばされたリストは空のリストとして出力される。
+     *
+     * @param sec リスト種別
+     * @throws IllegalStateException 出力済みのリストもしくは
+     *     それより前のリストが指定された
+     */
+    private void enterSection(int sec) throws IllegalStateException{
+        if(sec <= this.section) throw new IllegalStateException();
+
+        for(int skip = this.section + 1; skip < sec; skip++){
+            this.buf.putInt(0);
+        }
+        this.section = sec;
+
+        return;
+    }
+
+    /**
+     * 文字列のエンコード結果を返す。
+     *
+     * <p>同じ文字列のエンコード結果は一定数までキャッシュされる。
+     *
+     * @param text 文字列
+     * @param maxBytes 最大バイト長
+     * @return エンコード結果
+     * @throws IllegalTextExportException 文字列が最大長に収まらない、
+     *     もしくは符号化できない。
+     */
+    private byte[] encodeText(String text, int maxBytes)
+            throws IllegalTextExportException{
+        byte[] result = this.nameCache.get(text);
+
+        if(result == null){
+            this.xos.reset();
+            try{
+                this.texporter.encodeToByteStream(text, this.xos);
+            }catch(CharacterCodingException e){
+                throw new IllegalTextExportException(ERRMSG_ILLENC, e);
+            }
+            result = this.xos.toByteArray();
+
+            if(this.nameCache.size() >= NAMECACHE_MAX){
+                this.nameCache.clear();
+            }
+            this.nameCache.put(text, result);
+        }
+
+        if(result.length > maxBytes){
+            String message =
+                    MessageFormat.format(ERRMSG_TOOLONGTX,
+                                         text, result.length, maxBytes);
+            throw new IllegalTextExportException(message);
+        }
+
+        return result;
+    }
+
+    /**
+     * 文字列を固定バイト長で内部バッファに格納する。
+     *
+     * @param text 文字列
+     * @param fixedLength 固定バイト長
+     * @throws IllegalTextExportException 文字列が固定長に収まらない、
+     *     もしくは符号化できない。
+     */
+    private void putText(String text, int fixedLength)
+            throws IllegalTextExportException{
+        byte[] bin = encodeText(text, fixedLength);
+        this.buf.put(bin);
+        for(int ct = bin.length; ct < fixedLength; ct++){
+            this.buf.put((byte) 0x00);
+        }
+        return;
+    }
+
+    /**
+     * ハンドラとしての通知用に文字列を固定バイト長で格納する。
+     *
+     * @param text 文字列
+     * @param fixedLength 固定バイト長
+     * @throws MmdFormatException 文字列が固定長に収まらない、
+     *     もしくは符号化できない。
+     */
+    private void putTextChecked(String text, int fixedLength)
+            throws MmdFormatException{
+        try{
+            putText(text, fixedLength);
+        }catch(IllegalTextExportException e){
+            MmdFormatException ex = new MmdFormatException(e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+        return;
+    }
+
+    /**
+     * ボーンモーションの補間情報を冗長部込みの64byteで格納する。
+     *
+     * <p>補間パラメータはVMDファイル上の並びと同じく、
+     * P1x,P1y,P2x,P2yの各々についてX,Y,Z,回転の順に並ぶ16byte。
+     * 2行目以降は先頭行を1byteずつずらしたものに0x01を続け、
+     * 残りを0x00で埋める。
+     *
+     * @param intplt 補間パラメータ
+     * @param offset 補間パラメータの開始位置
+     */
+    private void putBoneIntplt(byte[] intplt, int offset){
+        this.buf.put(intplt, offset, BONE_INTPLT_SIZE);
+
+        for(int lack = 1; lack < BZ_ROWS; lack++){
+            this.buf.put(intplt, offset + lack, BONE_INTPLT_SIZE - lack);
+            this.buf.put((byte) 0x01);
+            for(int ct = 1; ct < lack; ct++){
+                this.buf.put((byte) 0x00);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * 配列長が要素数に足りているか検査する。
+     *
+     * @param arrayLength 配列長
+     * @param num 要素数
+     * @param stride 1件あたりの配列要素数
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     */
+    private static void checkLength(int arrayLength, int num, int stride)
+            throws IndexOutOfBoundsException{
+        if(arrayLength < (long) num * stride){
+            throw new IndexOutOfBoundsException();
+        }
+        return;
+    }
+
+    /**
+     * ヘッダとモデル名を出力する。
+     *
+     * @param modelName モデル名
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException モデル名が長すぎる、
+     *     もしくは符号化できない。
+     */
+    public void dumpHeader(String modelName)
+            throws IOException, IllegalTextExportException{
+        reserve(VmdConst.HEADER_LENGTH + VmdConst.MODELNAME_MAX);
+        putText(VmdConst.MAGIC_TXT, VmdConst.HEADER_LENGTH);
+        putText(modelName, VmdConst.MODELNAME_MAX);
+        return;
+    }
+
+    /**
+     * ボーンモーションのリストを出力する。
+     *
+     * <p>位置はキーフレーム毎にXYZの3要素、
+     * 回転クォータニオンはキーフレーム毎にXYZWの4要素、
+     * 補間パラメータはキーフレーム毎に{@link #BONE_INTPLT_SIZE}要素を
+     * 各配列に詰めて格納する。
+     * 補間パラメータの並びはVMDファイル上の並びと同じく、
+     * P1x,P1y,P2x,P2yの各々についてX,Y,Z,回転の順となる。
+     *
+     * @param boneNames ボーン名
+     * @param frameNos フレーム番号
+     * @param positions 位置
+     * @param rotations 回転クォータニオン
+     * @param intplts 補間パラメータ
+     * @param num キーフレーム数
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException ボーン名が長すぎる、
+     *     もしくは符号化できない。
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     * @throws IllegalStateException リストの出力順序が不正
+     */
+    public void dumpBoneMotion(String[] boneNames,
+                               int[] frameNos,
+                               float[] positions,
+                               float[] rotations,
+                               byte[] intplts,
+                               int num )
+            throws IOException,
+                   IllegalTextExportException,
+                   IndexOutOfBoundsException,
+                   IllegalStateException {
+        checkLength(boneNames.length, num, 1);
+        checkLength(frameNos.length,  num, 1);
+        checkLength(positions.length, num, VEC3);
+        checkLength(rotations.length, num, QUAT);
+        checkLength(intplts.length,   num, BONE_INTPLT_SIZE);
+
+        reserve(INT_SIZE * (SEC_BONE + 1));
+        enterSection(SEC_BONE);
+        this.buf.putInt(num);
+
+        ByteBuffer b = this.buf;
+        for(int idx = 0; idx < num; idx++){
+            reserve(BONE_SIZE);
+
+            putText(boneNames[idx], VmdConst.BONENAME_MAX);
+            b.putInt(frameNos[idx]);
+
+            int posIdx = idx * VEC3;
+            b.putFloat(positions[posIdx]);
+            b.putFloat(positions[posIdx + 1]);
+            b.putFloat(positions[posIdx + 2]);
+
+            int rotIdx = idx * QUAT;
+            b.putFloat(rotations[rotIdx]);
+            b.putFloat(rotations[rotIdx + 1]);
+            b.putFloat(rotations[rotIdx + 2]);
+            b.putFloat(rotations[rotIdx + 3]);
+
+            putBoneIntplt(intplts, idx * BONE_INTPLT_SIZE);
+        }
+
+        return;
+    }
+
+    /**
+     * モーフモーションのリストを出力する。
+     *
+     * @param morphNames モーフ名
+     * @param frameNos フレーム番号
+     * @param flexes 変形度
+     * @param num キーフレーム数
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException モーフ名が長すぎる、
+     *     もしくは符号化できない。
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     * @throws IllegalStateException リストの出力順序が不正
+     */
+    public void dumpMorphMotion(String[] morphNames,
+                                int[] frameNos,
+                                float[] flexes,
+                                int num )
+            throws IOException,
+                   IllegalTextExportException,
+                   IndexOutOfBoundsException,
+                   IllegalStateException {
+        checkLength(morphNames.length, num, 1);
+        checkLength(frameNos.length,   num, 1);
+        checkLength(flexes.length,     num, 1);
+
+        reserve(INT_SIZE * (SEC_MORPH + 1));
+        enterSection(SEC_MORPH);
+        this.buf.putInt(num);
+
+        ByteBuffer b = this.buf;
+        for(int idx = 0; idx < num; idx++){
+            reserve(MORPH_SIZE);
+            putText(morphNames[idx], VmdConst.MORPHNAME_MAX);
+            b.putInt(frameNos[idx]);
+            b.putFloat(flexes[idx]);
+        }
+
+        return;
+    }
+
+    /**
+     * カメラモーションのリストを出力する。
+     *
+     * <p>位置はキーフレーム毎にXYZの3要素、
+     * 回転はキーフレーム毎に極座標の緯度、経度、ロールの3要素、
+     * 補間パラメータはキーフレーム毎に{@link #CAMERA_INTPLT_SIZE}要素を
+     * 各配列に詰めて格納する。
+     * 補間パラメータの並びはVMDファイル上の並びと同じく、
+     * X,Y,Z,回転,距離,視野角の各々についてP1x,P2x,P1y,P2yの順となる。
+     *
+     * @param frameNos フレーム番号
+     * @param ranges 目標点との距離
+     * @param positions 目標点位置
+     * @param rotations カメラ回転
+     * @param intplts 補間パラメータ
+     * @param angles 縦視野角。度数法
+     * @param perspectives パースペクティブモードならtrue
+     * @param num キーフレーム数
+     * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     * @throws IllegalStateException リストの出力順序が不正
+     */
+    public void dumpCameraMotion(int[] frameNos,
+                                 float[] ranges,
+                                 float[] positions,
+                                 float[] rotations,
+                                 byte[] intplts,
+                                 int[] angles,
+                                 boolean[] perspectives,
+                                 int num )
+            throws IOException,
+                   IndexOutOfBoundsException,
+                   IllegalStateException {
+        checkLength(frameNos.length,     num, 1);
+        checkLength(ranges.length,       num, 1);
+        checkLength(positions.length,    num, VEC3);
+        checkLength(rotations.length,    num, VEC3);
+        checkLength(intplts.length,      num, CAMERA_INTPLT_SIZE);
+        checkLength(angles.length,       num, 1);
+        checkLength(perspectives.length, num, 1);
+
+        reserve(INT_SIZE * (SEC_CAMERA + 1));
+        enterSection(SEC_CAMERA);
+        this.buf.putInt(num);
+
+        ByteBuffer b = this.buf;
+        for(int idx = 0; idx < num; idx++){
+            reserve(CAMERA_SIZE);
+
+            b.putInt(frameNos[idx]);
+            b.putFloat(ranges[idx]);
+
+            int vecIdx = idx * VEC3;
+            b.putFloat(positions[vecIdx]);
+            b.putFloat(positions[vecIdx + 1]);
+            b.putFloat(positions[vecIdx + 2]);
+            b.putFloat(rotations[vecIdx]);
+            b.putFloat(rotations[vecIdx + 1]);
+            b.putFloat(rotations[vecIdx + 2]);
+
+            b.put(intplts, idx * CAMERA_INTPLT_SIZE, CAMERA_INTPLT_SIZE);
+
+            b.putInt(angles[idx]);
+            b.put(perspectives[idx] ? (byte) 0x00 : (byte) 0x01);
+        }
+
+        return;
+    }
+
+    /**
+     * 照明モーションのリストを出力する。
+     *
+     * <p>色はキーフレーム毎にRGBの3要素、
+     * 方向はキーフレーム毎にXYZの3要素を各配列に詰めて格納する。
+     *
+     * @param frameNos フレーム番号
+     * @param colors 光源色
+     * @param directions 光源方向
+     * @param num キーフレーム数
+     * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     * @throws IllegalStateException リストの出力順序が不正
+     */
+    public void dumpLuminousMotion(int[] frameNos,
+                                   float[] colors,
+                                   float[] directions,
+                                   int num )
+            throws IOException,
+                   IndexOutOfBoundsException,
+                   IllegalStateException {
+        checkLength(frameNos.length,   num, 1);
+        checkLength(colors.length,     num, VEC3);
+        checkLength(directions.length, num, VEC3);
+
+        reserve(INT_SIZE * (SEC_LUMINOUS + 1));
+        enterSection(SEC_LUMINOUS);
+        this.buf.putInt(num);
+
+        ByteBuffer b = this.buf;
+        for(int idx = 0; idx < num; idx++){
+            reserve(LUMINOUS_SIZE);
+
+            b.putInt(frameNos[idx]);
+
+            int vecIdx = idx * VEC3;
+            b.putFloat(colors[vecIdx]);
+            b.putFloat(colors[vecIdx + 1]);
+            b.putFloat(colors[vecIdx + 2]);
+            b.putFloat(directions[vecIdx]);
+            b.putFloat(directions[vecIdx + 1]);
+            b.putFloat(directions[vecIdx + 2]);
+        }
+
+        return;
+    }
+
+    /**
+     * シャドウモーションのリストを出力する。
+     *
+     * @param frameNos フレーム番号
+     * @param modes シャドウモード
+     * @param scopes シャドウ範囲。ファイル上の値そのもの
+     * @param num キーフレーム数
+     * @throws IOException 出力エラー
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     * @throws IllegalStateException リストの出力順序が不正
+     */
+    public void dumpShadowMotion(int[] frameNos,
+                                 byte[] modes,
+                                 float[] scopes,
+                                 int num )
+            throws IOException,
+                   IndexOutOfBoundsException,
+                   IllegalStateException {
+        checkLength(frameNos.length, num, 1);
+        checkLength(modes.length,    num, 1);
+        checkLength(scopes.length,   num, 1);
+
+        reserve(INT_SIZE * (SEC_SHADOW + 1));
+        enterSection(SEC_SHADOW);
+        this.buf.putInt(num);
+
+        ByteBuffer b = this.buf;
+        for(int idx = 0; idx < num; idx++){
+            reserve(SHADOW_SIZE);
+            b.putInt(frameNos[idx]);
+            b.put(modes[idx]);
+            b.putFloat(scopes[idx]);
+        }
+
+        return;
+    }
+
+    /**
+     * モデル表示とIK有効無効のリストを出力する。
+     *
+     * <p>キーフレーム毎のIKスイッチ数を{@code ikNums}に、
+     * 全キーフレームのIKスイッチを先頭から順に
+     * {@code ikBoneNames}と{@code ikValids}に詰めて格納する。
+     * IKスイッチが無ければ各IKスイッチ配列にnullを渡してよい。
+     *
+     * @param frameNos フレーム番号
+     * @param shows モデルを表示するならtrue
+     * @param ikNums キーフレーム毎のIKスイッチ数
+     * @param ikBoneNames IKボーン名
+     * @param ikValids IKが有効ならtrue
+     * @param num キーフレーム数
+     * @throws IOException 出力エラー
+     * @throws IllegalTextExportException IKボーン名が長すぎる、
+     *     もしくは符号化できない。
+     * @throws IndexOutOfBoundsException 配列長が足りない
+     * @throws IllegalStateException リストの出力順序が不正
+     */
+    public void dumpModelSight(int[] frameNos,
+                               boolean[] shows,
+                               int[] ikNums,
+                               String[] ikBoneNames,
+                               boolean[] ikValids,
+                               int num )
+            throws IOException,
+                   IllegalTextExportException,
+                   IndexOutOfBoundsException,
+                   IllegalStateException {
+        checkLength(frameNos.length, num, 1);
+        checkLength(shows.length,    num, 1);
+
+        int ikTotal = 0;
+        if(ikNums != null){
+            checkLength(ikNums.length, num, 1);
+            for(int idx = 0; idx < num; idx++){
+                ikTotal += ikNums[idx];
+            }
+        }
+        if(ikTotal > 0){
+            checkLength(ikBoneNames.length, ikTotal, 1);
+            checkLength(ikValids.length,    ikTotal, 1);
+        }
+
+        reserve(INT_SIZE * (SEC_MODELSIGHT + 1));
+        enterSection(SEC_MODELSIGHT);
+        this.buf.putInt(num);
+
+        ByteBuffer b = this.buf;
+        int ikIdx = 0;
+        for(int idx = 0; idx < num; idx++){
+            reserve(MODELSIGHT_SIZE);
+
+            b.putInt(frameNos[idx]);
+            b.put(shows[idx] ? (byte) 0x01 : (byte) 0x00);
+
+            int ikNum = 0;
+            if(ikNums != null) ikNum = ikNums[idx];
+            b.putInt(ikNum);
+
+            for(int ct = 0; ct < ikNum; ct++){
+                reserve(IKSW_SIZE);
+                putText(ikBoneNames[ikIdx], VmdConst.IKSWBONENAME_MAX);
+                b.put(ikValids[ikIdx] ? (byte) 0x01 : (byte) 0x00);
+                ikIdx++;
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     * @param loops {@inheritDoc}
+     */
+    @Override
+    public void loopStart(ParseStage stage, int loops){
+        reserveUnchecked(INT_SIZE * (SEC_MODELSIGHT + 1));
+
+        if(stage == VmdBasicHandler.BONEMOTION_LIST){
+            enterSection(SEC_BONE);
+        }else if(stage == VmdBasicHandler.MORPH_LIST){
+            enterSection(SEC_MORPH);
+        }else if(stage == VmdCameraHandler.CAMERA_LIST){
+            enterSection(SEC_CAMERA);
+        }else if(stage == VmdLightingHandler.LUMINOUS_LIST){
+            enterSection(SEC_LUMINOUS);
+        }else if(stage == VmdLightingHandler.SHADOW_LIST){
+            enterSection(SEC_SHADOW);
+        }else if(stage == VmdBoolHandler.MODELSIGHT_LIST){
+            enterSection(SEC_MODELSIGHT);
+        }else if(stage == VmdBoolHandler.IKSW_LIST){
+            assert this.section == SEC_MODELSIGHT;
+        }else{
+            assert false;
+            throw new AssertionError();
+        }
+
+        this.buf.putInt(loops);
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopNext(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopEnd(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vmdParseStart(){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>内部バッファの内容を出力ストリームに書き込み、
+     * 出力ストリームをフラッシュする。
+     *
+     * @param hasMoreData {@inheritDoc}
+     * @throws UncheckedIOException 出力エラー
+     */
+    @Override
+    public void vmdParseEnd(boolean hasMoreData) throws UncheckedIOException{
+        try{
+            flush();
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>ヘッダはそのまま出力される。
+     *
+     * @param header {@inheritDoc}
+     */
+    @Override
+    public void vmdHeaderInfo(byte[] header){
+        reserveUnchecked(VmdConst.HEADER_LENGTH);
+        this.buf.put(header, 0, VmdConst.HEADER_LENGTH);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param modelName {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void vmdModelName(String modelName) throws MmdFormatException{
+        reserveUnchecked(VmdConst.MODELNAME_MAX);
+        putTextChecked(modelName, VmdConst.MODELNAME_MAX);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param boneName {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneMotion(String boneName, int keyFrameNo)
+            throws MmdFormatException{
+        reserveUnchecked(BONE_SIZE);
+        putTextChecked(boneName, VmdConst.BONENAME_MAX);
+        this.buf.putInt(keyFrameNo);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void vmdBonePosition(float xPos, float yPos, float zPos){
+        this.buf.putFloat(xPos);
+        this.buf.putFloat(yPos);
+        this.buf.putFloat(zPos);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param qx {@inheritDoc}
+     * @param qy {@inheritDoc}
+     * @param qz {@inheritDoc}
+     * @param qw {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneRotationQt(float qx, float qy, float qz, float qw){
+        this.buf.putFloat(qx);
+        this.buf.putFloat(qy);
+        this.buf.putFloat(qz);
+        this.buf.putFloat(qw);
+        return;
+    }
+
+    /**
+     * ボーン補間パラメータを1チャンネル分記憶する。
+     *
+     * @param ch チャンネル番号
+     * @param p1x 制御点1のX座標
+     * @param p1y 制御点1のY座標
+     * @param p2x 制御点2のX座標
+     * @param p2y 制御点2のY座標
+     */
+    private void stashBoneIntplt(int ch,
+                                 byte p1x, byte p1y, byte p2x, byte p2y){
+        this.boneIntplt[ch]                 = p1x;
+        this.boneIntplt[ch + BZ_CH_NUM]     = p1y;
+        this.boneIntplt[ch + BZ_CH_NUM * 2] = p2x;
+        this.boneIntplt[ch + BZ_CH_NUM * 3] = p2y;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xP1x {@inheritDoc}
+     * @param xP1y {@inheritDoc}
+     * @param xP2x {@inheritDoc}
+     * @param xP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltXpos(byte xP1x, byte xP1y,
+                                  byte xP2x, byte xP2y ){
+        stashBoneIntplt(0, xP1x, xP1y, xP2x, xP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param yP1x {@inheritDoc}
+     * @param yP1y {@inheritDoc}
+     * @param yP2x {@inheritDoc}
+     * @param yP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltYpos(byte yP1x, byte yP1y,
+                                  byte yP2x, byte yP2y ){
+        stashBoneIntplt(1, yP1x, yP1y, yP2x, yP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param zP1x {@inheritDoc}
+     * @param zP1y {@inheritDoc}
+     * @param zP2x {@inheritDoc}
+     * @param zP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltZpos(byte zP1x, byte zP1y,
+                                  byte zP2x, byte zP2y ){
+        stashBoneIntplt(2, zP1x, zP1y, zP2x, zP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>記憶した補間パラメータから冗長部込みの補間情報を出力する。
+     *
+     * @param rP1x {@inheritDoc}
+     * @param rP1y {@inheritDoc}
+     * @param rP2x {@inheritDoc}
+     * @param rP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltRot(byte rP1x, byte rP1y,
+                                 byte rP2x, byte rP2y ){
+        stashBoneIntplt(3, rP1x, rP1y, rP2x, rP2y);
+        putBoneIntplt(this.boneIntplt, 0);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param morphName {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     * @param flex {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void vmdMorphMotion(String morphName, int keyFrameNo, float flex)
+            throws MmdFormatException{
+        reserveUnchecked(MORPH_SIZE);
+        putTextChecked(morphName, VmdConst.MORPHNAME_MAX);
+        this.buf.putInt(keyFrameNo);
+        this.buf.putFloat(flex);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraMotion(int keyFrameNo){
+        reserveUnchecked(CAMERA_SIZE);
+        this.buf.putInt(keyFrameNo);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param range {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraRange(float range){
+        this.buf.putFloat(range);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraPosition(float xPos, float yPos, float zPos){
+        this.buf.putFloat(xPos);
+        this.buf.putFloat(yPos);
+        this.buf.putFloat(zPos);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param latitude {@inheritDoc}
+     * @param longitude {@inheritDoc}
+     * @param roll {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraRotation(float latitude, float longitude,
+                                  float roll ){
+        this.buf.putFloat(latitude);
+        this.buf.putFloat(longitude);
+        this.buf.putFloat(roll);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param angle {@inheritDoc}
+     * @param hasPerspective {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraProjection(int angle, boolean hasPerspective){
+        this.buf.putInt(angle);
+        this.buf.put(hasPerspective ? (byte) 0x00 : (byte) 0x01);
+        return;
+    }
+
+    /**
+     * カメラ補間パラメータを1チャンネル分出力する。
+     *
+     * @param p1x 制御点1のX座標
+     * @param p1y 制御点1のY座標
+     * @param p2x 制御点2のX座標
+     * @param p2y 制御点2のY座標
+     */
+    private void putCameraIntplt(byte p1x, byte p1y, byte p2x, byte p2y){
+        this.buf.put(p1x);
+        this.buf.put(p2x);
+        this.buf.put(p1y);
+        this.buf.put(p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltXpos(byte p1x, byte p1y, byte p2x, byte p2y){
+        putCameraIntplt(p1x, p1y, p2x, p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltYpos(byte p1x, byte p1y, byte p2x, byte p2y){
+        putCameraIntplt(p1x, p1y, p2x, p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltZpos(byte p1x, byte p1y, byte p2x, byte p2y){
+        putCameraIntplt(p1x, p1y, p2x, p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltRotation(byte p1x, byte p1y,
+                                        byte p2x, byte p2y ){
+        putCameraIntplt(p1x, p1y, p2x, p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltRange(byte p1x, byte p1y,
+                                     byte p2x, byte p2y ){
+        putCameraIntplt(p1x, p1y, p2x, p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltProjection(byte p1x, byte p1y,
+                                          byte p2x, byte p2y ){
+        putCameraIntplt(p1x, p1y, p2x, p2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdLuminousMotion(int keyFrameNo){
+        reserveUnchecked(LUMINOUS_SIZE);
+        this.buf.putInt(keyFrameNo);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param rVal {@inheritDoc}
+     * @param gVal {@inheritDoc}
+     * @param bVal {@inheritDoc}
+     */
+    @Override
+    public void vmdLuminousColor(float rVal, float gVal, float bVal){
+        this.buf.putFloat(rVal);
+        this.buf.putFloat(gVal);
+        this.buf.putFloat(bVal);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xVec {@inheritDoc}
+     * @param yVec {@inheritDoc}
+     * @param zVec {@inheritDoc}
+     */
+    @Override
+    public void vmdLuminousDirection(float xVec, float yVec, float zVec){
+        this.buf.putFloat(xVec);
+        this.buf.putFloat(yVec);
+        this.buf.putFloat(zVec);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdShadowMotion(int keyFrameNo){
+        reserveUnchecked(SHADOW_SIZE);
+        this.buf.putInt(keyFrameNo);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param shadowMode {@inheritDoc}
+     */
+    @Override
+    public void vmdShadowMode(byte shadowMode){
+        this.buf.put(shadowMode);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param shadowScope {@inheritDoc}
+     */
+    @Override
+    public void vmdShadowScopeRaw(float shadowScope){
+        this.buf.putFloat(shadowScope);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param show {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdModelSight(boolean show, int keyFrameNo){
+        reserveUnchecked(MODELSIGHT_SIZE);
+        this.buf.putInt(keyFrameNo);
+        this.buf.put(show ? (byte) 0x01 : (byte) 0x00);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param boneName {@inheritDoc}
+     * @param validIk {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public void vmdIkSwitch(String boneName, boolean validIk, int keyFrameNo)
+            throws MmdFormatException{
+        reserveUnchecked(IKSW_SIZE);
+        putTextChecked(boneName, VmdConst.IKSWBONENAME_MAX);
+        this.buf.put(validIk ? (byte) 0x01 : (byte) 0x00);
+        return;
+    }
+
+}
@@ -0,0 +1,18 @@
+/*
+ * package information for Javadoc
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+/**
+ * VMDモーションファイル(*.vmd)用エクスポーターライブラリ。
+ *
+ * <p>パーサ用のコールバックインタフェースを実装しており、
+ * パーサに直接渡すことでVMDモーションファイルを書き戻すことができる。
+ * キーフレームを配列でまとめて出力することもできる。
+ */
+
+package jp.sfjp.mikutoga.vmd.export;
+
+/* EOF */
@@ -0,0 +1,194 @@
+/*
+ * bone motion track
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+import java.util.Map;
+import jp.sfjp.mikutoga.math.MkBezier;
+
+/**
+ * 単一ボーンのモーションキーフレーム列。
+ *
+ * <p>各キーフレームの位置、回転クォータニオン、
+ * 補間パラメータをフレーム番号と並行した配列で保持する。
+ *
+ * <p>補間パラメータはキーフレーム毎に16byteで、
+ * X軸移動、Y軸移動、Z軸移動、回転の順に
+ * それぞれP1x,P1y,P2x,P2yの4byteが並ぶ。
+ * VMDファイル上の冗長部は保持しない。
+ *
+ * <p>補間パラメータに対応する補間曲線はトラック生成時に
+ * キーフレーム毎に用意される。
+ */
+public class BoneTrack extends MotionTrack {
+
+    /** X軸移動補間チャネル。 */
+    public static final int CH_XPOS = 0;
+    /** Y軸移動補間チャネル。 */
+    public static final int CH_YPOS = 1;
+    /** Z軸移動補間チャネル。 */
+    public static final int CH_ZPOS = 2;
+    /** 回転補間チャネル。 */
+    public static final int CH_ROT  = 3;
+
+    /** 補間曲線制御点P1のX座標。 */
+    public static final int P1X = 0;
+    /** 補間曲線制御点P1のY座標。 */
+    public static final int P1Y = 1;
+    /** 補間曲線制御点P2のX座標。 */
+    public static final int P2X = 2;
+    /** 補間曲線制御点P2のY座標。 */
+    public static final int P2Y = 3;
+
+    /** キーフレームあたりの位置成分数。 */
+    static final int POS_STRIDE = 3;
+    /** キーフレームあたりの回転成分数。 */
+    static final int ROT_STRIDE = 4;
+    /** 補間チャネルあたりのバイト数。 */
+    static final int CH_STRIDE = 4;
+    /** キーフレームあたりの補間パラメータバイト数。 */
+    static final int INTPLT_STRIDE = CH_STRIDE * 4;
+    /** キーフレームあたりの補間チャネル数。 */
+    static final int CH_NUM = INTPLT_STRIDE / CH_STRIDE;
+
+    private static final int BYTE_RANGE = 0x100;
+    private static final int MASK_8BIT  = 0xff;
+
+
+    /** 位置。キーフレーム毎にXYZの3成分。 */
+    final float[] positions;
+    /** 回転クォータニオン。キーフレーム毎にXYZWの4成分。 */
+    final float[] rotations;
+    /** 補間パラメータ。キーフレーム毎に16byte。 */
+    final byte[] intplts;
+    /** 補間曲線。キーフレーム毎に4チャネル。 */
+    final MkBezier[] curves;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * <p>補間パラメータが同じ補間曲線は曲線キャッシュを介して共有される。
+     *
+     * @param name ボーン名
+     * @param frames 整列済みフレーム番号列
+     * @param positions 位置
+     * @param rotations 回転クォータニオン
+     * @param intplts 補間パラメータ
+     * @param curveCache 補間パラメータをキーとする曲線キャッシュ
+     */
+    BoneTrack(String name, int[] frames,
+              float[] positions, float[] rotations, byte[] intplts,
+              Map<Integer, MkBezier> curveCache ){
+        super(name, frames);
+
+        assert positions.length == frames.length * POS_STRIDE;
+        assert rotations.length == frames.length * ROT_STRIDE;
+        assert intplts.length   == frames.length * INTPLT_STRIDE;
+
+        this.positions = positions;
+        this.rotations = rotations;
+        this.intplts   = intplts;
+
+        this.curves = buildCurves(intplts, curveCache);
+
+        return;
+    }
+
+
+    /**
+     * 補間パラメータ列から補間曲線列を生成する。
+     *
+     * @param intplts 補間パラメータ
+     * @param curveCache 補間パラメータをキーとする曲線キャッシュ
+     * @return 補間曲線。キーフレーム毎に4チャネル
+     */
+    private static MkBezier[] buildCurves(byte[] intplts,
+                                          Map<Integer, MkBezier> curveCache){
+        MkBezier[] result = new MkBezier[intplts.length / CH_STRIDE];
+
+        for(int idx = 0; idx < result.length; idx++){
+            int pos = idx * CH_STRIDE;
+            int p1x = intplts[pos + P1X] & MASK_8BIT;
+            int p1y = intplts[pos + P1Y] & MASK_8BIT;
+            int p2x = intplts[pos + P2X] & MASK_8BIT;
+            int p2y = intplts[pos + P2Y] & MASK_8BIT;
+
+            int key = ((p1x * BYTE_RANGE + p1y) * BYTE_RANGE + p2x)
+                    * BYTE_RANGE + p2y;
+
+            MkBezier curve = curveCache.get(key);
+            if(curve == null){
+                curve = MkBezier.fromVmd(intplts[pos + P1X],
+                                         intplts[pos + P1Y],
+                                         intplts[pos + P2X],
+                                         intplts[pos + P2Y] );
+                curveCache.put(key, curve);
+            }
+            result[idx] = curve;
+        }
+
+        return result;
+    }
+
+
+    /**
+     * ボーン位置の成分を返す。
+     *
+     * @param idx インデックス
+     * @param axis 軸。0:X 1:Y 2:Z
+     * @return 成分値
+     * @throws IndexOutOfBoundsException 不正なインデックス
+     */
+    public float getPosition(int idx, int axis)
+            throws IndexOutOfBoundsException{
+        if(axis < 0 || POS_STRIDE <= axis){
+            throw new IndexOutOfBoundsException();
+        }
+        return this.positions[idx * POS_STRIDE + axis];
+    }
+
+    /**
+     * 回転クォータニオンの成分を返す。
+     *
+     * @param idx インデックス
+     * @param comp 成分。0:X 1:Y 2:Z 3:W
+     * @return 成分値
+     * @throws IndexOutOfBoundsException 不正なインデックス
+     */
+    public float getRotation(int idx, int comp)
+            throws IndexOutOfBoundsException{
+        if(comp < 0 || ROT_STRIDE <= comp){
+            throw new IndexOutOfBoundsException();
+        }
+        return this.rotations[idx * ROT_STRIDE + comp];
+    }
+
+    /**
+     * 補間パラメータを返す。
+     *
+     * @param idx インデックス
+     * @param channel 補間チャネル
+     * @param param 制御点座標の種別
+     * @return 補間パラメータ。0から127
+     * @throws IndexOutOfBoundsException 不正なインデックス
+     * @see #CH_XPOS
+     * @see #P1X
+     */
+    public byte getIntplt(int idx, int channel, int param)
+            throws IndexOutOfBoundsException{
+        if(channel < 0 || INTPLT_STRIDE / CH_STRIDE <= channel){
+            throw new IndexOutOfBoundsException();
+        }
+        if(param < 0 || CH_STRIDE <= param){
+            throw new IndexOutOfBoundsException();
+        }
+        int pos = idx * INTPLT_STRIDE + channel * CH_STRIDE + param;
+        return this.intplts[pos];
+    }
+
+}
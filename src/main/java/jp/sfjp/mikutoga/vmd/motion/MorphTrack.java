@@ -0,0 +1,50 @@
+/*
+ * morph motion track
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+/**
+ * 単一モーフのモーションキーフレーム列。
+ *
+ * <p>各キーフレームの変形度をフレーム番号と並行した配列で保持する。
+ */
+public class MorphTrack extends MotionTrack {
+
+    /** 変形度。 */
+    final float[] flexes;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param name モーフ名
+     * @param frames 整列済みフレーム番号列
+     * @param flexes 変形度
+     */
+    MorphTrack(String name, int[] frames, float[] flexes){
+        super(name, frames);
+
+        assert flexes.length == frames.length;
+
+        this.flexes = flexes;
+
+        return;
+    }
+
+
+    /**
+     * 変形度を返す。
+     *
+     * @param idx インデックス
+     * @return 変形度
+     * @throws IndexOutOfBoundsException 不正なインデックス
+     */
+    public float getFlex(int idx) throws IndexOutOfBoundsException{
+        return this.flexes[idx];
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * motion track
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+/**
+ * 単一のボーンもしくはモーフに属するキーフレーム列。
+ *
+ * <p>キーフレームはフレーム番号の昇順に整列され、
+ * 0から始まるインデックスで参照される。
+ * 同一フレーム番号のキーフレームが複数存在する場合は
+ * VMDファイル上の出現順を保つ。
+ */
+public abstract class MotionTrack {
+
+    private final String name;
+
+    /** フレーム番号の昇順に整列したフレーム番号列。 */
+    final int[] frames;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param name トラック名
+     * @param frames 整列済みフレーム番号列
+     */
+    MotionTrack(String name, int[] frames){
+        super();
+
+        assert name != null;
+        assert isSorted(frames);
+
+        this.name = name;
+        this.frames = frames;
+
+        return;
+    }
+
+
+    /**
+     * 配列が昇順に整列済みか判定する。
+     *
+     * @param frames フレーム番号列
+     * @return 整列済みならtrue
+     */
+    static boolean isSorted(int[] frames){
+        for(int idx = 1; idx < frames.length; idx++){
+            if(frames[idx - 1] > frames[idx]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * トラック名を返す。
+     *
+     * @return ボーン名もしくはモーフ名
+     */
+    public String getName(){
+        return this.name;
+    }
+
+    /**
+     * キーフレーム数を返す。
+     *
+     * @return キーフレーム数
+     */
+    public int size(){
+        return this.frames.length;
+    }
+
+    /**
+     * フレーム番号を返す。
+     *
+     * @param idx インデックス
+     * @return フレーム番号
+     * @throws IndexOutOfBoundsException 不正なインデックス
+     */
+    public int getFrameNo(int idx) throws IndexOutOfBoundsException{
+        return this.frames[idx];
+    }
+
+    /**
+     * 先頭キーフレームのフレーム番号を返す。
+     *
+     * @return フレーム番号
+     * @throws IndexOutOfBoundsException キーフレームが存在しない
+     */
+    public int getFirstFrameNo() throws IndexOutOfBoundsException{
+        return this.frames[0];
+    }
+
+    /**
+     * 末尾キーフレームのフレーム番号を返す。
+     *
+     * @return フレーム番号
+     * @throws IndexOutOfBoundsException キーフレームが存在しない
+     */
+    public int getLastFrameNo() throws IndexOutOfBoundsException{
+        return this.frames[this.frames.length - 1];
+    }
+
+    /**
+     * 指定フレーム番号以前で最も後ろにあるキーフレームを探す。
+     *
+     * <p>二分探索によりO(log n)で完了する。
+     * 同一フレーム番号のキーフレームが複数存在する場合は
+     * その最後のものが選ばれる。
+     *
+     * @param frameNo フレーム番号
+     * @return インデックス。該当するキーフレームが無ければ-1
+     */
+    public int floorIndex(int frameNo){
+        int low = 0;
+        int high = this.frames.length;
+
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(this.frames[mid] <= frameNo){
+                low = mid + 1;
+            }else{
+                high = mid;
+            }
+        }
+
+        return low - 1;
+    }
+
+    /**
+     * 指定フレーム番号と一致するキーフレームを探す。
+     *
+     * <p>二分探索によりO(log n)で完了する。
+     *
+     * @param frameNo フレーム番号
+     * @return インデックス。該当するキーフレームが無ければ-1
+     */
+    public int indexOf(int frameNo){
+        int idx = floorIndex(frameNo);
+        if(idx < 0 || this.frames[idx] != frameNo) return -1;
+        return idx;
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * pose sampler
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+import java.util.List;
+import jp.sfjp.mikutoga.math.MkBezier;
+import jp.sfjp.mikutoga.math.MkQuat;
+
+/**
+ * モーションデータから任意フレームにおける姿勢を求める。
+ *
+ * <p>全ボーントラックの位置と回転、および全モーフトラックの変形度を
+ * キーフレーム間の補間により求める。
+ * ボーンの位置と回転はキーフレーム毎の補間パラメータに従い
+ * ベジェ曲線で補間され、回転は球面線形補間される。
+ * モーフの変形度は線形補間される。
+ * 最初のキーフレームより前、および最後のキーフレームより後では
+ * それぞれ端のキーフレームの値が用いられる。
+ *
+ * <p>VMDの補間パラメータは補間区間の終端側キーフレームが保持する。
+ *
+ * <p>トラック毎に直前に参照したキーフレーム位置を記憶しており、
+ * 前回と同じかその次の補間区間であれば探索を省略する。
+ * それ以外の場合は二分探索を行う。
+ * 補間曲線はトラック生成時にキーフレーム毎に用意済みであり、
+ * 姿勢を求める際にオブジェクトは生成されない。
+ *
+ * <p>このクラスはスレッドセーフではない。
+ */
+public class PoseSampler {
+
+    private static final int POS_STRIDE    = BoneTrack.POS_STRIDE;
+    private static final int ROT_STRIDE    = BoneTrack.ROT_STRIDE;
+    private static final int CH_NUM        = BoneTrack.CH_NUM;
+
+
+    private final VmdMotion motion;
+
+    private final BoneTrack[] boneTracks;
+    private final MorphTrack[] morphTracks;
+
+    private final int[] boneCursors;
+    private final int[] morphCursors;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param motion モーションデータ
+     * @throws NullPointerException 引数がnull
+     */
+    public PoseSampler(VmdMotion motion) throws NullPointerException{
+        super();
+
+        this.motion = motion;
+
+        List<BoneTrack> boneList = motion.getBoneTracks();
+        List<MorphTrack> morphList = motion.getMorphTracks();
+
+        this.boneTracks  = boneList.toArray(new BoneTrack[boneList.size()]);
+        this.morphTracks =
+                morphList.toArray(new MorphTrack[morphList.size()]);
+
+        int boneNum = this.boneTracks.length;
+        this.boneCursors  = new int[boneNum];
+        this.morphCursors = new int[this.morphTracks.length];
+
+        reset();
+
+        return;
+    }
+
+
+    /**
+     * モーションデータを返す。
+     *
+     * @return モーションデータ
+     */
+    public VmdMotion getMotion(){
+        return this.motion;
+    }
+
+    /**
+     * ボーントラック数を返す。
+     *
+     * @return ボーントラック数
+     */
+    public int getBoneNum(){
+        return this.boneTracks.length;
+    }
+
+    /**
+     * モーフトラック数を返す。
+     *
+     * @return モーフトラック数
+     */
+    public int getMorphNum(){
+        return this.morphTracks.length;
+    }
+
+    /**
+     * 記憶しているキーフレーム位置を破棄する。
+     */
+    public void reset(){
+        for(int idx = 0; idx < this.boneCursors.length; idx++){
+            this.boneCursors[idx] = -1;
+        }
+        for(int idx = 0; idx < this.morphCursors.length; idx++){
+            this.morphCursors[idx] = -1;
+        }
+        return;
+    }
+
+    /**
+     * 指定フレーム以前で最も後ろにあるキーフレームを探す。
+     *
+     * <p>前回の探索結果とその次のキーフレームを優先して調べる。
+     *
+     * @param track トラック
+     * @param cursors トラック毎の前回の探索結果
+     * @param trackIdx トラック番号
+     * @param frameNo フレーム番号
+     * @return インデックス。該当するキーフレームが無ければ-1
+     */
+    private static int locate(MotionTrack track,
+                              int[] cursors, int trackIdx,
+                              double frameNo ){
+        int[] frames = track.frames;
+        int num = frames.length;
+        int cursor = cursors[trackIdx];
+
+        for(int idx = cursor; idx <= cursor + 1 && idx < num; idx++){
+            boolean lowOk  = idx < 0 || frames[idx] <= frameNo;
+            boolean highOk = idx + 1 >= num || frameNo < frames[idx + 1];
+            if(lowOk && highOk){
+                cursors[trackIdx] = idx;
+                return idx;
+            }
+        }
+
+        int floorFrame;
+        if(frameNo >= Integer.MAX_VALUE){
+            floorFrame = Integer.MAX_VALUE;
+        }else if(frameNo <= Integer.MIN_VALUE){
+            floorFrame = Integer.MIN_VALUE;
+        }else{
+            floorFrame = (int) StrictMath.floor(frameNo);
+        }
+
+        int result = track.floorIndex(floorFrame);
+        cursors[trackIdx] = result;
+
+        return result;
+    }
+
+    /**
+     * 補間区間内の進行度を求める。
+     *
+     * @param frames フレーム番号列
+     * @param keyIdx 補間区間始端のインデックス
+     * @param frameNo フレーム番号
+     * @return 進行度。0以上1未満
+     */
+    private static double ratio(int[] frames, int keyIdx, double frameNo){
+        double start = frames[keyIdx];
+        double end   = frames[keyIdx + 1];
+        double result = (frameNo - start) / (end - start);
+        return result;
+    }
+
+    /**
+     * 指定フレームにおける姿勢を求める。
+     *
+     * <p>各出力配列はトラック番号順に格納される。
+     * トラック番号は{@link VmdMotion}のトラック一覧における順序に等しい。
+     * 出力が不要な配列にはnullを渡してよい。
+     *
+     * @param frameNo フレーム番号。小数部を持ってもよい
+     * @param positions ボーン位置の格納先。ボーン毎にXYZの3成分
+     * @param rotations ボーン回転クォータニオンの格納先。
+     *     ボーン毎にXYZWの4成分
+     * @param morphFlexes モーフ変形度の格納先
+     * @throws IndexOutOfBoundsException 格納先配列が小さすぎる
+     */
+    public void sample(double frameNo,
+                       float[] positions,
+                       float[] rotations,
+                       float[] morphFlexes )
+            throws IndexOutOfBoundsException{
+        if(positions != null || rotations != null){
+            for(int idx = 0; idx < this.boneTracks.length; idx++){
+                sampleBone(idx, frameNo, positions, rotations);
+            }
+        }
+
+        if(morphFlexes != null){
+            for(int idx = 0; idx < this.morphTracks.length; idx++){
+                morphFlexes[idx] = sampleMorph(idx, frameNo);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * 指定フレームにおけるボーンの位置と回転を求める。
+     *
+     * @param trackIdx トラック番号
+     * @param frameNo フレーム番号
+     * @param positions 位置の格納先。nullなら格納しない
+     * @param rotations 回転の格納先。nullなら格納しない
+     */
+    private void sampleBone(int trackIdx, double frameNo,
+                            float[] positions, float[] rotations){
+        BoneTrack track = this.boneTracks[trackIdx];
+        int num = track.size();
+        int posBase = trackIdx * POS_STRIDE;
+        int rotBase = trackIdx * ROT_STRIDE;
+
+        if(num <= 0){
+            if(positions != null){
+                for(int axis = 0; axis < POS_STRIDE; axis++){
+                    positions[posBase + axis] = 0.0f;
+                }
+            }
+            if(rotations != null){
+                rotations[rotBase]     = 0.0f;
+                rotations[rotBase + 1] = 0.0f;
+                rotations[rotBase + 2] = 0.0f;
+                rotations[rotBase + 3] = 1.0f;
+            }
+            return;
+        }
+
+        int keyIdx = locate(track, this.boneCursors, trackIdx, frameNo);
+
+        if(keyIdx < 0 || keyIdx >= num - 1){
+            int holdIdx = keyIdx < 0 ? 0 : num - 1;
+            if(positions != null){
+                System.arraycopy(track.positions, holdIdx * POS_STRIDE,
+                                 positions, posBase, POS_STRIDE);
+            }
+            if(rotations != null){
+                System.arraycopy(track.rotations, holdIdx * ROT_STRIDE,
+                                 rotations, rotBase, ROT_STRIDE);
+            }
+            return;
+        }
+
+        double ratio = ratio(track.frames, keyIdx, frameNo);
+        int curveBase = (keyIdx + 1) * CH_NUM;
+
+        if(positions != null){
+            float[] src = track.positions;
+            int src0 = keyIdx * POS_STRIDE;
+            int src1 = src0 + POS_STRIDE;
+            for(int axis = 0; axis < POS_STRIDE; axis++){
+                MkBezier curve = track.curves[curveBase + axis];
+                double ease = curve.ease(ratio);
+                float val0 = src[src0 + axis];
+                float val1 = src[src1 + axis];
+                positions[posBase + axis] =
+                        (float) (val0 + (val1 - val0) * ease);
+            }
+        }
+
+        if(rotations != null){
+            MkBezier curve = track.curves[curveBase + BoneTrack.CH_ROT];
+            double ease = curve.ease(ratio);
+            int src0 = keyIdx * ROT_STRIDE;
+            MkQuat.slerp(track.rotations, src0,
+                         track.rotations, src0 + ROT_STRIDE,
+                         ease,
+                         rotations, rotBase );
+        }
+
+        return;
+    }
+
+    /**
+     * 指定フレームにおけるモーフ変形度を求める。
+     *
+     * @param trackIdx トラック番号
+     * @param frameNo フレーム番号
+     * @return 変形度
+     */
+    private float sampleMorph(int trackIdx, double frameNo){
+        MorphTrack track = this.morphTracks[trackIdx];
+        int num = track.size();
+        if(num <= 0) return 0.0f;
+
+        int keyIdx = locate(track, this.morphCursors, trackIdx, frameNo);
+        if(keyIdx < 0) return track.flexes[0];
+        if(keyIdx >= num - 1) return track.flexes[num - 1];
+
+        double ratio = ratio(track.frames, keyIdx, frameNo);
+        float val0 = track.flexes[keyIdx];
+        float val1 = track.flexes[keyIdx + 1];
+        float result = (float) (val0 + (val1 - val0) * ratio);
+
+        return result;
+    }
+
+}
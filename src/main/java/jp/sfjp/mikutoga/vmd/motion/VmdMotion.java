@@ -0,0 +1,129 @@
+/*
+ * VMD motion
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ボーン及びモーフのトラック群からなるモーションデータ。
+ *
+ * <p>各トラックはVMDファイル上で最初に出現した順に並ぶ。
+ *
+ * @see VmdMotionBuilder
+ */
+public class VmdMotion {
+
+    private final String modelName;
+
+    private final List<BoneTrack> boneTracks;
+    private final List<MorphTrack> morphTracks;
+
+    private final Map<String, BoneTrack> boneMap;
+    private final Map<String, MorphTrack> morphMap;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param modelName モデル名
+     * @param boneTracks ボーントラック一覧
+     * @param morphTracks モーフトラック一覧
+     */
+    VmdMotion(String modelName,
+              List<BoneTrack> boneTracks,
+              List<MorphTrack> morphTracks ){
+        super();
+
+        this.modelName = modelName;
+
+        this.boneTracks  = Collections.unmodifiableList(boneTracks);
+        this.morphTracks = Collections.unmodifiableList(morphTracks);
+
+        this.boneMap  = new HashMap<>();
+        this.morphMap = new HashMap<>();
+
+        for(BoneTrack track : boneTracks){
+            this.boneMap.put(track.getName(), track);
+        }
+        for(MorphTrack track : morphTracks){
+            this.morphMap.put(track.getName(), track);
+        }
+
+        return;
+    }
+
+
+    /**
+     * モデル名を返す。
+     *
+     * @return モデル名
+     */
+    public String getModelName(){
+        return this.modelName;
+    }
+
+    /**
+     * ボーントラック一覧を返す。
+     *
+     * @return 変更不可なボーントラック一覧
+     */
+    public List<BoneTrack> getBoneTracks(){
+        return this.boneTracks;
+    }
+
+    /**
+     * モーフトラック一覧を返す。
+     *
+     * @return 変更不可なモーフトラック一覧
+     */
+    public List<MorphTrack> getMorphTracks(){
+        return this.morphTracks;
+    }
+
+    /**
+     * ボーン名からボーントラックを返す。
+     *
+     * @param boneName ボーン名
+     * @return ボーントラック。存在しなければnull
+     */
+    public BoneTrack getBoneTrack(String boneName){
+        return this.boneMap.get(boneName);
+    }
+
+    /**
+     * モーフ名からモーフトラックを返す。
+     *
+     * @param morphName モーフ名
+     * @return モーフトラック。存在しなければnull
+     */
+    public MorphTrack getMorphTrack(String morphName){
+        return this.morphMap.get(morphName);
+    }
+
+    /**
+     * 全トラック中の最大フレーム番号を返す。
+     *
+     * @return 最大フレーム番号。キーフレームが無ければ0
+     */
+    public int getMaxFrameNo(){
+        int result = 0;
+        for(BoneTrack track : this.boneTracks){
+            if(track.size() <= 0) continue;
+            result = Math.max(result, track.getLastFrameNo());
+        }
+        for(MorphTrack track : this.morphTracks){
+            if(track.size() <= 0) continue;
+            result = Math.max(result, track.getLastFrameNo());
+        }
+        return result;
+    }
+
+}
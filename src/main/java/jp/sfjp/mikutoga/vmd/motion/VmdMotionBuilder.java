@@ -0,0 +1,632 @@
+/*
+ * VMD motion builder
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.math.MkBezier;
+import jp.sfjp.mikutoga.vmd.parser.VmdBasicHandler;
+
+/**
+ * VMDパーサからの通知を受けて{@link VmdMotion}を構築するハンドラ。
+ *
+ * <p>パース中はキーフレームをVMDファイル上の出現順に
+ * プリミティブ型配列へ蓄積する。
+ * 配列はループ開始時に通知される件数を目安に確保され、
+ * 不足すれば拡張される。
+ * 通知される件数は入力ファイル上の値そのものであるため、
+ * 初期容量は{@link #MAX_INITIAL_CAPACITY}件に制限される。
+ * パース終了時にボーン及びモーフ毎のトラックへ振り分け、
+ * フレーム番号順に整列する。
+ *
+ * <pre>
+ * VmdParser parser = new VmdParser(is);
+ * VmdMotionBuilder builder = new VmdMotionBuilder();
+ * parser.setBasicHandler(builder);
+ * parser.parseVmd();
+ * VmdMotion motion = builder.getMotion();
+ * </pre>
+ */
+public class VmdMotionBuilder implements VmdBasicHandler {
+
+    private static final int POS_STRIDE    = BoneTrack.POS_STRIDE;
+    private static final int ROT_STRIDE    = BoneTrack.ROT_STRIDE;
+    private static final int CH_STRIDE     = BoneTrack.CH_STRIDE;
+    private static final int INTPLT_STRIDE = BoneTrack.INTPLT_STRIDE;
+
+    /** ループ開始時に確保する配列の最大件数。 */
+    static final int MAX_INITIAL_CAPACITY = 4096;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long MASK_32BIT = 0xffffffffL;
+
+
+    private String modelName;
+
+    private final List<String> boneNames = new ArrayList<>();
+    private final Map<String, Integer> boneIdMap = new HashMap<>();
+    private int boneNum;
+    private int[] boneIds;
+    private int[] boneFrames;
+    private float[] bonePositions;
+    private float[] boneRotations;
+    private byte[] boneIntplts;
+
+    private final List<String> morphNames = new ArrayList<>();
+    private final Map<String, Integer> morphIdMap = new HashMap<>();
+    private int morphNum;
+    private int[] morphIds;
+    private int[] morphFrames;
+    private float[] morphFlexes;
+
+    private VmdMotion motion;
+
+
+    /**
+     * コンストラクタ。
+     */
+    public VmdMotionBuilder(){
+        super();
+        clear();
+        return;
+    }
+
+
+    /**
+     * 蓄積中の情報を破棄する。
+     */
+    private void clear(){
+        this.modelName = null;
+
+        this.boneNames.clear();
+        this.boneIdMap.clear();
+        allocBone(0);
+
+        this.morphNames.clear();
+        this.morphIdMap.clear();
+        allocMorph(0);
+
+        this.motion = null;
+
+        return;
+    }
+
+    /**
+     * 構築したモーションデータを返す。
+     *
+     * @return モーションデータ。パースが終了していなければnull
+     */
+    public VmdMotion getMotion(){
+        return this.motion;
+    }
+
+    /**
+     * ボーンキーフレーム蓄積用配列を確保する。
+     *
+     * @param capacity 容量
+     */
+    private void allocBone(int capacity){
+        this.boneNum = 0;
+        this.boneIds       = new int[capacity];
+        this.boneFrames    = new int[capacity];
+        this.bonePositions = new float[capacity * POS_STRIDE];
+        this.boneRotations = new float[capacity * ROT_STRIDE];
+        this.boneIntplts   = new byte[capacity * INTPLT_STRIDE];
+        return;
+    }
+
+    /**
+     * モーフキーフレーム蓄積用配列を確保する。
+     *
+     * @param capacity 容量
+     */
+    private void allocMorph(int capacity){
+        this.morphNum = 0;
+        this.morphIds    = new int[capacity];
+        this.morphFrames = new int[capacity];
+        this.morphFlexes = new float[capacity];
+        return;
+    }
+
+    /**
+     * ボーンキーフレーム蓄積用配列の容量を必要に応じて拡張する。
+     *
+     * <p>ループ開始時に確保した容量を超えるキーフレームが
+     * 通知された場合のみ拡張が行われる。
+     */
+    private void growBone(){
+        int capacity = this.boneIds.length;
+        if(this.boneNum < capacity) return;
+
+        int newCapacity = Math.max(capacity * 2, MIN_CAPACITY);
+        this.boneIds    = Arrays.copyOf(this.boneIds,    newCapacity);
+        this.boneFrames = Arrays.copyOf(this.boneFrames, newCapacity);
+        this.bonePositions =
+                Arrays.copyOf(this.bonePositions, newCapacity * POS_STRIDE);
+        this.boneRotations =
+                Arrays.copyOf(this.boneRotations, newCapacity * ROT_STRIDE);
+        this.boneIntplts =
+                Arrays.copyOf(this.boneIntplts, newCapacity * INTPLT_STRIDE);
+
+        return;
+    }
+
+    /**
+     * モーフキーフレーム蓄積用配列の容量を必要に応じて拡張する。
+     */
+    private void growMorph(){
+        int capacity = this.morphIds.length;
+        if(this.morphNum < capacity) return;
+
+        int newCapacity = Math.max(capacity * 2, MIN_CAPACITY);
+        this.morphIds    = Arrays.copyOf(this.morphIds,    newCapacity);
+        this.morphFrames = Arrays.copyOf(this.morphFrames, newCapacity);
+        this.morphFlexes = Arrays.copyOf(this.morphFlexes, newCapacity);
+
+        return;
+    }
+
+    /**
+     * 名前に対応するトラック番号を返す。
+     *
+     * <p>未知の名前であれば新たな番号を割り当てる。
+     *
+     * @param name 名前
+     * @param names 出現順の名前一覧
+     * @param idMap 名前からトラック番号へのマップ
+     * @return トラック番号
+     */
+    private static int trackId(String name,
+                               List<String> names,
+                               Map<String, Integer> idMap ){
+        Integer id = idMap.get(name);
+        if(id != null) return id;
+
+        int newId = names.size();
+        names.add(name);
+        idMap.put(name, newId);
+
+        return newId;
+    }
+
+    /**
+     * フレーム番号順に整列するための並び順を求める。
+     *
+     * <p>同一フレーム番号の要素は元の順序を保つ。
+     *
+     * @param frames フレーム番号列
+     * @return 並び順。整列済みならnull
+     */
+    static int[] sortOrder(int[] frames){
+        if(MotionTrack.isSorted(frames)) return null;
+
+        int num = frames.length;
+        long[] keys = new long[num];
+        for(int idx = 0; idx < num; idx++){
+            keys[idx] = ((long) frames[idx] << Integer.SIZE) | idx;
+        }
+        Arrays.sort(keys);
+
+        int[] result = new int[num];
+        for(int idx = 0; idx < num; idx++){
+            result[idx] = (int) (keys[idx] & MASK_32BIT);
+        }
+
+        return result;
+    }
+
+    /**
+     * 並び順に従い要素を並べ替えた配列を返す。
+     *
+     * @param src 元配列
+     * @param order 並び順
+     * @return 並べ替えた配列
+     */
+    static int[] permute(int[] src, int[] order){
+        int[] result = new int[src.length];
+        for(int idx = 0; idx < order.length; idx++){
+            result[idx] = src[order[idx]];
+        }
+        return result;
+    }
+
+    /**
+     * 並び順に従い要素を並べ替えた配列を返す。
+     *
+     * @param src 元配列
+     * @param stride 要素あたりの成分数
+     * @param order 並び順
+     * @return 並べ替えた配列
+     */
+    static float[] permute(float[] src, int stride, int[] order){
+        float[] result = new float[src.length];
+        for(int idx = 0; idx < order.length; idx++){
+            System.arraycopy(src, order[idx] * stride,
+                             result, idx * stride, stride);
+        }
+        return result;
+    }
+
+    /**
+     * 並び順に従い要素を並べ替えた配列を返す。
+     *
+     * @param src 元配列
+     * @param stride 要素あたりの成分数
+     * @param order 並び順
+     * @return 並べ替えた配列
+     */
+    static byte[] permute(byte[] src, int stride, int[] order){
+        byte[] result = new byte[src.length];
+        for(int idx = 0; idx < order.length; idx++){
+            System.arraycopy(src, order[idx] * stride,
+                             result, idx * stride, stride);
+        }
+        return result;
+    }
+
+    /**
+     * トラック毎のキーフレーム数を数える。
+     *
+     * @param ids キーフレーム毎のトラック番号
+     * @param num キーフレーム数
+     * @param trackNum トラック数
+     * @return トラック毎のキーフレーム数
+     */
+    private static int[] countTrack(int[] ids, int num, int trackNum){
+        int[] result = new int[trackNum];
+        for(int idx = 0; idx < num; idx++){
+            result[ids[idx]]++;
+        }
+        return result;
+    }
+
+    /**
+     * 蓄積したボーンキーフレームをトラック毎に振り分ける。
+     *
+     * @return ボーントラック一覧
+     */
+    private List<BoneTrack> buildBoneTracks(){
+        int trackNum = this.boneNames.size();
+        int[] counts = countTrack(this.boneIds, this.boneNum, trackNum);
+
+        int[][] frames = new int[trackNum][];
+        float[][] positions = new float[trackNum][];
+        float[][] rotations = new float[trackNum][];
+        byte[][] intplts = new byte[trackNum][];
+
+        for(int id = 0; id < trackNum; id++){
+            int count = counts[id];
+            frames[id]    = new int[count];
+            positions[id] = new float[count * POS_STRIDE];
+            rotations[id] = new float[count * ROT_STRIDE];
+            intplts[id]   = new byte[count * INTPLT_STRIDE];
+        }
+
+        int[] fill = new int[trackNum];
+        for(int idx = 0; idx < this.boneNum; idx++){
+            int id = this.boneIds[idx];
+            int pos = fill[id]++;
+
+            frames[id][pos] = this.boneFrames[idx];
+            System.arraycopy(this.bonePositions, idx * POS_STRIDE,
+                             positions[id], pos * POS_STRIDE, POS_STRIDE);
+            System.arraycopy(this.boneRotations, idx * ROT_STRIDE,
+                             rotations[id], pos * ROT_STRIDE, ROT_STRIDE);
+            System.arraycopy(this.boneIntplts, idx * INTPLT_STRIDE,
+                             intplts[id], pos * INTPLT_STRIDE, INTPLT_STRIDE);
+        }
+
+        Map<Integer, MkBezier> curveCache = new HashMap<>();
+        List<BoneTrack> result = new ArrayList<>(trackNum);
+        for(int id = 0; id < trackNum; id++){
+            int[] order = sortOrder(frames[id]);
+            if(order != null){
+                frames[id]    = permute(frames[id], order);
+                positions[id] = permute(positions[id], POS_STRIDE, order);
+                rotations[id] = permute(rotations[id], ROT_STRIDE, order);
+                intplts[id]   = permute(intplts[id], INTPLT_STRIDE, order);
+            }
+
+            BoneTrack track = new BoneTrack(this.boneNames.get(id),
+                    frames[id], positions[id], rotations[id], intplts[id],
+                    curveCache);
+            result.add(track);
+        }
+
+        return result;
+    }
+
+    /**
+     * 蓄積したモーフキーフレームをトラック毎に振り分ける。
+     *
+     * @return モーフトラック一覧
+     */
+    private List<MorphTrack> buildMorphTracks(){
+        int trackNum = this.morphNames.size();
+        int[] counts = countTrack(this.morphIds, this.morphNum, trackNum);
+
+        int[][] frames = new int[trackNum][];
+        float[][] flexes = new float[trackNum][];
+
+        for(int id = 0; id < trackNum; id++){
+            int count = counts[id];
+            frames[id] = new int[count];
+            flexes[id] = new float[count];
+        }
+
+        int[] fill = new int[trackNum];
+        for(int idx = 0; idx < this.morphNum; idx++){
+            int id = this.morphIds[idx];
+            int pos = fill[id]++;
+            frames[id][pos] = this.morphFrames[idx];
+            flexes[id][pos] = this.morphFlexes[idx];
+        }
+
+        List<MorphTrack> result = new ArrayList<>(trackNum);
+        for(int id = 0; id < trackNum; id++){
+            int[] order = sortOrder(frames[id]);
+            if(order != null){
+                frames[id] = permute(frames[id], order);
+                flexes[id] = permute(flexes[id], 1, order);
+            }
+
+            MorphTrack track = new MorphTrack(this.morphNames.get(id),
+                    frames[id], flexes[id]);
+            result.add(track);
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>ボーンモーション及びモーフのループ開始時には
+     * 通知された件数を目安に蓄積用配列を確保する。
+     * 件数は信用せず、確保する容量は
+     * {@link #MAX_INITIAL_CAPACITY}件を上限とする。
+     *
+     * @param stage {@inheritDoc}
+     * @param loops {@inheritDoc}
+     */
+    @Override
+    public void loopStart(ParseStage stage, int loops){
+        int capacity = Math.max(loops, 0);
+        capacity = Math.min(capacity, MAX_INITIAL_CAPACITY);
+
+        if(stage == VmdBasicHandler.BONEMOTION_LIST){
+            allocBone(capacity);
+        }else if(stage == VmdBasicHandler.MORPH_LIST){
+            allocMorph(capacity);
+        }
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopNext(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopEnd(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vmdParseStart(){
+        clear();
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>蓄積したキーフレームからモーションデータを構築する。
+     *
+     * @param hasMoreData {@inheritDoc}
+     */
+    @Override
+    public void vmdParseEnd(boolean hasMoreData){
+        List<BoneTrack> boneTracks = buildBoneTracks();
+        List<MorphTrack> morphTracks = buildMorphTracks();
+
+        this.motion = new VmdMotion(this.modelName, boneTracks, morphTracks);
+
+        allocBone(0);
+        allocMorph(0);
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param header {@inheritDoc}
+     */
+    @Override
+    public void vmdHeaderInfo(byte[] header){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param name {@inheritDoc}
+     */
+    @Override
+    public void vmdModelName(String name){
+        this.modelName = name;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param boneName {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneMotion(String boneName, int keyFrameNo){
+        growBone();
+
+        int idx = this.boneNum++;
+        this.boneIds[idx] = trackId(boneName, this.boneNames, this.boneIdMap);
+        this.boneFrames[idx] = keyFrameNo;
+
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void vmdBonePosition(float xPos, float yPos, float zPos){
+        int base = (this.boneNum - 1) * POS_STRIDE;
+        this.bonePositions[base]     = xPos;
+        this.bonePositions[base + 1] = yPos;
+        this.bonePositions[base + 2] = zPos;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param qx {@inheritDoc}
+     * @param qy {@inheritDoc}
+     * @param qz {@inheritDoc}
+     * @param qw {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneRotationQt(float qx, float qy, float qz, float qw){
+        int base = (this.boneNum - 1) * ROT_STRIDE;
+        this.boneRotations[base]     = qx;
+        this.boneRotations[base + 1] = qy;
+        this.boneRotations[base + 2] = qz;
+        this.boneRotations[base + 3] = qw;
+        return;
+    }
+
+    /**
+     * 補間パラメータを格納する。
+     *
+     * @param channel 補間チャネル
+     * @param p1x 制御点P1のX座標
+     * @param p1y 制御点P1のY座標
+     * @param p2x 制御点P2のX座標
+     * @param p2y 制御点P2のY座標
+     */
+    private void putIntplt(int channel,
+                           byte p1x, byte p1y, byte p2x, byte p2y){
+        int base = (this.boneNum - 1) * INTPLT_STRIDE + channel * CH_STRIDE;
+        this.boneIntplts[base + BoneTrack.P1X] = p1x;
+        this.boneIntplts[base + BoneTrack.P1Y] = p1y;
+        this.boneIntplts[base + BoneTrack.P2X] = p2x;
+        this.boneIntplts[base + BoneTrack.P2Y] = p2y;
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param xP1x {@inheritDoc}
+     * @param xP1y {@inheritDoc}
+     * @param xP2x {@inheritDoc}
+     * @param xP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltXpos(byte xP1x, byte xP1y, byte xP2x, byte xP2y){
+        putIntplt(BoneTrack.CH_XPOS, xP1x, xP1y, xP2x, xP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param yP1x {@inheritDoc}
+     * @param yP1y {@inheritDoc}
+     * @param yP2x {@inheritDoc}
+     * @param yP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltYpos(byte yP1x, byte yP1y, byte yP2x, byte yP2y){
+        putIntplt(BoneTrack.CH_YPOS, yP1x, yP1y, yP2x, yP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param zP1x {@inheritDoc}
+     * @param zP1y {@inheritDoc}
+     * @param zP2x {@inheritDoc}
+     * @param zP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltZpos(byte zP1x, byte zP1y, byte zP2x, byte zP2y){
+        putIntplt(BoneTrack.CH_ZPOS, zP1x, zP1y, zP2x, zP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param rP1x {@inheritDoc}
+     * @param rP1y {@inheritDoc}
+     * @param rP2x {@inheritDoc}
+     * @param rP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltRot(byte rP1x, byte rP1y, byte rP2x, byte rP2y){
+        putIntplt(BoneTrack.CH_ROT, rP1x, rP1y, rP2x, rP2y);
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param morphName {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     * @param flex {@inheritDoc}
+     */
+    @Override
+    public void vmdMorphMotion(String morphName, int keyFrameNo, float flex){
+        growMorph();
+
+        int idx = this.morphNum++;
+        this.morphIds[idx] =
+                trackId(morphName, this.morphNames, this.morphIdMap);
+        this.morphFrames[idx] = keyFrameNo;
+        this.morphFlexes[idx] = flex;
+
+        return;
+    }
+
+}
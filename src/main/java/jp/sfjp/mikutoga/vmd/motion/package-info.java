@@ -0,0 +1,18 @@
+/*
+ * package information for Javadoc
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+/**
+ * VMDモーションデータのメモリ上表現。
+ *
+ * <p>パース済みのキーフレーム群をボーン及びモーフ毎のトラックに分類し、
+ * フレーム番号順に整列したプリミティブ型配列として保持する。
+ * キーフレーム1件毎のオブジェクトは生成しない。
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+/* EOF */
@@ -0,0 +1,492 @@
+/*
+ * empty VMD handler
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+
+/**
+ * 何もしないVMDパーサ用統合ハンドラ実装。
+ *
+ * <p>全ての通知を無視する。
+ * リフレクションを用いたプロキシと異なり、
+ * 通知毎の引数配列生成やプリミティブ値のボクシングが発生しない。
+ *
+ * <p>必要な通知のみをオーバーライドするアダプタとして
+ * 継承して用いてもよい。
+ */
+public class EmptyVmdHandler implements VmdUnifiedHandler {
+
+    /**
+     * コンストラクタ。
+     */
+    public EmptyVmdHandler(){
+        super();
+        return;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param stage {@inheritDoc}
+     * @param loops {@inheritDoc}
+     */
+    @Override
+    public void loopStart(ParseStage stage, int loops){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopNext(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param stage {@inheritDoc}
+     */
+    @Override
+    public void loopEnd(ParseStage stage){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     */
+    @Override
+    public void vmdParseStart(){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param hasMoreData {@inheritDoc}
+     */
+    @Override
+    public void vmdParseEnd(boolean hasMoreData){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param header {@inheritDoc}
+     */
+    @Override
+    public void vmdHeaderInfo(byte[] header){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param modelName {@inheritDoc}
+     */
+    @Override
+    public void vmdModelName(String modelName){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneName {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneMotion(String boneName, int keyFrameNo){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void vmdBonePosition(float xPos, float yPos, float zPos){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param qx {@inheritDoc}
+     * @param qy {@inheritDoc}
+     * @param qz {@inheritDoc}
+     * @param qw {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneRotationQt(float qx, float qy, float qz, float qw){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xP1x {@inheritDoc}
+     * @param xP1y {@inheritDoc}
+     * @param xP2x {@inheritDoc}
+     * @param xP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltXpos(byte xP1x, byte xP1y, byte xP2x, byte xP2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param yP1x {@inheritDoc}
+     * @param yP1y {@inheritDoc}
+     * @param yP2x {@inheritDoc}
+     * @param yP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltYpos(byte yP1x, byte yP1y, byte yP2x, byte yP2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param zP1x {@inheritDoc}
+     * @param zP1y {@inheritDoc}
+     * @param zP2x {@inheritDoc}
+     * @param zP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltZpos(byte zP1x, byte zP1y, byte zP2x, byte zP2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param rP1x {@inheritDoc}
+     * @param rP1y {@inheritDoc}
+     * @param rP2x {@inheritDoc}
+     * @param rP2y {@inheritDoc}
+     */
+    @Override
+    public void vmdBoneIntpltRot(byte rP1x, byte rP1y, byte rP2x, byte rP2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param morphName {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     * @param flex {@inheritDoc}
+     */
+    @Override
+    public void vmdMorphMotion(String morphName, int keyFrameNo, float flex){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraMotion(int keyFrameNo){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param range {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraRange(float range){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xPos {@inheritDoc}
+     * @param yPos {@inheritDoc}
+     * @param zPos {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraPosition(float xPos, float yPos, float zPos){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param latitude {@inheritDoc}
+     * @param longitude {@inheritDoc}
+     * @param roll {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraRotation(float latitude, float longitude, float roll){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param angle {@inheritDoc}
+     * @param hasPerspective {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraProjection(int angle, boolean hasPerspective){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltXpos(byte p1x, byte p1y, byte p2x, byte p2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltYpos(byte p1x, byte p1y, byte p2x, byte p2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltZpos(byte p1x, byte p1y, byte p2x, byte p2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltRotation(
+            byte p1x, byte p1y, byte p2x, byte p2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltRange(byte p1x, byte p1y, byte p2x, byte p2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param p1x {@inheritDoc}
+     * @param p1y {@inheritDoc}
+     * @param p2x {@inheritDoc}
+     * @param p2y {@inheritDoc}
+     */
+    @Override
+    public void vmdCameraIntpltProjection(
+            byte p1x, byte p1y, byte p2x, byte p2y){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdLuminousMotion(int keyFrameNo){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param rVal {@inheritDoc}
+     * @param gVal {@inheritDoc}
+     * @param bVal {@inheritDoc}
+     */
+    @Override
+    public void vmdLuminousColor(float rVal, float gVal, float bVal){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param xVec {@inheritDoc}
+     * @param yVec {@inheritDoc}
+     * @param zVec {@inheritDoc}
+     */
+    @Override
+    public void vmdLuminousDirection(float xVec, float yVec, float zVec){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdShadowMotion(int keyFrameNo){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param shadowMode {@inheritDoc}
+     */
+    @Override
+    public void vmdShadowMode(byte shadowMode){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param shadowScope {@inheritDoc}
+     */
+    @Override
+    public void vmdShadowScopeRaw(float shadowScope){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param show {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdModelSight(boolean show, int keyFrameNo){
+        return;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>何もしない。
+     *
+     * @param boneName {@inheritDoc}
+     * @param validIk {@inheritDoc}
+     * @param keyFrameNo {@inheritDoc}
+     */
+    @Override
+    public void vmdIkSwitch(String boneName, boolean validIk, int keyFrameNo){
+        return;
+    }
+
+}
@@ -31,10 +31,12 @@
 public interface VmdBasicHandler extends LoopHandler {
 
     /** ボーンモーション抽出ループ識別子。 */
-    public static final ParseStage BONEMOTION_LIST = new ParseStage();
+    public static final ParseStage BONEMOTION_LIST =
+            new ParseStage("BONEMOTION_LIST");
 
     /** モーフ抽出ループ識別子。 */
-    public static final ParseStage MORPH_LIST = new ParseStage();
+    public static final ParseStage MORPH_LIST =
+            new ParseStage("VMD_MORPH_LIST");
 
 
     /**
@@ -12,8 +12,11 @@
 import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdEofException;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
 import jp.sfjp.mikutoga.bin.parser.ProxyParser;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
 import jp.sfjp.mikutoga.bin.parser.TextDecoder;
+import jp.sfjp.mikutoga.bin.parser.Win31jDecoder;
 import jp.sfjp.mikutoga.vmd.VmdConst;
 import jp.sfjp.mikutoga.vmd.VmdUniq;
 
@@ -37,19 +40,21 @@ class VmdBasicParser extends ProxyParser{
     private static final int BZ_REDUNDANT = 4;          // redundant spare
     private static final int BZTOTAL_SIZE = BZXYZR_SIZE * BZ_REDUNDANT;
 
-    private static final String ERRMSG_INVINTPLT =
+    static final String ERRMSG_INVINTPLT =
             "there is potential inconsistency in motion interpolation data. "
             +"(Strict-mode)";
     private static final String ERRMSG_UK_HEADER =
             "unknown VMD-header type";
 
 
-    private final TextDecoder decoderWin31j  = new TextDecoder(CS_WIN31J);
+    private final TextDecoder decoderWin31j  = new Win31jDecoder();
 
     private final byte[] motionIntplt = new byte[BZTOTAL_SIZE];
 
     private VmdBasicHandler handler = VmdUnifiedHandler.EMPTY;
 
+    private StageListener stageListener = null;
+
     private boolean hasStageActName = false;
     private boolean redundantCheck = false;
 
@@ -66,6 +71,58 @@ class VmdBasicParser extends ProxyParser{
     }
 
 
+    /**
+     * VMDファイルヘッダ部の内容を検査する。
+     *
+     * @param header ヘッダ部
+     * @throws MmdFormatException 未知のヘッダ形式を検出した。
+     */
+    static void checkHeader(byte[] header) throws MmdFormatException{
+        byte[] magic = (VmdConst.MAGIC_TXT + '\0').getBytes(CS_ASCII);
+        for(int idx = 0; idx < magic.length; idx++){
+            if(header.length <= idx || header[idx] != magic[idx]){
+                throw new MmdFormatException(ERRMSG_UK_HEADER);
+            }
+        }
+        return;
+    }
+
+    /**
+     * ボーンモーション補間情報の冗長箇所の整合性を判定する。
+     *
+     * <p>※ MMDの版数によって微妙に詳細が異なる場合がある。
+     *
+     * @param intplt 補間情報。64byte。
+     * @return 整合性が取れていればtrue
+     */
+    static boolean isStrictIntplt(byte[] intplt){
+        int lack = 1;
+        for(int ct = 1; ct < BZ_REDUNDANT; ct++){
+            int sourceIdx = 0 + lack;
+            int targetIdx = BZXYZR_SIZE * ct;
+            int span = BZXYZR_SIZE - lack;
+
+            for(int idx = 0; idx < span; idx++){
+                byte sourceVal = intplt[sourceIdx + idx];
+                byte targetVal = intplt[targetIdx + idx];
+                if(sourceVal != targetVal) return false;
+            }
+
+            int onePos = targetIdx + span;
+            if(intplt[onePos] != (byte) 0x01) return false;
+
+            int zeroPosStart = onePos + 1;
+            int zeroPosEnd = targetIdx + BZXYZR_SIZE;
+            for(int idx = zeroPosStart; idx < zeroPosEnd; idx++){
+                if(intplt[idx] != (byte) 0x00) return false;
+            }
+
+            lack++;
+        }
+
+        return true;
+    }
+
     /**
      * パースしたモデル名がカメラ及びライティング用モデル名だったか判定する。
      *
@@ -90,6 +147,39 @@ void setBasicHandler(VmdBasicHandler basicHandler){
         return;
     }
 
+    /**
+     * ステージ進行の通知を受け取るリスナを登録する。
+     *
+     * @param listener リスナ。nullなら通知を行わない。
+     */
+    void setStageListener(StageListener listener){
+        this.stageListener = listener;
+        return;
+    }
+
+    /**
+     * リスナへステージ開始を通知する。
+     *
+     * @param stage ループ種別
+     * @param loops ループ予定回数
+     */
+    private void stageStart(ParseStage stage, int loops){
+        if(this.stageListener == null) return;
+        this.stageListener.stageStart(stage, loops, getPosition());
+        return;
+    }
+
+    /**
+     * リスナへステージ終了を通知する。
+     *
+     * @param stage ループ種別
+     */
+    private void stageEnd(ParseStage stage){
+        if(this.stageListener == null) return;
+        this.stageListener.stageEnd(stage, getPosition());
+        return;
+    }
+
     /**
      * ボーンモーション補間情報冗長部のチェックを行うか否か設定する。
      * デフォルトではチェックを行わない。
@@ -130,8 +220,6 @@ private String parseVmdText(int byteLen)
      * @throws MmdFormatException フォーマットエラー
      */
     void parse() throws IOException, MmdFormatException {
-        this.hasStageActName = false;
-
         parseVmdHeader();
         parseVmdModelName();
         parseVmdBoneMotion();
@@ -146,16 +234,13 @@ void parse() throws IOException, MmdFormatException {
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdHeader() throws IOException, MmdFormatException{
+    void parseVmdHeader() throws IOException, MmdFormatException{
+        this.hasStageActName = false;
+
         byte[] header = new byte[VmdConst.HEADER_LENGTH];
         parseByteArray(header);
 
-        byte[] magic = (VmdConst.MAGIC_TXT + '\0').getBytes(CS_ASCII);
-        for(int idx = 0; idx < magic.length; idx++){
-            if(header.length <= idx || header[idx] != magic[idx]){
-                throw new MmdFormatException(ERRMSG_UK_HEADER);
-            }
-        }
+        checkHeader(header);
 
         this.handler.vmdHeaderInfo(header);
 
@@ -168,7 +253,7 @@ private void parseVmdHeader() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdModelName() throws IOException, MmdFormatException{
+    void parseVmdModelName() throws IOException, MmdFormatException{
         String modelName = parseVmdText(VmdConst.MODELNAME_MAX);
 
         if(VmdUniq.isStageActName(modelName)){
@@ -186,9 +271,10 @@ private void parseVmdModelName() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdBoneMotion()
+    void parseVmdBoneMotion()
             throws IOException, MmdFormatException{
         int boneMotionNo = parseLeInt();
+        stageStart(VmdBasicHandler.BONEMOTION_LIST, boneMotionNo);
 
         this.handler.loopStart(
                 VmdBasicHandler.BONEMOTION_LIST, boneMotionNo);
@@ -215,6 +301,7 @@ private void parseVmdBoneMotion()
         }
 
         this.handler.loopEnd(VmdBasicHandler.BONEMOTION_LIST);
+        stageEnd(VmdBasicHandler.BONEMOTION_LIST);
 
         return;
     }
@@ -273,38 +360,9 @@ private void parseVmdMotionInterpolation()
      * @throws MmdFormatException 冗長箇所の不整合を検出した。
      */
     private void checkIntpltStrict() throws MmdFormatException{
-        int lack = 1;
-        for(int ct = 1; ct < BZ_REDUNDANT; ct++){
-            int sourceIdx = 0 + lack;
-            int targetIdx = BZXYZR_SIZE * ct;
-            int span = BZXYZR_SIZE - lack;
-
-            for(int idx = 0; idx < span; idx++){
-                byte sourceVal = this.motionIntplt[sourceIdx + idx];
-                byte targetVal = this.motionIntplt[targetIdx + idx];
-                if(sourceVal != targetVal){
-                    throw new MmdFormatException(ERRMSG_INVINTPLT,
-                                                 getPosition());
-                }
-            }
-
-            int onePos = targetIdx + span;
-            if(this.motionIntplt[onePos] != (byte) 0x01){
-                throw new MmdFormatException(ERRMSG_INVINTPLT, getPosition());
-            }
-
-            int zeroPosStart = onePos + 1;
-            int zeroPosEnd = targetIdx + BZXYZR_SIZE;
-            for(int idx = zeroPosStart; idx < zeroPosEnd; idx++){
-                if(this.motionIntplt[idx] != (byte) 0x00){
-                    throw new MmdFormatException(ERRMSG_INVINTPLT,
-                                                 getPosition());
-                }
-            }
-
-            lack++;
+        if( ! isStrictIntplt(this.motionIntplt) ){
+            throw new MmdFormatException(ERRMSG_INVINTPLT, getPosition());
         }
-
         return;
     }
 
@@ -314,8 +372,9 @@ private void checkIntpltStrict() throws MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdMorph() throws IOException, MmdFormatException{
+    void parseVmdMorph() throws IOException, MmdFormatException{
         int morphMotionNo = parseLeInt();
+        stageStart(VmdBasicHandler.MORPH_LIST, morphMotionNo);
 
         this.handler.loopStart(
                 VmdBasicHandler.MORPH_LIST, morphMotionNo);
@@ -330,6 +389,7 @@ private void parseVmdMorph() throws IOException, MmdFormatException{
         }
 
         this.handler.loopEnd(VmdBasicHandler.MORPH_LIST);
+        stageEnd(VmdBasicHandler.MORPH_LIST);
 
         return;
     }
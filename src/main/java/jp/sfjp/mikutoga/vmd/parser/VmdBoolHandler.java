@@ -20,10 +20,11 @@
 public interface VmdBoolHandler extends LoopHandler {
 
     /** モデル表示スイッチ抽出ループ識別子。 */
-    public static final ParseStage MODELSIGHT_LIST = new ParseStage();
+    public static final ParseStage MODELSIGHT_LIST =
+            new ParseStage("MODELSIGHT_LIST");
 
     /** IK有効スイッチ抽出ループ識別子。 */
-    public static final ParseStage IKSW_LIST = new ParseStage();
+    public static final ParseStage IKSW_LIST = new ParseStage("IKSW_LIST");
 
 
     /**
@@ -10,8 +10,11 @@
 import java.io.IOException;
 import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
 import jp.sfjp.mikutoga.bin.parser.ProxyParser;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
 import jp.sfjp.mikutoga.bin.parser.TextDecoder;
+import jp.sfjp.mikutoga.bin.parser.Win31jDecoder;
 import jp.sfjp.mikutoga.vmd.VmdConst;
 
 /**
@@ -22,11 +25,12 @@
  */
 class VmdBoolParser extends ProxyParser {
 
-    private final TextDecoder decoderWin31j =
-            new TextDecoder(VmdBasicParser.CS_WIN31J);
+    private final TextDecoder decoderWin31j = new Win31jDecoder();
 
     private VmdBoolHandler handler = VmdUnifiedHandler.EMPTY;
 
+    private StageListener stageListener = null;
+
 
     /**
      * コンストラクタ。
@@ -55,6 +59,39 @@ void setBoolHandler(VmdBoolHandler boolHandler){
         return;
     }
 
+    /**
+     * ステージ進行の通知を受け取るリスナを登録する。
+     *
+     * @param listener リスナ。nullなら通知を行わない。
+     */
+    void setStageListener(StageListener listener){
+        this.stageListener = listener;
+        return;
+    }
+
+    /**
+     * リスナへステージ開始を通知する。
+     *
+     * @param stage ループ種別
+     * @param loops ループ予定回数
+     */
+    private void stageStart(ParseStage stage, int loops){
+        if(this.stageListener == null) return;
+        this.stageListener.stageStart(stage, loops, getPosition());
+        return;
+    }
+
+    /**
+     * リスナへステージ終了を通知する。
+     *
+     * @param stage ループ種別
+     */
+    private void stageEnd(ParseStage stage){
+        if(this.stageListener == null) return;
+        this.stageListener.stageEnd(stage, getPosition());
+        return;
+    }
+
     /**
      * データのパースと通知。
      *
@@ -75,9 +112,10 @@ void parse() throws IOException, MmdFormatException {
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdModelSight()
+    void parseVmdModelSight()
             throws IOException, MmdFormatException{
         int modelSightNo = parseLeInt();
+        stageStart(VmdBoolHandler.MODELSIGHT_LIST, modelSightNo);
 
         this.handler.loopStart(VmdBoolHandler.MODELSIGHT_LIST,
                                modelSightNo );
@@ -93,6 +131,7 @@ private void parseVmdModelSight()
         }
 
         this.handler.loopEnd(VmdBoolHandler.MODELSIGHT_LIST);
+        stageEnd(VmdBoolHandler.MODELSIGHT_LIST);
 
         return;
     }
@@ -107,6 +146,7 @@ private void parseVmdModelSight()
     private void parseVmdIkSwitch(int keyFrameNo)
             throws IOException, MmdFormatException{
         int ikSwitchNo = parseLeInt();
+        stageStart(VmdBoolHandler.IKSW_LIST, ikSwitchNo);
 
         this.handler.loopStart(VmdBoolHandler.IKSW_LIST, ikSwitchNo);
 
@@ -120,6 +160,7 @@ private void parseVmdIkSwitch(int keyFrameNo)
         }
 
         this.handler.loopEnd(VmdBoolHandler.IKSW_LIST);
+        stageEnd(VmdBoolHandler.IKSW_LIST);
 
         return;
     }
@@ -29,7 +29,7 @@
 public interface VmdCameraHandler extends LoopHandler {
 
     /** カメラデータ抽出ループ識別子。 */
-    public static final ParseStage CAMERA_LIST = new ParseStage();
+    public static final ParseStage CAMERA_LIST = new ParseStage("CAMERA_LIST");
 
 
     /**
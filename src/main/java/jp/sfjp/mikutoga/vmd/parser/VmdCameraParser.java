@@ -10,7 +10,9 @@
 import java.io.IOException;
 import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
 import jp.sfjp.mikutoga.bin.parser.ProxyParser;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
 
 /**
  * VMDモーションファイルのカメラモーションパーサ。
@@ -27,6 +29,8 @@ class VmdCameraParser extends ProxyParser{
 
     private VmdCameraHandler handler = VmdUnifiedHandler.EMPTY;
 
+    private StageListener stageListener = null;
+
 
     /**
      * コンストラクタ。
@@ -54,6 +58,39 @@ void setCameraHandler(VmdCameraHandler cameraHandler){
         return;
     }
 
+    /**
+     * ステージ進行の通知を受け取るリスナを登録する。
+     *
+     * @param listener リスナ。nullなら通知を行わない。
+     */
+    void setStageListener(StageListener listener){
+        this.stageListener = listener;
+        return;
+    }
+
+    /**
+     * リスナへステージ開始を通知する。
+     *
+     * @param stage ループ種別
+     * @param loops ループ予定回数
+     */
+    private void stageStart(ParseStage stage, int loops){
+        if(this.stageListener == null) return;
+        this.stageListener.stageStart(stage, loops, getPosition());
+        return;
+    }
+
+    /**
+     * リスナへステージ終了を通知する。
+     *
+     * @param stage ループ種別
+     */
+    private void stageEnd(ParseStage stage){
+        if(this.stageListener == null) return;
+        this.stageListener.stageEnd(stage, getPosition());
+        return;
+    }
+
     /**
      * カメラモーションデータのパースと通知。
      *
@@ -62,6 +99,7 @@ void setCameraHandler(VmdCameraHandler cameraHandler){
      */
     void parse() throws IOException, MmdFormatException {
         int cameraMotionNo = parseLeInt();
+        stageStart(VmdCameraHandler.CAMERA_LIST, cameraMotionNo);
 
         this.handler.loopStart(VmdCameraHandler.CAMERA_LIST, cameraMotionNo);
 
@@ -93,6 +131,7 @@ void parse() throws IOException, MmdFormatException {
         }
 
         this.handler.loopEnd(VmdCameraHandler.CAMERA_LIST);
+        stageEnd(VmdCameraHandler.CAMERA_LIST);
 
         return;
     }
@@ -0,0 +1,309 @@
+/*
+ * VMD feed driver
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import java.io.IOException;
+import jp.sfjp.mikutoga.bin.parser.FeedDriver;
+import jp.sfjp.mikutoga.bin.parser.FeedParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.vmd.VmdConst;
+
+/**
+ * 受信済みのデータに応じてVMDファイルをセクション毎にパースする。
+ *
+ * <p>{@link VmdParser}のセクションを同じ順序でたどる状態機械であり、
+ * 各セクションのパースには{@link VmdParser}自身の処理が用いられる。
+ * セクションに必要なバイト長は先頭の要素数、
+ * 可変長の要素からなるセクションでは各要素の要素数を先読みして求める。
+ * セクション全体が{@link FeedParser}に揃った時点でそのセクションをパースし、
+ * ハンドラへ通知する。
+ *
+ * <p>省略可能なセクションの有無は、
+ * 後続のデータが届くか入力ソースの終端が通知されるまで判定を保留する。
+ *
+ * <p>パーサにはこのクラスが生成した{@link #getParser()}を用いる。
+ * ハンドラの登録などは最初の{@link #drive()}より前に行わなければならない。
+ * {@link VmdParser#parseVmd()}を呼んではならない。
+ */
+public class VmdFeedDriver implements FeedDriver {
+
+    private static final int BYTES_INT = Integer.SIZE / Byte.SIZE;
+
+    private static final int BYTES_MODELSIGHT = 4 + 1;
+    private static final int BYTES_IKSWITCH = VmdConst.IKSWBONENAME_MAX + 1;
+
+    private static final int STEP_START      =  0;
+    private static final int STEP_HEADER     =  1;
+    private static final int STEP_MODELNAME  =  2;
+    private static final int STEP_BONEMOTION =  3;
+    private static final int STEP_MORPH      =  4;
+    private static final int STEP_CAMERA     =  5;
+    private static final int STEP_LUMINOUS   =  6;
+    private static final int STEP_SHADOW     =  7;
+    private static final int STEP_MODELSIGHT =  8;
+    private static final int STEP_END        =  9;
+    private static final int STEP_DONE       = 10;
+
+
+    private final FeedParser feed;
+    private final VmdParser parser;
+
+    private int step = STEP_START;
+
+    private int scanNum = -1;
+    private int scanIdx = 0;
+    private long scanLength = 0L;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param feed 入力ソース
+     * @throws NullPointerException 引数がnull
+     */
+    public VmdFeedDriver(FeedParser feed) throws NullPointerException{
+        super();
+
+        if(feed == null) throw new NullPointerException();
+
+        this.feed = feed;
+        this.parser = new VmdParser(feed);
+
+        return;
+    }
+
+
+    /**
+     * 入力ソースを返す。
+     *
+     * @return 入力ソース
+     */
+    public FeedParser getFeed(){
+        return this.feed;
+    }
+
+    /**
+     * ハンドラ登録用のパーサを返す。
+     *
+     * @return パーサ
+     */
+    public VmdParser getParser(){
+        return this.parser;
+    }
+
+    /**
+     * 全てのセクションのパースを終えたか判定する。
+     *
+     * @return 終えていればtrue
+     */
+    public boolean isDone(){
+        return this.step == STEP_DONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @throws MmdFormatException {@inheritDoc}
+     */
+    @Override
+    public boolean drive() throws IOException, MmdFormatException{
+        while(this.step != STEP_DONE){
+            if( ! this.feed.isFinished() ){
+                long need = requiredLength();
+                if(need > this.feed.available()) return false;
+            }
+
+            this.step = parseStep();
+
+            this.scanNum = -1;
+            this.scanIdx = 0;
+            this.scanLength = 0L;
+        }
+
+        return true;
+    }
+
+    /**
+     * 現在のセクションのパースに必要なバイト長を求める。
+     *
+     * <p>受信済みのデータだけでは求めきれない場合は、
+     * 判定を進めるために必要なバイト長を返す。
+     *
+     * @return バイト長
+     */
+    private long requiredLength(){
+        long result;
+
+        switch(this.step){
+        case STEP_START:
+            result = 0L;
+            break;
+        case STEP_HEADER:
+            result = VmdConst.HEADER_LENGTH;
+            break;
+        case STEP_MODELNAME:
+            result = VmdConst.MODELNAME_MAX;
+            break;
+        case STEP_BONEMOTION:
+            result = listLength(VmdFrameCursor.BYTES_BONE);
+            break;
+        case STEP_MORPH:
+            result = listLength(VmdFrameCursor.BYTES_MORPH);
+            break;
+        case STEP_CAMERA:
+            result = optionalListLength(VmdFrameCursor.BYTES_CAMERA);
+            break;
+        case STEP_LUMINOUS:
+            result = listLength(VmdFrameCursor.BYTES_LUMINOUS);
+            break;
+        case STEP_SHADOW:
+            result = optionalListLength(VmdFrameCursor.BYTES_SHADOW);
+            break;
+        case STEP_MODELSIGHT:
+            if(this.feed.available() <= 0) result = 1L;
+            else                            result = scanModelSightList();
+            break;
+        case STEP_END:
+            result = 1L;
+            break;
+        default:
+            assert false;
+            throw new AssertionError();
+        }
+
+        return result;
+    }
+
+    /**
+     * 現在のセクションをパースし、次のセクションを求める。
+     *
+     * @return 次のセクション
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private int parseStep() throws IOException, MmdFormatException{
+        VmdParser vmd = this.parser;
+        int result = this.step + 1;
+
+        switch(this.step){
+        case STEP_START:
+            vmd.parseStart();
+            break;
+        case STEP_HEADER:
+            vmd.getBasicParser().parseVmdHeader();
+            break;
+        case STEP_MODELNAME:
+            vmd.getBasicParser().parseVmdModelName();
+            break;
+        case STEP_BONEMOTION:
+            vmd.getBasicParser().parseVmdBoneMotion();
+            break;
+        case STEP_MORPH:
+            vmd.getBasicParser().parseVmdMorph();
+            break;
+        case STEP_CAMERA:
+            if(this.feed.hasMore()) vmd.getCameraParser().parse();
+            else                    result = STEP_MODELSIGHT;
+            break;
+        case STEP_LUMINOUS:
+            vmd.getLightingParser().parseVmdLighting();
+            break;
+        case STEP_SHADOW:
+            if(this.feed.hasMore()){
+                vmd.getLightingParser().parseVmdShadow();
+            }
+            break;
+        case STEP_MODELSIGHT:
+            if(this.feed.hasMore()){
+                vmd.getBoolParser().parseVmdModelSight();
+            }
+            break;
+        case STEP_END:
+            vmd.parseEnd();
+            break;
+        default:
+            assert false;
+            throw new AssertionError();
+        }
+
+        return result;
+    }
+
+    /**
+     * 要素数に続く固定長要素の並びからなるセクションのバイト長を求める。
+     *
+     * @param recordSize 要素1件あたりのバイト長
+     * @return バイト長。要素数が未着なら要素数のバイト長
+     */
+    private long listLength(int recordSize){
+        if(this.feed.available() < BYTES_INT) return BYTES_INT;
+
+        int count = this.feed.peekLeInt(0);
+
+        long result = BYTES_INT + recordsLength(count, recordSize);
+        return result;
+    }
+
+    /**
+     * 省略可能なセクションのバイト長を求める。
+     *
+     * @param recordSize 要素1件あたりのバイト長
+     * @return バイト長。セクションの有無が未着なら1
+     */
+    private long optionalListLength(int recordSize){
+        if(this.feed.available() <= 0) return 1L;
+        long result = listLength(recordSize);
+        return result;
+    }
+
+    /**
+     * 固定長要素の並びのバイト長を求める。
+     *
+     * @param count 要素数。負の値は0とみなされる。
+     * @param recordSize 要素1件あたりのバイト長
+     * @return バイト長
+     */
+    private static long recordsLength(int count, int recordSize){
+        if(count <= 0) return 0L;
+        long result = (long) count * recordSize;
+        return result;
+    }
+
+    /**
+     * モデル表示フラグデータのバイト長を求める。
+     *
+     * <p>走査済みの要素は次回の呼び出しで再走査されない。
+     *
+     * @return バイト長。求めきれなければ走査を進めるのに必要なバイト長
+     */
+    private long scanModelSightList(){
+        int avail = this.feed.available();
+
+        if(this.scanNum < 0){
+            if(avail < BYTES_INT) return BYTES_INT;
+            this.scanNum = Math.max(this.feed.peekLeInt(0), 0);
+            this.scanLength = BYTES_INT;
+        }
+
+        while(this.scanIdx < this.scanNum){
+            long countPos = this.scanLength + BYTES_MODELSIGHT;
+            if(avail < countPos + BYTES_INT) return countPos + BYTES_INT;
+
+            int ikSwitchNo = this.feed.peekLeInt((int) countPos);
+
+            this.scanLength = countPos + BYTES_INT
+                    + recordsLength(ikSwitchNo, BYTES_IKSWITCH);
+            this.scanIdx++;
+        }
+
+        return this.scanLength;
+    }
+
+}
@@ -0,0 +1,497 @@
+/*
+ * VMD key frame cursor
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
+import jp.sfjp.mikutoga.bin.parser.CommonParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.bin.parser.TextDecoder;
+import jp.sfjp.mikutoga.bin.parser.Win31jDecoder;
+import jp.sfjp.mikutoga.vmd.VmdConst;
+import jp.sfjp.mikutoga.vmd.VmdUniq;
+
+/**
+ * VMDモーションファイルのキーフレームを1件ずつ読み出すカーソル。
+ *
+ * <p>コールバックによる通知を行う{@link VmdParser}とは異なり、
+ * 利用者が{@link #next()}を呼ぶたびに入力ソースを読み進める。
+ * 読み出したキーフレームの内容は
+ * {@link #getRecord()}が返す単一のレコードに上書きされる。
+ *
+ * <p>読み出し順はボーンモーション、モーフ、カメラ、ライティング、
+ * シャドウの順。
+ * カメラ以降のデータが存在しないVMDファイルもそのまま扱える。
+ * モデル表示およびIK ON/OFF情報は読み出さない。
+ *
+ * <p>利用者は任意の時点で読み出しを打ち切ってよい。
+ * {@link #skipSection()}によって現在のキーフレーム種別の残りを
+ * まとめて読み飛ばすこともできる。
+ */
+public class VmdFrameCursor {
+
+    static final int BYTES_BONE =
+            VmdConst.BONENAME_MAX + 4 + 4 * 3 + 4 * 4
+            + VmdFrameRecord.BONE_INTPLT_SIZE;
+    static final int BYTES_MORPH =
+            VmdConst.MORPHNAME_MAX + 4 + 4;
+    static final int BYTES_CAMERA =
+            4 + 4 + 4 * 3 + 4 * 3
+            + VmdFrameRecord.CAMERA_INTPLT_SIZE + 4 + 1;
+    static final int BYTES_LUMINOUS = 4 + 4 * 3 + 4 * 3;
+    static final int BYTES_SHADOW = 4 + 1 + 4;
+
+    private static final ParseStage[] STAGES = {
+        VmdBasicHandler.BONEMOTION_LIST,
+        VmdBasicHandler.MORPH_LIST,
+        VmdCameraHandler.CAMERA_LIST,
+        VmdLightingHandler.LUMINOUS_LIST,
+        VmdLightingHandler.SHADOW_LIST,
+    };
+    private static final int[] RECORD_SIZES = {
+        BYTES_BONE,
+        BYTES_MORPH,
+        BYTES_CAMERA,
+        BYTES_LUMINOUS,
+        BYTES_SHADOW,
+    };
+
+    private static final int IDX_BONE     = 0;
+    private static final int IDX_MORPH    = 1;
+    private static final int IDX_CAMERA   = 2;
+    private static final int IDX_LUMINOUS = 3;
+    private static final int IDX_SHADOW   = 4;
+
+
+    private final BinParser parser;
+
+    private final TextDecoder decoderWin31j = new Win31jDecoder();
+
+    private final VmdFrameRecord record = new VmdFrameRecord();
+
+    private byte[] header = null;
+    private String modelName = null;
+
+    private int stageIdx = -1;
+    private int sectionSize = 0;
+    private int sectionIdx = 0;
+    private boolean finished = false;
+
+    private boolean redundantCheck = false;
+
+
+    /**
+     * コンストラクタ。
+     *
+     * @param source 入力ソース
+     * @throws NullPointerException 引数がnull
+     */
+    public VmdFrameCursor(InputStream source) throws NullPointerException{
+        this(buildCommonParser(source));
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public VmdFrameCursor(BinParser parser) throws NullPointerException{
+        super();
+
+        if(parser == null) throw new NullPointerException();
+        this.parser = parser;
+
+        this.decoderWin31j.setZeroChopMode(true);
+
+        return;
+    }
+
+
+    /**
+     * 入力ストリームをソースとするパーサを生成する。
+     *
+     * @param source 入力ソース
+     * @return パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    private static BinParser buildCommonParser(InputStream source)
+            throws NullPointerException{
+        if(source == null) throw new NullPointerException();
+        BinParser result = new CommonParser(source);
+        return result;
+    }
+
+    /**
+     * ボーンモーション補間情報冗長部のチェックを行うか否か設定する。
+     * デフォルトではチェックを行わない。
+     *
+     * @param mode チェックさせたければtrue
+     * @see VmdParser#setRedundantCheck(boolean)
+     */
+    public void setRedundantCheck(boolean mode){
+        this.redundantCheck = mode;
+        return;
+    }
+
+    /**
+     * 入力ソースの現在位置を返す。
+     *
+     * @return 入力ソースの先頭からのバイト数
+     */
+    public long getPosition(){
+        return this.parser.getPosition();
+    }
+
+    /**
+     * ファイルヘッダ部およびモデル名を未読であれば読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parsePrologue() throws IOException, MmdFormatException{
+        if(this.header != null) return;
+
+        byte[] headerData = new byte[VmdConst.HEADER_LENGTH];
+        this.parser.parseByteArray(headerData);
+        VmdBasicParser.checkHeader(headerData);
+
+        this.modelName = this.parser.parseString(this.decoderWin31j,
+                                                 VmdConst.MODELNAME_MAX);
+        this.header = headerData;
+
+        return;
+    }
+
+    /**
+     * ファイルヘッダ部を返す。
+     *
+     * <p>未読であれば入力ソースから読み込む。
+     *
+     * @return ファイルヘッダ部の複製
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    public byte[] getHeader() throws IOException, MmdFormatException{
+        parsePrologue();
+        byte[] result = this.header.clone();
+        return result;
+    }
+
+    /**
+     * モデル名を返す。
+     *
+     * <p>未読であれば入力ソースから読み込む。
+     * キーフレームを読まずにモデル名のみを調べたい場合に用いる。
+     *
+     * @return モデル名
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    public String getModelName() throws IOException, MmdFormatException{
+        parsePrologue();
+        return this.modelName;
+    }
+
+    /**
+     * モデル名がカメラ及びライティング用モデル名か判定する。
+     *
+     * @return カメラ及びライティング用モデル名ならtrue
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    public boolean isStageAct() throws IOException, MmdFormatException{
+        boolean result = VmdUniq.isStageActName(getModelName());
+        return result;
+    }
+
+    /**
+     * 現在のキーフレーム種別を返す。
+     *
+     * @return キーフレーム種別。
+     *     最初のキーフレーム種別に達する前、および終端に達した後はnull
+     */
+    public ParseStage getStage(){
+        if(this.finished || this.stageIdx < 0) return null;
+        return STAGES[this.stageIdx];
+    }
+
+    /**
+     * 現在のキーフレーム種別に属するキーフレーム総数を返す。
+     *
+     * @return キーフレーム総数
+     */
+    public int getSectionSize(){
+        return this.sectionSize;
+    }
+
+    /**
+     * 現在のキーフレーム種別内で読み出し済みのキーフレーム数を返す。
+     *
+     * @return 読み出し済みキーフレーム数
+     */
+    public int getSectionIndex(){
+        return this.sectionIdx;
+    }
+
+    /**
+     * 読み出したキーフレームを格納するレコードを返す。
+     *
+     * <p>常に同一のインスタンスが返される。
+     *
+     * @return レコード
+     */
+    public VmdFrameRecord getRecord(){
+        return this.record;
+    }
+
+    /**
+     * 次のキーフレームを読み出す。
+     *
+     * <p>必要に応じてファイルヘッダ部、モデル名、
+     * および各キーフレーム種別の件数情報が読み込まれる。
+     *
+     * @return 読み出したならtrue。終端に達したならfalse
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    public boolean next() throws IOException, MmdFormatException{
+        parsePrologue();
+
+        while( ! this.finished ){
+            if(this.stageIdx >= 0 && this.sectionIdx < this.sectionSize){
+                parseRecord();
+                this.sectionIdx++;
+                return true;
+            }
+            openNextSection();
+        }
+
+        return false;
+    }
+
+    /**
+     * 現在のキーフレーム種別の未読キーフレームを全て読み飛ばす。
+     *
+     * <p>次の{@link #next()}呼び出しでは
+     * 次のキーフレーム種別の先頭が読み出される。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    public void skipSection() throws IOException, MmdFormatException{
+        parsePrologue();
+        if(this.finished || this.stageIdx < 0) return;
+
+        int remain = this.sectionSize - this.sectionIdx;
+        if(remain <= 0) return;
+
+        long skipLength = (long) RECORD_SIZES[this.stageIdx] * remain;
+        this.parser.skip(skipLength);
+        this.sectionIdx = this.sectionSize;
+
+        return;
+    }
+
+    /**
+     * 次のキーフレーム種別の件数情報を読み込む。
+     *
+     * <p>カメラおよびシャドウ情報は省略されている場合がある。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void openNextSection() throws IOException, MmdFormatException{
+        int nextIdx = this.stageIdx + 1;
+
+        boolean optional = nextIdx == IDX_CAMERA || nextIdx == IDX_SHADOW;
+        if(STAGES.length <= nextIdx || optional && ! this.parser.hasMore()){
+            this.finished = true;
+            this.sectionSize = 0;
+            this.sectionIdx = 0;
+            return;
+        }
+
+        int num = this.parser.parseLeInt();
+
+        this.stageIdx = nextIdx;
+        this.sectionSize = Math.max(num, 0);
+        this.sectionIdx = 0;
+
+        this.record.setStage(STAGES[nextIdx]);
+
+        return;
+    }
+
+    /**
+     * 現在のキーフレーム種別に応じたキーフレームを1件読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseRecord() throws IOException, MmdFormatException{
+        switch(this.stageIdx){
+        case IDX_BONE:
+            parseBoneMotion();
+            break;
+        case IDX_MORPH:
+            parseMorph();
+            break;
+        case IDX_CAMERA:
+            parseCamera();
+            break;
+        case IDX_LUMINOUS:
+            parseLuminous();
+            break;
+        case IDX_SHADOW:
+            parseShadow();
+            break;
+        default:
+            assert false;
+            throw new AssertionError();
+        }
+
+        return;
+    }
+
+    /**
+     * ボーンモーション情報を読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseBoneMotion() throws IOException, MmdFormatException{
+        BinParser src = this.parser;
+        VmdFrameRecord rec = this.record;
+
+        String boneName = src.parseString(this.decoderWin31j,
+                                          VmdConst.BONENAME_MAX);
+        rec.setName(boneName);
+        rec.setFrameNo(src.parseLeInt());
+
+        float xPos = src.parseLeFloat();
+        float yPos = src.parseLeFloat();
+        float zPos = src.parseLeFloat();
+        rec.setPosition(xPos, yPos, zPos);
+
+        float qx = src.parseLeFloat();
+        float qy = src.parseLeFloat();
+        float qz = src.parseLeFloat();
+        float qw = src.parseLeFloat();
+        rec.setRotationQt(qx, qy, qz, qw);
+
+        byte[] intplt = rec.getBoneIntplt();
+        src.parseByteArray(intplt);
+        if(this.redundantCheck && ! VmdBasicParser.isStrictIntplt(intplt)){
+            throw new MmdFormatException(VmdBasicParser.ERRMSG_INVINTPLT,
+                                         src.getPosition());
+        }
+
+        return;
+    }
+
+    /**
+     * モーフ情報を読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseMorph() throws IOException, MmdFormatException{
+        BinParser src = this.parser;
+        VmdFrameRecord rec = this.record;
+
+        String morphName = src.parseString(this.decoderWin31j,
+                                           VmdConst.MORPHNAME_MAX);
+        rec.setName(morphName);
+        rec.setFrameNo(src.parseLeInt());
+        rec.setFlex(src.parseLeFloat());
+
+        return;
+    }
+
+    /**
+     * カメラ情報を読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseCamera() throws IOException, MmdFormatException{
+        BinParser src = this.parser;
+        VmdFrameRecord rec = this.record;
+
+        rec.setName(null);
+        rec.setFrameNo(src.parseLeInt());
+        rec.setRange(src.parseLeFloat());
+
+        float xPos = src.parseLeFloat();
+        float yPos = src.parseLeFloat();
+        float zPos = src.parseLeFloat();
+        rec.setPosition(xPos, yPos, zPos);
+
+        float latitude  = src.parseLeFloat();
+        float longitude = src.parseLeFloat();
+        float roll      = src.parseLeFloat();
+        rec.setCameraRotation(latitude, longitude, roll);
+
+        src.parseByteArray(rec.getCameraIntplt());
+
+        int angle = src.parseLeInt();
+        boolean hasPerspective = ! src.parseBoolean();
+        rec.setProjection(angle, hasPerspective);
+
+        return;
+    }
+
+    /**
+     * ライティング情報を読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseLuminous() throws IOException, MmdFormatException{
+        BinParser src = this.parser;
+        VmdFrameRecord rec = this.record;
+
+        rec.setName(null);
+        rec.setFrameNo(src.parseLeInt());
+
+        float rVal = src.parseLeFloat();
+        float gVal = src.parseLeFloat();
+        float bVal = src.parseLeFloat();
+        rec.setLuminousColor(rVal, gVal, bVal);
+
+        float xVec = src.parseLeFloat();
+        float yVec = src.parseLeFloat();
+        float zVec = src.parseLeFloat();
+        rec.setLuminousDirection(xVec, yVec, zVec);
+
+        return;
+    }
+
+    /**
+     * シャドウ情報を読み込む。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    private void parseShadow() throws IOException, MmdFormatException{
+        BinParser src = this.parser;
+        VmdFrameRecord rec = this.record;
+
+        rec.setName(null);
+        rec.setFrameNo(src.parseLeInt());
+        rec.setShadowMode(src.parseByte());
+        rec.setShadowScopeRaw(src.parseLeFloat());
+
+        return;
+    }
+
+}
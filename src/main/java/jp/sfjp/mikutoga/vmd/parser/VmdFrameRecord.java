@@ -0,0 +1,498 @@
+/*
+ * VMD key frame record
+ *
+ * License : The MIT License
+ * Copyright(c) 2026 MikuToga Partners
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+
+/**
+ * {@link VmdFrameCursor}が読み出したキーフレーム1件分の情報。
+ *
+ * <p>カーソルが次のキーフレームへ進むたびに同一インスタンスの内容が
+ * 上書きされる。
+ * 内容を保持したい場合は利用者側で値を複写しなければならない。
+ *
+ * <p>各アクセサは{@link #getStage()}の示すキーフレーム種別に
+ * 応じた値のみが有効。それ以外の値は以前のキーフレームの残骸である。
+ *
+ * <p>キーフレーム種別毎の有効なアクセサは以下の通り。
+ * <ul>
+ * <li>{@link VmdBasicHandler#BONEMOTION_LIST} :
+ * 名前、位置、回転クォータニオン、補間情報(64byte)
+ * <li>{@link VmdBasicHandler#MORPH_LIST} :
+ * 名前、変形度
+ * <li>{@link VmdCameraHandler#CAMERA_LIST} :
+ * 位置(ターゲット位置)、距離、回転、視野角、パースペクティブ、
+ * 補間情報(24byte)
+ * <li>{@link VmdLightingHandler#LUMINOUS_LIST} :
+ * 光源色、光源方向
+ * <li>{@link VmdLightingHandler#SHADOW_LIST} :
+ * シャドウモード、シャドウ範囲
+ * </ul>
+ * フレーム番号は全種別で有効。
+ */
+public class VmdFrameRecord {
+
+    /** ボーンモーション補間情報のバイト長。 */
+    public static final int BONE_INTPLT_SIZE = 64;
+
+    /** カメラ補間情報のバイト長。 */
+    public static final int CAMERA_INTPLT_SIZE = 24;
+
+
+    private final byte[] boneIntplt   = new byte[BONE_INTPLT_SIZE];
+    private final byte[] cameraIntplt = new byte[CAMERA_INTPLT_SIZE];
+
+    private ParseStage stage = null;
+    private int frameNo = 0;
+    private String name = null;
+
+    private float xPos = 0.0f;
+    private float yPos = 0.0f;
+    private float zPos = 0.0f;
+
+    private float qx = 0.0f;
+    private float qy = 0.0f;
+    private float qz = 0.0f;
+    private float qw = 1.0f;
+
+    private float flex = 0.0f;
+
+    private float range = 0.0f;
+    private float latitude  = 0.0f;
+    private float longitude = 0.0f;
+    private float roll      = 0.0f;
+    private int angle = 0;
+    private boolean hasPerspective = true;
+
+    private float rVal = 0.0f;
+    private float gVal = 0.0f;
+    private float bVal = 0.0f;
+    private float xVec = 0.0f;
+    private float yVec = 0.0f;
+    private float zVec = 0.0f;
+
+    private byte shadowMode = 0;
+    private float shadowScope = 0.0f;
+
+
+    /**
+     * コンストラクタ。
+     */
+    VmdFrameRecord(){
+        super();
+        return;
+    }
+
+
+    /**
+     * キーフレーム種別を返す。
+     *
+     * @return キーフレーム種別
+     */
+    public ParseStage getStage(){
+        return this.stage;
+    }
+
+    /**
+     * キーフレーム種別を設定する。
+     *
+     * @param stage キーフレーム種別
+     */
+    void setStage(ParseStage stage){
+        this.stage = stage;
+        return;
+    }
+
+    /**
+     * フレーム番号を返す。
+     *
+     * @return フレーム番号
+     */
+    public int getFrameNo(){
+        return this.frameNo;
+    }
+
+    /**
+     * フレーム番号を設定する。
+     *
+     * @param frameNo フレーム番号
+     */
+    void setFrameNo(int frameNo){
+        this.frameNo = frameNo;
+        return;
+    }
+
+    /**
+     * ボーン名もしくはモーフ名を返す。
+     *
+     * @return ボーン名もしくはモーフ名
+     */
+    public String getName(){
+        return this.name;
+    }
+
+    /**
+     * ボーン名もしくはモーフ名を設定する。
+     *
+     * @param name ボーン名もしくはモーフ名
+     */
+    void setName(String name){
+        this.name = name;
+        return;
+    }
+
+    /**
+     * ボーン位置もしくはカメラターゲット位置のX座標を返す。
+     *
+     * @return X座標
+     */
+    public float getXPos(){
+        return this.xPos;
+    }
+
+    /**
+     * ボーン位置もしくはカメラターゲット位置のY座標を返す。
+     *
+     * @return Y座標
+     */
+    public float getYPos(){
+        return this.yPos;
+    }
+
+    /**
+     * ボーン位置もしくはカメラターゲット位置のZ座標を返す。
+     *
+     * @return Z座標
+     */
+    public float getZPos(){
+        return this.zPos;
+    }
+
+    /**
+     * ボーン位置もしくはカメラターゲット位置を設定する。
+     *
+     * @param xPos X座標
+     * @param yPos Y座標
+     * @param zPos Z座標
+     */
+    void setPosition(float xPos, float yPos, float zPos){
+        this.xPos = xPos;
+        this.yPos = yPos;
+        this.zPos = zPos;
+        return;
+    }
+
+    /**
+     * ボーン回転クォータニオンのX成分を返す。
+     *
+     * @return X成分
+     */
+    public float getQx(){
+        return this.qx;
+    }
+
+    /**
+     * ボーン回転クォータニオンのY成分を返す。
+     *
+     * @return Y成分
+     */
+    public float getQy(){
+        return this.qy;
+    }
+
+    /**
+     * ボーン回転クォータニオンのZ成分を返す。
+     *
+     * @return Z成分
+     */
+    public float getQz(){
+        return this.qz;
+    }
+
+    /**
+     * ボーン回転クォータニオンのW成分を返す。
+     *
+     * @return W成分
+     */
+    public float getQw(){
+        return this.qw;
+    }
+
+    /**
+     * ボーン回転クォータニオンを設定する。
+     *
+     * @param qx X成分
+     * @param qy Y成分
+     * @param qz Z成分
+     * @param qw W成分
+     */
+    void setRotationQt(float qx, float qy, float qz, float qw){
+        this.qx = qx;
+        this.qy = qy;
+        this.qz = qz;
+        this.qw = qw;
+        return;
+    }
+
+    /**
+     * ボーンモーション補間情報を返す。
+     *
+     * <p>VMDファイル上のバイト並びそのままの64byte。
+     * 返される配列は次のキーフレームで上書きされる。
+     * 改変してはならない。
+     *
+     * @return 補間情報
+     */
+    public byte[] getBoneIntplt(){
+        return this.boneIntplt;
+    }
+
+    /**
+     * モーフ変形度を返す。
+     *
+     * @return 変形度
+     */
+    public float getFlex(){
+        return this.flex;
+    }
+
+    /**
+     * モーフ変形度を設定する。
+     *
+     * @param flex 変形度
+     */
+    void setFlex(float flex){
+        this.flex = flex;
+        return;
+    }
+
+    /**
+     * カメラ目標点とカメラ間の距離を返す。
+     *
+     * @return 距離
+     */
+    public float getRange(){
+        return this.range;
+    }
+
+    /**
+     * カメラ目標点とカメラ間の距離を設定する。
+     *
+     * @param range 距離
+     */
+    void setRange(float range){
+        this.range = range;
+        return;
+    }
+
+    /**
+     * カメラ回転の極座標緯度を返す。
+     *
+     * @return 極座標緯度。ラジアン単位
+     */
+    public float getLatitude(){
+        return this.latitude;
+    }
+
+    /**
+     * カメラ回転の極座標経度を返す。
+     *
+     * @return 極座標経度。ラジアン単位
+     */
+    public float getLongitude(){
+        return this.longitude;
+    }
+
+    /**
+     * カメラのロール回転量を返す。
+     *
+     * @return ロール回転量。ラジアン単位
+     */
+    public float getRoll(){
+        return this.roll;
+    }
+
+    /**
+     * カメラ回転を設定する。
+     *
+     * @param latitude 極座標緯度
+     * @param longitude 極座標経度
+     * @param roll ロール回転量
+     */
+    void setCameraRotation(float latitude, float longitude, float roll){
+        this.latitude  = latitude;
+        this.longitude = longitude;
+        this.roll      = roll;
+        return;
+    }
+
+    /**
+     * カメラの縦視野角を返す。
+     *
+     * @return 縦視野角。度数法
+     */
+    public int getAngle(){
+        return this.angle;
+    }
+
+    /**
+     * パースペクティブの有無を返す。
+     *
+     * @return パースペクティブが有効ならtrue
+     */
+    public boolean hasPerspective(){
+        return this.hasPerspective;
+    }
+
+    /**
+     * カメラ投影情報を設定する。
+     *
+     * @param angle 縦視野角
+     * @param hasPerspective パースペクティブが有効ならtrue
+     */
+    void setProjection(int angle, boolean hasPerspective){
+        this.angle = angle;
+        this.hasPerspective = hasPerspective;
+        return;
+    }
+
+    /**
+     * カメラ補間情報を返す。
+     *
+     * <p>VMDファイル上のバイト並びそのままの24byte。
+     * 返される配列は次のキーフレームで上書きされる。
+     * 改変してはならない。
+     *
+     * @return 補間情報
+     */
+    public byte[] getCameraIntplt(){
+        return this.cameraIntplt;
+    }
+
+    /**
+     * 光源色の赤成分を返す。
+     *
+     * @return 赤成分
+     */
+    public float getRVal(){
+        return this.rVal;
+    }
+
+    /**
+     * 光源色の緑成分を返す。
+     *
+     * @return 緑成分
+     */
+    public float getGVal(){
+        return this.gVal;
+    }
+
+    /**
+     * 光源色の青成分を返す。
+     *
+     * @return 青成分
+     */
+    public float getBVal(){
+        return this.bVal;
+    }
+
+    /**
+     * 光源色を設定する。
+     *
+     * @param rVal 赤成分
+     * @param gVal 緑成分
+     * @param bVal 青成分
+     */
+    void setLuminousColor(float rVal, float gVal, float bVal){
+        this.rVal = rVal;
+        this.gVal = gVal;
+        this.bVal = bVal;
+        return;
+    }
+
+    /**
+     * 光源方向のX成分を返す。
+     *
+     * @return X成分
+     */
+    public float getXVec(){
+        return this.xVec;
+    }
+
+    /**
+     * 光源方向のY成分を返す。
+     *
+     * @return Y成分
+     */
+    public float getYVec(){
+        return this.yVec;
+    }
+
+    /**
+     * 光源方向のZ成分を返す。
+     *
+     * @return Z成分
+     */
+    public float getZVec(){
+        return this.zVec;
+    }
+
+    /**
+     * 光源方向を設定する。
+     *
+     * @param xVec X成分
+     * @param yVec Y成分
+     * @param zVec Z成分
+     */
+    void setLuminousDirection(float xVec, float yVec, float zVec){
+        this.xVec = xVec;
+        this.yVec = yVec;
+        this.zVec = zVec;
+        return;
+    }
+
+    /**
+     * シャドウモードを返す。
+     *
+     * @return シャドウモード
+     */
+    public byte getShadowMode(){
+        return this.shadowMode;
+    }
+
+    /**
+     * シャドウモードを設定する。
+     *
+     * @param shadowMode シャドウモード
+     */
+    void setShadowMode(byte shadowMode){
+        this.shadowMode = shadowMode;
+        return;
+    }
+
+    /**
+     * シャドウ範囲の生の値を返す。
+     *
+     * @return シャドウ範囲
+     * @see VmdLightingHandler#vmdShadowScopeRaw(float)
+     */
+    public float getShadowScopeRaw(){
+        return this.shadowScope;
+    }
+
+    /**
+     * シャドウ範囲の生の値を設定する。
+     *
+     * @param shadowScope シャドウ範囲
+     */
+    void setShadowScopeRaw(float shadowScope){
+        this.shadowScope = shadowScope;
+        return;
+    }
+
+}
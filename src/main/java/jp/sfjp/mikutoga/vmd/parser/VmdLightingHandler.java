@@ -22,10 +22,11 @@
 public interface VmdLightingHandler extends LoopHandler {
 
     /** 照明光源データ抽出ループ識別子。 */
-    public static final ParseStage LUMINOUS_LIST = new ParseStage();
+    public static final ParseStage LUMINOUS_LIST =
+            new ParseStage("LUMINOUS_LIST");
 
     /** セルフシャドウデータ抽出ループ識別子。 */
-    public static final ParseStage SHADOW_LIST = new ParseStage();
+    public static final ParseStage SHADOW_LIST = new ParseStage("SHADOW_LIST");
 
 
     /**
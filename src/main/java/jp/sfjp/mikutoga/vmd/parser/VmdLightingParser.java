@@ -10,7 +10,9 @@
 import java.io.IOException;
 import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
 import jp.sfjp.mikutoga.bin.parser.ProxyParser;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
 
 /**
  * VMDモーションファイルのライティング情報パーサ。
@@ -22,6 +24,8 @@ class VmdLightingParser extends ProxyParser {
 
     private VmdLightingHandler handler = VmdUnifiedHandler.EMPTY;
 
+    private StageListener stageListener = null;
+
 
     /**
      * コンストラクタ。
@@ -49,6 +53,39 @@ void setLightingHandler(VmdLightingHandler lightingHandler){
         return;
     }
 
+    /**
+     * ステージ進行の通知を受け取るリスナを登録する。
+     *
+     * @param listener リスナ。nullなら通知を行わない。
+     */
+    void setStageListener(StageListener listener){
+        this.stageListener = listener;
+        return;
+    }
+
+    /**
+     * リスナへステージ開始を通知する。
+     *
+     * @param stage ループ種別
+     * @param loops ループ予定回数
+     */
+    private void stageStart(ParseStage stage, int loops){
+        if(this.stageListener == null) return;
+        this.stageListener.stageStart(stage, loops, getPosition());
+        return;
+    }
+
+    /**
+     * リスナへステージ終了を通知する。
+     *
+     * @param stage ループ種別
+     */
+    private void stageEnd(ParseStage stage){
+        if(this.stageListener == null) return;
+        this.stageListener.stageEnd(stage, getPosition());
+        return;
+    }
+
     /**
      * ライティングデータのパースと通知。
      *
@@ -71,8 +108,9 @@ void parse() throws IOException, MmdFormatException {
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdLighting() throws IOException, MmdFormatException{
+    void parseVmdLighting() throws IOException, MmdFormatException{
         int lightMotionNo = parseLeInt();
+        stageStart(VmdLightingHandler.LUMINOUS_LIST, lightMotionNo);
 
         this.handler.loopStart(VmdLightingHandler.LUMINOUS_LIST,
                 lightMotionNo);
@@ -95,6 +133,7 @@ private void parseVmdLighting() throws IOException, MmdFormatException{
         }
 
         this.handler.loopEnd(VmdLightingHandler.LUMINOUS_LIST);
+        stageEnd(VmdLightingHandler.LUMINOUS_LIST);
 
         return;
     }
@@ -105,8 +144,9 @@ private void parseVmdLighting() throws IOException, MmdFormatException{
      * @throws IOException IOエラー
      * @throws MmdFormatException フォーマットエラー
      */
-    private void parseVmdShadow() throws IOException, MmdFormatException{
+    void parseVmdShadow() throws IOException, MmdFormatException{
         int shadowMotionNo = parseLeInt();
+        stageStart(VmdLightingHandler.SHADOW_LIST, shadowMotionNo);
 
         this.handler.loopStart(VmdLightingHandler.SHADOW_LIST,
                 shadowMotionNo);
@@ -125,6 +165,7 @@ private void parseVmdShadow() throws IOException, MmdFormatException{
         }
 
         this.handler.loopEnd(VmdLightingHandler.SHADOW_LIST);
+        stageEnd(VmdLightingHandler.SHADOW_LIST);
 
         return;
     }
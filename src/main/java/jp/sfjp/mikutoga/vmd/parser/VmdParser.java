@@ -12,6 +12,7 @@
 import jp.sfjp.mikutoga.bin.parser.BinParser;
 import jp.sfjp.mikutoga.bin.parser.CommonParser;
 import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
 
 /**
  * VMDモーションファイルのパーサ。
@@ -29,6 +30,8 @@ public class VmdParser {
 
     private boolean redundantCheck = false;
 
+    private StageListener stageListener = null;
+
 
     /**
      * コンストラクタ。
@@ -37,13 +40,35 @@ public class VmdParser {
      * @throws NullPointerException 引数がnull
      */
     public VmdParser(InputStream source) throws NullPointerException{
+        this(source, buildCommonParser(source));
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    public VmdParser(BinParser parser) throws NullPointerException{
+        this(null, parser);
+        return;
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param source 入力ソース。不明ならnull
+     * @param parser 委譲先パーサ
+     * @throws NullPointerException 委譲先パーサがnull
+     */
+    private VmdParser(InputStream source, BinParser parser)
+            throws NullPointerException{
         super();
 
-        if(source == null) throw new NullPointerException();
+        if(parser == null) throw new NullPointerException();
         this.source = source;
 
-        BinParser parser = new CommonParser(this.source);
-
         this.basicParser    = new VmdBasicParser(parser);
         this.cameraParser   = new VmdCameraParser(parser);
         this.lightingParser = new VmdLightingParser(parser);
@@ -53,10 +78,25 @@ public VmdParser(InputStream source) throws NullPointerException{
     }
 
 
+    /**
+     * 入力ストリームをソースとするパーサを生成する。
+     *
+     * @param source 入力ソース
+     * @return パーサ
+     * @throws NullPointerException 引数がnull
+     */
+    private static BinParser buildCommonParser(InputStream source)
+            throws NullPointerException{
+        if(source == null) throw new NullPointerException();
+        BinParser result = new CommonParser(source);
+        return result;
+    }
+
     /**
      * 入力ソースを返す。
      *
-     * @return 入力ソース
+     * @return 入力ソース。
+     *     委譲先パーサを指定して生成された場合はnull
      */
     public InputStream getSource(){
         return this.source;
@@ -126,6 +166,70 @@ public void setRedundantCheck(boolean mode){
         return;
     }
 
+    /**
+     * ステージ進行の通知を受け取るリスナを設定する。
+     *
+     * <p>各ループの開始と終了が読み込み位置と共に通知される。
+     *
+     * <p>デフォルトではnull。
+     *
+     * @param listener リスナ。nullなら通知を行わない。
+     * @see jp.sfjp.mikutoga.bin.parser.StageMetrics
+     */
+    public void setStageListener(StageListener listener){
+        this.stageListener = listener;
+        this.basicParser.setStageListener(listener);
+        this.cameraParser.setStageListener(listener);
+        this.lightingParser.setStageListener(listener);
+        this.boolParser.setStageListener(listener);
+        return;
+    }
+
+    /**
+     * 基本部パーサを返す。
+     *
+     * @return 基本部パーサ
+     */
+    VmdBasicParser getBasicParser(){
+        return this.basicParser;
+    }
+
+    /**
+     * カメラ情報パーサを返す。
+     *
+     * @return カメラ情報パーサ
+     */
+    VmdCameraParser getCameraParser(){
+        return this.cameraParser;
+    }
+
+    /**
+     * ライティング情報パーサを返す。
+     *
+     * @return ライティング情報パーサ
+     */
+    VmdLightingParser getLightingParser(){
+        return this.lightingParser;
+    }
+
+    /**
+     * ON/OFF情報パーサを返す。
+     *
+     * @return ON/OFF情報パーサ
+     */
+    VmdBoolParser getBoolParser(){
+        return this.boolParser;
+    }
+
+    /**
+     * ステージ進行の通知を受け取るリスナを返す。
+     *
+     * @return リスナ。通知を行わないならnull。
+     */
+    public StageListener getStageListener(){
+        return this.stageListener;
+    }
+
     /**
      * VMDファイルのパースを開始する。
      *
@@ -133,15 +237,32 @@ public void setRedundantCheck(boolean mode){
      * @throws MmdFormatException フォーマットエラー
      */
     public void parseVmd() throws IOException, MmdFormatException {
-        setRedundantCheck(this.redundantCheck);
+        parseStart();
+        parseBody();
+        parseEnd();
+        return;
+    }
 
+    /**
+     * パース開始を通知する。
+     *
+     * @throws MmdFormatException フォーマットエラー
+     */
+    void parseStart() throws MmdFormatException{
+        setRedundantCheck(this.redundantCheck);
         this.basicHandler.vmdParseStart();
+        return;
+    }
 
-        parseBody();
-
+    /**
+     * パース終了を通知する。
+     *
+     * @throws IOException IOエラー
+     * @throws MmdFormatException フォーマットエラー
+     */
+    void parseEnd() throws IOException, MmdFormatException{
         boolean hasMoreData = this.lightingParser.hasMore();
         this.basicHandler.vmdParseEnd(hasMoreData);
-
         return;
     }
 
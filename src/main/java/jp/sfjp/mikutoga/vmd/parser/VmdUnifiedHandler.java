@@ -7,8 +7,6 @@
 
 package jp.sfjp.mikutoga.vmd.parser;
 
-import jp.sfjp.mikutoga.corelib.EmptyProxyFactory;
-
 /**
  * VMDパーサ用の統合ハンドラ。
  */
@@ -19,8 +17,6 @@
             VmdBoolHandler {
 
     /** 何もしない統合ハンドラ。 */
-    public static final VmdUnifiedHandler EMPTY =
-            (VmdUnifiedHandler)
-            ( EmptyProxyFactory.buildEmptyProxy(VmdUnifiedHandler.class) );
+    public static final VmdUnifiedHandler EMPTY = new EmptyVmdHandler();
 
 }
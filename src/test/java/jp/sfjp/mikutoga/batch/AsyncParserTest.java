@@ -0,0 +1,349 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.pmd.parser.EmptyPmdHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdSample;
+import jp.sfjp.mikutoga.vmd.parser.EmptyVmdHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdSample;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class AsyncParserTest {
+
+    public AsyncParserTest() {
+    }
+
+    /**
+     * ループ回数を数えるPMDハンドラ。
+     */
+    private static class PmdCounter extends EmptyPmdHandler {
+        int loops;
+
+        @Override
+        public void loopNext(ParseStage stage) {
+            this.loops++;
+        }
+    }
+
+    /**
+     * ループ回数を数えるVMDハンドラ。
+     */
+    private static class VmdCounter extends EmptyVmdHandler {
+        int loops;
+
+        @Override
+        public void loopNext(ParseStage stage) {
+            this.loops++;
+        }
+    }
+
+    private static PmdCounter registerPmd(PmdParser parser){
+        PmdCounter counter = new PmdCounter();
+        parser.setBasicHandler(counter);
+        parser.setShapeHandler(counter);
+        parser.setMaterialHandler(counter);
+        parser.setBoneHandler(counter);
+        parser.setMorphHandler(counter);
+        parser.setEngHandler(counter);
+        parser.setToonHandler(counter);
+        parser.setRigidHandler(counter);
+        parser.setJointHandler(counter);
+        return counter;
+    }
+
+    private static VmdCounter registerVmd(VmdParser parser){
+        VmdCounter counter = new VmdCounter();
+        parser.setBasicHandler(counter);
+        parser.setCameraHandler(counter);
+        parser.setLightingHandler(counter);
+        parser.setBoolHandler(counter);
+        return counter;
+    }
+
+    private static int countPmd(PmdParser parser)
+            throws IOException, MmdFormatException{
+        PmdCounter counter = registerPmd(parser);
+        parser.parsePmd();
+        return counter.loops;
+    }
+
+    private static int countVmd(VmdParser parser)
+            throws IOException, MmdFormatException{
+        VmdCounter counter = registerVmd(parser);
+        parser.parseVmd();
+        return counter.loops;
+    }
+
+    /**
+     * Test of constructor, of class AsyncParser.
+     * @param dir temporary directory
+     */
+    @Test
+    public void testCons(@TempDir Path dir) {
+        System.out.println("constructor");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try{
+            AsyncParser async = new AsyncParser(executor);
+            assertSame(executor, async.getExecutor());
+            assertEquals(BatchParser.DEF_MEMORY_LIMIT, async.getMemoryLimit());
+
+            assertEquals(1L, new AsyncParser(executor, 1L).getMemoryLimit());
+
+            try{
+                new AsyncParser(null);
+                fail();
+            }catch(NullPointerException e){
+                // GOOD
+            }
+
+            try{
+                new AsyncParser(executor, 0L);
+                fail();
+            }catch(IllegalArgumentException e){
+                // GOOD
+            }
+
+            try{
+                async.parsePmd(null, parser -> {});
+                fail();
+            }catch(NullPointerException e){
+                // GOOD
+            }
+
+            try{
+                async.parseVmd(dir.resolve("motion.vmd"), null);
+                fail();
+            }catch(NullPointerException e){
+                // GOOD
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parsePmd and parseVmd methods, of class AsyncParser.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testParse(@TempDir Path dir) throws Exception {
+        System.out.println("parse");
+
+        byte[] pmd = PmdSample.build(3000);
+        byte[] vmd = VmdSample.build(500, true);
+        int expPmd = countPmd(new PmdParser(new ByteArrayInputStream(pmd)));
+        int expVmd = countVmd(new VmdParser(new ByteArrayInputStream(vmd)));
+
+        Path pmdFile = dir.resolve("model.pmd");
+        Files.write(pmdFile, pmd);
+        Path vmdFile = dir.resolve("motion.vmd");
+        Files.write(vmdFile, vmd);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            AsyncParser async = new AsyncParser(executor);
+
+            List<PmdCounter> pmdCounters = new ArrayList<>();
+            List<VmdCounter> vmdCounters = new ArrayList<>();
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+            for(int ct = 0; ct < 8; ct++){
+                results.add(async.parsePmd(pmdFile,
+                        parser -> pmdCounters.add(registerPmd(parser)) ));
+                results.add(async.parseVmd(vmdFile,
+                        parser -> vmdCounters.add(registerVmd(parser)) ));
+            }
+
+            for(CompletableFuture<Void> result : results){
+                result.get(30L, TimeUnit.SECONDS);
+            }
+
+            for(PmdCounter counter : pmdCounters){
+                assertEquals(expPmd, counter.loops);
+            }
+            for(VmdCounter counter : vmdCounters){
+                assertEquals(expVmd, counter.loops);
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of memory limit, of class AsyncParser.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testMemoryLimit(@TempDir Path dir) throws Exception {
+        System.out.println("memory limit");
+
+        byte[] vmd = VmdSample.build(50, false);
+        List<Path> files = new ArrayList<>();
+        for(int ct = 0; ct < 16; ct++){
+            Path file = dir.resolve("motion" + ct + ".vmd");
+            Files.write(file, vmd);
+            files.add(file);
+        }
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try{
+            AsyncParser async = new AsyncParser(executor, vmd.length * 2L);
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+            for(Path file : files){
+                results.add(async.parseVmd(file, parser -> {
+                    parser.setBasicHandler(new EmptyVmdHandler(){
+                        @Override
+                        public void vmdParseStart() {
+                            int now = running.incrementAndGet();
+                            peak.accumulateAndGet(now, Math::max);
+                        }
+
+                        @Override
+                        public void vmdParseEnd(boolean hasMoreData) {
+                            try{
+                                Thread.sleep(5L);
+                            }catch(InterruptedException e){
+                                Thread.currentThread().interrupt();
+                            }finally{
+                                running.decrementAndGet();
+                            }
+                        }
+                    });
+                }));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                    .get(30L, TimeUnit.SECONDS);
+        }finally{
+            executor.shutdown();
+        }
+
+        assertTrue(peak.get() >= 1);
+        assertTrue(peak.get() <= 2);
+
+        Path broken = dir.resolve("broken.vmd");
+        Files.write(broken, new byte[]{0x01, 0x02, 0x03});
+
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try{
+            AsyncParser async = new AsyncParser(single, 1L);
+
+            CompletableFuture<Void> failed =
+                    async.parseVmd(broken, parser -> {});
+            CompletableFuture<Void> result =
+                    async.parseVmd(files.get(0), parser -> {});
+
+            try{
+                failed.get(30L, TimeUnit.SECONDS);
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof MmdFormatException);
+            }
+            assertNull(result.get(30L, TimeUnit.SECONDS));
+        }finally{
+            single.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of error reporting, of class AsyncParser.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testError(@TempDir Path dir) throws Exception {
+        System.out.println("error");
+
+        Path broken = dir.resolve("broken.vmd");
+        Files.write(broken, new byte[]{0x01, 0x02, 0x03});
+        Path empty = dir.resolve("empty.pmd");
+        Files.write(empty, new byte[0]);
+        Path missing = dir.resolve("missing.pmd");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try{
+            AsyncParser async = new AsyncParser(executor);
+            CompletableFuture<Void> result;
+
+            result = async.parseVmd(broken, parser -> {});
+            try{
+                result.get(30L, TimeUnit.SECONDS);
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof MmdFormatException);
+            }
+
+            result = async.parsePmd(empty, parser -> {});
+            try{
+                result.get(30L, TimeUnit.SECONDS);
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof MmdFormatException);
+            }
+
+            result = async.parsePmd(missing, parser -> {});
+            try{
+                result.get(30L, TimeUnit.SECONDS);
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof NoSuchFileException);
+            }
+
+            result = async.parseVmd(broken, parser -> {
+                parser.setBasicHandler(new EmptyVmdHandler(){
+                    @Override
+                    public void vmdParseStart() {
+                        throw new IllegalStateException();
+                    }
+                });
+            });
+            try{
+                result.get(30L, TimeUnit.SECONDS);
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        return;
+    }
+
+}
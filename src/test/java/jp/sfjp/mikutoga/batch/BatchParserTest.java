@@ -0,0 +1,312 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.batch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.pmd.parser.EmptyPmdHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdSample;
+import jp.sfjp.mikutoga.vmd.parser.EmptyVmdHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdSample;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class BatchParserTest {
+
+    public BatchParserTest() {
+    }
+
+    /**
+     * ループ回数を数えるPMDハンドラ。
+     */
+    private static class PmdCounter extends EmptyPmdHandler {
+        int loops;
+
+        @Override
+        public void loopNext(ParseStage stage) {
+            this.loops++;
+        }
+    }
+
+    /**
+     * モデル名を記録するVMDハンドラ。
+     */
+    private static class VmdNamer extends EmptyVmdHandler {
+        String name;
+
+        @Override
+        public void vmdModelName(String modelName) {
+            this.name = modelName;
+        }
+    }
+
+    private static int countPmd(byte[] pmd) throws Exception{
+        PmdCounter counter = new PmdCounter();
+        PmdParser parser = new PmdParser(new ByteArrayInputStream(pmd));
+        parser.setBasicHandler(counter);
+        parser.setShapeHandler(counter);
+        parser.setMaterialHandler(counter);
+        parser.setBoneHandler(counter);
+        parser.setMorphHandler(counter);
+        parser.setEngHandler(counter);
+        parser.setToonHandler(counter);
+        parser.setRigidHandler(counter);
+        parser.setJointHandler(counter);
+        parser.parsePmd();
+        return counter.loops;
+    }
+
+    /**
+     * Test of constructor, of class BatchParser.
+     */
+    @Test
+    public void testCons() {
+        System.out.println("constructor");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try{
+            BatchParser batch = new BatchParser(executor);
+            assertSame(executor, batch.getExecutor());
+            assertEquals(BatchParser.DEF_MEMORY_LIMIT, batch.getMemoryLimit());
+
+            batch = new BatchParser(executor, 1L);
+            assertEquals(1L, batch.getMemoryLimit());
+
+            try{
+                new BatchParser(null);
+                fail();
+            }catch(NullPointerException e){
+                // GOOD
+            }
+
+            try{
+                new BatchParser(executor, 0L);
+                fail();
+            }catch(IllegalArgumentException e){
+                // GOOD
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of submitPmdAll and submitVmdAll methods, of class BatchParser.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testSubmitAll(@TempDir Path dir) throws Exception {
+        System.out.println("submitAll");
+
+        byte[] pmd = PmdSample.build(300);
+        byte[] vmd = VmdSample.build(20, true);
+        int expLoops = countPmd(pmd);
+
+        List<Path> pmdFiles = new ArrayList<>();
+        List<Path> vmdFiles = new ArrayList<>();
+        for(int ct = 0; ct < 24; ct++){
+            Path pmdFile = dir.resolve("model" + ct + ".pmd");
+            Files.write(pmdFile, pmd);
+            pmdFiles.add(pmdFile);
+
+            Path vmdFile = dir.resolve("motion" + ct + ".vmd");
+            Files.write(vmdFile, vmd);
+            vmdFiles.add(vmdFile);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            BatchParser batch = new BatchParser(executor, pmd.length * 2L);
+
+            List<CompletableFuture<Integer>> pmdResults =
+                    batch.submitPmdAll(pmdFiles, parser -> {
+                        PmdCounter counter = new PmdCounter();
+                        parser.setBasicHandler(counter);
+                        parser.setShapeHandler(counter);
+                        parser.setMaterialHandler(counter);
+                        parser.setBoneHandler(counter);
+                        parser.setMorphHandler(counter);
+                        parser.setEngHandler(counter);
+                        parser.setToonHandler(counter);
+                        parser.setRigidHandler(counter);
+                        parser.setJointHandler(counter);
+                        parser.parsePmd();
+                        return counter.loops;
+                    });
+
+            List<CompletableFuture<String>> vmdResults =
+                    batch.submitVmdAll(vmdFiles, parser -> {
+                        VmdNamer namer = new VmdNamer();
+                        parser.setBasicHandler(namer);
+                        parser.parseVmd();
+                        return namer.name;
+                    });
+
+            assertEquals(24, pmdResults.size());
+            for(CompletableFuture<Integer> result : pmdResults){
+                assertEquals(expLoops, result.get().intValue());
+            }
+            for(CompletableFuture<String> result : vmdResults){
+                assertNotNull(result.get());
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of memory limit, of class BatchParser.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testMemoryLimit(@TempDir Path dir) throws Exception {
+        System.out.println("memory limit");
+
+        byte[] vmd = VmdSample.build(50, false);
+        List<Path> files = new ArrayList<>();
+        for(int ct = 0; ct < 16; ct++){
+            Path file = dir.resolve("motion" + ct + ".vmd");
+            Files.write(file, vmd);
+            files.add(file);
+        }
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try{
+            BatchParser batch = new BatchParser(executor, vmd.length * 2L);
+            List<CompletableFuture<Integer>> results =
+                    batch.submitVmdAll(files, parser -> {
+                        int now = running.incrementAndGet();
+                        peak.accumulateAndGet(now, Math::max);
+                        try{
+                            parser.parseVmd();
+                            Thread.sleep(5L);
+                        }catch(InterruptedException e){
+                            throw new IOException(e);
+                        }finally{
+                            running.decrementAndGet();
+                        }
+                        return now;
+                    });
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                    .get(30L, TimeUnit.SECONDS);
+        }finally{
+            executor.shutdown();
+        }
+
+        assertTrue(peak.get() >= 1);
+        assertTrue(peak.get() <= 2);
+
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try{
+            BatchParser batch = new BatchParser(single, 1L);
+            CompletableFuture<String> result =
+                    batch.submitVmd(files.get(0), parser -> {
+                        parser.parseVmd();
+                        return "done";
+                    });
+            assertEquals("done", result.get(30L, TimeUnit.SECONDS));
+        }finally{
+            single.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of error reporting, of class BatchParser.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testError(@TempDir Path dir) throws Exception {
+        System.out.println("error");
+
+        Path broken = dir.resolve("broken.vmd");
+        Files.write(broken, new byte[]{0x01, 0x02, 0x03});
+        Path missing = dir.resolve("missing.pmd");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        BatchParser batch = new BatchParser(executor, 1024L);
+        try{
+            CompletableFuture<Object> result;
+
+            result = batch.submitVmd(broken, parser -> {
+                parser.parseVmd();
+                return null;
+            });
+            try{
+                result.get();
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof MmdFormatException);
+            }
+
+            result = batch.submitPmd(missing, parser -> null);
+            try{
+                result.get();
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof NoSuchFileException);
+            }
+
+            result = batch.submitVmd(broken, parser -> {
+                throw new IllegalStateException();
+            });
+            try{
+                result.get();
+                fail();
+            }catch(ExecutionException e){
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        CompletableFuture<Object> result =
+                batch.submitVmd(broken, parser -> null);
+        try{
+            result.get();
+            fail();
+        }catch(ExecutionException e){
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+
+        result = batch.submitVmd(broken, parser -> null);
+        assertTrue(result.isCompletedExceptionally());
+
+        return;
+    }
+
+}
@@ -7,8 +7,18 @@
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -606,6 +616,611 @@ public void testDumpHollerithUtf16LE() throws Exception {
         return;
     }
 
+    /**
+     * Test of buffered mode, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testBuffered() throws Exception {
+        System.out.println("buffered");
+
+        CountingOutputStream cos;
+        BinaryExporter bex;
+        byte[] barr;
+
+        cos = new CountingOutputStream();
+        bex = new BinaryExporter(cos, 16);
+
+        bex.dumpLeInt(0x12345678);
+        bex.dumpLeShort(0x9abc);
+        bex.dumpByte(0xde);
+        assertEquals(0, cos.writes);
+
+        bex.dumpLeDouble(1.0);
+        bex.dumpLeLong(-1L);
+        assertEquals(1, cos.writes);
+
+        bex.flush();
+        barr = cos.toByteArray();
+        assertEquals(4 + 2 + 1 + 8 + 8, barr.length);
+        assertEquals((byte)0x78, barr[0]);
+        assertEquals((byte)0x12, barr[3]);
+        assertEquals((byte)0xbc, barr[4]);
+        assertEquals((byte)0xde, barr[6]);
+        assertEquals((byte)0x3f, barr[14]);
+        assertEquals((byte)0xff, barr[22]);
+
+        cos.reset();
+        bex.dumpByteArray(new byte[]{0x01, 0x02});
+        bex.dumpByteArray(new byte[40]);
+        bex.dumpFixedW31j("あ", 5, new byte[]{0x00});
+        bex.close();
+        barr = cos.toByteArray();
+        assertEquals(2 + 40 + 5, barr.length);
+        assertEquals((byte)0x02, barr[1]);
+        assertEquals((byte)0x82, barr[42]);
+        assertEquals((byte)0xa0, barr[43]);
+        assertEquals((byte)0x00, barr[44]);
+
+        cos = new CountingOutputStream();
+        bex = new BinaryExporter(cos, 8);
+        bex.dumpByte(0x01);
+        bex.dumpFixedW31j("あいうえおか", 14, new byte[]{0x00});
+        bex.dumpHollerithUtf16LE("abcde");
+        bex.close();
+        barr = cos.toByteArray();
+        assertEquals(1 + 14 + 4 + 10, barr.length);
+        assertEquals((byte)0x82, barr[1]);
+        assertEquals((byte)0xa9, barr[12]);
+        assertEquals((byte)0x00, barr[14]);
+        assertEquals((byte)0x0a, barr[15]);
+        assertEquals((byte)'a', barr[19]);
+        assertEquals((byte)'e', barr[27]);
+
+        try{
+            new BinaryExporter(cos, 7);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of channel output, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testChannel() throws Exception {
+        System.out.println("channel");
+
+        ByteArrayOutputStream bos;
+        BinaryExporter bex;
+        byte[] barr;
+
+        bos = new ByteArrayOutputStream();
+        bex = new BinaryExporter(Channels.newChannel(bos), 8);
+
+        bex.dumpLeFloat(-1.5f);
+        bex.dumpLeFloatArray(new float[]{1.0f, 2.0f, 3.0f}, 0, 3);
+        bex.dumpByteArray(new byte[]{0x01, 0x02, 0x03, 0x04, 0x05,
+                                     0x06, 0x07, 0x08, 0x09 });
+        bex.flush();
+
+        barr = bos.toByteArray();
+        assertEquals(4 + 12 + 9, barr.length);
+
+        ByteBuffer buf = ByteBuffer.wrap(barr).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(-1.5f, buf.getFloat());
+        assertEquals(1.0f, buf.getFloat());
+        assertEquals(2.0f, buf.getFloat());
+        assertEquals(3.0f, buf.getFloat());
+        assertEquals((byte)0x01, buf.get());
+        assertEquals((byte)0x09, barr[barr.length - 1]);
+
+        try{
+            new BinaryExporter((WritableByteChannel) null, 16);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of output error while draining, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDrainError() throws Exception {
+        System.out.println("drain error");
+
+        FailingOutputStream fos;
+        FailingChannel fch;
+        BinaryExporter bex;
+        byte[] barr;
+
+        fos = new FailingOutputStream();
+        bex = new BinaryExporter(fos, 8);
+        bex.dumpLeInt(0x04030201);
+        bex.dumpLeShort(0x0605);
+
+        fos.fail = true;
+        try{
+            bex.flush();
+            fail();
+        }catch(IOException e){
+            // GOOD
+        }
+        assertEquals(0, fos.bos.size());
+        assertEquals(6L, bex.position());
+
+        fos.fail = false;
+        bex.dumpLeShort(0x0807);
+        bex.dumpLeInt(0x0c0b0a09);
+        bex.flush();
+
+        barr = fos.bos.toByteArray();
+        assertEquals(12, barr.length);
+        for(int idx = 0; idx < barr.length; idx++){
+            assertEquals((byte)(idx + 1), barr[idx]);
+        }
+
+        fch = new FailingChannel(3);
+        bex = new BinaryExporter(fch, 8);
+        bex.dumpLeInt(0x04030201);
+        bex.dumpLeShort(0x0605);
+
+        try{
+            bex.flush();
+            fail();
+        }catch(IOException e){
+            // GOOD
+        }
+        assertEquals(3, fch.bos.size());
+        assertEquals(6L, bex.position());
+
+        fch.limit = Integer.MAX_VALUE;
+        bex.dumpLeShort(0x0807);
+        bex.dumpLeInt(0x0c0b0a09);
+        bex.flush();
+
+        barr = fch.bos.toByteArray();
+        assertEquals(12, barr.length);
+        for(int idx = 0; idx < barr.length; idx++){
+            assertEquals((byte)(idx + 1), barr[idx]);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of dumpLeShortArray method, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDumpLeShortArray() throws Exception {
+        System.out.println("dumpLeShortArray");
+
+        ByteArrayOutputStream bos;
+        BinaryExporter bex;
+        byte[] barr;
+
+        bos = new ByteArrayOutputStream();
+        bex = new BinaryExporter(bos);
+
+        short[] array = {(short)0x1234, (short)0x5678, (short)0x9abc};
+        bex.dumpLeShortArray(array, 1, 2);
+        barr = bos.toByteArray();
+        assertEquals(4, barr.length);
+        assertEquals((byte)0x78, barr[0]);
+        assertEquals((byte)0x56, barr[1]);
+        assertEquals((byte)0xbc, barr[2]);
+        assertEquals((byte)0x9a, barr[3]);
+
+        bos.reset();
+        bex.dumpLeShortArray(array, 3, 0);
+        assertEquals(0, bos.size());
+
+        try{
+            bex.dumpLeShortArray(array, 2, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of dumpLeIntArray method, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDumpLeIntArray() throws Exception {
+        System.out.println("dumpLeIntArray");
+
+        ByteArrayOutputStream bos;
+        BinaryExporter bex;
+        byte[] barr;
+
+        int[] array = new int[10000];
+        for(int idx = 0; idx < array.length; idx++){
+            array[idx] = idx * 0x01010101;
+        }
+
+        bos = new ByteArrayOutputStream();
+        bex = new BinaryExporter(bos, 100);
+        bex.dumpLeInt(-1);
+        bex.dumpLeIntArray(array, 0, array.length);
+        bex.flush();
+
+        barr = bos.toByteArray();
+        assertEquals(4 + array.length * 4, barr.length);
+
+        ByteBuffer buf = ByteBuffer.wrap(barr).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(-1, buf.getInt());
+        for(int idx = 0; idx < array.length; idx++){
+            assertEquals(array[idx], buf.getInt());
+        }
+
+        try{
+            bex.dumpLeIntArray(array, -1, 1);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of dumpLeFloatArray method, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDumpLeFloatArray() throws Exception {
+        System.out.println("dumpLeFloatArray");
+
+        ByteArrayOutputStream bos;
+        BinaryExporter bex;
+        byte[] barr;
+
+        float[] array = new float[3000];
+        for(int idx = 0; idx < array.length; idx++){
+            array[idx] = idx * 0.5f - 100.0f;
+        }
+
+        bos = new ByteArrayOutputStream();
+        bex = new BinaryExporter(bos);
+        bex.dumpByte(0x01);
+        bex.dumpLeFloatArray(array, 1, array.length - 1);
+        barr = bos.toByteArray();
+        assertEquals(1 + (array.length - 1) * 4, barr.length);
+
+        ByteBuffer buf = ByteBuffer.wrap(barr).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals((byte)0x01, buf.get());
+        for(int idx = 1; idx < array.length; idx++){
+            assertEquals(array[idx], buf.getFloat());
+        }
+
+        try{
+            bex.dumpLeFloatArray(array, 0, array.length + 1);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of dumpBuffer method, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDumpBuffer() throws Exception {
+        System.out.println("dumpBuffer");
+
+        RecordingChannel channel;
+        BinaryExporter bex;
+        byte[] barr;
+
+        ByteBuffer big = ByteBuffer.allocateDirect(4096);
+        for(int idx = 0; idx < big.capacity(); idx++){
+            big.put(idx, (byte) idx);
+        }
+
+        channel = new RecordingChannel();
+        bex = new BinaryExporter(channel, 256);
+
+        bex.dumpLeInt(0x01020304);
+        bex.dumpBuffer(big);
+        bex.dumpBuffer(ByteBuffer.wrap(new byte[]{0x05, 0x06}));
+        bex.dumpBuffer(big);
+        assertEquals(4 + 4096 + 2 + 4096, bex.position());
+        assertEquals(0, big.position());
+        assertEquals(0, channel.gathers);
+
+        bex.flush();
+        assertEquals(1, channel.gathers);
+        assertEquals(4 + 4096 + 2 + 4096, bex.position());
+
+        barr = channel.bos.toByteArray();
+        assertEquals(4 + 4096 + 2 + 4096, barr.length);
+        assertEquals((byte)0x04, barr[0]);
+        assertEquals((byte)0x00, barr[4]);
+        assertEquals((byte)0xff, barr[4 + 255]);
+        assertEquals((byte)0x05, barr[4 + 4096]);
+        assertEquals((byte)0x06, barr[4 + 4096 + 1]);
+        assertEquals((byte)0xff, barr[barr.length - 1]);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        bex = new BinaryExporter(bos);
+        bex.dumpBuffer(big);
+        assertEquals(4096, bos.size());
+        assertEquals(4096, bex.position());
+
+        return;
+    }
+
+    /**
+     * Test of patchLeInt method with buffered data, of class BinaryExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testPatchLeInt() throws Exception {
+        System.out.println("patchLeInt");
+
+        RecordingChannel channel;
+        BinaryExporter bex;
+        byte[] barr;
+
+        channel = new RecordingChannel();
+        bex = new BinaryExporter(channel, 256);
+
+        bex.dumpByte(0x7f);
+        long countPos = bex.position();
+        assertEquals(1L, countPos);
+        bex.dumpLeInt(0);
+        bex.dumpBuffer(ByteBuffer.allocate(2048));
+        long shortPos = bex.position();
+        bex.dumpLeShort(0);
+        bex.dumpLeFloatArray(new float[10], 0, 10);
+
+        bex.patchLeInt(countPos, 0x11223344);
+        bex.patchLeShort(shortPos, 0x5566);
+
+        try{
+            bex.patchLeInt(countPos + 4, 1);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            bex.patchLeInt(bex.position() - 3, 1);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            bex.patchLeInt(-1L, 1);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        bex.flush();
+
+        barr = channel.bos.toByteArray();
+        assertEquals(1 + 4 + 2048 + 2 + 40, barr.length);
+        assertEquals((byte)0x7f, barr[0]);
+        assertEquals((byte)0x44, barr[1]);
+        assertEquals((byte)0x11, barr[4]);
+        assertEquals((byte)0x66, barr[1 + 4 + 2048]);
+        assertEquals((byte)0x55, barr[1 + 4 + 2048 + 1]);
+
+        try{
+            bex.patchLeInt(countPos, 1);
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        bex = new BinaryExporter(bos, 64);
+        bex.dumpLeInt(0);
+        bex.dumpLeInt(2);
+        bex.patchLeInt(0L, 1);
+        bex.flush();
+        assertEquals((byte)0x01, bos.toByteArray()[0]);
+
+        try{
+            bex.patchLeInt(0L, 1);
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of patchLeInt method with file channel, of class BinaryExporter.
+     * @param dir temporary directory
+     * @throws Exception
+     */
+    @Test
+    public void testPatchLeIntFile(@TempDir Path dir) throws Exception {
+        System.out.println("patchLeInt file");
+
+        Path file = dir.resolve("patch.bin");
+        Files.write(file, new byte[]{0x0a, 0x0b, 0x0c});
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        BinaryExporter bex = new BinaryExporter(channel, 16);
+
+        long countPos = bex.position();
+        bex.dumpLeInt(0);
+        int[] vals = new int[100];
+        for(int idx = 0; idx < vals.length; idx++){
+            vals[idx] = idx;
+        }
+        bex.dumpLeIntArray(vals, 0, vals.length);
+        bex.patchLeInt(countPos, vals.length);
+        bex.close();
+
+        byte[] barr = Files.readAllBytes(file);
+        assertEquals(3 + 4 + 400, barr.length);
+        assertEquals((byte)0x0c, barr[2]);
+
+        ByteBuffer buf = ByteBuffer.wrap(barr).order(ByteOrder.LITTLE_ENDIAN);
+        buf.position(3);
+        assertEquals(100, buf.getInt());
+        for(int idx = 0; idx < vals.length; idx++){
+            assertEquals(idx, buf.getInt());
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        channel.position(3);
+        bex = new BinaryExporter(channel, 16);
+        bex.dumpLeInt(0);
+        bex.dumpByteArray(new byte[32]);
+        bex.patchLeInt(0L, -1);
+        bex.flush();
+        assertEquals(3 + 4 + 32, channel.position());
+        bex.close();
+
+        barr = Files.readAllBytes(file);
+        assertEquals((byte)0xff, barr[3]);
+        assertEquals((byte)0xff, barr[6]);
+        assertEquals((byte)0x00, barr[7]);
+
+        return;
+    }
+
+    /**
+     * ギャザリング書き込みの回数を数えるチャネル。
+     */
+    private static class RecordingChannel implements GatheringByteChannel{
+        public final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        public int gathers = 0;
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            this.gathers++;
+            long result = 0L;
+            for(int idx = offset; idx < offset + length; idx++){
+                result += write(srcs[idx]);
+            }
+            return result;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int result = src.remaining();
+            while(src.hasRemaining()){
+                this.bos.write(src.get());
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            return;
+        }
+
+    }
+
+    /**
+     * 指定バイト数を書き込んだ後に出力エラーを起こすチャネル。
+     */
+    private static class FailingChannel implements WritableByteChannel{
+        public final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        public int limit;
+
+        FailingChannel(int limit){
+            this.limit = limit;
+            return;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if(this.bos.size() >= this.limit) throw new IOException();
+            int result = 0;
+            while(src.hasRemaining() && this.bos.size() < this.limit){
+                this.bos.write(src.get());
+                result++;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            return;
+        }
+
+    }
+
+    private static class FailingOutputStream extends OutputStream{
+        public final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        public boolean fail = false;
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if(this.fail) throw new IOException();
+            this.bos.write(b, off, len);
+            return;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if(this.fail) throw new IOException();
+            this.bos.write(b);
+            return;
+        }
+
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream{
+        public int writes = 0;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            this.writes++;
+            super.write(b, off, len);
+            return;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            this.writes++;
+            super.write(b);
+            return;
+        }
+
+    }
+
     private static class TestOutputStream extends FilterOutputStream{
         public boolean closed = false;
         public boolean flushed = false;
@@ -6,6 +6,9 @@
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PipedOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
@@ -22,6 +25,8 @@ public class TextExporterTest {
 
     private static Charset CS_ASCII = Charset.forName("US-ASCII");
     private static Charset CS_UTF8  = Charset.forName("UTF-8");
+    private static Charset CS_WIN31J  = Charset.forName("windows-31j");
+    private static Charset CS_UTF16LE = Charset.forName("UTF-16LE");
 
     public TextExporterTest() {
     }
@@ -204,4 +209,114 @@ public void testEncodeToByteStream() throws Exception {
         return;
     }
 
+    /**
+     * JDKのエンコーダと結果が一致することを確認する。
+     */
+    private static void assertSameEncode(Charset cs,
+                                         TextExporter exporter,
+                                         String text ) throws Exception{
+        CharsetEncoder encoder = cs.newEncoder();
+        byte[] expected = null;
+        CharacterCodingException expEx = null;
+        try{
+            ByteBuffer bBuf = encoder.encode(CharBuffer.wrap(text));
+            expected = new byte[bBuf.remaining()];
+            bBuf.get(expected);
+        }catch(CharacterCodingException e){
+            expEx = e;
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ByteBuffer dst = ByteBuffer.allocate(text.length() * 4 + 1);
+
+        if(expEx == null){
+            assertEquals(expected.length, exporter.encodedLength(text));
+            assertEquals(expected.length, exporter.dumpText(text, bos));
+            assertArrayEquals(expected, bos.toByteArray());
+            assertEquals(expected.length, exporter.encodeTo(text, dst));
+            assertEquals(expected.length, dst.position());
+            dst.flip();
+            assertEquals(ByteBuffer.wrap(expected), dst);
+            return;
+        }
+
+        try{
+            exporter.encodedLength(text);
+            fail();
+        }catch(CharacterCodingException e){
+            assertEquals(expEx.getClass(), e.getClass());
+        }
+
+        try{
+            exporter.encodeTo(text, dst);
+            fail();
+        }catch(CharacterCodingException e){
+            assertEquals(expEx.getClass(), e.getClass());
+            assertEquals(0, dst.position());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of fast encoding for windows-31j, of class TextExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testFastW31j() throws Exception {
+        System.out.println("fast windows-31j");
+
+        TextExporter exporter = new TextExporter(CS_WIN31J);
+
+        StringBuilder all = new StringBuilder();
+        for(int cVal = 0; cVal < 0x10000; cVal++){
+            char ch = (char) cVal;
+            assertSameEncode(CS_WIN31J, exporter, String.valueOf(ch));
+            if(CS_WIN31J.newEncoder().canEncode(ch)) all.append(ch);
+        }
+        assertSameEncode(CS_WIN31J, exporter, all.toString());
+
+        assertSameEncode(CS_WIN31J, exporter, "");
+        assertSameEncode(CS_WIN31J, exporter, "左足ＩＫ\\~ｾﾝﾀｰ");
+        assertSameEncode(CS_WIN31J, exporter, "\uD842\uDFB7");
+        assertSameEncode(CS_WIN31J, exporter, "センター\u20AC");
+
+        ByteBuffer dst = ByteBuffer.allocate(7);
+        dst.put((byte)0x01);
+        try{
+            exporter.encodeTo("センター", dst);
+            fail();
+        }catch(BufferOverflowException e){
+            assertEquals(1, dst.position());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of fast encoding for UTF-16LE, of class TextExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testFastUtf16le() throws Exception {
+        System.out.println("fast UTF-16LE");
+
+        TextExporter exporter = new TextExporter(CS_UTF16LE);
+        exporter.setByteBufSize(2);
+
+        assertSameEncode(CS_UTF16LE, exporter, "");
+        assertSameEncode(CS_UTF16LE, exporter, "abc");
+        assertSameEncode(CS_UTF16LE, exporter, "センター\uFFFF");
+        assertSameEncode(CS_UTF16LE, exporter, "a\uD842\uDFB7b");
+        assertSameEncode(CS_UTF16LE, exporter, "a\uD842b");
+        assertSameEncode(CS_UTF16LE, exporter, "a\uDFB7b");
+        assertSameEncode(CS_UTF16LE, exporter, "a\uD842");
+
+        exporter = new TextExporter(CS_UTF8);
+        assertSameEncode(CS_UTF8, exporter, "センター");
+        assertSameEncode(CS_UTF8, exporter, "a\uD842");
+
+        return;
+    }
+
 }
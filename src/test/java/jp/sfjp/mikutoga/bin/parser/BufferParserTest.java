@@ -0,0 +1,511 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class BufferParserTest {
+
+    public BufferParserTest() {
+    }
+
+    private static ByteBuffer wrap(int... iArray){
+        byte[] bArray = new byte[iArray.length];
+        for(int idx = 0; idx < iArray.length; idx++){
+            bArray[idx] = (byte) iArray[idx];
+        }
+        return ByteBuffer.wrap(bArray);
+    }
+
+    /**
+     * Test of constructor, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testConstructor() throws Exception{
+        System.out.println("constructor");
+
+        ByteBuffer buf;
+        BufferParser parser;
+
+        buf = wrap(0x00, 0x01, 0x02, 0x03, 0x04, 0x05);
+        buf.order(ByteOrder.BIG_ENDIAN);
+        buf.position(1);
+        buf.limit(5);
+
+        parser = new BufferParser(buf);
+        assertEquals(0, parser.getPosition());
+        assertEquals(0x04030201, parser.parseLeInt());
+        assertEquals(4, parser.getPosition());
+        assertFalse(parser.hasMore());
+
+        assertEquals(1, buf.position());
+        assertEquals(5, buf.limit());
+        assertEquals(ByteOrder.BIG_ENDIAN, buf.order());
+
+        buf = ByteBuffer.allocateDirect(4);
+        buf.put((byte)0x00).put((byte)0x00).put((byte)0xc0).put((byte)0xbf);
+        buf.flip();
+        parser = new BufferParser(buf);
+        assertEquals(-1.5f, parser.parseLeFloat(), 0.0);
+
+        try{
+            parser = new BufferParser(null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of getPosition method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testGetPosition() throws Exception{
+        System.out.println("getPosition");
+
+        BufferParser parser;
+
+        parser = new BufferParser(ByteBuffer.allocate(100));
+
+        assertEquals(0, parser.getPosition());
+
+        parser.parseByte();
+        assertEquals(1, parser.getPosition());
+
+        parser.parseLeInt();
+        assertEquals(5, parser.getPosition());
+
+        parser.skip(10);
+        assertEquals(15, parser.getPosition());
+
+        return;
+    }
+
+    /**
+     * Test of hasMore method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testHasMore() throws Exception {
+        System.out.println("hasMore");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x00, 0x01, 0x02));
+
+        assertTrue(parser.hasMore());
+
+        assertEquals((byte)0x00, parser.parseByte());
+        assertTrue(parser.hasMore());
+
+        assertEquals((byte)0x01, parser.parseByte());
+        assertTrue(parser.hasMore());
+
+        assertEquals((byte)0x02, parser.parseByte());
+        assertFalse(parser.hasMore());
+
+        return;
+    }
+
+    /**
+     * Test of skip method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testSkip() throws Exception {
+        System.out.println("skip");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x00, 0x01, 0x02));
+
+        assertEquals((byte)0x00, parser.parseByte());
+
+        parser.skip(1L);
+        assertEquals((byte)0x02, parser.parseByte());
+
+        try{
+            parser.skip(1L);
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(3L, e.getPosition());
+        }
+
+        parser = new BufferParser(wrap(0x00, 0x01, 0x02));
+        try{
+            parser.skip(Long.MAX_VALUE);
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(3L, e.getPosition());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseByteArray method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseByteArray_3args() throws Exception {
+        System.out.println("parseByteArray");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x01, 0x02, 0x03));
+
+        byte[] dst = {
+            (byte)0xf1, (byte)0xf2, (byte)0xf3, (byte)0xf4, (byte)0xf5
+        };
+
+        parser.parseByteArray(dst, 1, 2);
+
+        assertEquals((byte)0xf1, dst[0]);
+        assertEquals((byte)0x01, dst[1]);
+        assertEquals((byte)0x02, dst[2]);
+        assertEquals((byte)0xf4, dst[3]);
+        assertEquals((byte)0xf5, dst[4]);
+
+        try{
+            parser.parseByteArray(dst, 4, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        try{
+            parser.parseByteArray(dst, 0, 2);
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(3L, e.getPosition());
+        }
+        assertEquals((byte)0x03, dst[0]);
+
+        return;
+    }
+
+    /**
+     * Test of parseByteArray method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseByteArray_byteArr() throws Exception {
+        System.out.println("parseByteArray");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x01, 0x02, 0x03));
+
+        byte[] dst = {
+            (byte)0xf1, (byte)0xf2
+        };
+
+        parser.parseByteArray(dst);
+
+        assertEquals((byte)0x01, dst[0]);
+        assertEquals((byte)0x02, dst[1]);
+
+        return;
+    }
+
+    /**
+     * Test of parseByte method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseByte() throws Exception {
+        System.out.println("parseByte");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x01, 0x02, 0x03));
+
+        assertEquals((byte)0x01, parser.parseByte());
+        assertEquals((byte)0x02, parser.parseByte());
+        assertEquals((byte)0x03, parser.parseByte());
+
+        try{
+            parser.parseByte();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseUByteAsInt method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseUByteAsInt() throws Exception {
+        System.out.println("parseUByteAsInt");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x00, 0x01, 0xff));
+
+        assertEquals(0x00, parser.parseUByteAsInt());
+        assertEquals(0x01, parser.parseUByteAsInt());
+        assertEquals(0xff, parser.parseUByteAsInt());
+
+        try{
+            parser.parseUByteAsInt();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseBoolean method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseBoolean() throws Exception {
+        System.out.println("parseBoolean");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0x00, 0x01, 0x02, 0xff));
+
+        assertFalse(parser.parseBoolean());
+        assertTrue(parser.parseBoolean());
+        assertTrue(parser.parseBoolean());
+        assertTrue(parser.parseBoolean());
+
+        try{
+            parser.parseBoolean();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseLeShort method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseLeShort() throws Exception {
+        System.out.println("parseLeShort");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0xfe, 0xff, 0x01, 0x00, 0x80));
+
+        assertEquals((short)-2, parser.parseLeShort());
+        assertEquals((short)1, parser.parseLeShort());
+
+        try{
+            parser.parseLeShort();
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(5L, e.getPosition());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseLeUShortAsInt method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseLeUShortAsInt() throws Exception {
+        System.out.println("parseLeUShortAsInt");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(0xfe, 0xff, 0x01, 0x00, 0x80));
+
+        assertEquals(0xfffe, parser.parseLeUShortAsInt());
+        assertEquals(1, parser.parseLeUShortAsInt());
+
+        try{
+            parser.parseLeUShortAsInt();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseLeInt method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseLeInt() throws Exception {
+        System.out.println("parseLeInt");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(
+                0xfe, 0xff, 0xff, 0xff,
+                0x78, 0x56, 0x34, 0x12,
+                0x7f ));
+
+        assertEquals(-2, parser.parseLeInt());
+        assertEquals(0x12345678, parser.parseLeInt());
+
+        try{
+            parser.parseLeInt();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseLeFloat method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseLeFloat() throws Exception {
+        System.out.println("parseLeFloat");
+
+        BufferParser parser;
+
+        parser = new BufferParser(wrap(
+                0x00, 0x00, 0xc0, 0xbf,
+                0x78, 0x56, 0x34, 0x12,
+                0x7f ));
+
+        assertEquals(-1.5f, parser.parseLeFloat(), 0.0);
+        assertEquals(
+                Float.intBitsToFloat(0x12345678), parser.parseLeFloat(),
+                0.0 );
+
+        try{
+            parser.parseLeFloat();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseSlice method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseSlice() throws Exception {
+        System.out.println("parseSlice");
+
+        ByteBuffer buf = wrap(0x00, 0x01, 0x02, 0x03, 0x04, 0x05);
+        buf.position(1);
+        BufferParser parser = new BufferParser(buf);
+
+        assertEquals((byte)0x01, parser.parseByte());
+
+        ByteBuffer slice = parser.parseSlice(4);
+        assertEquals(5, parser.getPosition());
+        assertEquals(0, slice.position());
+        assertEquals(4, slice.limit());
+        assertTrue(slice.isReadOnly());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, slice.order());
+        assertEquals(0x0302, slice.getShort(0));
+        assertEquals(0x05040302, slice.getInt(0));
+
+        buf.put(3, (byte)0x7f);
+        assertEquals((byte)0x7f, slice.get(1));
+
+        assertEquals(0, parser.parseSlice(0).remaining());
+
+        try{
+            parser.parseSlice(2);
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(5L, e.getPosition());
+        }
+
+        try{
+            parser.parseSlice(-1);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseString method, of class BufferParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseString() throws Exception {
+        System.out.println("parseString");
+
+        BufferParser parser;
+        TextDecoder decoder;
+
+        decoder = new TextDecoder(Charset.forName("Shift_JIS"));
+
+        parser = new BufferParser(wrap(0x82, 0xa0, 0x82, 0xa2, 0x46));
+
+        assertEquals("あ", parser.parseString(decoder, 2));
+        assertEquals("い", parser.parseString(decoder, 2));
+
+        try{
+            parser.parseString(decoder, 2);
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        parser = new BufferParser(wrap(0x82, 0xa0, 0x82, 0xa2));
+
+        assertEquals("あい", parser.parseString(decoder, 4));
+
+        parser = new BufferParser(wrap(0x82, 0xa0, 0x82, 0xff));
+
+        try{
+            parser.parseString(decoder, 4);
+            fail();
+        }catch(MmdFormatException e){
+            assertFalse(e instanceof MmdEofException);
+        }
+
+        parser = new BufferParser(wrap(0x41, 0x42, 0x43));
+
+        assertEquals("A", parser.parseString(decoder, 1));
+        assertEquals("BC", parser.parseString(decoder, 2));
+
+        decoder.setZeroChopMode(true);
+        parser = new BufferParser(wrap(0x41, 0x00, 0x43, 0x44));
+
+        assertEquals("A", parser.parseString(decoder, 3));
+        assertEquals(3, parser.getPosition());
+        assertEquals("D", parser.parseString(decoder, 1));
+
+        return;
+    }
+
+}
@@ -422,4 +422,124 @@ public void testParseString() throws Exception {
         return;
     }
 
+    /**
+     * Test of constructor, of class CommonParser.
+     */
+    @Test
+    public void testCons() {
+        System.out.println("constructor");
+
+        CommonParser parser;
+
+        parser = new CommonParser(new DummyInputStream(0x00));
+        assertEquals(CommonParser.DEF_BUFSZ, parser.getBufferSize());
+
+        parser = new CommonParser(new DummyInputStream(0x00), 4);
+        assertEquals(4, parser.getBufferSize());
+
+        try{
+            new CommonParser(new DummyInputStream(0x00), 3);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of read-ahead buffer boundary, of class CommonParser.
+     * @throws Exception
+     */
+    @Test
+    public void testBufferBoundary() throws Exception {
+        System.out.println("buffer boundary");
+
+        CommonParser parser;
+        DummyInputStream is;
+        TextDecoder decoder;
+
+        decoder = new TextDecoder(Charset.forName("Shift_JIS"));
+
+        is = new DummyInputStream(
+                0x01,
+                0x78, 0x56, 0x34, 0x12,
+                0x00, 0x00, 0xc0, 0xbf,
+                0xfe, 0xff,
+                0x82, 0xa0, 0x82, 0xa2,
+                0x00, 0x01, 0x02, 0x03, 0x04,
+                0x05, 0x06, 0x07, 0x08, 0x09,
+                0x41, 0x42, 0x43, 0x44, 0x45, 0x46,
+                0x7f );
+        parser = new CommonParser(is, 4);
+
+        assertEquals((byte)0x01, parser.parseByte());
+        assertEquals(0x12345678, parser.parseLeInt());
+        assertEquals(-1.5f, parser.parseLeFloat(), 0.0);
+        assertEquals((short)-2, parser.parseLeShort());
+        assertEquals(11, parser.getPosition());
+
+        assertEquals("あい", parser.parseString(decoder, 4));
+        assertEquals(15, parser.getPosition());
+
+        byte[] dst = new byte[10];
+        parser.parseByteArray(dst);
+        for(int idx = 0; idx < dst.length; idx++){
+            assertEquals((byte)idx, dst[idx]);
+        }
+        assertEquals(25, parser.getPosition());
+
+        assertEquals("ABCDEF", parser.parseString(decoder, 6));
+        assertEquals(31, parser.getPosition());
+
+        assertTrue(parser.hasMore());
+        parser.skip(1L);
+        assertFalse(parser.hasMore());
+        assertEquals(32, parser.getPosition());
+
+        is = new DummyInputStream(new byte[20]);
+        parser = new CommonParser(is, 4);
+        parser.parseByte();
+        parser.skip(2L);
+        parser.skip(10L);
+        assertEquals(13, parser.getPosition());
+        try{
+            parser.skip(8L);
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(20, e.getPosition());
+        }
+
+        is = new DummyInputStream(0x01, 0x02, 0x03);
+        parser = new CommonParser(is, 4);
+        try{
+            parser.parseLeInt();
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(3, e.getPosition());
+        }
+        assertEquals(3, parser.getPosition());
+        assertFalse(parser.hasMore());
+
+        is = new DummyInputStream(0x01, 0x02, 0x03);
+        parser = new CommonParser(is, 4);
+        try{
+            parser.parseByteArray(new byte[2], 1, 2);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+        dst = new byte[]{(byte)0xf1, (byte)0xf2, (byte)0xf3, (byte)0xf4};
+        try{
+            parser.parseByteArray(dst);
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(3, e.getPosition());
+        }
+        assertEquals((byte)0x03, dst[2]);
+        assertEquals((byte)0xf4, dst[3]);
+
+        return;
+    }
+
 }
@@ -0,0 +1,254 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jp.sfjp.mikutoga.pmd.parser.EmptyPmdHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdSample;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class CountingParserTest {
+
+    public CountingParserTest() {
+    }
+
+    private static void parsePmd(byte[] pmd, ParseStatistics stats,
+                                 String label) throws Exception{
+        BinParser source = new CommonParser(new ByteArrayInputStream(pmd));
+        PmdParser parser = new PmdParser(
+                new CountingParser(source, stats, label));
+        EmptyPmdHandler handler = new EmptyPmdHandler();
+        parser.setBasicHandler(handler);
+        parser.setShapeHandler(handler);
+        parser.setMaterialHandler(handler);
+        parser.setBoneHandler(handler);
+        parser.setMorphHandler(handler);
+        parser.setEngHandler(handler);
+        parser.setToonHandler(handler);
+        parser.setRigidHandler(handler);
+        parser.setJointHandler(handler);
+        parser.parsePmd();
+        return;
+    }
+
+    private static long totalBytes(ParseStatistics stats){
+        long result = 0L;
+        for(ReadType type : ReadType.values()){
+            result += stats.getBytes(type);
+        }
+        return result;
+    }
+
+    /**
+     * Test of constructor, of class CountingParser.
+     */
+    @Test
+    public void testCons() {
+        System.out.println("constructor");
+
+        BinParser source =
+                new CommonParser(new ByteArrayInputStream(new byte[0]));
+        ParseStatistics stats = new ParseStatistics();
+
+        CountingParser parser = new CountingParser(source, stats);
+        assertSame(stats, parser.getStatistics());
+        assertNull(parser.getLabel());
+
+        parser = new CountingParser(source, stats, "model.pmd");
+        assertEquals("model.pmd", parser.getLabel());
+
+        try{
+            new CountingParser(source, null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        try{
+            new CountingParser(null, stats);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        try{
+            new ParseStatistics(-1);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of counting, of class CountingParser.
+     * @throws Exception
+     */
+    @Test
+    public void testCount() throws Exception {
+        System.out.println("count");
+
+        byte[] bin = new byte[64];
+        byte[] abc = "abc".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(abc, 0, bin, 29, abc.length);
+
+        ParseStatistics stats = new ParseStatistics();
+        CountingParser parser = new CountingParser(
+                new CommonParser(new ByteArrayInputStream(bin)), stats);
+        TextDecoder decoder = new TextDecoder(StandardCharsets.US_ASCII);
+        decoder.setZeroChopMode(true);
+
+        parser.parseByte();
+        parser.parseUByteAsInt();
+        parser.parseBoolean();
+        parser.parseLeShort();
+        parser.parseLeUShortAsInt();
+        parser.parseLeInt();
+        parser.parseLeFloat();
+        parser.parseLeFloat();
+        parser.parseByteArray(new byte[5]);
+        parser.parseByteArray(new byte[8], 2, 3);
+        parser.skip(2L);
+        assertEquals(29L, parser.getPosition());
+        assertEquals("abc", parser.parseString(decoder, 8));
+        assertTrue(parser.hasMore());
+
+        assertEquals(3L, stats.getCalls(ReadType.BYTE));
+        assertEquals(3L, stats.getBytes(ReadType.BYTE));
+        assertEquals(2L, stats.getCalls(ReadType.SHORT));
+        assertEquals(4L, stats.getBytes(ReadType.SHORT));
+        assertEquals(1L, stats.getCalls(ReadType.INT));
+        assertEquals(4L, stats.getBytes(ReadType.INT));
+        assertEquals(2L, stats.getCalls(ReadType.FLOAT));
+        assertEquals(8L, stats.getBytes(ReadType.FLOAT));
+        assertEquals(2L, stats.getCalls(ReadType.BYTE_ARRAY));
+        assertEquals(8L, stats.getBytes(ReadType.BYTE_ARRAY));
+        assertEquals(1L, stats.getCalls(ReadType.SKIP));
+        assertEquals(2L, stats.getBytes(ReadType.SKIP));
+        assertEquals(1L, stats.getCalls(ReadType.STRING));
+        assertEquals(8L, stats.getBytes(ReadType.STRING));
+        assertTrue(stats.getNanos(ReadType.STRING) >= 0L);
+        assertEquals(0L, stats.getNanos(ReadType.INT));
+        assertEquals(parser.getPosition(), totalBytes(stats));
+
+        assertTrue(stats.getSlowDecodes().isEmpty());
+
+        Map<String, Long> map = stats.toMap();
+        assertEquals(Long.valueOf(2L), map.get("FLOAT.calls"));
+        assertEquals(Long.valueOf(8L), map.get("STRING.bytes"));
+        assertTrue(map.containsKey("STRING.nanos"));
+        assertFalse(map.containsKey("INT.nanos"));
+
+        try{
+            parser.parseByteArray(new byte[64]);
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+        assertEquals(2L, stats.getCalls(ReadType.BYTE_ARRAY));
+
+        stats.reset();
+        assertEquals(0L, totalBytes(stats));
+
+        return;
+    }
+
+    /**
+     * Test of concurrent aggregation, of class ParseStatistics.
+     * @throws Exception
+     */
+    @Test
+    public void testConcurrent() throws Exception {
+        System.out.println("concurrent");
+
+        byte[] pmd = PmdSample.build(200);
+
+        ParseStatistics single = new ParseStatistics();
+        parsePmd(pmd, single, null);
+        assertEquals(pmd.length, totalBytes(single));
+
+        ParseStatistics shared = new ParseStatistics();
+        int taskNum = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try{
+            List<Future<?>> futures = new ArrayList<>();
+            for(int ct = 0; ct < taskNum; ct++){
+                futures.add(executor.submit(() -> {
+                    parsePmd(pmd, shared, null);
+                    return null;
+                }));
+            }
+            for(Future<?> future : futures){
+                future.get();
+            }
+        }finally{
+            executor.shutdown();
+        }
+
+        for(ReadType type : ReadType.values()){
+            assertEquals(single.getCalls(type) * taskNum,
+                         shared.getCalls(type));
+            assertEquals(single.getBytes(type) * taskNum,
+                         shared.getBytes(type));
+        }
+
+        return;
+    }
+
+    /**
+     * Test of sampling mode, of class ParseStatistics.
+     * @throws Exception
+     */
+    @Test
+    public void testSampling() throws Exception {
+        System.out.println("sampling");
+
+        byte[] pmd = PmdSample.build(100);
+
+        ParseStatistics stats = new ParseStatistics(3);
+        assertEquals(3, stats.getSampleSize());
+        assertEquals(0, new ParseStatistics().getSampleSize());
+
+        parsePmd(pmd, stats, "a.pmd");
+        parsePmd(pmd, stats, "b.pmd");
+
+        List<DecodeSample> slow = stats.getSlowDecodes();
+        assertEquals(3, slow.size());
+
+        long prev = Long.MAX_VALUE;
+        for(DecodeSample sample : slow){
+            assertTrue(sample.getNanos() <= prev);
+            prev = sample.getNanos();
+
+            assertTrue(sample.getLabel().endsWith(".pmd"));
+            assertTrue(sample.getPosition() >= 0L);
+            assertTrue(sample.getPosition() + sample.getByteLength()
+                       <= pmd.length);
+            assertNotNull(sample.getText());
+            assertTrue(sample.toString().startsWith(sample.getLabel() + " @"));
+        }
+
+        stats.reset();
+        assertTrue(stats.getSlowDecodes().isEmpty());
+
+        return;
+    }
+
+}
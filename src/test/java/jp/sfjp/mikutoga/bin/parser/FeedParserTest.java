@@ -0,0 +1,186 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class FeedParserTest {
+
+    public FeedParserTest() {
+    }
+
+    private static ByteBuffer wrap(int... iArray){
+        byte[] bArray = new byte[iArray.length];
+        for(int idx = 0; idx < iArray.length; idx++){
+            bArray[idx] = (byte) iArray[idx];
+        }
+        return ByteBuffer.wrap(bArray);
+    }
+
+    /**
+     * Test of constructor, of class FeedParser.
+     */
+    @Test
+    public void testConstructor() {
+        System.out.println("constructor");
+
+        FeedParser parser = new FeedParser();
+        assertEquals(0L, parser.getPosition());
+        assertEquals(0, parser.available());
+        assertFalse(parser.hasMore());
+        assertFalse(parser.isFinished());
+
+        try{
+            new FeedParser(0);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of feed method, of class FeedParser.
+     * @throws Exception
+     */
+    @Test
+    public void testFeed() throws Exception {
+        System.out.println("feed");
+
+        FeedParser parser = new FeedParser(4);
+
+        ByteBuffer src = wrap(0x01, 0x02, 0x03);
+        parser.feed(src);
+        assertFalse(src.hasRemaining());
+        assertEquals(3, parser.available());
+        assertEquals(0x01, parser.parseByte());
+        assertEquals(1L, parser.getPosition());
+
+        parser.feed(wrap(0x04, 0x05, 0x06, 0x07, 0x08));
+        assertEquals(7, parser.available());
+        assertEquals(0x05040302, parser.parseLeInt());
+        assertEquals(5L, parser.getPosition());
+
+        parser.feed(wrap(0x09));
+        assertEquals(4, parser.available());
+        assertEquals(0x0706, parser.parseLeShort());
+        assertEquals(0x0908, parser.parseLeUShortAsInt());
+        assertEquals(9L, parser.getPosition());
+        assertFalse(parser.hasMore());
+
+        parser.feed(wrap());
+        assertEquals(0, parser.available());
+
+        parser.finish();
+        assertTrue(parser.isFinished());
+        try{
+            parser.feed(wrap(0x0a));
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of peek methods, of class FeedParser.
+     * @throws Exception
+     */
+    @Test
+    public void testPeek() throws Exception {
+        System.out.println("peek");
+
+        FeedParser parser = new FeedParser(2);
+        parser.feed(wrap(0xff, 0x01, 0x02, 0x03, 0x04, 0xfe));
+
+        assertEquals(0xff, parser.peekUByteAsInt(0));
+        assertEquals(0x0201, parser.peekLeUShortAsInt(1));
+        assertEquals(0xfe040302, parser.peekLeInt(2));
+        assertEquals(0L, parser.getPosition());
+
+        parser.skip(2);
+        assertEquals(0x0302, parser.peekLeUShortAsInt(0));
+        assertEquals(0xfe, parser.peekUByteAsInt(3));
+
+        try{
+            parser.peekLeInt(1);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        try{
+            parser.peekUByteAsInt(-1);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of reading beyond received data, of class FeedParser.
+     * @throws Exception
+     */
+    @Test
+    public void testEof() throws Exception {
+        System.out.println("eof");
+
+        FeedParser parser = new FeedParser();
+        parser.feed(wrap(0x01, 0x02, 0x03));
+
+        try{
+            parser.parseLeInt();
+            fail();
+        }catch(MmdEofException e){
+            assertEquals(3L, e.getPosition());
+        }
+
+        parser.feed(wrap(0x00, 0x00, 0x80, 0x3f));
+        assertEquals(1.0f, parser.parseLeFloat());
+
+        try{
+            parser.skip(1L);
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of parseString method, of class FeedParser.
+     * @throws Exception
+     */
+    @Test
+    public void testParseString() throws Exception {
+        System.out.println("parseString");
+
+        TextDecoder decoder = new Win31jDecoder();
+        decoder.setZeroChopMode(true);
+
+        FeedParser parser = new FeedParser(4);
+        parser.feed(wrap(0x41, 0x42));
+        parser.feed(wrap(0x00, 0x43, 0x44));
+
+        assertEquals("AB", parser.parseString(decoder, 4));
+        assertEquals(4L, parser.getPosition());
+        assertEquals("D", parser.parseString(decoder, 1));
+
+        return;
+    }
+
+}
@@ -44,6 +44,23 @@ public void testToString(){
 
         assertEquals("parse stage#:" + p.getNo(), p.toString());
 
+        p = new ParseStage("NAMED_LIST");
+        assertEquals("NAMED_LIST", p.toString());
+
+        return;
+    }
+
+    /**
+     * Test of getName method, of class ParseStage.
+     */
+    @Test
+    public void testGetName(){
+        System.out.println("getName");
+
+        assertNull(new ParseStage().getName());
+        assertNull(new ParseStage(null).getName());
+        assertEquals("NAMED_LIST", new ParseStage("NAMED_LIST").getName());
+
         return;
     }
 
@@ -0,0 +1,226 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import jp.sfjp.mikutoga.pmd.parser.EmptyPmdHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdMorphHandler;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdSample;
+import jp.sfjp.mikutoga.vmd.parser.EmptyVmdHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdBasicHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdBoolHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdCameraHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdSample;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class StageMetricsTest {
+
+    public StageMetricsTest() {
+    }
+
+    /**
+     * Test of stageStart and stageEnd methods, of class StageMetrics.
+     */
+    @Test
+    public void testStage() {
+        System.out.println("stage");
+
+        ParseStage outer = new ParseStage("OUTER");
+        ParseStage inner = new ParseStage("INNER");
+
+        StageMetrics metrics = new StageMetrics();
+        assertTrue(metrics.getStages().isEmpty());
+        assertEquals(0L, metrics.getCount(outer));
+
+        metrics.stageStart(outer, 3, 100L);
+        for(int ct = 0; ct < 3; ct++){
+            long pos = 110L + ct * 20L;
+            metrics.stageStart(inner, 2, pos);
+            metrics.stageEnd(inner, pos + 8L);
+        }
+        metrics.stageEnd(outer, 170L);
+
+        assertEquals(Arrays.asList(outer, inner), metrics.getStages());
+
+        assertEquals(1L, metrics.getCount(outer));
+        assertEquals(3L, metrics.getElements(outer));
+        assertEquals(70L, metrics.getBytes(outer));
+
+        assertEquals(3L, metrics.getCount(inner));
+        assertEquals(6L, metrics.getElements(inner));
+        assertEquals(24L, metrics.getBytes(inner));
+
+        assertTrue(metrics.getNanos(outer) >= metrics.getNanos(inner));
+
+        metrics.stageStart(outer, -1, 0L);
+        metrics.stageEnd(outer, 0L);
+        assertEquals(2L, metrics.getCount(outer));
+        assertEquals(3L, metrics.getElements(outer));
+
+        Map<String, Long> map = metrics.toMap();
+        assertEquals(Arrays.asList(
+                "OUTER.count", "OUTER.elements", "OUTER.nanos", "OUTER.bytes",
+                "INNER.count", "INNER.elements", "INNER.nanos", "INNER.bytes"),
+                     Arrays.asList(map.keySet().toArray()));
+        assertEquals(Long.valueOf(70L), map.get("OUTER.bytes"));
+        assertEquals(Long.valueOf(3L), map.get("INNER.count"));
+
+        metrics.reset();
+        assertTrue(metrics.getStages().isEmpty());
+        assertTrue(metrics.toMap().isEmpty());
+
+        return;
+    }
+
+    /**
+     * Test of interrupted stages, of class StageMetrics.
+     */
+    @Test
+    public void testInterrupted() {
+        System.out.println("interrupted");
+
+        ParseStage outer = new ParseStage("OUTER");
+        ParseStage inner = new ParseStage("INNER");
+        ParseStage other = new ParseStage("OTHER");
+
+        StageMetrics metrics = new StageMetrics();
+
+        metrics.stageEnd(outer, 10L);
+        assertEquals(0L, metrics.getBytes(outer));
+
+        metrics.stageStart(outer, 1, 0L);
+        metrics.stageStart(inner, 1, 4L);
+        metrics.stageEnd(outer, 20L);
+        assertEquals(1L, metrics.getCount(outer));
+        assertEquals(1L, metrics.getElements(outer));
+        assertEquals(20L, metrics.getBytes(outer));
+        assertEquals(0L, metrics.getCount(inner));
+        assertEquals(0L, metrics.getElements(inner));
+        assertEquals(0L, metrics.getBytes(inner));
+        assertEquals(Long.valueOf(0L), metrics.toMap().get("INNER.count"));
+
+        metrics.stageEnd(inner, 30L);
+        assertEquals(0L, metrics.getBytes(inner));
+
+        for(int ct = 0; ct < 10; ct++){
+            metrics.stageStart(other, 1, ct);
+        }
+        metrics.stageEnd(other, 100L);
+        assertEquals(1L, metrics.getCount(other));
+        assertEquals(1L, metrics.getElements(other));
+        assertEquals(91L, metrics.getBytes(other));
+
+        return;
+    }
+
+    /**
+     * Test of VMD parsing, of class StageMetrics.
+     * @throws Exception
+     */
+    @Test
+    public void testVmd() throws Exception {
+        System.out.println("vmd");
+
+        int frameNum = 20;
+        byte[] vmd = VmdSample.build(frameNum, true);
+
+        StageMetrics metrics = new StageMetrics();
+        EmptyVmdHandler handler = new EmptyVmdHandler();
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(vmd));
+        assertNull(parser.getStageListener());
+        parser.setStageListener(metrics);
+        assertSame(metrics, parser.getStageListener());
+        parser.setBasicHandler(handler);
+        parser.setCameraHandler(handler);
+        parser.setLightingHandler(handler);
+        parser.setBoolHandler(handler);
+        parser.parseVmd();
+
+        ParseStage bone = VmdBasicHandler.BONEMOTION_LIST;
+        assertSame(bone, metrics.getStages().get(0));
+        assertEquals(1L, metrics.getCount(bone));
+        assertEquals(frameNum * VmdSample.BONES.length,
+                     metrics.getElements(bone));
+        assertEquals(frameNum * VmdSample.BONES.length * 111L,
+                     metrics.getBytes(bone));
+
+        assertEquals(1L, metrics.getCount(VmdBasicHandler.MORPH_LIST));
+        assertEquals(1L, metrics.getCount(VmdCameraHandler.CAMERA_LIST));
+        assertEquals(metrics.getElements(VmdBoolHandler.MODELSIGHT_LIST),
+                     metrics.getCount(VmdBoolHandler.IKSW_LIST));
+
+        return;
+    }
+
+    /**
+     * Test of sharing between PMD and VMD parsing, of class StageMetrics.
+     * @throws Exception
+     */
+    @Test
+    public void testPmdVmd() throws Exception {
+        System.out.println("pmd vmd");
+
+        byte[] pmd = PmdSample.build(30);
+        byte[] vmd = VmdSample.build(20, true);
+
+        StageMetrics metrics = new StageMetrics();
+
+        EmptyPmdHandler pmdHandler = new EmptyPmdHandler();
+        PmdParser pmdParser = new PmdParser(new ByteArrayInputStream(pmd));
+        pmdParser.setStageListener(metrics);
+        pmdParser.setMorphHandler(pmdHandler);
+        pmdParser.parsePmd();
+
+        EmptyVmdHandler vmdHandler = new EmptyVmdHandler();
+        VmdParser vmdParser = new VmdParser(new ByteArrayInputStream(vmd));
+        vmdParser.setStageListener(metrics);
+        vmdParser.setBasicHandler(vmdHandler);
+        vmdParser.parseVmd();
+
+        ParseStage pmdMorph = PmdMorphHandler.MORPH_LIST;
+        ParseStage vmdMorph = VmdBasicHandler.MORPH_LIST;
+        assertNotEquals(pmdMorph.getName(), vmdMorph.getName());
+        assertTrue(metrics.getStages().contains(pmdMorph));
+        assertTrue(metrics.getStages().contains(vmdMorph));
+
+        Set<String> names = new HashSet<>();
+        for(ParseStage stage : metrics.getStages()){
+            assertTrue(names.add(stage.toString()));
+        }
+
+        Map<String, Long> map = metrics.toMap();
+        assertEquals(metrics.getStages().size() * 4, map.size());
+
+        String pmdKey = pmdMorph.getName();
+        String vmdKey = vmdMorph.getName();
+        assertEquals(Long.valueOf(metrics.getElements(pmdMorph)),
+                     map.get(pmdKey + StageMetrics.SUFFIX_ELEMENTS));
+        assertEquals(Long.valueOf(metrics.getBytes(pmdMorph)),
+                     map.get(pmdKey + StageMetrics.SUFFIX_BYTES));
+        assertEquals(Long.valueOf(metrics.getElements(vmdMorph)),
+                     map.get(vmdKey + StageMetrics.SUFFIX_ELEMENTS));
+        assertEquals(Long.valueOf(metrics.getBytes(vmdMorph)),
+                     map.get(vmdKey + StageMetrics.SUFFIX_BYTES));
+        assertEquals(Long.valueOf(1L),
+                     map.get(pmdKey + StageMetrics.SUFFIX_COUNT));
+        assertEquals(Long.valueOf(1L),
+                     map.get(vmdKey + StageMetrics.SUFFIX_COUNT));
+
+        return;
+    }
+
+}
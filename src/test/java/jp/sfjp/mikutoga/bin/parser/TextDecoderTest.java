@@ -7,6 +7,7 @@
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -252,6 +253,73 @@ public void testUnmapChar() throws Exception {
         return;
     }
 
+    /**
+     * Test of cache mode, of class TextDecoder.
+     * @throws Exception
+     */
+    @Test
+    public void testCacheMode() throws Exception {
+        System.out.println("cache mode");
+
+        TextDecoder decoder;
+        ByteBuffer bBuf;
+        String first;
+        String second;
+
+        decoder = new TextDecoder(CS_WIN31J);
+        assertTrue(decoder.isCacheMode());
+        decoder.setZeroChopMode(true);
+
+        bBuf = ByteBuffer.wrap(byteArray("83:5A:83:93:83:5E:81:5B:00:FD:FD"));
+        first = decoder.decode(bBuf);
+        assertEquals("センター", first);
+        assertEquals(bBuf.limit(), bBuf.position());
+
+        bBuf = ByteBuffer.wrap(byteArray("83:5A:83:93:83:5E:81:5B:00:41"));
+        second = decoder.decode(bBuf);
+        assertSame(first, second);
+        assertEquals(bBuf.limit(), bBuf.position());
+
+        bBuf = ByteBuffer.allocateDirect(8);
+        bBuf.put(byteArray("83:5A:83:93:83:5E:81:5B")).flip();
+        assertSame(first, decoder.decode(bBuf));
+
+        bBuf = ByteBuffer.wrap(byteArray("83:5A:83:93:83:5E"));
+        assertEquals("センタ", decoder.decode(bBuf));
+
+        for(int ct = 0; ct < 3000; ct++){
+            String text = "bone" + ct;
+            bBuf = ByteBuffer.wrap(text.getBytes(CS_WIN31J));
+            assertEquals(text, decoder.decode(bBuf));
+            bBuf.rewind();
+            assertEquals(text, decoder.decode(bBuf));
+        }
+
+        assertFormatError("83:5A:FF:FF", decoder, 4);
+        assertFormatError("83:5A:FF:FF", decoder, 4);
+
+        decoder.setCacheMode(false);
+        assertFalse(decoder.isCacheMode());
+        bBuf = ByteBuffer.wrap(byteArray("41:42"));
+        first = decoder.decode(bBuf);
+        bBuf.rewind();
+        second = decoder.decode(bBuf);
+        assertEquals("AB", second);
+        assertNotSame(first, second);
+
+        decoder.setCacheMode(true);
+        byte[] longText = new byte[TextDecoder.CACHE_KEYMAX + 1];
+        Arrays.fill(longText, (byte)0x41);
+        bBuf = ByteBuffer.wrap(longText);
+        first = decoder.decode(bBuf);
+        bBuf.rewind();
+        second = decoder.decode(bBuf);
+        assertEquals(first, second);
+        assertNotSame(first, second);
+
+        return;
+    }
+
     public void assertDecoded(String bin, String desired,
                                 TextDecoder decoder)
             throws Exception{
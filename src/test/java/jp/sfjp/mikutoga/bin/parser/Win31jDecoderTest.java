@@ -0,0 +1,179 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.bin.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class Win31jDecoderTest {
+
+    private static final Charset CS_WIN31J = Charset.forName("windows-31j");
+
+    public Win31jDecoderTest() {
+    }
+
+    /**
+     * 2つのデコーダの結果が一致することを確認する。
+     */
+    private static void assertSameDecode(TextDecoder expected,
+                                         TextDecoder result,
+                                         byte[] bin ){
+        String expStr = null;
+        CharacterCodingException expEx = null;
+        try{
+            expStr = expected.decode(ByteBuffer.wrap(bin));
+        }catch(CharacterCodingException e){
+            expEx = e;
+        }
+
+        String resStr = null;
+        CharacterCodingException resEx = null;
+        ByteBuffer bBuf = ByteBuffer.wrap(bin);
+        try{
+            resStr = result.decode(bBuf);
+        }catch(CharacterCodingException e){
+            resEx = e;
+        }
+
+        if(expEx == null){
+            assertNull(resEx);
+            assertEquals(expStr, resStr);
+            assertEquals(bBuf.limit(), bBuf.position());
+        }else{
+            assertNotNull(resEx);
+            assertEquals(expEx.getClass(), resEx.getClass());
+            assertEquals(expEx.getMessage(), resEx.getMessage());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of decode method, of class Win31jDecoder.
+     * @throws Exception
+     */
+    @Test
+    public void testDecodeAll() throws Exception {
+        System.out.println("decode all");
+
+        TextDecoder expected = new TextDecoder(CS_WIN31J);
+        expected.setCacheMode(false);
+        Win31jDecoder decoder = new Win31jDecoder();
+        decoder.setCacheMode(false);
+
+        for(int first = 0; first < 0x100; first++){
+            assertSameDecode(expected, decoder, new byte[]{(byte) first});
+            for(int second = 0; second < 0x100; second++){
+                byte[] bin = {(byte) first, (byte) second};
+                assertSameDecode(expected, decoder, bin);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of decode method with text, of class Win31jDecoder.
+     * @throws Exception
+     */
+    @Test
+    public void testDecode() throws Exception {
+        System.out.println("decode");
+
+        TextDecoder expected = new TextDecoder(CS_WIN31J);
+        Win31jDecoder decoder = new Win31jDecoder();
+
+        String[] texts = {
+            "", "センター", "左足ＩＫ", "head", "ｾﾝﾀｰ", "両目\\~",
+            "①Ⅱ㈱", "表示・枠", "まばたき", "\u0000",
+        };
+        for(String text : texts){
+            byte[] bin = text.getBytes(CS_WIN31J);
+            assertEquals(text, decoder.decode(ByteBuffer.wrap(bin)));
+            assertSameDecode(expected, decoder, bin);
+        }
+
+        byte[][] illegals = {
+            {(byte)0x83},
+            {0x41, (byte)0x83},
+            {0x41, 0x42, (byte)0xff, 0x43},
+            {(byte)0x82, (byte)0xa0, (byte)0x81, 0x20},
+            {(byte)0x85, 0x40},
+            {(byte)0xa0, (byte)0xfd},
+        };
+        for(byte[] bin : illegals){
+            assertSameDecode(expected, decoder, bin);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of zero chop mode, of class Win31jDecoder.
+     * @throws Exception
+     */
+    @Test
+    public void testChopMode() throws Exception {
+        System.out.println("chop mode");
+
+        Win31jDecoder decoder = new Win31jDecoder();
+        decoder.setZeroChopMode(true);
+
+        byte[] bin = {(byte)0x93, (byte)0xaa, 0x00, (byte)0xff, (byte)0xff};
+        ByteBuffer bBuf = ByteBuffer.wrap(bin);
+        assertEquals("頭", decoder.decode(bBuf));
+
+        decoder.setZeroChopMode(false);
+        bBuf = ByteBuffer.wrap(bin);
+        try{
+            decoder.decode(bBuf);
+            fail();
+        }catch(CharacterCodingException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of error position through parser, of class Win31jDecoder.
+     * @throws Exception
+     */
+    @Test
+    public void testErrorPosition() throws Exception {
+        System.out.println("error position");
+
+        byte[] bin = {0x41, 0x41, 0x41, 0x42, 0x43, (byte)0xff, 0x44, 0x45};
+
+        long expPos;
+        try{
+            new BufferParser(ByteBuffer.wrap(bin))
+                    .parseString(new TextDecoder(CS_WIN31J), bin.length);
+            fail();
+            return;
+        }catch(MmdFormatException e){
+            expPos = e.getPosition();
+        }
+
+        try{
+            new BufferParser(ByteBuffer.wrap(bin))
+                    .parseString(new Win31jDecoder(), bin.length);
+            fail();
+        }catch(MmdFormatException e){
+            assertEquals(expPos, e.getPosition());
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.math;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public strictfp class MkBezierTest {
+
+    private static final double TOLERANCE = 1.0e-12;
+
+    /**
+     * X座標の微分値が0となる点を含む曲線での許容誤差。
+     * その近傍では浮動小数点のX座標から媒介変数が一意に定まらない。
+     */
+    private static final double TOLERANCE_STATIONARY = 1.0e-4;
+
+    public MkBezierTest() {
+    }
+
+    /**
+     * 全区間の二分法によりX座標に対応するY座標を求める。
+     */
+    private static double bruteForce(MkBezier curve, double x){
+        double low = 0.0;
+        double high = 1.0;
+        for(int ct = 0; ct < 200; ct++){
+            double mid = (low + high) / 2.0;
+            if(curve.curveX(mid) < x){
+                low = mid;
+            }else{
+                high = mid;
+            }
+        }
+        double t = (low + high) / 2.0;
+        return curve.curveY(t);
+    }
+
+    private static void assertCurve(MkBezier curve){
+        assertCurve(curve, TOLERANCE);
+        return;
+    }
+
+    private static void assertCurve(MkBezier curve, double tolerance){
+        assertEquals(0.0, curve.ease(0.0));
+        assertEquals(1.0, curve.ease(1.0));
+        for(int step = 1; step < 1000; step++){
+            double x = step / 1000.0;
+            double expected = bruteForce(curve, x);
+            double result = curve.ease(x);
+            assertEquals(expected, result, tolerance, curve + " x=" + x);
+        }
+        return;
+    }
+
+    /**
+     * Test of constructor, of class MkBezier.
+     */
+    @Test
+    public void testConstructor() {
+        System.out.println("constructor");
+
+        MkBezier curve = new MkBezier(0.1, 0.2, 0.3, 0.4);
+        assertEquals(0.1, curve.getP1x());
+        assertEquals(0.2, curve.getP1y());
+        assertEquals(0.3, curve.getP2x());
+        assertEquals(0.4, curve.getP2y());
+
+        new MkBezier(0.0, -1.0, 1.0, 2.0);
+
+        try{
+            new MkBezier(-0.1, 0.0, 1.0, 1.0);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            new MkBezier(0.0, 0.0, 1.1, 1.0);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        try{
+            new MkBezier(Double.NaN, 0.0, 1.0, 1.0);
+            fail();
+        }catch(IllegalArgumentException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of fromVmd method, of class MkBezier.
+     */
+    @Test
+    public void testFromVmd() {
+        System.out.println("fromVmd");
+
+        MkBezier curve;
+
+        curve = MkBezier.fromVmd(20, 20, 107, 107);
+        assertSame(MkBezier.LINEAR, curve);
+        assertTrue(curve.isLinear());
+        assertEquals(20.0 / 127.0, curve.getP1x());
+        assertEquals(20.0 / 127.0, curve.getP1y());
+        assertEquals(107.0 / 127.0, curve.getP2x());
+        assertEquals(107.0 / 127.0, curve.getP2y());
+
+        curve = MkBezier.fromVmd(0, 0, 127, 127);
+        assertNotSame(MkBezier.LINEAR, curve);
+        assertTrue(curve.isLinear());
+        assertEquals(0.0, curve.getP1x());
+        assertEquals(0.0, curve.getP1y());
+        assertEquals(1.0, curve.getP2x());
+        assertEquals(1.0, curve.getP2y());
+        assertEquals(0.25, curve.ease(0.25));
+
+        curve = MkBezier.fromVmd(64, 64, 64, 64);
+        assertNotSame(MkBezier.LINEAR, curve);
+        assertTrue(curve.isLinear());
+        assertEquals(64.0 / 127.0, curve.getP1x());
+        assertEquals(64.0 / 127.0, curve.getP2y());
+
+        curve = MkBezier.fromVmd(127, 0, 0, 127);
+        assertFalse(curve.isLinear());
+        assertEquals(1.0, curve.getP1x());
+        assertEquals(0.0, curve.getP1y());
+        assertEquals(0.0, curve.getP2x());
+        assertEquals(1.0, curve.getP2y());
+
+        curve = MkBezier.fromVmd(-1, 200, 64, 0);
+        assertEquals(0.0, curve.getP1x());
+        assertEquals(1.0, curve.getP1y());
+        assertEquals(64.0 / 127.0, curve.getP2x());
+
+        return;
+    }
+
+    /**
+     * Test of ease method, of class MkBezier.
+     */
+    @Test
+    public void testEase() {
+        System.out.println("ease");
+
+        MkBezier curve;
+
+        curve = MkBezier.LINEAR;
+        assertEquals(0.0, curve.ease(-1.0));
+        assertEquals(0.0, curve.ease(0.0));
+        assertEquals(0.25, curve.ease(0.25));
+        assertEquals(1.0, curve.ease(1.0));
+        assertEquals(1.0, curve.ease(2.0));
+        assertCurve(curve);
+
+        curve = new MkBezier(0.42, 0.0, 0.58, 1.0);
+        assertEquals(0.5, curve.ease(0.5), TOLERANCE);
+        assertTrue(curve.ease(0.25) < 0.25);
+        assertTrue(curve.ease(0.75) > 0.75);
+        assertCurve(curve);
+
+        assertCurve(new MkBezier(0.0, 0.0, 1.0, 1.0));
+        assertCurve(new MkBezier(1.0, 0.0, 0.0, 1.0), TOLERANCE_STATIONARY);
+        assertCurve(new MkBezier(1.0, 0.0, 1.0, 0.0), TOLERANCE_STATIONARY);
+        assertCurve(new MkBezier(0.0, 1.0, 0.0, 1.0), TOLERANCE_STATIONARY);
+        assertCurve(new MkBezier(0.0, -0.5, 1.0, 1.5));
+        assertCurve(new MkBezier(0.5, 0.5, 0.5, 0.5));
+
+        return;
+    }
+
+    /**
+     * Test of ease method with VMD parameters, of class MkBezier.
+     */
+    @Test
+    public void testEaseVmd() {
+        System.out.println("ease VMD");
+
+        Random random = new Random(39L);
+        for(int ct = 0; ct < 200; ct++){
+            int p1x = random.nextInt(MkBezier.VMD_MAX + 1);
+            int p1y = random.nextInt(MkBezier.VMD_MAX + 1);
+            int p2x = random.nextInt(MkBezier.VMD_MAX + 1);
+            int p2y = random.nextInt(MkBezier.VMD_MAX + 1);
+            assertCurve(MkBezier.fromVmd(p1x, p1y, p2x, p2y));
+        }
+
+        int[] extremes = {0, 1, 63, 64, 126, 127};
+        for(int p1x : extremes){
+            for(int p2x : extremes){
+                assertCurve(MkBezier.fromVmd(p1x, 0, p2x, 127),
+                            TOLERANCE_STATIONARY);
+                assertCurve(MkBezier.fromVmd(p1x, 127, p2x, 0),
+                            TOLERANCE_STATIONARY);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of solveT method, of class MkBezier.
+     */
+    @Test
+    public void testSolveT() {
+        System.out.println("solveT");
+
+        MkBezier curve = MkBezier.fromVmd(127, 10, 0, 117);
+
+        for(int step = 1; step < 100; step++){
+            double x = step / 100.0;
+            double t = curve.solveT(x);
+            assertTrue(0.0 <= t && t <= 1.0);
+            assertEquals(x, curve.curveX(t), 1.0e-9);
+        }
+
+        assertEquals(0.0, curve.solveT(0.0));
+        assertEquals(1.0, curve.solveT(1.0));
+
+        return;
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.math;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class MkQuatFastTest {
+
+    private static final double TOLERANCE = 1.0e-13;
+
+    private static final int TRIALS = 2000;
+
+    public MkQuatFastTest() {
+    }
+
+    private static double randomRad(Random rnd){
+        return (rnd.nextDouble() * 2.0 - 1.0) * Math.PI;
+    }
+
+    private static void assertQuat(MkQuat expected, MkQuat result){
+        assertEquals(expected.getQ1(), result.getQ1(), TOLERANCE);
+        assertEquals(expected.getQ2(), result.getQ2(), TOLERANCE);
+        assertEquals(expected.getQ3(), result.getQ3(), TOLERANCE);
+        assertEquals(expected.getQW(), result.getQW(), TOLERANCE);
+        return;
+    }
+
+    /**
+     * Test of setEulerYXZ method, of class MkQuatFast.
+     */
+    @Test
+    public void testSetEulerYXZ() {
+        System.out.println("setEulerYXZ");
+
+        Random rnd = new Random(39L);
+        MkQuat expected = new MkQuat();
+        MkQuat result = new MkQuat();
+        EulerYXZ euler = new EulerYXZ();
+
+        for(int ct = 0; ct < TRIALS; ct++){
+            double xRot = randomRad(rnd);
+            double yRot = randomRad(rnd);
+            double zRot = randomRad(rnd);
+
+            expected.setEulerYXZ(xRot, yRot, zRot);
+            MkQuatFast.setEulerYXZ(xRot, yRot, zRot, result);
+            assertQuat(expected, result);
+
+            euler.setRot(xRot, yRot, zRot);
+            MkQuatFast.setEulerYXZ(euler, result);
+            assertQuat(expected, result);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of toEulerYXZ method, of class MkQuatFast.
+     */
+    @Test
+    public void testToEulerYXZ() {
+        System.out.println("toEulerYXZ");
+
+        Random rnd = new Random(39L);
+        MkQuat qq = new MkQuat();
+        EulerYXZ expected = new EulerYXZ();
+        EulerYXZ result = new EulerYXZ();
+
+        for(int ct = 0; ct < TRIALS; ct++){
+            qq.setEulerYXZ(randomRad(rnd) / 2.0,
+                           randomRad(rnd),
+                           randomRad(rnd) );
+            qq.toEulerYXZ(expected);
+            MkQuatFast.toEulerYXZ(qq, result);
+            assertEquals(expected.getXRot(), result.getXRot(), 1.0e-9);
+            assertEquals(expected.getYRot(), result.getYRot(), 1.0e-9);
+            assertEquals(expected.getZRot(), result.getZRot(), 1.0e-9);
+        }
+
+        // gimbal lock
+        double oldY = 0.25;
+        qq.setEulerYXZ(Math.PI / 2.0, 0.5, 1.0);
+        qq.toEulerYXZ(expected, oldY);
+        MkQuatFast.toEulerYXZ(qq, result, oldY);
+        assertEquals(expected.getXRot(), result.getXRot(), TOLERANCE);
+        assertEquals(oldY, result.getYRot());
+        assertEquals(expected.getZRot(), result.getZRot(), TOLERANCE);
+
+        qq.setEulerYXZ(-Math.PI / 2.0, 0.5, 1.0);
+        qq.toEulerYXZ(expected, oldY);
+        MkQuatFast.toEulerYXZ(qq, result, oldY);
+        assertEquals(expected.getXRot(), result.getXRot(), TOLERANCE);
+        assertEquals(expected.getZRot(), result.getZRot(), TOLERANCE);
+
+        return;
+    }
+
+    /**
+     * Test of rotatePos method, of class MkQuatFast.
+     */
+    @Test
+    public void testRotatePos() {
+        System.out.println("rotatePos");
+
+        Random rnd = new Random(39L);
+        MkQuat qq = new MkQuat();
+        MkPos3D pos = new MkPos3D();
+        MkPos3D expected = new MkPos3D();
+        MkPos3D result = new MkPos3D();
+
+        for(int ct = 0; ct < TRIALS; ct++){
+            qq.setEulerYXZ(randomRad(rnd), randomRad(rnd), randomRad(rnd));
+            pos.setPosition(rnd.nextDouble() * 20.0 - 10.0,
+                            rnd.nextDouble() * 20.0 - 10.0,
+                            rnd.nextDouble() * 20.0 - 10.0 );
+            qq.rotatePos(pos, expected);
+            MkQuatFast.rotatePos(qq, pos, result);
+            assertEquals(expected.getXpos(), result.getXpos(), 1.0e-12);
+            assertEquals(expected.getYpos(), result.getYpos(), 1.0e-12);
+            assertEquals(expected.getZpos(), result.getZpos(), 1.0e-12);
+
+            MkQuatFast.rotatePos(qq, pos, pos);
+            assertEquals(result.getXpos(), pos.getXpos());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of abs, normalize and slerp method, of class MkQuatFast.
+     */
+    @Test
+    public void testSlerp() {
+        System.out.println("slerp");
+
+        Random rnd = new Random(39L);
+        MkQuat qA = new MkQuat();
+        MkQuat qB = new MkQuat();
+        MkQuat expected = new MkQuat();
+        MkQuat result = new MkQuat();
+
+        for(int ct = 0; ct < TRIALS; ct++){
+            qA.setEulerYXZ(randomRad(rnd), randomRad(rnd), randomRad(rnd));
+            qB.setEulerYXZ(randomRad(rnd), randomRad(rnd), randomRad(rnd));
+            double t = rnd.nextDouble();
+
+            MkQuat.slerp(qA, qB, t, expected);
+            MkQuatFast.slerp(qA, qB, t, result);
+            assertQuat(expected, result);
+            assertEquals(1.0, MkQuatFast.abs(result), TOLERANCE);
+        }
+
+        qA.setQ123W(1.0, 2.0, 3.0, 4.0);
+        MkQuat.normalize(qA, expected);
+        MkQuatFast.normalize(qA, qA);
+        assertQuat(expected, qA);
+        assertEquals(expected.abs(), MkQuatFast.abs(qA), TOLERANCE);
+
+        return;
+    }
+
+}
@@ -3,6 +3,7 @@
 
 package jp.sfjp.mikutoga.math;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -685,6 +686,266 @@ private void rotTest(double ix, double iy, double iz){
         return;
     }
 
+    /**
+     * Test of slerp method, of class MkQuat.
+     */
+    @Test
+    public void testSlerp() {
+        System.out.println("slerp");
+
+        MkQuat qA = new MkQuat();
+        MkQuat qB = new MkQuat();
+        MkQuat result = new MkQuat();
+
+        qA.setEulerYXZ(0.0, 0.0, 0.0);
+        qB.setEulerYXZ(0.0, RAD_90DEG, 0.0);
+
+        MkQuat.slerp(qA, qB, 0.0, result);
+        assertEquals(qA.getQW(), result.getQW(), 1.0e-15);
+        MkQuat.slerp(qA, qB, 1.0, result);
+        assertEquals(qB.getQ2(), result.getQ2(), 1.0e-15);
+        assertEquals(qB.getQW(), result.getQW(), 1.0e-15);
+
+        MkQuat.slerp(qA, qB, 1.0 / 3.0, result);
+        assertEquals(StrictMath.sin(RAD_15DEG), result.getQ2(), 1.0e-15);
+        assertEquals(StrictMath.cos(RAD_15DEG), result.getQW(), 1.0e-15);
+        assertEquals(0.0, result.getQ1());
+        assertEquals(0.0, result.getQ3());
+
+        // shortest path
+        qB.setQ1(-qB.getQ1());
+        qB.setQ2(-qB.getQ2());
+        qB.setQ3(-qB.getQ3());
+        qB.setQW(-qB.getQW());
+        MkQuat.slerp(qA, qB, 1.0 / 3.0, result);
+        assertEquals(StrictMath.sin(RAD_15DEG), result.getQ2(), 1.0e-15);
+        assertEquals(StrictMath.cos(RAD_15DEG), result.getQW(), 1.0e-15);
+
+        // nearly identical
+        qB.setEulerYXZ(0.0, 1.0e-6, 0.0);
+        MkQuat.slerp(qA, qB, 0.5, result);
+        assertEquals(StrictMath.sin(0.25e-6), result.getQ2(), 1.0e-15);
+        assertEquals(1.0, result.abs(), 1.0e-15);
+
+        // same instance
+        qB.setEulerYXZ(0.0, RAD_90DEG, 0.0);
+        MkQuat.slerp(qA, qB, 0.5, qA);
+        assertEquals(StrictMath.sin(RAD_45DEG / 2.0), qA.getQ2(), 1.0e-15);
+
+        return;
+    }
+
+    /**
+     * Test of nlerp method, of class MkQuat.
+     */
+    @Test
+    public void testNlerp() {
+        System.out.println("nlerp");
+
+        MkQuat qA = new MkQuat();
+        MkQuat qB = new MkQuat();
+        MkQuat result = new MkQuat();
+
+        qA.setEulerYXZ(0.0, 0.0, 0.0);
+        qB.setEulerYXZ(0.0, RAD_90DEG, 0.0);
+
+        MkQuat.nlerp(qA, qB, 0.5, result);
+        assertEquals(StrictMath.sin(RAD_45DEG / 2.0), result.getQ2(),
+                     1.0e-15);
+        assertEquals(1.0, result.abs(), 1.0e-15);
+
+        MkQuat.nlerp(qA, qB, 0.25, result);
+        assertEquals(1.0, result.abs(), 1.0e-15);
+        assertTrue(result.getQ2() < StrictMath.sin(RAD_90DEG / 8.0));
+
+        return;
+    }
+
+    /**
+     * Test of slerpArray and nlerpArray method, of class MkQuat.
+     */
+    @Test
+    public void testSlerpArray() {
+        System.out.println("slerpArray");
+
+        Random rnd = new Random(39L);
+        int num = 50;
+        int off = 3;
+
+        double[] qA = new double[off + num * 4];
+        double[] qB = new double[off + num * 4];
+        double[] ts = new double[off + num];
+        double[] dst = new double[off + num * 4];
+        float[] fA = new float[off + num * 4];
+        float[] fB = new float[off + num * 4];
+        float[] fts = new float[off + num];
+        float[] fdst = new float[off + num * 4];
+
+        MkQuat[] objA = new MkQuat[num];
+        MkQuat[] objB = new MkQuat[num];
+        for(int idx = 0; idx < num; idx++){
+            objA[idx] = new MkQuat();
+            objB[idx] = new MkQuat();
+            objA[idx].setEulerYXZ(rnd.nextDouble() * 6.0 - 3.0,
+                                  rnd.nextDouble() * 6.0 - 3.0,
+                                  rnd.nextDouble() * 6.0 - 3.0 );
+            objB[idx].setEulerYXZ(rnd.nextDouble() * 6.0 - 3.0,
+                                  rnd.nextDouble() * 6.0 - 3.0,
+                                  rnd.nextDouble() * 6.0 - 3.0 );
+            store(objA[idx], qA, fA, off + idx * 4);
+            store(objB[idx], qB, fB, off + idx * 4);
+            ts[off + idx] = rnd.nextDouble();
+            fts[off + idx] = (float) ts[off + idx];
+        }
+
+        MkQuat expected = new MkQuat();
+
+        MkQuat.slerpArray(qA, off, qB, off, ts, off, dst, off, num);
+        MkQuat.slerpArray(fA, off, fB, off, fts, off, fdst, off, num);
+        for(int idx = 0; idx < num; idx++){
+            MkQuat.slerp(objA[idx], objB[idx], ts[off + idx], expected);
+            assertQuat(expected, dst, off + idx * 4, 1.0e-15);
+            assertQuat(expected, fdst, off + idx * 4, 1.0e-6);
+        }
+
+        MkQuat.nlerpArray(qA, off, qB, off, ts, off, dst, off, num);
+        MkQuat.nlerpArray(fA, off, fB, off, fts, off, fdst, off, num);
+        for(int idx = 0; idx < num; idx++){
+            MkQuat.nlerp(objA[idx], objB[idx], ts[off + idx], expected);
+            assertQuat(expected, dst, off + idx * 4, 1.0e-15);
+            assertQuat(expected, fdst, off + idx * 4, 1.0e-6);
+        }
+
+        assertEquals(0.0, dst[0]);
+        assertEquals(0.0f, fdst[0]);
+
+        return;
+    }
+
+    /**
+     * Test of mulArray method, of class MkQuat.
+     */
+    @Test
+    public void testMulArray() {
+        System.out.println("mulArray");
+
+        Random rnd = new Random(39L);
+        int num = 20;
+
+        double[] qA = new double[num * 4];
+        double[] qB = new double[num * 4];
+        double[] dst = new double[num * 4];
+        float[] fA = new float[num * 4];
+        float[] fB = new float[num * 4];
+        float[] fdst = new float[num * 4];
+
+        MkQuat[] objA = new MkQuat[num];
+        MkQuat[] objB = new MkQuat[num];
+        for(int idx = 0; idx < num; idx++){
+            objA[idx] = new MkQuat(rnd.nextDouble(), rnd.nextDouble(),
+                                   rnd.nextDouble(), rnd.nextDouble() );
+            objB[idx] = new MkQuat(rnd.nextDouble(), rnd.nextDouble(),
+                                   rnd.nextDouble(), rnd.nextDouble() );
+            store(objA[idx], qA, fA, idx * 4);
+            store(objB[idx], qB, fB, idx * 4);
+        }
+
+        MkQuat.mulArray(qA, 0, qB, 0, dst, 0, num);
+        MkQuat.mulArray(fA, 0, fB, 0, fdst, 0, num);
+
+        MkQuat expected = new MkQuat();
+        for(int idx = 0; idx < num; idx++){
+            MkQuat.mul(objA[idx], objB[idx], expected);
+            assertQuat(expected, dst, idx * 4, 0.0);
+            assertQuat(expected, fdst, idx * 4, 1.0e-5);
+        }
+
+        // in-place
+        MkQuat.mulArray(qA, 0, qB, 0, qA, 0, num);
+        assertArrayEquals(dst, qA);
+
+        return;
+    }
+
+    /**
+     * Test of rotatePosArray method, of class MkQuat.
+     */
+    @Test
+    public void testRotatePosArray() {
+        System.out.println("rotatePosArray");
+
+        MkQuat qq = new MkQuat();
+        qq.setEulerYXZ(RAD_15DEG, RAD_30DEG, RAD_45DEG);
+
+        Random rnd = new Random(39L);
+        int num = 30;
+
+        double[] src = new double[num * 3];
+        float[] fsrc = new float[num * 3];
+        for(int idx = 0; idx < num * 3; idx++){
+            src[idx] = rnd.nextDouble() * 20.0 - 10.0;
+            fsrc[idx] = (float) src[idx];
+        }
+        double[] dst = new double[num * 3 + 1];
+        float[] fdst = new float[num * 3 + 1];
+
+        qq.rotatePosArray(src, 0, dst, 1, num);
+        qq.rotatePosArray(fsrc, 0, fdst, 1, num);
+
+        MkPos3D pos = new MkPos3D();
+        MkPos3D expected = new MkPos3D();
+        for(int idx = 0; idx < num; idx++){
+            int base = idx * 3;
+            pos.setPosition(src[base], src[base + 1], src[base + 2]);
+            qq.rotatePos(pos, expected);
+            assertEquals(expected.getXpos(), dst[1 + base], 1.0e-13);
+            assertEquals(expected.getYpos(), dst[1 + base + 1], 1.0e-13);
+            assertEquals(expected.getZpos(), dst[1 + base + 2], 1.0e-13);
+            assertEquals(expected.getXpos(), fdst[1 + base], 1.0e-5);
+            assertEquals(expected.getYpos(), fdst[1 + base + 1], 1.0e-5);
+            assertEquals(expected.getZpos(), fdst[1 + base + 2], 1.0e-5);
+        }
+
+        // in-place
+        qq.rotatePosArray(src, 0, src, 0, num);
+        for(int idx = 0; idx < num * 3; idx++){
+            assertEquals(dst[1 + idx], src[idx]);
+        }
+
+        return;
+    }
+
+    private static void store(MkQuat qq, double[] dArr, float[] fArr,
+                              int off){
+        dArr[off]     = qq.getQ1();
+        dArr[off + 1] = qq.getQ2();
+        dArr[off + 2] = qq.getQ3();
+        dArr[off + 3] = qq.getQW();
+        fArr[off]     = (float) qq.getQ1();
+        fArr[off + 1] = (float) qq.getQ2();
+        fArr[off + 2] = (float) qq.getQ3();
+        fArr[off + 3] = (float) qq.getQW();
+        return;
+    }
+
+    private static void assertQuat(MkQuat expected, double[] arr, int off,
+                                   double delta){
+        assertEquals(expected.getQ1(), arr[off],     delta);
+        assertEquals(expected.getQ2(), arr[off + 1], delta);
+        assertEquals(expected.getQ3(), arr[off + 2], delta);
+        assertEquals(expected.getQW(), arr[off + 3], delta);
+        return;
+    }
+
+    private static void assertQuat(MkQuat expected, float[] arr, int off,
+                                   double delta){
+        assertEquals(expected.getQ1(), arr[off],     delta);
+        assertEquals(expected.getQ2(), arr[off + 1], delta);
+        assertEquals(expected.getQ3(), arr[off + 2], delta);
+        assertEquals(expected.getQW(), arr[off + 3], delta);
+        return;
+    }
+
     /**
      * Test of toString method, of class MkQuat.
      */
@@ -110,4 +110,30 @@ public void testSplitShadingFileInfo() {
         return;
     }
 
+    /**
+     * Test of joinShadingFileInfo method, of class ShadingUtil.
+     */
+    @Test
+    public void testJoinShadingFileInfo() {
+        System.out.println("joinShadingFileInfo");
+
+        assertEquals("", ShadingUtil.joinShadingFileInfo("", ""));
+        assertEquals("a", ShadingUtil.joinShadingFileInfo("a", ""));
+        assertEquals("a.sph*", ShadingUtil.joinShadingFileInfo("a.sph", ""));
+        assertEquals("b.spa", ShadingUtil.joinShadingFileInfo("", "b.spa"));
+        assertEquals("*b", ShadingUtil.joinShadingFileInfo("", "b"));
+        assertEquals("a*b.sph", ShadingUtil.joinShadingFileInfo("a", "b.sph"));
+
+        String[][] pairs = {
+            {"", ""}, {"a", ""}, {"a.sph", ""}, {"", "b"}, {"", "b.sph"},
+            {"a", "b"}, {"a.spa", "b.sph"},
+        };
+        for(String[] pair : pairs){
+            String joined = ShadingUtil.joinShadingFileInfo(pair[0], pair[1]);
+            assertArrayEquals(pair, ShadingUtil.splitShadingFileInfo(joined));
+        }
+
+        return;
+    }
+
 }
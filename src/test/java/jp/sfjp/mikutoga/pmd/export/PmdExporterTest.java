@@ -0,0 +1,166 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.pmd.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.pmd.parser.PmdParser;
+import jp.sfjp.mikutoga.pmd.parser.PmdSample;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class PmdExporterTest {
+
+    public PmdExporterTest() {
+    }
+
+    private static void setHandlers(PmdParser parser, PmdExporter exporter){
+        parser.setBasicHandler(exporter);
+        parser.setShapeHandler(exporter);
+        parser.setMaterialHandler(exporter);
+        parser.setBoneHandler(exporter);
+        parser.setMorphHandler(exporter);
+        parser.setEngHandler(exporter);
+        parser.setToonHandler(exporter);
+        parser.setRigidHandler(exporter);
+        parser.setJointHandler(exporter);
+        return;
+    }
+
+    /**
+     * 書き込み回数を数える出力ストリーム。
+     */
+    private static class CountingStream extends ByteArrayOutputStream {
+        int writes = 0;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            this.writes++;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            this.writes++;
+            super.write(b);
+        }
+    }
+
+    /**
+     * Test of round trip, of class PmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        System.out.println("round trip");
+
+        byte[] pmd = PmdSample.build(10);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PmdExporter exporter = new PmdExporter(out);
+        PmdParser parser = new PmdParser(new ByteArrayInputStream(pmd));
+        setHandlers(parser, exporter);
+        parser.parsePmd();
+
+        assertArrayEquals(pmd, out.toByteArray());
+
+        return;
+    }
+
+    /**
+     * Test of pmdVertexBulk and pmdSurfaceBulk method, of class PmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testBulk() throws Exception {
+        System.out.println("bulk");
+
+        int vertexNum = 5000;
+        byte[] pmd = PmdSample.build(vertexNum);
+
+        CountingStream out = new CountingStream();
+        PmdExporter exporter = new PmdExporter(out);
+        PmdParser parser = new PmdParser(new BufferParser(ByteBuffer.wrap(pmd)));
+        setHandlers(parser, exporter);
+        parser.setVertexBulkHandler(exporter);
+        parser.setSurfaceBulkHandler(exporter);
+        parser.parsePmd();
+
+        assertArrayEquals(pmd, out.toByteArray());
+
+        int blocks = (pmd.length + PmdExporter.BLOCK_SIZE - 1)
+                   / PmdExporter.BLOCK_SIZE;
+        assertTrue(out.writes <= blocks + 1);
+
+        return;
+    }
+
+    /**
+     * Test of too long text, of class PmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testTooLongText() throws Exception {
+        System.out.println("too long text");
+
+        PmdExporter exporter = new PmdExporter(new ByteArrayOutputStream());
+
+        exporter.pmdModelInfo("12345678901234567890", "");
+        try{
+            exporter.pmdModelInfo("123456789012345678901", "");
+            fail();
+        }catch(MmdFormatException e){
+            assertNotNull(e.getCause());
+        }
+
+        return;
+    }
+
+    /**
+     * Test of output error, of class PmdExporter.
+     */
+    @Test
+    public void testOutputError() {
+        System.out.println("output error");
+
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException();
+            }
+        };
+
+        PmdExporter exporter = new PmdExporter(broken);
+        exporter.pmdParseStart();
+        exporter.pmdHeaderInfo(new byte[7]);
+        try{
+            exporter.pmdParseEnd(false);
+            fail();
+        }catch(UncheckedIOException e){
+            // GOOD
+        }
+
+        try{
+            new PmdExporter(null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class EmptyPmdHandlerTest {
+
+    public EmptyPmdHandlerTest() {
+    }
+
+    /**
+     * Test of EMPTY field, of class PmdUnifiedHandler.
+     */
+    @Test
+    public void testEmpty() {
+        System.out.println("EMPTY");
+
+        PmdUnifiedHandler handler = PmdUnifiedHandler.EMPTY;
+
+        assertTrue(handler instanceof EmptyPmdHandler);
+        assertFalse(Proxy.isProxyClass(handler.getClass()));
+
+        return;
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import jp.sfjp.mikutoga.bin.parser.FeedParser;
+import jp.sfjp.mikutoga.bin.parser.MmdEofException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class PmdFeedDriverTest {
+
+    public PmdFeedDriverTest() {
+    }
+
+    /**
+     * 通知内容を記録するハンドラ。
+     */
+    private static class Recorder extends EmptyPmdHandler
+            implements StageListener {
+        final List<String> events = new ArrayList<>();
+        final Map<ParseStage, Long> ends = new HashMap<>();
+        int loops;
+
+        void register(PmdParser parser){
+            parser.setBasicHandler(this);
+            parser.setShapeHandler(this);
+            parser.setMaterialHandler(this);
+            parser.setBoneHandler(this);
+            parser.setMorphHandler(this);
+            parser.setEngHandler(this);
+            parser.setToonHandler(this);
+            parser.setRigidHandler(this);
+            parser.setJointHandler(this);
+            parser.setStageListener(this);
+        }
+
+        @Override
+        public void pmdParseStart() {
+            this.events.add("start");
+        }
+
+        @Override
+        public void pmdParseEnd(boolean hasMoreData) {
+            this.events.add("end:" + hasMoreData);
+        }
+
+        @Override
+        public void pmdModelInfo(String modelName, String description) {
+            this.events.add("model:" + modelName);
+        }
+
+        @Override
+        public void pmdEngEnabled(boolean hasEnglishInfo) {
+            this.events.add("eng:" + hasEnglishInfo);
+        }
+
+        @Override
+        public void pmdToonFileInfo(String toonName) {
+            this.events.add("toon:" + toonName);
+        }
+
+        @Override
+        public void loopNext(ParseStage stage) {
+            this.loops++;
+        }
+
+        @Override
+        public void stageStart(ParseStage stage, int loops, long position) {
+            this.events.add(stage + ":" + loops + "@" + position);
+        }
+
+        @Override
+        public void stageEnd(ParseStage stage, long position) {
+            this.events.add("/" + stage + "@" + position);
+            this.ends.put(stage, position);
+        }
+    }
+
+    private static Recorder pull(byte[] pmd) throws Exception{
+        Recorder result = new Recorder();
+        PmdParser parser = new PmdParser(new ByteArrayInputStream(pmd));
+        result.register(parser);
+        parser.parsePmd();
+        return result;
+    }
+
+    private static PmdFeedDriver driver(Recorder recorder){
+        PmdFeedDriver result = new PmdFeedDriver(new FeedParser());
+        recorder.register(result.getParser());
+        return result;
+    }
+
+    /**
+     * Test of constructor, of class PmdFeedDriver.
+     */
+    @Test
+    public void testCons() {
+        System.out.println("constructor");
+
+        FeedParser feed = new FeedParser();
+        PmdFeedDriver driver = new PmdFeedDriver(feed);
+        assertSame(feed, driver.getFeed());
+        assertNotNull(driver.getParser());
+        assertFalse(driver.isDone());
+
+        try{
+            new PmdFeedDriver(null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of drive method, of class PmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveWhole() throws Exception {
+        System.out.println("drive whole");
+
+        byte[] pmd = PmdSample.build(3000);
+        Recorder exp = pull(pmd);
+
+        Recorder recorder = new Recorder();
+        PmdFeedDriver driver = driver(recorder);
+        driver.getFeed().feed(ByteBuffer.wrap(pmd));
+
+        assertFalse(driver.drive());
+        assertFalse(driver.isDone());
+        assertTrue(recorder.events.contains("/JOINT_LIST@" + pmd.length));
+        assertFalse(recorder.events.contains("end:false"));
+
+        driver.getFeed().finish();
+        assertTrue(driver.drive());
+        assertTrue(driver.isDone());
+        assertTrue(driver.drive());
+
+        assertEquals(exp.events, recorder.events);
+        assertEquals(exp.loops, recorder.loops);
+
+        return;
+    }
+
+    /**
+     * Test of drive method with one byte at a time, of class PmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveByteByByte() throws Exception {
+        System.out.println("drive byte by byte");
+
+        byte[] pmd = PmdSample.build(30);
+        Recorder exp = pull(pmd);
+
+        Recorder recorder = new Recorder();
+        PmdFeedDriver driver = driver(recorder);
+        FeedParser feed = driver.getFeed();
+
+        int seen = 0;
+        for(int idx = 0; idx < pmd.length; idx++){
+            feed.feed(ByteBuffer.wrap(pmd, idx, 1));
+            assertFalse(driver.drive());
+
+            List<String> events = recorder.events;
+            assertEquals(exp.events.subList(0, events.size()), events);
+            assertTrue(events.size() >= seen);
+            seen = events.size();
+        }
+
+        feed.finish();
+        assertTrue(driver.drive());
+
+        assertEquals(exp.events, recorder.events);
+        assertEquals(exp.loops, recorder.loops);
+
+        return;
+    }
+
+    /**
+     * Test of drive method with random chunks, of class PmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveChunks() throws Exception {
+        System.out.println("drive chunks");
+
+        byte[] pmd = PmdSample.build(3000);
+        Recorder exp = pull(pmd);
+
+        Random random = new Random(39L);
+        for(int trial = 0; trial < 8; trial++){
+            Recorder recorder = new Recorder();
+            PmdFeedDriver driver = driver(recorder);
+            FeedParser feed = driver.getFeed();
+
+            int pos = 0;
+            while(pos < pmd.length){
+                int len = 1 + random.nextInt(5000);
+                len = Math.min(len, pmd.length - pos);
+                feed.feed(ByteBuffer.wrap(pmd, pos, len));
+                pos += len;
+                assertFalse(driver.drive());
+            }
+
+            feed.finish();
+            assertTrue(driver.drive());
+
+            assertEquals(exp.events, recorder.events);
+            assertEquals(exp.loops, recorder.loops);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of early notification, of class PmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveEarly() throws Exception {
+        System.out.println("drive early");
+
+        byte[] pmd = PmdSample.build(3000);
+
+        Recorder recorder = new Recorder();
+        PmdFeedDriver driver = driver(recorder);
+        FeedParser feed = driver.getFeed();
+
+        feed.feed(ByteBuffer.wrap(pmd, 0, 7 + 20 + 256 + 4 + 38));
+        assertFalse(driver.drive());
+        assertEquals(Arrays.asList("start", "model:テストモデル"),
+                     recorder.events );
+        assertEquals(4 + 38, feed.available());
+
+        return;
+    }
+
+    /**
+     * Test of optional sections, of class PmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveOptional() throws Exception {
+        System.out.println("drive optional");
+
+        byte[] full = PmdSample.build(30);
+        Recorder fullRec = pull(full);
+
+        long baseEnd = fullRec.ends.get(PmdBoneHandler.GROUPEDBONE_LIST);
+        long engEnd = fullRec.ends.get(PmdEngHandler.ENGBONEGROUP_LIST);
+        long toonEnd = fullRec.ends.get(PmdToonHandler.TOON_LIST);
+
+        long[] cuts = {baseEnd, engEnd, toonEnd};
+        for(long cut : cuts){
+            byte[] pmd = Arrays.copyOf(full, (int) cut);
+            Recorder exp = pull(pmd);
+
+            Recorder recorder = new Recorder();
+            PmdFeedDriver driver = driver(recorder);
+            FeedParser feed = driver.getFeed();
+            feed.feed(ByteBuffer.wrap(pmd));
+            assertFalse(driver.drive());
+
+            feed.finish();
+            assertTrue(driver.drive());
+            assertEquals(exp.events, recorder.events);
+        }
+
+        byte[] noEng = Arrays.copyOf(full, (int) baseEnd + 1);
+        noEng[(int) baseEnd] = 0x00;
+        Recorder exp = pull(noEng);
+        assertTrue(exp.events.contains("eng:false"));
+
+        Recorder recorder = new Recorder();
+        PmdFeedDriver driver = driver(recorder);
+        FeedParser feed = driver.getFeed();
+        feed.feed(ByteBuffer.wrap(noEng));
+        assertFalse(driver.drive());
+        assertTrue(recorder.events.contains("eng:false"));
+
+        feed.finish();
+        assertTrue(driver.drive());
+        assertEquals(exp.events, recorder.events);
+
+        return;
+    }
+
+    /**
+     * Test of truncated data, of class PmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveTruncated() throws Exception {
+        System.out.println("drive truncated");
+
+        byte[] pmd = PmdSample.build(30);
+
+        Recorder recorder = new Recorder();
+        PmdFeedDriver driver = driver(recorder);
+        FeedParser feed = driver.getFeed();
+        feed.feed(ByteBuffer.wrap(pmd, 0, pmd.length - 10));
+        assertFalse(driver.drive());
+
+        feed.finish();
+        try{
+            driver.drive();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        recorder = new Recorder();
+        driver = driver(recorder);
+        driver.getFeed().finish();
+        try{
+            driver.drive();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+        assertEquals(Arrays.asList("start"), recorder.events);
+
+        return;
+    }
+
+}
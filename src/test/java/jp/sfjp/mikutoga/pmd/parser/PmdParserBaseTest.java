@@ -3,6 +3,16 @@
 
 package jp.sfjp.mikutoga.pmd.parser;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.util.concurrent.ForkJoinPool;
+import jp.sfjp.mikutoga.bin.parser.BinParser;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
+import jp.sfjp.mikutoga.bin.parser.CommonParser;
+import jp.sfjp.mikutoga.bin.parser.MmdEofException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.bin.parser.StageMetrics;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,4 +47,472 @@ public void testChopLastLF() {
         return;
     }
 
+    /**
+     * Test of setSkipUnhandled method, of class PmdParserBase.
+     * @throws Exception
+     */
+    @Test
+    public void testSetSkipUnhandled() throws Exception {
+        System.out.println("setSkipUnhandled");
+
+        byte[] pmd = PmdSample.build(10);
+
+        BoneRecorder full = new BoneRecorder();
+        PmdParser parser = new PmdParser(new BufferParser(ByteBuffer.wrap(pmd)));
+        assertFalse(parser.isSkipUnhandled());
+        parser.setBasicHandler(full);
+        parser.setShapeHandler(full);
+        parser.setMaterialHandler(full);
+        parser.setBoneHandler(full);
+        parser.setMorphHandler(full);
+        parser.setEngHandler(full);
+        parser.setToonHandler(full);
+        parser.setRigidHandler(full);
+        parser.setJointHandler(full);
+        parser.parsePmd();
+        assertEquals(pmd.length, parser.getPosition());
+        assertEquals(10, full.vertexNum);
+
+        BoneRecorder part = new BoneRecorder();
+        parser = new PmdParser(new BufferParser(ByteBuffer.wrap(pmd)));
+        parser.setSkipUnhandled(true);
+        assertTrue(parser.isSkipUnhandled());
+        parser.setBasicHandler(part);
+        parser.setBoneHandler(part);
+        parser.parsePmd();
+        assertEquals(pmd.length, parser.getPosition());
+        assertEquals(0, part.vertexNum);
+
+        assertEquals(full.log.toString(), part.log.toString());
+        assertTrue(part.log.indexOf("bone:首") >= 0);
+        assertTrue(part.log.indexOf("group:体|") >= 0);
+        assertTrue(part.log.indexOf("end:false") >= 0);
+
+        return;
+    }
+
+    /**
+     * Test of setVertexBulkHandler method, of class PmdParserBase.
+     * @throws Exception
+     */
+    @Test
+    public void testSetVertexBulkHandler() throws Exception {
+        System.out.println("setVertexBulkHandler");
+
+        int vertexNum = 2500;
+        byte[] pmd = PmdSample.build(vertexNum);
+
+        final Object[] result = new Object[7];
+        PmdVertexBulkHandler bulk = new PmdVertexBulkHandler(){
+            @Override
+            public void pmdVertexBulk(int num,
+                    float[] positions, float[] normals, float[] uvs,
+                    short[] boneIds, byte[] weights, boolean[] hideEdges){
+                result[0] = num;
+                result[1] = positions;
+                result[2] = normals;
+                result[3] = uvs;
+                result[4] = boneIds;
+                result[5] = weights;
+                result[6] = hideEdges;
+                return;
+            }
+        };
+
+        BoneRecorder shape = new BoneRecorder();
+        PmdParser parser = new PmdParser(new ByteArrayInputStream(pmd));
+        parser.setBasicHandler(shape);
+        parser.setShapeHandler(shape);
+        parser.setVertexBulkHandler(bulk);
+        parser.parsePmd();
+
+        assertEquals(0, shape.vertexNum);
+        assertEquals(vertexNum, result[0]);
+
+        float[] positions = (float[]) result[1];
+        float[] normals = (float[]) result[2];
+        float[] uvs = (float[]) result[3];
+        short[] boneIds = (short[]) result[4];
+        byte[] weights = (byte[]) result[5];
+        boolean[] hideEdges = (boolean[]) result[6];
+
+        assertEquals(vertexNum * 3, positions.length);
+        assertEquals(vertexNum * 3, normals.length);
+        assertEquals(vertexNum * 2, uvs.length);
+        assertEquals(vertexNum * 2, boneIds.length);
+        assertEquals(vertexNum, weights.length);
+        assertEquals(vertexNum, hideEdges.length);
+
+        int bones = PmdSample.BONES.length;
+        for(int ct = 0; ct < vertexNum; ct++){
+            for(int axis = 0; axis < 3; axis++){
+                assertEquals(PmdSample.vertexPos(ct, axis),
+                             positions[ct * 3 + axis], 0.0f);
+            }
+            assertEquals(1.0f, normals[ct * 3 + 1], 0.0f);
+            assertEquals(ct * 0.25f, uvs[ct * 2], 0.0f);
+            assertEquals(ct % bones, boneIds[ct * 2]);
+            assertEquals((ct + 1) % bones, boneIds[ct * 2 + 1]);
+            assertEquals(ct % 101, weights[ct]);
+            assertEquals(ct % 2 != 0, hideEdges[ct]);
+        }
+
+        assertTrue(shape.log.indexOf("end:false") >= 0);
+
+        return;
+    }
+
+    /**
+     * 全頂点情報を記録するハンドラ。
+     */
+    private static class VertexRecorder implements PmdVertexBulkHandler {
+        Object[] arrays;
+
+        @Override
+        public void pmdVertexBulk(int num,
+                float[] positions, float[] normals, float[] uvs,
+                short[] boneIds, byte[] weights, boolean[] hideEdges){
+            this.arrays = new Object[]{
+                positions, normals, uvs, boneIds, weights, hideEdges,
+            };
+            return;
+        }
+    }
+
+    private static Object[] parseVertices(PmdParser parser, BoneRecorder log)
+            throws Exception{
+        VertexRecorder bulk = new VertexRecorder();
+        parser.setBasicHandler(log);
+        parser.setBoneHandler(log);
+        parser.setVertexBulkHandler(bulk);
+        parser.parsePmd();
+        return bulk.arrays;
+    }
+
+    /**
+     * Test of setForkJoinPool method, of class PmdParserBase.
+     * @throws Exception
+     */
+    @Test
+    public void testSetForkJoinPool() throws Exception {
+        System.out.println("setForkJoinPool");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            for(int vertexNum : new int[]{0, 100, 8191, 8192, 30001}){
+                byte[] pmd = PmdSample.build(vertexNum);
+
+                BoneRecorder expLog = new BoneRecorder();
+                PmdParser parser = new PmdParser(new ByteArrayInputStream(pmd));
+                parser.setForkJoinPool(pool);
+                Object[] expected = parseVertices(parser, expLog);
+
+                BoneRecorder resLog = new BoneRecorder();
+                parser = new PmdParser(new BufferParser(ByteBuffer.wrap(pmd)));
+                assertNull(parser.getForkJoinPool());
+                parser.setForkJoinPool(pool);
+                assertSame(pool, parser.getForkJoinPool());
+                Object[] result = parseVertices(parser, resLog);
+
+                assertArrayEquals((float[]) expected[0], (float[]) result[0]);
+                assertArrayEquals((float[]) expected[1], (float[]) result[1]);
+                assertArrayEquals((float[]) expected[2], (float[]) result[2]);
+                assertArrayEquals((short[]) expected[3], (short[]) result[3]);
+                assertArrayEquals((byte[]) expected[4], (byte[]) result[4]);
+                assertArrayEquals((boolean[]) expected[5],
+                                  (boolean[]) result[5] );
+
+                assertEquals(expLog.log.toString(), resLog.log.toString());
+                assertTrue(resLog.log.indexOf("end:false") >= 0);
+            }
+        }finally{
+            pool.shutdown();
+        }
+
+        return;
+    }
+
+    /**
+     * Test of setStageListener method, of class PmdParserBase.
+     * @throws Exception
+     */
+    @Test
+    public void testSetStageListener() throws Exception {
+        System.out.println("setStageListener");
+
+        int vertexNum = 300;
+        byte[] pmd = PmdSample.build(vertexNum);
+
+        PmdParser parser = new PmdParser(new ByteArrayInputStream(pmd));
+        assertNull(parser.getStageListener());
+        parser.parsePmd();
+
+        StageMetrics metrics = new StageMetrics();
+        EmptyPmdHandler handler = new EmptyPmdHandler();
+        parser = new PmdParser(new ByteArrayInputStream(pmd));
+        parser.setStageListener(metrics);
+        assertSame(metrics, parser.getStageListener());
+        parser.setBasicHandler(handler);
+        parser.setShapeHandler(handler);
+        parser.setMaterialHandler(handler);
+        parser.setBoneHandler(handler);
+        parser.setMorphHandler(handler);
+        parser.setEngHandler(handler);
+        parser.setToonHandler(handler);
+        parser.setRigidHandler(handler);
+        parser.setJointHandler(handler);
+        parser.parsePmd();
+
+        ParseStage vertex = PmdShapeHandler.VERTEX_LIST;
+        ParseStage surface = PmdShapeHandler.SURFACE_LIST;
+
+        assertSame(vertex, metrics.getStages().get(0));
+        assertEquals(1L, metrics.getCount(vertex));
+        assertEquals(vertexNum, metrics.getElements(vertex));
+        assertEquals(vertexNum * 38L, metrics.getBytes(vertex));
+        assertEquals(vertexNum, metrics.getElements(surface));
+        assertEquals(vertexNum * 6L, metrics.getBytes(surface));
+        assertEquals(PmdSample.BONES.length,
+                     metrics.getElements(PmdBoneHandler.BONE_LIST));
+        assertEquals(metrics.getElements(PmdBoneHandler.IK_LIST),
+                     metrics.getCount(PmdBoneHandler.IKCHAIN_LIST));
+        assertEquals(PmdSample.MORPHS.length,
+                     metrics.getCount(PmdMorphHandler.MORPHVERTEX_LIST));
+        assertEquals(1L, metrics.getCount(PmdToonHandler.TOON_LIST));
+        assertEquals(1L, metrics.getCount(PmdJointHandler.JOINT_LIST));
+        assertTrue(metrics.getNanos(vertex) >= 0L);
+        assertEquals(Long.valueOf(vertexNum * 38L),
+                     metrics.toMap().get("VERTEX_LIST.bytes"));
+
+        StageMetrics skipped = new StageMetrics();
+        parser = new PmdParser(new ByteArrayInputStream(pmd));
+        parser.setSkipUnhandled(true);
+        parser.setStageListener(skipped);
+        parser.parsePmd();
+
+        assertEquals(metrics.getBytes(vertex), skipped.getBytes(vertex));
+        assertEquals(metrics.getBytes(PmdMorphHandler.MORPH_LIST),
+                     skipped.getBytes(PmdMorphHandler.MORPH_LIST));
+        assertEquals(0L, skipped.getCount(PmdMorphHandler.MORPHVERTEX_LIST));
+
+        StageMetrics bulk = new StageMetrics();
+        parser = new PmdParser(new BufferParser(ByteBuffer.wrap(pmd)));
+        parser.setStageListener(bulk);
+        parser.setVertexBulkHandler(
+                (num, pos, nor, uv, bone, weight, edge) -> {});
+        parser.parsePmd();
+
+        assertEquals(vertexNum, bulk.getElements(vertex));
+        assertEquals(vertexNum * 38L, bulk.getBytes(vertex));
+
+        return;
+    }
+
+    /**
+     * Test of setSurfaceBulkHandler method, of class PmdParserBase.
+     * @throws Exception
+     */
+    @Test
+    public void testSetSurfaceBulkHandler() throws Exception {
+        System.out.println("setSurfaceBulkHandler");
+
+        int vertexNum = 100;
+        byte[] pmd = PmdSample.build(vertexNum);
+
+        final ShortBuffer[] result = new ShortBuffer[1];
+        final int[] count = new int[1];
+        PmdSurfaceBulkHandler bulk = new PmdSurfaceBulkHandler(){
+            @Override
+            public void pmdSurfaceBulk(int surfaceNum, ShortBuffer ids){
+                count[0] = surfaceNum;
+                result[0] = ids;
+                return;
+            }
+        };
+
+        PmdParser parser;
+
+        parser = new PmdParser(new BufferParser(ByteBuffer.wrap(pmd)));
+        parser.setSurfaceBulkHandler(bulk);
+        parser.parsePmd();
+        assertEquals(pmd.length, parser.getPosition());
+        assertEquals(vertexNum, count[0]);
+        assertTrue(result[0].isReadOnly());
+        checkSurface(result[0], vertexNum);
+
+        parser = new PmdParser(new ByteArrayInputStream(pmd));
+        parser.setSurfaceBulkHandler(bulk);
+        parser.parsePmd();
+        assertEquals(pmd.length, parser.getPosition());
+        assertEquals(vertexNum, count[0]);
+        checkSurface(result[0], vertexNum);
+
+        return;
+    }
+
+    private static void checkSurface(ShortBuffer ids, int vertexNum){
+        int surfaceNum = vertexNum;
+        assertEquals(0, ids.position());
+        assertEquals(surfaceNum * 3, ids.remaining());
+        for(int ct = 0; ct < surfaceNum; ct++){
+            for(int idx = 0; idx < 3; idx++){
+                int vertexId = ids.get(ct * 3 + idx) & 0xffff;
+                assertEquals(PmdSample.surfaceVertex(ct, idx, vertexNum),
+                             vertexId);
+            }
+        }
+        return;
+    }
+
+    /**
+     * ボーン関連の通知を記録するハンドラ。
+     */
+    private static class BoneRecorder extends EmptyPmdHandler {
+
+        final StringBuilder log = new StringBuilder();
+        int vertexNum = 0;
+
+        BoneRecorder(){
+            super();
+            return;
+        }
+
+        private void rec(Object... items){
+            for(Object item : items){
+                this.log.append(item).append('|');
+            }
+            this.log.append('\n');
+            return;
+        }
+
+        @Override
+        public void loopStart(ParseStage stage, int loops){
+            if(stage == PmdShapeHandler.VERTEX_LIST) return;
+            if(stage == PmdShapeHandler.SURFACE_LIST) return;
+            if(stage == PmdMaterialHandler.MATERIAL_LIST) return;
+            if(stage == PmdBoneHandler.BONE_LIST
+                    || stage == PmdBoneHandler.IK_LIST
+                    || stage == PmdBoneHandler.IKCHAIN_LIST
+                    || stage == PmdBoneHandler.BONEGROUP_LIST
+                    || stage == PmdBoneHandler.GROUPEDBONE_LIST){
+                rec("loop", loops);
+            }
+            return;
+        }
+
+        @Override
+        public void pmdParseEnd(boolean hasMoreData){
+            rec("end:" + hasMoreData);
+            return;
+        }
+
+        @Override
+        public void pmdModelInfo(String modelName, String description){
+            rec("model:" + modelName, description);
+            return;
+        }
+
+        @Override
+        public void pmdVertexPosition(float xPos, float yPos, float zPos){
+            this.vertexNum++;
+            return;
+        }
+
+        @Override
+        public void pmdBoneInfo(String boneName, byte boneKind){
+            rec("bone:" + boneName, boneKind);
+            return;
+        }
+
+        @Override
+        public void pmdBoneLink(int parentId, int tailId, int ikId){
+            rec(parentId, tailId, ikId);
+            return;
+        }
+
+        @Override
+        public void pmdBonePosition(float xPos, float yPos, float zPos){
+            rec(xPos, yPos, zPos);
+            return;
+        }
+
+        @Override
+        public void pmdIKInfo(int boneId, int targetId,
+                              int depth, float weight){
+            rec("ik", boneId, targetId, depth, weight);
+            return;
+        }
+
+        @Override
+        public void pmdIKChainInfo(int childId){
+            rec("chain", childId);
+            return;
+        }
+
+        @Override
+        public void pmdBoneGroupInfo(String groupName){
+            rec("group:" + groupName);
+            return;
+        }
+
+        @Override
+        public void pmdGroupedBoneInfo(int boneId, int groupId){
+            rec("grouped", boneId, groupId);
+            return;
+        }
+
+    }
+
+    private static byte[] patchCount(byte[] pmd, int offset, int count){
+        byte[] result = new byte[offset + 4 + 100];
+        System.arraycopy(pmd, 0, result, 0, result.length);
+        result[offset    ] = (byte) count;
+        result[offset + 1] = (byte)(count >>> 8);
+        result[offset + 2] = (byte)(count >>> 16);
+        result[offset + 3] = (byte)(count >>> 24);
+        return result;
+    }
+
+    /**
+     * Test of huge vertex and surface counts with bulk handlers,
+     * of class PmdParserBase.
+     * @throws Exception
+     */
+    @Test
+    public void testHugeBulkCount() throws Exception {
+        System.out.println("huge bulk count");
+
+        int vertexNum = 100;
+        byte[] pmd = PmdSample.build(vertexNum);
+        int vertexOffset = 7 + 20 + 256;
+        int surfaceOffset = vertexOffset + 4 + vertexNum * 38;
+
+        byte[][] broken = {
+            patchCount(pmd, vertexOffset, 0x20000000),
+            patchCount(pmd, vertexOffset, 0x2aaaaaaa),
+            patchCount(pmd, surfaceOffset, 0x30000000),
+        };
+
+        for(byte[] bin : broken){
+            BinParser[] sources = {
+                new CommonParser(new ByteArrayInputStream(bin)),
+                new BufferParser(ByteBuffer.wrap(bin)),
+            };
+            for(BinParser source : sources){
+                PmdParser parser = new PmdParser(source);
+                parser.setVertexBulkHandler(
+                        (num, pos, nor, uv, bone, weight, edge) -> {});
+                parser.setSurfaceBulkHandler((num, ids) -> {});
+                try{
+                    parser.parsePmd();
+                    fail();
+                }catch(MmdEofException e){
+                    // GOOD
+                }
+            }
+        }
+
+        return;
+    }
+
 }
@@ -0,0 +1,222 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.pmd.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * テスト用PMDデータ生成器。
+ * これはユニットテストではない。
+ */
+public class PmdSample {
+
+    private static final Charset CS_WIN31J = Charset.forName("windows-31j");
+
+    private static final byte[] MAGIC = {
+        (byte)0x50, (byte)0x6d, (byte)0x64,
+        (byte)0x00, (byte)0x00, (byte)0x80, (byte)0x3f,
+    };
+
+    /** ボーン名一覧。 */
+    public static final String[] BONES = {"センター", "上半身", "首", "頭"};
+
+    /** モーフ名一覧。 */
+    public static final String[] MORPHS = {"base", "まばたき", "あ"};
+
+
+    private final ByteBuffer buf;
+
+
+    private PmdSample(int capacity){
+        super();
+        this.buf = ByteBuffer.allocate(capacity);
+        this.buf.order(ByteOrder.LITTLE_ENDIAN);
+        return;
+    }
+
+
+    /**
+     * 頂点座標値を返す。
+     * @param vertexId 頂点ID
+     * @param axis 軸番号
+     * @return 座標値
+     */
+    public static float vertexPos(int vertexId, int axis){
+        return vertexId * 0.5f + axis;
+    }
+
+    /**
+     * 面を構成する頂点IDを返す。
+     * @param surfaceId 面ID
+     * @param idx 頂点順序
+     * @param vertexNum 頂点数
+     * @return 頂点ID
+     */
+    public static int surfaceVertex(int surfaceId, int idx, int vertexNum){
+        return (surfaceId + idx) % vertexNum;
+    }
+
+    /**
+     * 全セクションを含むPMDデータを生成する。
+     * @param vertexNum 頂点数
+     * @return PMDデータ
+     */
+    public static byte[] build(int vertexNum){
+        int surfaceNum = vertexNum;
+        int capacity = 8192 + vertexNum * 38 + surfaceNum * 6 + vertexNum * 16;
+        PmdSample sample = new PmdSample(capacity);
+        sample.fill(vertexNum, surfaceNum);
+
+        ByteBuffer buf = sample.buf;
+        byte[] result = new byte[buf.position()];
+        buf.flip();
+        buf.get(result);
+
+        return result;
+    }
+
+    private void text(String txt, int len){
+        byte[] bin = txt.getBytes(CS_WIN31J);
+        assert bin.length <= len;
+        this.buf.put(bin);
+        for(int ct = bin.length; ct < len; ct++){
+            this.buf.put((byte)0x00);
+        }
+        return;
+    }
+
+    private void floats(float... vals){
+        for(float val : vals){
+            this.buf.putFloat(val);
+        }
+        return;
+    }
+
+    private void fill(int vertexNum, int surfaceNum){
+        ByteBuffer b = this.buf;
+
+        b.put(MAGIC);
+        text("テストモデル", 20);
+        text("説明文\r\n二行目", 256);
+
+        b.putInt(vertexNum);
+        for(int ct = 0; ct < vertexNum; ct++){
+            floats(vertexPos(ct, 0), vertexPos(ct, 1), vertexPos(ct, 2));
+            floats(0.0f, 1.0f, 0.0f);
+            floats(ct * 0.25f, 1.0f - ct * 0.25f);
+            b.putShort((short)(ct % BONES.length));
+            b.putShort((short)((ct + 1) % BONES.length));
+            b.put((byte)(ct % 101));
+            b.put((byte)(ct % 2));
+        }
+
+        b.putInt(surfaceNum * 3);
+        for(int ct = 0; ct < surfaceNum; ct++){
+            for(int idx = 0; idx < 3; idx++){
+                b.putShort((short) surfaceVertex(ct, idx, vertexNum));
+            }
+        }
+
+        b.putInt(2);
+        for(int ct = 0; ct < 2; ct++){
+            floats(1.0f, 0.5f, 0.25f, 1.0f);
+            floats(5.0f);
+            floats(0.1f, 0.2f, 0.3f);
+            floats(0.4f, 0.5f, 0.6f);
+            b.put((byte)(ct == 0 ? 0xff : 0x01));
+            b.put((byte)1);
+            b.putInt(surfaceNum * 3 / 2);
+            text(ct == 0 ? "tex.bmp*sph.sph" : "", 20);
+        }
+
+        b.putShort((short) BONES.length);
+        for(int ct = 0; ct < BONES.length; ct++){
+            text(BONES[ct], 20);
+            b.putShort((short)(ct - 1));
+            b.putShort((short)(ct + 1 < BONES.length ? ct + 1 : 0));
+            b.put((byte)(ct == 0 ? 1 : 0));
+            b.putShort((short)0);
+            floats(0.0f, ct * 2.0f, 0.0f);
+        }
+
+        b.putShort((short)1);
+        b.putShort((short)3);
+        b.putShort((short)2);
+        b.put((byte)2);
+        b.putShort((short)15);
+        b.putFloat(0.5f);
+        b.putShort((short)2);
+        b.putShort((short)1);
+
+        b.putShort((short) MORPHS.length);
+        for(int ct = 0; ct < MORPHS.length; ct++){
+            text(MORPHS[ct], 20);
+            int num = ct == 0 ? vertexNum : 1;
+            b.putInt(num);
+            b.put((byte) ct);
+            for(int idx = 0; idx < num; idx++){
+                b.putInt(idx);
+                floats(idx, ct, 0.5f);
+            }
+        }
+
+        b.put((byte)2);
+        b.putShort((short)1);
+        b.putShort((short)2);
+
+        b.put((byte)1);
+        text("体\n", 50);
+
+        b.putInt(2);
+        b.putShort((short)1);
+        b.put((byte)1);
+        b.putShort((short)2);
+        b.put((byte)1);
+
+        b.put((byte)1);
+        text("TestModel", 20);
+        text("description", 256);
+        for(int ct = 0; ct < BONES.length; ct++){
+            text("bone" + ct, 20);
+        }
+        for(int ct = 1; ct < MORPHS.length; ct++){
+            text("morph" + ct, 20);
+        }
+        text("body", 50);
+
+        for(int ct = 0; ct < 10; ct++){
+            text("toon" + ct + ".bmp", 100);
+        }
+
+        b.putInt(2);
+        for(int ct = 0; ct < 2; ct++){
+            text("剛体" + ct, 20);
+            b.putShort((short) ct);
+            b.put((byte) ct);
+            b.putShort((short)0xfffe);
+            b.put((byte)0);
+            floats(1.0f, 2.0f, 3.0f);
+            floats(0.0f, ct, 0.0f);
+            floats(0.0f, 0.0f, 0.0f);
+            floats(1.0f, 0.5f, 0.5f, 0.0f, 0.5f);
+            b.put((byte) ct);
+        }
+
+        b.putInt(1);
+        text("ジョイント", 20);
+        b.putInt(0);
+        b.putInt(1);
+        floats(0.0f, 1.0f, 0.0f);
+        floats(0.0f, 0.0f, 0.0f);
+        floats(-1.0f, -1.0f, -1.0f, 1.0f, 1.0f, 1.0f);
+        floats(-0.5f, -0.5f, -0.5f, 0.5f, 0.5f, 0.5f);
+        floats(0.0f, 0.0f, 0.0f);
+        floats(10.0f, 10.0f, 10.0f);
+
+        return;
+    }
+
+}
@@ -0,0 +1,327 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import jp.sfjp.mikutoga.bin.export.IllegalTextExportException;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+import jp.sfjp.mikutoga.vmd.parser.EmptyVmdHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdSample;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class VmdExporterTest {
+
+    public VmdExporterTest() {
+    }
+
+    private static VmdParser newParser(byte[] vmd){
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(vmd));
+        parser.setRedundantCheck(true);
+        return parser;
+    }
+
+    private static byte[] roundTrip(byte[] vmd) throws Exception{
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VmdExporter exporter = new VmdExporter(out);
+
+        VmdParser parser = newParser(vmd);
+        parser.setBasicHandler(exporter);
+        parser.setCameraHandler(exporter);
+        parser.setLightingHandler(exporter);
+        parser.setBoolHandler(exporter);
+        parser.parseVmd();
+
+        return out.toByteArray();
+    }
+
+    /**
+     * IKスイッチを記録するハンドラ。
+     */
+    private static class IkRecorder extends EmptyVmdHandler {
+        final List<String> log = new ArrayList<>();
+
+        @Override
+        public void vmdModelSight(boolean show, int keyFrameNo) {
+            this.log.add(keyFrameNo + ":" + show);
+        }
+
+        @Override
+        public void vmdIkSwitch(String boneName, boolean validIk,
+                                int keyFrameNo) {
+            this.log.add(keyFrameNo + ":" + boneName + ":" + validIk);
+        }
+    }
+
+    /**
+     * Test of round trip, of class VmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        System.out.println("round trip");
+
+        byte[] vmd;
+
+        vmd = VmdSample.build(10, false);
+        assertArrayEquals(vmd, roundTrip(vmd));
+
+        vmd = VmdSample.build(10, true);
+        assertArrayEquals(vmd, roundTrip(vmd));
+
+        vmd = VmdSample.build(2000, true);
+        assertTrue(vmd.length > VmdExporter.BUFFER_SIZE * 2);
+        assertArrayEquals(vmd, roundTrip(vmd));
+
+        return;
+    }
+
+    /**
+     * Test of dumpBoneMotion and other list methods, of class VmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDumpMotion() throws Exception {
+        System.out.println("dumpMotion");
+
+        int frameNum = 700;
+        int boneNum = VmdSample.BONES.length;
+        int num = frameNum * boneNum;
+
+        String[] boneNames = new String[num];
+        int[] boneFrames = new int[num];
+        float[] positions = new float[num * 3];
+        float[] rotations = new float[num * 4];
+        byte[] intplts = new byte[num * VmdExporter.BONE_INTPLT_SIZE];
+        byte[] linear = VmdSample.linearIntplt();
+
+        int idx = 0;
+        for(int ct = frameNum - 1; ct >= 0; ct--){
+            int frameNo = ct * VmdSample.BONE_STEP;
+            for(int boneIdx = 0; boneIdx < boneNum; boneIdx++){
+                boneNames[idx] = VmdSample.BONES[boneIdx];
+                boneFrames[idx] = frameNo;
+                for(int axis = 0; axis < 3; axis++){
+                    positions[idx * 3 + axis] =
+                            VmdSample.bonePos(boneIdx, frameNo, axis);
+                }
+                double half = VmdSample.boneYaw(boneIdx, frameNo) / 2.0;
+                rotations[idx * 4 + 1] = (float) Math.sin(half);
+                rotations[idx * 4 + 3] = (float) Math.cos(half);
+                System.arraycopy(linear, 0,
+                                 intplts, idx * VmdExporter.BONE_INTPLT_SIZE,
+                                 VmdExporter.BONE_INTPLT_SIZE);
+                idx++;
+            }
+        }
+
+        String[] morphNames = new String[frameNum];
+        int[] morphFrames = new int[frameNum];
+        float[] flexes = new float[frameNum];
+        for(int ct = 0; ct < frameNum; ct++){
+            morphNames[ct] = VmdSample.MORPH;
+            morphFrames[ct] = ct * VmdSample.MORPH_STEP;
+            flexes[ct] = VmdSample.morphFlex(morphFrames[ct]);
+        }
+
+        byte[] cameraIntplt = new byte[VmdExporter.CAMERA_INTPLT_SIZE];
+        for(int ct = 0; ct < cameraIntplt.length; ct++){
+            cameraIntplt[ct] = (byte)(ct + 1);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VmdExporter exporter = new VmdExporter(out);
+        exporter.dumpHeader("テストモデル");
+        exporter.dumpBoneMotion(boneNames, boneFrames,
+                                positions, rotations, intplts, num);
+        exporter.dumpMorphMotion(morphNames, morphFrames, flexes, frameNum);
+        exporter.dumpCameraMotion(new int[]{0},
+                                  new float[]{-45.0f},
+                                  new float[]{0.0f, 10.0f, 0.0f},
+                                  new float[]{0.1f, 0.2f, 0.3f},
+                                  cameraIntplt,
+                                  new int[]{30},
+                                  new boolean[]{true},
+                                  1 );
+        exporter.dumpLuminousMotion(new int[]{0},
+                                    new float[]{0.6f, 0.6f, 0.6f},
+                                    new float[]{-0.5f, -1.0f, 0.5f},
+                                    1 );
+        exporter.dumpShadowMotion(new int[]{0},
+                                  new byte[]{(byte)1},
+                                  new float[]{0.1f},
+                                  1 );
+        exporter.flush();
+
+        byte[] vmd = VmdSample.build(frameNum, true);
+        assertArrayEquals(vmd, out.toByteArray());
+
+        return;
+    }
+
+    /**
+     * Test of dumpModelSight method, of class VmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testDumpModelSight() throws Exception {
+        System.out.println("dumpModelSight");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VmdExporter exporter = new VmdExporter(out);
+        exporter.dumpHeader("model");
+        exporter.dumpModelSight(new int[]{0, 10, 20},
+                                new boolean[]{true, false, true},
+                                new int[]{2, 0, 1},
+                                new String[]{"左足ＩＫ", "右足ＩＫ", "左足ＩＫ"},
+                                new boolean[]{true, false, false},
+                                3 );
+        exporter.flush();
+        byte[] vmd = out.toByteArray();
+
+        assertEquals(30 + 20 + 4 * 6
+                     + 3 * 9 + 3 * 21,
+                     vmd.length);
+
+        IkRecorder recorder = new IkRecorder();
+        VmdParser parser = newParser(vmd);
+        parser.setBasicHandler(recorder);
+        parser.setCameraHandler(recorder);
+        parser.setLightingHandler(recorder);
+        parser.setBoolHandler(recorder);
+        parser.parseVmd();
+
+        assertEquals("[0:true, 0:左足ＩＫ:true, 0:右足ＩＫ:false, "
+                   + "10:false, 20:true, 20:左足ＩＫ:false]",
+                     recorder.log.toString());
+
+        assertArrayEquals(vmd, roundTrip(vmd));
+
+        out.reset();
+        exporter = new VmdExporter(out);
+        exporter.dumpHeader("model");
+        exporter.dumpModelSight(new int[]{5}, new boolean[]{false},
+                                null, null, null, 1);
+        exporter.flush();
+        assertEquals(30 + 20 + 4 * 6 + 9, out.size());
+
+        return;
+    }
+
+    /**
+     * Test of list order, of class VmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testListOrder() throws Exception {
+        System.out.println("list order");
+
+        VmdExporter exporter = new VmdExporter(new ByteArrayOutputStream());
+        exporter.dumpHeader("model");
+        exporter.dumpMorphMotion(new String[0], new int[0], new float[0], 0);
+
+        try{
+            exporter.dumpBoneMotion(new String[0], new int[0],
+                                    new float[0], new float[0],
+                                    new byte[0], 0);
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        try{
+            exporter.dumpMorphMotion(new String[0], new int[0],
+                                     new float[0], 0);
+            fail();
+        }catch(IllegalStateException e){
+            // GOOD
+        }
+
+        try{
+            exporter.dumpShadowMotion(new int[1], new byte[1],
+                                      new float[0], 1);
+            fail();
+        }catch(IndexOutOfBoundsException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of too long text, of class VmdExporter.
+     * @throws Exception
+     */
+    @Test
+    public void testTooLongText() throws Exception {
+        System.out.println("too long text");
+
+        VmdExporter exporter = new VmdExporter(new ByteArrayOutputStream());
+
+        exporter.vmdBoneMotion("123456789012345", 0);
+        try{
+            exporter.vmdBoneMotion("1234567890123456", 0);
+            fail();
+        }catch(MmdFormatException e){
+            assertNotNull(e.getCause());
+        }
+
+        try{
+            exporter.dumpHeader("123456789012345678901");
+            fail();
+        }catch(IllegalTextExportException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of output error, of class VmdExporter.
+     */
+    @Test
+    public void testOutputError() {
+        System.out.println("output error");
+
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException();
+            }
+        };
+
+        VmdExporter exporter = new VmdExporter(broken);
+        exporter.vmdParseStart();
+        exporter.vmdHeaderInfo(new byte[30]);
+        try{
+            exporter.vmdParseEnd(false);
+            fail();
+        }catch(UncheckedIOException e){
+            // GOOD
+        }
+
+        try{
+            new VmdExporter(null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import jp.sfjp.mikutoga.math.MkBezier;
+import jp.sfjp.mikutoga.vmd.parser.VmdBasicHandler;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdSample;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class PoseSamplerTest {
+
+    private static final float EPSILON = 1.0e-5f;
+
+    public PoseSamplerTest() {
+    }
+
+    private static VmdMotion parse(byte[] vmd) throws Exception{
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(vmd));
+        VmdMotionBuilder builder = new VmdMotionBuilder();
+        parser.setBasicHandler(builder);
+        parser.parseVmd();
+        return builder.getMotion();
+    }
+
+    private static void addBone(VmdMotionBuilder builder,
+                                int frameNo, float xPos, float yaw,
+                                int p1x, int p1y, int p2x, int p2y){
+        builder.vmdBoneMotion("bone", frameNo);
+        builder.vmdBonePosition(xPos, 0.0f, 0.0f);
+        builder.vmdBoneRotationQt(0.0f, (float) Math.sin(yaw / 2.0),
+                                  0.0f, (float) Math.cos(yaw / 2.0) );
+        byte b1x = (byte) p1x;
+        byte b1y = (byte) p1y;
+        byte b2x = (byte) p2x;
+        byte b2y = (byte) p2y;
+        builder.vmdBoneIntpltXpos(b1x, b1y, b2x, b2y);
+        builder.vmdBoneIntpltYpos(b1x, b1y, b2x, b2y);
+        builder.vmdBoneIntpltZpos(b1x, b1y, b2x, b2y);
+        builder.vmdBoneIntpltRot(b1x, b1y, b2x, b2y);
+        return;
+    }
+
+    /**
+     * Test of sample method, of class PoseSampler.
+     * @throws Exception
+     */
+    @Test
+    public void testSample() throws Exception {
+        System.out.println("sample");
+
+        int frameNum = 10;
+        VmdMotion motion = parse(VmdSample.build(frameNum, false));
+        PoseSampler sampler = new PoseSampler(motion);
+
+        assertSame(motion, sampler.getMotion());
+        assertEquals(2, sampler.getBoneNum());
+        assertEquals(1, sampler.getMorphNum());
+
+        float[] pos = new float[2 * 3];
+        float[] rot = new float[2 * 4];
+        float[] flex = new float[1];
+
+        int lastFrame = (frameNum - 1) * VmdSample.BONE_STEP;
+        for(int frameNo = 0; frameNo <= lastFrame; frameNo++){
+            sampler.sample(frameNo, pos, rot, flex);
+            for(int bone = 0; bone < 2; bone++){
+                for(int axis = 0; axis < 3; axis++){
+                    assertEquals(VmdSample.bonePos(bone, frameNo, axis),
+                                 pos[bone * 3 + axis], EPSILON);
+                }
+                double half = VmdSample.boneYaw(bone, frameNo) / 2.0;
+                assertEquals(0.0f, rot[bone * 4], EPSILON);
+                assertEquals((float) Math.sin(half), rot[bone * 4 + 1],
+                             EPSILON);
+                assertEquals((float) Math.cos(half), rot[bone * 4 + 3],
+                             EPSILON);
+            }
+        }
+
+        sampler.sample(7.5, null, null, flex);
+        assertEquals(0.5f, flex[0], EPSILON);
+        sampler.sample(5.0, null, null, flex);
+        assertEquals(1.0f, flex[0], EPSILON);
+        sampler.sample(1000.0, null, null, flex);
+        assertEquals(VmdSample.morphFlex(
+                        (frameNum - 1) * VmdSample.MORPH_STEP),
+                     flex[0], EPSILON);
+
+        sampler.sample(-10.0, pos, rot, null);
+        assertEquals(VmdSample.bonePos(0, 0, 0), pos[0], EPSILON);
+        sampler.sample(1.0e12, pos, rot, null);
+        assertEquals(VmdSample.bonePos(1, lastFrame, 2), pos[5], EPSILON);
+
+        return;
+    }
+
+    /**
+     * Test of sample method with random access, of class PoseSampler.
+     * @throws Exception
+     */
+    @Test
+    public void testSampleRandomAccess() throws Exception {
+        System.out.println("sample random access");
+
+        VmdMotion motion = parse(VmdSample.build(30, false));
+        PoseSampler sequential = new PoseSampler(motion);
+        PoseSampler random = new PoseSampler(motion);
+
+        float[] pos1 = new float[6];
+        float[] rot1 = new float[8];
+        float[] flex1 = new float[1];
+        float[] pos2 = new float[6];
+        float[] rot2 = new float[8];
+        float[] flex2 = new float[1];
+
+        Random rnd = new Random(39L);
+        for(int ct = 0; ct < 2000; ct++){
+            double frameNo = rnd.nextDouble() * 320.0 - 10.0;
+            sequential.reset();
+            sequential.sample(frameNo, pos1, rot1, flex1);
+            random.sample(frameNo, pos2, rot2, flex2);
+            assertArrayEquals(pos1, pos2);
+            assertArrayEquals(rot1, rot2);
+            assertArrayEquals(flex1, flex2);
+        }
+
+        return;
+    }
+
+    /**
+     * Test of interpolation curve, of class PoseSampler.
+     */
+    @Test
+    public void testSampleCurve() {
+        System.out.println("sample curve");
+
+        VmdMotionBuilder builder = new VmdMotionBuilder();
+        builder.vmdParseStart();
+        builder.loopStart(VmdBasicHandler.BONEMOTION_LIST, 3);
+        addBone(builder, 30, 10.0f, (float) Math.PI, 127, 0, 0, 127);
+        addBone(builder, 0, 0.0f, 0.0f, 20, 20, 107, 107);
+        addBone(builder, 10, 10.0f, (float) (Math.PI / 2.0), 64, 0, 64, 127);
+        builder.vmdParseEnd(false);
+
+        VmdMotion motion = builder.getMotion();
+        PoseSampler sampler = new PoseSampler(motion);
+
+        BoneTrack track = motion.getBoneTrack("bone");
+        assertEquals(3 * 4, track.curves.length);
+        assertSame(MkBezier.LINEAR, track.curves[0]);
+        assertSame(track.curves[4], track.curves[4 + BoneTrack.CH_ROT]);
+        assertNotSame(track.curves[4], track.curves[8]);
+
+        float[] pos = new float[3];
+        float[] rot = new float[4];
+
+        MkBezier curve = MkBezier.fromVmd(64, 0, 64, 127);
+        sampler.sample(2.5, pos, rot, null);
+        double ease = curve.ease(0.25);
+        assertEquals((float) (10.0 * ease), pos[0], EPSILON);
+        double half = Math.PI / 2.0 * ease / 2.0;
+        assertEquals((float) Math.sin(half), rot[1], EPSILON);
+        assertEquals((float) Math.cos(half), rot[3], EPSILON);
+
+        sampler.sample(20.0, pos, rot, null);
+        assertEquals(10.0f, pos[0], EPSILON);
+        ease = MkBezier.fromVmd(127, 0, 0, 127).ease(0.5);
+        half = (Math.PI / 2.0 + Math.PI / 2.0 * ease) / 2.0;
+        assertEquals((float) Math.sin(half), rot[1], EPSILON);
+        assertEquals((float) Math.cos(half), rot[3], EPSILON);
+
+        return;
+    }
+
+    /**
+     * Test of sample method with shortest-path rotation,
+     * of class PoseSampler.
+     */
+    @Test
+    public void testSampleShortestPath() {
+        System.out.println("sample shortest path");
+
+        VmdMotionBuilder builder = new VmdMotionBuilder();
+        builder.vmdParseStart();
+        builder.loopStart(VmdBasicHandler.BONEMOTION_LIST, 2);
+        addBone(builder, 0, 0.0f, 0.0f, 20, 20, 107, 107);
+        builder.vmdBoneMotion("bone", 10);
+        builder.vmdBonePosition(0.0f, 0.0f, 0.0f);
+        builder.vmdBoneRotationQt(0.0f, 0.0f, 0.0f, -1.0f);
+        builder.vmdParseEnd(false);
+
+        PoseSampler sampler = new PoseSampler(builder.getMotion());
+        float[] rot = new float[4];
+        sampler.sample(5.0, null, rot, null);
+        assertEquals(0.0f, rot[1], EPSILON);
+        assertEquals(1.0f, rot[3], EPSILON);
+
+        return;
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.motion;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import jp.sfjp.mikutoga.bin.parser.MmdEofException;
+import jp.sfjp.mikutoga.vmd.parser.VmdParser;
+import jp.sfjp.mikutoga.vmd.parser.VmdSample;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class VmdMotionBuilderTest {
+
+    public VmdMotionBuilderTest() {
+    }
+
+    private static VmdMotion parse(byte[] vmd) throws Exception{
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(vmd));
+        VmdMotionBuilder builder = new VmdMotionBuilder();
+        assertNull(builder.getMotion());
+        parser.setBasicHandler(builder);
+        parser.parseVmd();
+        return builder.getMotion();
+    }
+
+    /**
+     * Test of getMotion method, of class VmdMotionBuilder.
+     * @throws Exception
+     */
+    @Test
+    public void testGetMotion() throws Exception {
+        System.out.println("getMotion");
+
+        int frameNum = 50;
+        VmdMotion motion = parse(VmdSample.build(frameNum, true));
+
+        assertEquals("テストモデル", motion.getModelName());
+
+        List<BoneTrack> bones = motion.getBoneTracks();
+        assertEquals(VmdSample.BONES.length, bones.size());
+
+        for(int boneIdx = 0; boneIdx < bones.size(); boneIdx++){
+            BoneTrack track = bones.get(boneIdx);
+            assertEquals(VmdSample.BONES[boneIdx], track.getName());
+            assertSame(track, motion.getBoneTrack(track.getName()));
+            assertEquals(frameNum, track.size());
+
+            for(int idx = 0; idx < frameNum; idx++){
+                int frameNo = idx * VmdSample.BONE_STEP;
+                assertEquals(frameNo, track.getFrameNo(idx));
+                for(int axis = 0; axis < 3; axis++){
+                    assertEquals(VmdSample.bonePos(boneIdx, frameNo, axis),
+                                 track.getPosition(idx, axis));
+                }
+                double half = VmdSample.boneYaw(boneIdx, frameNo) / 2.0;
+                assertEquals((float) Math.sin(half),
+                             track.getRotation(idx, 1));
+                assertEquals((float) Math.cos(half),
+                             track.getRotation(idx, 3));
+                assertEquals((byte) 20,
+                             track.getIntplt(idx, BoneTrack.CH_ROT,
+                                             BoneTrack.P1Y));
+                assertEquals((byte) 107,
+                             track.getIntplt(idx, BoneTrack.CH_XPOS,
+                                             BoneTrack.P2X));
+            }
+        }
+
+        List<MorphTrack> morphs = motion.getMorphTracks();
+        assertEquals(1, morphs.size());
+        MorphTrack morph = motion.getMorphTrack(VmdSample.MORPH);
+        assertEquals(frameNum, morph.size());
+        for(int idx = 0; idx < frameNum; idx++){
+            int frameNo = idx * VmdSample.MORPH_STEP;
+            assertEquals(frameNo, morph.getFrameNo(idx));
+            assertEquals(VmdSample.morphFlex(frameNo), morph.getFlex(idx));
+        }
+
+        assertNull(motion.getBoneTrack("左足"));
+        assertEquals((frameNum - 1) * VmdSample.BONE_STEP,
+                     motion.getMaxFrameNo());
+
+        try{
+            bones.clear();
+            fail();
+        }catch(UnsupportedOperationException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of floorIndex method, of class MotionTrack.
+     * @throws Exception
+     */
+    @Test
+    public void testFloorIndex() throws Exception {
+        System.out.println("floorIndex");
+
+        VmdMotion motion = parse(VmdSample.build(5, false));
+        BoneTrack track = motion.getBoneTrack(VmdSample.BONES[0]);
+
+        assertEquals(-1, track.floorIndex(-1));
+        assertEquals(0, track.floorIndex(0));
+        assertEquals(0, track.floorIndex(9));
+        assertEquals(1, track.floorIndex(10));
+        assertEquals(4, track.floorIndex(40));
+        assertEquals(4, track.floorIndex(Integer.MAX_VALUE));
+
+        assertEquals(2, track.indexOf(20));
+        assertEquals(-1, track.indexOf(21));
+        assertEquals(-1, track.indexOf(-10));
+
+        MorphTrack empty = new MorphTrack("empty", new int[0], new float[0]);
+        assertEquals(-1, empty.floorIndex(0));
+        assertEquals(-1, empty.indexOf(0));
+
+        return;
+    }
+
+    /**
+     * Test of sortOrder method, of class VmdMotionBuilder.
+     */
+    @Test
+    public void testSortOrder() {
+        System.out.println("sortOrder");
+
+        assertNull(VmdMotionBuilder.sortOrder(new int[]{0, 1, 1, 3}));
+
+        int[] frames = {30, 10, -5, 10, 20};
+        int[] order = VmdMotionBuilder.sortOrder(frames);
+        assertArrayEquals(new int[]{2, 1, 3, 4, 0}, order);
+        assertArrayEquals(new int[]{-5, 10, 10, 20, 30},
+                          VmdMotionBuilder.permute(frames, order));
+
+        float[] pairs = {3f, 3f, 1f, 1f, -1f, -1f, 1.5f, 1.5f, 2f, 2f};
+        assertArrayEquals(
+                new float[]{-1f, -1f, 1f, 1f, 1.5f, 1.5f, 2f, 2f, 3f, 3f},
+                VmdMotionBuilder.permute(pairs, 2, order));
+
+        return;
+    }
+
+    /**
+     * Test of huge key-frame count, of class VmdMotionBuilder.
+     * @throws Exception
+     */
+    @Test
+    public void testHugeCount() throws Exception {
+        System.out.println("huge count");
+
+        int frameNum = 2000;
+        byte[] vmd = VmdSample.build(frameNum, false);
+        VmdMotion motion = parse(vmd);
+        assertEquals(frameNum,
+                     motion.getBoneTrack(VmdSample.BONES[0]).size());
+
+        int[] counts = {0x7fffffff, 0x10000000, 0xffffffff};
+        for(int count : counts){
+            byte[] broken = new byte[50 + 4 + 111];
+            System.arraycopy(vmd, 0, broken, 0, broken.length);
+            broken[50] = (byte) count;
+            broken[51] = (byte)(count >>> 8);
+            broken[52] = (byte)(count >>> 16);
+            broken[53] = (byte)(count >>> 24);
+
+            try{
+                parse(broken);
+                fail();
+            }catch(MmdEofException e){
+                // GOOD
+            }
+        }
+
+        return;
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import java.lang.reflect.Proxy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class EmptyVmdHandlerTest {
+
+    public EmptyVmdHandlerTest() {
+    }
+
+    /**
+     * Test of EMPTY field, of class VmdUnifiedHandler.
+     */
+    @Test
+    public void testEmpty() {
+        System.out.println("EMPTY");
+
+        VmdUnifiedHandler handler = VmdUnifiedHandler.EMPTY;
+
+        assertTrue(handler instanceof EmptyVmdHandler);
+        assertFalse(Proxy.isProxyClass(handler.getClass()));
+
+        return;
+    }
+
+}
@@ -0,0 +1,288 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import jp.sfjp.mikutoga.bin.parser.FeedParser;
+import jp.sfjp.mikutoga.bin.parser.MmdEofException;
+import jp.sfjp.mikutoga.bin.parser.ParseStage;
+import jp.sfjp.mikutoga.bin.parser.StageListener;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class VmdFeedDriverTest {
+
+    public VmdFeedDriverTest() {
+    }
+
+    /**
+     * 通知内容を記録するハンドラ。
+     */
+    private static class Recorder extends EmptyVmdHandler
+            implements StageListener {
+        final List<String> events = new ArrayList<>();
+        int loops;
+
+        void register(VmdParser parser){
+            parser.setBasicHandler(this);
+            parser.setCameraHandler(this);
+            parser.setLightingHandler(this);
+            parser.setBoolHandler(this);
+            parser.setStageListener(this);
+        }
+
+        @Override
+        public void vmdParseStart() {
+            this.events.add("start");
+        }
+
+        @Override
+        public void vmdParseEnd(boolean hasMoreData) {
+            this.events.add("end:" + hasMoreData);
+        }
+
+        @Override
+        public void vmdModelName(String modelName) {
+            this.events.add("model:" + modelName);
+        }
+
+        @Override
+        public void vmdModelSight(boolean show, int keyFrameNo) {
+            this.events.add("sight:" + show + ":" + keyFrameNo);
+        }
+
+        @Override
+        public void vmdIkSwitch(String boneName, boolean valid,
+                                int keyFrameNo) {
+            this.events.add("iksw:" + boneName + ":" + valid);
+        }
+
+        @Override
+        public void loopNext(ParseStage stage) {
+            this.loops++;
+        }
+
+        @Override
+        public void stageStart(ParseStage stage, int loops, long position) {
+            this.events.add(stage + ":" + loops + "@" + position);
+        }
+
+        @Override
+        public void stageEnd(ParseStage stage, long position) {
+            this.events.add("/" + stage + "@" + position);
+        }
+    }
+
+    /**
+     * モデル表示フラグデータを末尾に加える。
+     * @param vmd VMDデータ
+     * @return VMDデータ
+     */
+    private static byte[] withSight(byte[] vmd){
+        ByteBuffer buf = ByteBuffer.allocate(vmd.length + 256);
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        buf.put(vmd);
+
+        buf.putInt(2);
+
+        buf.putInt(0);
+        buf.put((byte)1);
+        buf.putInt(2);
+        for(int ct = 0; ct < 2; ct++){
+            byte[] name = Arrays.copyOf(
+                    ("ik" + ct).getBytes(StandardCharsets.US_ASCII), 20);
+            buf.put(name);
+            buf.put((byte)(1 - ct));
+        }
+
+        buf.putInt(30);
+        buf.put((byte)0);
+        buf.putInt(0);
+
+        byte[] result = Arrays.copyOf(buf.array(), buf.position());
+        return result;
+    }
+
+    private static Recorder pull(byte[] vmd) throws Exception{
+        Recorder result = new Recorder();
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(vmd));
+        result.register(parser);
+        parser.parseVmd();
+        return result;
+    }
+
+    private static VmdFeedDriver driver(Recorder recorder){
+        VmdFeedDriver result = new VmdFeedDriver(new FeedParser());
+        recorder.register(result.getParser());
+        return result;
+    }
+
+    private static Recorder feedChunks(byte[] vmd, Random random)
+            throws Exception{
+        Recorder result = new Recorder();
+        VmdFeedDriver driver = driver(result);
+        FeedParser feed = driver.getFeed();
+
+        int pos = 0;
+        while(pos < vmd.length){
+            int len = 1 + random.nextInt(3000);
+            len = Math.min(len, vmd.length - pos);
+            feed.feed(ByteBuffer.wrap(vmd, pos, len));
+            pos += len;
+            assertFalse(driver.drive());
+        }
+
+        feed.finish();
+        assertTrue(driver.drive());
+        assertTrue(driver.isDone());
+
+        return result;
+    }
+
+    /**
+     * Test of constructor, of class VmdFeedDriver.
+     */
+    @Test
+    public void testCons() {
+        System.out.println("constructor");
+
+        FeedParser feed = new FeedParser();
+        VmdFeedDriver driver = new VmdFeedDriver(feed);
+        assertSame(feed, driver.getFeed());
+        assertNotNull(driver.getParser());
+        assertFalse(driver.isDone());
+
+        try{
+            new VmdFeedDriver(null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of drive method with one byte at a time, of class VmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveByteByByte() throws Exception {
+        System.out.println("drive byte by byte");
+
+        byte[] vmd = withSight(VmdSample.build(20, true));
+        Recorder exp = pull(vmd);
+        assertTrue(exp.events.contains("iksw:ik1:false"));
+
+        Recorder recorder = new Recorder();
+        VmdFeedDriver driver = driver(recorder);
+        FeedParser feed = driver.getFeed();
+
+        for(int idx = 0; idx < vmd.length; idx++){
+            feed.feed(ByteBuffer.wrap(vmd, idx, 1));
+            assertFalse(driver.drive());
+
+            List<String> events = recorder.events;
+            assertEquals(exp.events.subList(0, events.size()), events);
+        }
+
+        feed.finish();
+        assertTrue(driver.drive());
+
+        assertEquals(exp.events, recorder.events);
+        assertEquals(exp.loops, recorder.loops);
+
+        return;
+    }
+
+    /**
+     * Test of drive method with random chunks, of class VmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveChunks() throws Exception {
+        System.out.println("drive chunks");
+
+        byte[][] samples = {
+            VmdSample.build(500, false),
+            VmdSample.build(500, true),
+            withSight(VmdSample.build(500, true)),
+        };
+
+        Random random = new Random(39L);
+        for(byte[] vmd : samples){
+            Recorder exp = pull(vmd);
+            for(int trial = 0; trial < 4; trial++){
+                Recorder recorder = feedChunks(vmd, random);
+                assertEquals(exp.events, recorder.events);
+                assertEquals(exp.loops, recorder.loops);
+            }
+        }
+
+        return;
+    }
+
+    /**
+     * Test of early notification, of class VmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveEarly() throws Exception {
+        System.out.println("drive early");
+
+        byte[] vmd = VmdSample.build(500, true);
+
+        Recorder recorder = new Recorder();
+        VmdFeedDriver driver = driver(recorder);
+        FeedParser feed = driver.getFeed();
+
+        feed.feed(ByteBuffer.wrap(vmd, 0, 30 + 20 + 4 + 111));
+        assertFalse(driver.drive());
+        assertEquals(Arrays.asList("start", "model:テストモデル"),
+                     recorder.events );
+        assertEquals(4 + 111, feed.available());
+
+        return;
+    }
+
+    /**
+     * Test of truncated data, of class VmdFeedDriver.
+     * @throws Exception
+     */
+    @Test
+    public void testDriveTruncated() throws Exception {
+        System.out.println("drive truncated");
+
+        byte[] vmd = withSight(VmdSample.build(20, true));
+
+        VmdFeedDriver driver = driver(new Recorder());
+        FeedParser feed = driver.getFeed();
+        feed.feed(ByteBuffer.wrap(vmd, 0, vmd.length - 3));
+        assertFalse(driver.drive());
+
+        feed.finish();
+        try{
+            driver.drive();
+            fail();
+        }catch(MmdEofException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+}
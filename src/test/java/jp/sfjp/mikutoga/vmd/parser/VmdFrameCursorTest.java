@@ -0,0 +1,264 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import jp.sfjp.mikutoga.bin.parser.BufferParser;
+import jp.sfjp.mikutoga.bin.parser.MmdFormatException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+/**
+ *
+ */
+public class VmdFrameCursorTest {
+
+    public VmdFrameCursorTest() {
+    }
+
+    /**
+     * Test of constructor, of class VmdFrameCursor.
+     */
+    @Test
+    public void testConstructor() {
+        System.out.println("constructor");
+
+        try{
+            new VmdFrameCursor((InputStream) null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        try{
+            new VmdFrameCursor((BufferParser) null);
+            fail();
+        }catch(NullPointerException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of next method, of class VmdFrameCursor.
+     * @throws Exception
+     */
+    @Test
+    public void testNext() throws Exception {
+        System.out.println("next");
+
+        int frameNum = 3;
+        byte[] vmd = VmdSample.build(frameNum, true);
+        VmdFrameCursor cursor =
+                new VmdFrameCursor(new BufferParser(ByteBuffer.wrap(vmd)));
+        cursor.setRedundantCheck(true);
+
+        VmdFrameRecord rec = cursor.getRecord();
+        assertNull(cursor.getStage());
+
+        assertEquals("テストモデル", cursor.getModelName());
+        assertFalse(cursor.isStageAct());
+        assertEquals((byte)'V', cursor.getHeader()[0]);
+        assertEquals(50L, cursor.getPosition());
+
+        for(int ct = frameNum - 1; ct >= 0; ct--){
+            for(int boneIdx = 0; boneIdx < 2; boneIdx++){
+                assertTrue(cursor.next());
+                assertSame(VmdBasicHandler.BONEMOTION_LIST, cursor.getStage());
+                assertSame(VmdBasicHandler.BONEMOTION_LIST, rec.getStage());
+                assertEquals(frameNum * 2, cursor.getSectionSize());
+
+                int frameNo = ct * VmdSample.BONE_STEP;
+                assertEquals(VmdSample.BONES[boneIdx], rec.getName());
+                assertEquals(frameNo, rec.getFrameNo());
+                assertEquals(VmdSample.bonePos(boneIdx, frameNo, 0),
+                             rec.getXPos());
+                assertEquals(VmdSample.bonePos(boneIdx, frameNo, 2),
+                             rec.getZPos());
+                double half = VmdSample.boneYaw(boneIdx, frameNo) / 2.0;
+                assertEquals((float) Math.sin(half), rec.getQy());
+                assertEquals((float) Math.cos(half), rec.getQw());
+                assertArrayEquals(VmdSample.linearIntplt(),
+                                  rec.getBoneIntplt());
+            }
+        }
+        assertSame(rec, cursor.getRecord());
+
+        for(int ct = 0; ct < frameNum; ct++){
+            assertTrue(cursor.next());
+            assertSame(VmdBasicHandler.MORPH_LIST, rec.getStage());
+            int frameNo = ct * VmdSample.MORPH_STEP;
+            assertEquals(VmdSample.MORPH, rec.getName());
+            assertEquals(frameNo, rec.getFrameNo());
+            assertEquals(VmdSample.morphFlex(frameNo), rec.getFlex());
+            assertEquals(ct + 1, cursor.getSectionIndex());
+        }
+
+        assertTrue(cursor.next());
+        assertSame(VmdCameraHandler.CAMERA_LIST, rec.getStage());
+        assertNull(rec.getName());
+        assertEquals(-45.0f, rec.getRange());
+        assertEquals(10.0f, rec.getYPos());
+        assertEquals(0.3f, rec.getRoll());
+        assertEquals(30, rec.getAngle());
+        assertTrue(rec.hasPerspective());
+        assertEquals((byte)24, rec.getCameraIntplt()[23]);
+
+        assertTrue(cursor.next());
+        assertSame(VmdLightingHandler.LUMINOUS_LIST, rec.getStage());
+        assertEquals(0.6f, rec.getGVal());
+        assertEquals(-1.0f, rec.getYVec());
+
+        assertTrue(cursor.next());
+        assertSame(VmdLightingHandler.SHADOW_LIST, rec.getStage());
+        assertEquals((byte)1, rec.getShadowMode());
+        assertEquals(0.1f, rec.getShadowScopeRaw());
+
+        assertFalse(cursor.next());
+        assertNull(cursor.getStage());
+        assertFalse(cursor.next());
+        assertEquals(vmd.length, cursor.getPosition());
+
+        return;
+    }
+
+    /**
+     * Test of next method without stage data, of class VmdFrameCursor.
+     * @throws Exception
+     */
+    @Test
+    public void testNextWithoutStage() throws Exception {
+        System.out.println("next without stage");
+
+        int frameNum = 2;
+        byte[] vmd = VmdSample.build(frameNum, false);
+        VmdFrameCursor cursor =
+                new VmdFrameCursor(new ByteArrayInputStream(vmd));
+
+        int boneCt = 0;
+        int morphCt = 0;
+        while(cursor.next()){
+            if(cursor.getStage() == VmdBasicHandler.BONEMOTION_LIST){
+                boneCt++;
+            }else if(cursor.getStage() == VmdBasicHandler.MORPH_LIST){
+                morphCt++;
+            }else{
+                fail();
+            }
+        }
+
+        assertEquals(frameNum * 2, boneCt);
+        assertEquals(frameNum, morphCt);
+        assertEquals(vmd.length, cursor.getPosition());
+
+        return;
+    }
+
+    /**
+     * Test of skipSection method, of class VmdFrameCursor.
+     * @throws Exception
+     */
+    @Test
+    public void testSkipSection() throws Exception {
+        System.out.println("skipSection");
+
+        int frameNum = 4;
+        byte[] vmd = VmdSample.build(frameNum, true);
+        VmdFrameCursor cursor =
+                new VmdFrameCursor(new BufferParser(ByteBuffer.wrap(vmd)));
+        VmdFrameRecord rec = cursor.getRecord();
+
+        cursor.skipSection();
+        assertNull(cursor.getStage());
+
+        assertTrue(cursor.next());
+        assertEquals((frameNum - 1) * VmdSample.BONE_STEP, rec.getFrameNo());
+        cursor.skipSection();
+        assertEquals(frameNum * 2, cursor.getSectionIndex());
+
+        assertTrue(cursor.next());
+        assertSame(VmdBasicHandler.MORPH_LIST, rec.getStage());
+        assertEquals(0, rec.getFrameNo());
+        cursor.skipSection();
+
+        assertTrue(cursor.next());
+        assertSame(VmdCameraHandler.CAMERA_LIST, rec.getStage());
+
+        return;
+    }
+
+    /**
+     * Test of early termination, of class VmdFrameCursor.
+     * @throws Exception
+     */
+    @Test
+    public void testEarlyStop() throws Exception {
+        System.out.println("early stop");
+
+        byte[] vmd = VmdSample.build(1, false);
+        byte[] head = new byte[50];
+        System.arraycopy(vmd, 0, head, 0, head.length);
+
+        VmdFrameCursor cursor;
+
+        cursor = new VmdFrameCursor(new ByteArrayInputStream(head));
+        assertEquals("テストモデル", cursor.getModelName());
+        assertEquals(50L, cursor.getPosition());
+
+        head[0] = (byte)'X';
+        cursor = new VmdFrameCursor(new ByteArrayInputStream(head));
+        try{
+            cursor.getModelName();
+            fail();
+        }catch(MmdFormatException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+    /**
+     * Test of redundant check, of class VmdFrameCursor.
+     * @throws Exception
+     */
+    @Test
+    public void testSetRedundantCheck() throws Exception {
+        System.out.println("setRedundantCheck");
+
+        byte[] vmd = VmdSample.build(1, false);
+        vmd[50 + 4 + 15 + 4 + 12 + 16 + 17] ^= 0x01;
+
+        VmdFrameCursor cursor;
+
+        cursor = new VmdFrameCursor(new ByteArrayInputStream(vmd));
+        assertTrue(cursor.next());
+
+        cursor = new VmdFrameCursor(new ByteArrayInputStream(vmd));
+        cursor.setRedundantCheck(true);
+        try{
+            cursor.next();
+            fail();
+        }catch(MmdFormatException e){
+            // GOOD
+        }
+
+        VmdParser parser = new VmdParser(new ByteArrayInputStream(vmd));
+        parser.setRedundantCheck(true);
+        try{
+            parser.parseVmd();
+            fail();
+        }catch(MmdFormatException e){
+            // GOOD
+        }
+
+        return;
+    }
+
+}
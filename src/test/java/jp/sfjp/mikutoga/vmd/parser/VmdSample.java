@@ -0,0 +1,191 @@
+/*
+ */
+
+package jp.sfjp.mikutoga.vmd.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * テスト用VMDデータ生成器。
+ * これはユニットテストではない。
+ */
+public class VmdSample {
+
+    private static final Charset CS_WIN31J = Charset.forName("windows-31j");
+
+    /** ボーン名一覧。 */
+    public static final String[] BONES = {"センター", "頭"};
+
+    /** モーフ名。 */
+    public static final String MORPH = "まばたき";
+
+    /** ボーンのキーフレーム間隔。 */
+    public static final int BONE_STEP = 10;
+
+    /** モーフのキーフレーム間隔。 */
+    public static final int MORPH_STEP = 5;
+
+
+    private final ByteBuffer buf;
+
+
+    private VmdSample(int capacity){
+        super();
+        this.buf = ByteBuffer.allocate(capacity);
+        this.buf.order(ByteOrder.LITTLE_ENDIAN);
+        return;
+    }
+
+
+    /**
+     * ボーン位置を返す。
+     * @param boneIdx ボーン番号
+     * @param frameNo フレーム番号
+     * @param axis 軸番号
+     * @return 座標値
+     */
+    public static float bonePos(int boneIdx, int frameNo, int axis){
+        return frameNo * 0.25f + axis + boneIdx;
+    }
+
+    /**
+     * ボーンのY軸回転角を返す。
+     * @param boneIdx ボーン番号
+     * @param frameNo フレーム番号
+     * @return 回転角。ラジアン
+     */
+    public static double boneYaw(int boneIdx, int frameNo){
+        return frameNo * 0.01 + boneIdx * 0.5;
+    }
+
+    /**
+     * モーフ変形度を返す。
+     * @param frameNo フレーム番号
+     * @return 変形度
+     */
+    public static float morphFlex(int frameNo){
+        return (frameNo % 2 == 0) ? 0.0f : 1.0f;
+    }
+
+    /**
+     * 冗長部の整合性が取れた線形補間情報を返す。
+     * @return 補間情報
+     */
+    public static byte[] linearIntplt(){
+        byte[] result = new byte[64];
+        for(int idx = 0; idx < 4; idx++){
+            result[idx]      = (byte) 20;
+            result[idx + 4]  = (byte) 20;
+            result[idx + 8]  = (byte) 107;
+            result[idx + 12] = (byte) 107;
+        }
+        for(int ct = 1; ct < 4; ct++){
+            int target = 16 * ct;
+            int span = 16 - ct;
+            System.arraycopy(result, ct, result, target, span);
+            result[target + span] = (byte) 0x01;
+        }
+        return result;
+    }
+
+    /**
+     * VMDデータを生成する。
+     *
+     * <p>ボーンのキーフレームはボーン毎に交互に、
+     * フレーム番号の降順で格納される。
+     *
+     * @param frameNum ボーンおよびモーフ毎のキーフレーム数
+     * @param withStage カメラ、ライティング、シャドウを含めるならtrue
+     * @return VMDデータ
+     */
+    public static byte[] build(int frameNum, boolean withStage){
+        int capacity = 1024 + frameNum * (BONES.length * 111 + 23);
+        VmdSample sample = new VmdSample(capacity);
+        sample.fill(frameNum, withStage);
+
+        ByteBuffer buf = sample.buf;
+        byte[] result = new byte[buf.position()];
+        buf.flip();
+        buf.get(result);
+
+        return result;
+    }
+
+    private void text(String txt, int len){
+        byte[] bin = txt.getBytes(CS_WIN31J);
+        assert bin.length <= len;
+        this.buf.put(bin);
+        for(int ct = bin.length; ct < len; ct++){
+            this.buf.put((byte)0x00);
+        }
+        return;
+    }
+
+    private void floats(float... vals){
+        for(float val : vals){
+            this.buf.putFloat(val);
+        }
+        return;
+    }
+
+    private void fill(int frameNum, boolean withStage){
+        ByteBuffer b = this.buf;
+
+        text("Vocaloid Motion Data 0002", 30);
+        text("テストモデル", 20);
+
+        byte[] intplt = linearIntplt();
+
+        b.putInt(frameNum * BONES.length);
+        for(int ct = frameNum - 1; ct >= 0; ct--){
+            int frameNo = ct * BONE_STEP;
+            for(int boneIdx = 0; boneIdx < BONES.length; boneIdx++){
+                text(BONES[boneIdx], 15);
+                b.putInt(frameNo);
+                floats(bonePos(boneIdx, frameNo, 0),
+                       bonePos(boneIdx, frameNo, 1),
+                       bonePos(boneIdx, frameNo, 2) );
+                double half = boneYaw(boneIdx, frameNo) / 2.0;
+                floats(0.0f, (float) Math.sin(half),
+                       0.0f, (float) Math.cos(half) );
+                b.put(intplt);
+            }
+        }
+
+        b.putInt(frameNum);
+        for(int ct = 0; ct < frameNum; ct++){
+            int frameNo = ct * MORPH_STEP;
+            text(MORPH, 15);
+            b.putInt(frameNo);
+            floats(morphFlex(frameNo));
+        }
+
+        if( ! withStage ) return;
+
+        b.putInt(1);
+        b.putInt(0);
+        floats(-45.0f);
+        floats(0.0f, 10.0f, 0.0f);
+        floats(0.1f, 0.2f, 0.3f);
+        for(int ct = 0; ct < 24; ct++){
+            b.put((byte)(ct + 1));
+        }
+        b.putInt(30);
+        b.put((byte)0);
+
+        b.putInt(1);
+        b.putInt(0);
+        floats(0.6f, 0.6f, 0.6f);
+        floats(-0.5f, -1.0f, 0.5f);
+
+        b.putInt(1);
+        b.putInt(0);
+        b.put((byte)1);
+        floats(0.1f);
+
+        return;
+    }
+
+}